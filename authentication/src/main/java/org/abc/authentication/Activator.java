@@ -3,6 +3,18 @@ package org.abc.authentication;
 import com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider;
 
 import org.abc.authentication.controller.UserControllerREST;
+import org.abc.authentication.model.User;
+import org.abc.authentication.security.PasswordHasher;
+import org.abc.authentication.security.TokenFilter;
+import org.abc.authentication.service.UserService;
+import org.abc.authentication.service.impl2.UserServiceImpl;
+import org.abc.authentication.validation.groups.GetUserChecker;
+import org.abc.authentication.validation.groups.UserCreationChecks;
+import org.abc.authentication.validation.groups.UserLoginChecks;
+import org.abc.authentication.validation.groups.UserUpdateChecker;
+import org.abc.dbconnection.session.SessionFactoryLocator;
+import org.abc.validation.factory.SharedValidatorFactory;
+import org.abc.validation.factory.ValidatorLocator;
 
 import org.apache.cxf.BusFactory;
 import org.apache.cxf.endpoint.Server;
@@ -10,10 +22,12 @@ import org.apache.cxf.jaxrs.JAXRSServerFactoryBean;
 
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -28,10 +42,13 @@ import java.util.Objects;
 public class Activator implements BundleActivator {
 
     private Server server;
+    private ServiceRegistration<UserService> userServiceRegistration;
 
     /**
      * <p>
-     * Invoked when the osgi bundle starts. Initializes and starts JAX-RS server.
+     * Invoked when the osgi bundle starts. Registers the user entity with the shared session factory, publishes
+     * the user service for the other bundles, warms up the validation of the user and initializes and starts
+     * JAX-RS server. The resources marked with TokenSecured are guarded by the token filter.
      * </p>
      * @param context Refers the context of the bundle.
      */
@@ -39,11 +56,15 @@ public class Activator implements BundleActivator {
     @Override
     public void start(final BundleContext context) {
         System.out.println("Starting bundle: authentication");
+        SessionFactoryLocator.locate(Activator.class).registerAnnotatedClasses(User.class);
+        userServiceRegistration = context.registerService(UserService.class, UserServiceImpl.getInstance(), null);
+        SharedValidatorFactory.getInstance().warmUp(new User(), UserCreationChecks.class, UserLoginChecks.class,
+                GetUserChecker.class, UserUpdateChecker.class);
         final JAXRSServerFactoryBean bean = new JAXRSServerFactoryBean();
 
         bean.setAddress("/user");
         bean.setBus(BusFactory.getDefaultBus());
-        bean.setProvider(new JacksonJsonProvider());
+        bean.setProviders(List.of(new JacksonJsonProvider(), TokenFilter.getInstance()));
         bean.setServiceBean(UserControllerREST.getInstance());
 
         server = bean.create();
@@ -53,7 +74,9 @@ public class Activator implements BundleActivator {
 
     /**
      * <p>
-     * Invoked when the osgi bundle stops. Stops and destroys the JAX-RS server.
+     * Invoked when the osgi bundle stops. Stops and destroys the JAX-RS server, withdraws the user service, stops the
+     * password hashing pool, releases the validator service and removes the user entity from the shared session
+     * factory.
      * </p>
      * @param context Refers the context of the bundle.
      */
@@ -65,5 +88,14 @@ public class Activator implements BundleActivator {
         if (Objects.nonNull(server)) {
             server.destroy();
         }
+
+        if (Objects.nonNull(userServiceRegistration)) {
+            userServiceRegistration.unregister();
+            userServiceRegistration = null;
+        }
+        PasswordHasher.getInstance().shutdown();
+        ValidatorLocator.release(Activator.class);
+        SessionFactoryLocator.locate(Activator.class).unregisterAnnotatedClasses(User.class);
+        SessionFactoryLocator.release(Activator.class);
     }
 }
@@ -0,0 +1,326 @@
+package org.abc.authentication.cache;
+
+import org.abc.authentication.model.User;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * <p>
+ * Caches the users by id. Entries are loaded on a miss, expire after a time to live and the oldest entries are
+ * evicted once the cache is full. Unknown ids are cached as negative entries with a shorter time to live, so
+ * repeated lookups of a missing user don't reach the database either. Every caller gets its own copy of the user.
+ * </p>
+ *
+ * <p>
+ * Concurrent misses of the same user share a single load, the first caller reads the user while the others wait
+ * for it. Invalidating the user forgets the load in flight, so a user read before the invalidation is never cached
+ * after it, while the lookups of the other users are left alone.
+ * </p>
+ *
+ * <p>
+ * The size and the times to live can be configured with the {@code org.abc.authentication.userCache.maxEntries},
+ * {@code org.abc.authentication.userCache.ttlMillis} and
+ * {@code org.abc.authentication.userCache.negativeTtlMillis} system properties.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class UserCache {
+
+    private static UserCache userCache;
+    private static final Logger LOGGER = LogManager.getLogger(UserCache.class);
+    private final Map<Integer, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final Map<Integer, CompletableFuture<User>> loads = new ConcurrentHashMap<>();
+    private final Queue<Integer> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final int maxEntries = Math.max(1, Integer.getInteger("org.abc.authentication.userCache.maxEntries",
+            10_000));
+    private final long ttlNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong(
+            "org.abc.authentication.userCache.ttlMillis", 300_000));
+    private final long negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong(
+            "org.abc.authentication.userCache.negativeTtlMillis", 5_000));
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder negativeHitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * <p>
+     * Default constructor of UserCache class. Kept private to restrict from creating object outside this class.
+     * </p>
+     */
+    private UserCache() {}
+
+    /**
+     * <p>
+     * Creates a single object of UserCache class and returns it.
+     * </p>
+     *
+     * @return the single instance of UserCache class.
+     */
+    public static synchronized UserCache getInstance() {
+        return Objects.isNull(userCache) ? userCache = new UserCache() : userCache;
+    }
+
+    /**
+     * <p>
+     * Gets the user of the given id, loading it with the given loader on a miss. Waits for the load of the user
+     * if another caller is already loading it.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param loader Refers the loader of the user, returning null for an unknown id.
+     * @return a copy of the {@link User}, or null if the user doesn't exist.
+     */
+    public User get(final int userId, final IntFunction<User> loader) {
+        final CacheEntry cacheEntry = entries.get(userId);
+
+        if (Objects.nonNull(cacheEntry) && cacheEntry.expiresAt - System.nanoTime() > 0) {
+            hitCount.increment();
+
+            if (Objects.isNull(cacheEntry.user)) {
+                negativeHitCount.increment();
+            }
+
+            return copyOf(cacheEntry.user);
+        }
+        missCount.increment();
+        final CompletableFuture<User> load = new CompletableFuture<>();
+        final CompletableFuture<User> currentLoad = loads.putIfAbsent(userId, load);
+
+        if (Objects.nonNull(currentLoad)) {
+            return copyOf(await(currentLoad));
+        }
+
+        try {
+            final User user = copyOf(loader.apply(userId));
+
+            loads.computeIfPresent(userId, (id, inFlightLoad) -> {
+                if (inFlightLoad == load) {
+                    put(userId, new CacheEntry(user, System.nanoTime()
+                            + (Objects.isNull(user) ? negativeTtlNanos : ttlNanos)));
+                }
+
+                return inFlightLoad;
+            });
+            load.complete(user);
+
+            return copyOf(user);
+        } catch (final RuntimeException | Error exception) {
+            load.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            loads.remove(userId, load);
+        }
+    }
+
+    /**
+     * <p>
+     * Removes the cached user of the given id, so the next lookup loads it again.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     */
+    public void invalidate(final int userId) {
+        loads.remove(userId);
+        entries.remove(userId);
+        insertionOrder.remove(userId);
+    }
+
+    /**
+     * <p>
+     * Removes all the cached users.
+     * </p>
+     */
+    public void invalidateAll() {
+        entries.clear();
+        insertionOrder.clear();
+    }
+
+    /**
+     * <p>
+     * Gets the number of lookups served from the cache, including the negative entries.
+     * </p>
+     *
+     * @return the hit count.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the number of lookups of unknown ids served from the cache.
+     * </p>
+     *
+     * @return the negative hit count.
+     */
+    public long getNegativeHitCount() {
+        return negativeHitCount.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the number of lookups which had to load the user.
+     * </p>
+     *
+     * @return the miss count.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the ratio of lookups served from the cache.
+     * </p>
+     *
+     * @return the hit ratio between 0 and 1.
+     */
+    public double getHitRatio() {
+        final long hits = hitCount.sum();
+        final long requests = hits + missCount.sum();
+
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    /**
+     * <p>
+     * Gets the number of entries evicted to keep the cache within its size.
+     * </p>
+     *
+     * @return the eviction count.
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the number of cached entries.
+     * </p>
+     *
+     * @return the size of the cache.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * <p>
+     * Caches the given entry and evicts the oldest entries once the cache is full.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param cacheEntry Refers the entry to be cached.
+     */
+    private void put(final int userId, final CacheEntry cacheEntry) {
+        if (Objects.isNull(entries.put(userId, cacheEntry))) {
+            insertionOrder.add(userId);
+        }
+
+        while (entries.size() > maxEntries) {
+            final Integer oldestId = insertionOrder.poll();
+
+            if (Objects.isNull(oldestId)) {
+                break;
+            }
+
+            if (Objects.nonNull(entries.remove(oldestId))) {
+                evictionCount.increment();
+            }
+        }
+
+        if (insertionOrder.size() > maxEntries * 2) {
+            insertionOrder.removeIf(id -> !entries.containsKey(id));
+            LOGGER.debug(String.format("User cache - hit ratio %.2f, %d evictions", getHitRatio(),
+                    getEvictionCount()));
+        }
+    }
+
+    /**
+     * <p>
+     * Waits for the given load of a user and gets the loaded user, rethrowing the exception of the load if it
+     * failed.
+     * </p>
+     *
+     * @param load Refers the load in flight.
+     * @return the loaded {@link User}, or null if the user doesn't exist.
+     */
+    private static User await(final CompletableFuture<User> load) {
+        try {
+            return load.join();
+        } catch (final CompletionException exception) {
+            if (exception.getCause() instanceof Error error) {
+                throw error;
+            }
+
+            throw exception.getCause() instanceof RuntimeException runtimeException ? runtimeException : exception;
+        }
+    }
+
+    /**
+     * <p>
+     * Copies the given user, so the cached user is never changed by a caller.
+     * </p>
+     *
+     * @param user Refers the {@link User} to be copied.
+     * @return the copy, or null if the user is null.
+     */
+    private static User copyOf(final User user) {
+        if (Objects.isNull(user)) {
+            return null;
+        }
+        final User copy = new User();
+        final List<String> addresses = user.getAddresses();
+
+        copy.setId(user.getId());
+        copy.setName(user.getName());
+        copy.setEmailId(user.getEmailId());
+        copy.setMobileNumber(user.getMobileNumber());
+        copy.setPassword(user.getPassword());
+
+        if (Objects.nonNull(addresses)) {
+            addresses.forEach(copy::addAddress);
+        }
+
+        return copy;
+    }
+
+    /**
+     * <p>
+     * Represents a cached user with its expiry time. A null user marks an unknown id.
+     * </p>
+     */
+    private static class CacheEntry {
+
+        private final User user;
+        private final long expiresAt;
+
+        /**
+         * <p>
+         * Constructs the CacheEntry object.
+         * </p>
+         *
+         * @param user Refers the copy of the user, null for an unknown id.
+         * @param expiresAt Refers the expiry time in nanoseconds.
+         */
+        private CacheEntry(final User user, final long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -3,19 +3,21 @@ package org.abc.authentication.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
-import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 
+import org.abc.authentication.exceptions.HashingRejectedException;
 import org.abc.authentication.model.User;
+import org.abc.authentication.security.TokenFilter;
+import org.abc.authentication.security.TokenSecured;
+import org.abc.authentication.security.TokenService;
 import org.abc.authentication.service.UserService;
 import org.abc.authentication.service.impl2.UserServiceImpl;
 import org.abc.authentication.validation.groups.GetUserChecker;
 import org.abc.authentication.validation.groups.UserCreationChecks;
 import org.abc.authentication.validation.groups.UserLoginChecks;
 import org.abc.authentication.validation.groups.UserUpdateChecker;
-
-import org.hibernate.validator.HibernateValidator;
-import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.abc.dbconnection.executor.DatabaseExecutor;
+import org.abc.validation.factory.ValidatorLocator;
 
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
@@ -24,6 +26,10 @@ import javax.ws.rs.GET;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.PUT;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 
 import java.util.Objects;
@@ -43,8 +49,6 @@ public class UserControllerREST {
     private static UserControllerREST userController;
     private static final UserService USER_SERVICE = UserServiceImpl.getInstance();
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final Validator validator = Validation.byProvider(HibernateValidator.class)
-            .configure().messageInterpolator(new ParameterMessageInterpolator()).buildValidatorFactory().getValidator();
 
     /**
      * <p>
@@ -69,27 +73,34 @@ public class UserControllerREST {
      * Checks if the user already exists, if not then creates a new user.
      * </p>
      *
-     * @return true if the user created or false if user already exists.
+     * @param asyncResponse Refers the response resumed with true if the user created or false if user already exists.
      * @param user Refers the {@link User}to be created.
      */
     @Path("/add")
     @Consumes(MediaType.APPLICATION_JSON)
     @POST
-    public ObjectNode createUser(final User user) {
-        final ObjectNode violationsInJson = objectMapper.createObjectNode();
-
-        validator.validate(user, UserCreationChecks.class).stream().forEach(violation -> violationsInJson
-                .put(violation.getPropertyPath().toString(), violation.getMessage()));
-
-        final ObjectNode objectNode = objectMapper.createObjectNode();
-
-        if (violationsInJson.isEmpty()) {
-            return USER_SERVICE.createUser(user)
-                    ? objectNode.put("status", "user created successfully")
-                    : objectNode.put("status", "user already registered");
-        }
+    public void createUser(@Suspended final AsyncResponse asyncResponse, final User user) {
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> {
+            final ObjectNode violationsInJson = objectMapper.createObjectNode();
+            final Validator validator = ValidatorLocator.locate(UserControllerREST.class);
+
+            validator.validate(user, UserCreationChecks.class).stream().forEach(violation -> violationsInJson
+                    .put(violation.getPropertyPath().toString(), violation.getMessage()));
+
+            final ObjectNode objectNode = objectMapper.createObjectNode();
+
+            if (violationsInJson.isEmpty()) {
+                try {
+                    return USER_SERVICE.createUser(user)
+                            ? objectNode.put("status", "user created successfully")
+                            : objectNode.put("status", "user already registered");
+                } catch (final HashingRejectedException exception) {
+                    return objectNode.put("status", exception.getMessage());
+                }
+            }
 
-        return violationsInJson;
+            return violationsInJson;
+        });
     }
 
     /**
@@ -97,60 +108,134 @@ public class UserControllerREST {
      * Gets the existing user by the given credentials.
      * </p>
      *
+     * @param asyncResponse Refers the response resumed with {@link User} if the credentials are correct and the user
+     * exists or null otherwise.
      * @param emailIdOrMobileNumber Refers the mobile number or email id of the user
      * @param password Refers the password of the user.
-     * @return {@link User} if the credentials are correct and the user exists or null otherwise.
      */
     @Path("/getUser/{username}/{password}")
     @GET
-    public ObjectNode getUser(@PathParam("username") final String emailIdOrMobileNumber,
-                              @PathParam("password") final String password) {
-        final User user = new User();
-
-        if (emailIdOrMobileNumber.matches("\\d+")) {
-            user.setMobileNumber(emailIdOrMobileNumber);
-        } else {
-            user.setEmailId(emailIdOrMobileNumber);
-        }
-        user.setPassword(password);
-        final ObjectNode violationsInJson = validate(UserLoginChecks.class, user);
+    public void getUser(@Suspended final AsyncResponse asyncResponse,
+                        @PathParam("username") final String emailIdOrMobileNumber,
+                        @PathParam("password") final String password) {
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> {
+            final User user = new User();
+
+            if (emailIdOrMobileNumber.matches("\\d+")) {
+                user.setMobileNumber(emailIdOrMobileNumber);
+            } else {
+                user.setEmailId(emailIdOrMobileNumber);
+            }
+            user.setPassword(password);
+            final ObjectNode violationsInJson = validate(UserLoginChecks.class, user);
+
+            if (violationsInJson.isEmpty()) {
+                ObjectNode objectNode = objectMapper.createObjectNode();
+                final User retrievedUser;
+
+                try {
+                    retrievedUser = USER_SERVICE.getUser(emailIdOrMobileNumber, password);
+                } catch (final HashingRejectedException exception) {
+                    return objectNode.put("status", exception.getMessage());
+                }
+
+                if (Objects.nonNull(retrievedUser)) {
+                    objectNode.set("user", objectMapper.valueToTree(retrievedUser));
+                } else {
+                    objectNode.put("status", "Wrong credentials");
+                }
+
+                return objectNode;
+            }
 
-        if (violationsInJson.isEmpty()) {
-            final User retrievedUser = USER_SERVICE.getUser(emailIdOrMobileNumber, password);
-            ObjectNode objectNode = objectMapper.createObjectNode();
+            return violationsInJson;
+        });
+    }
 
-            if (Objects.nonNull(retrievedUser)) {
-                objectNode.set("user", objectMapper.valueToTree(retrievedUser));
-            } else {
-                objectNode.put("status", "Wrong credentials");
+    /**
+     * <p>
+     * Verifies the given credentials once and issues a session token, which is then sent as a bearer token instead
+     * of the credentials.
+     * </p>
+     *
+     * @param asyncResponse Refers the response resumed with the token and its lifetime in seconds if the credentials
+     * are correct.
+     * @param user Refers the {@link User} with the email id or mobile number and the password.
+     */
+    @Path("/token")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @POST
+    public void issueToken(@Suspended final AsyncResponse asyncResponse, final User user) {
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> {
+            final ObjectNode violationsInJson = validate(UserLoginChecks.class, user);
+            final String emailIdOrMobileNumber = Objects.nonNull(user.getEmailId()) ? user.getEmailId()
+                    : user.getMobileNumber();
+
+            if (Objects.isNull(emailIdOrMobileNumber)) {
+                violationsInJson.put("username", "Email id or mobile number is required");
             }
 
-            return objectNode;
-        }
+            if (violationsInJson.isEmpty()) {
+                final ObjectNode objectNode = objectMapper.createObjectNode();
+                final User retrievedUser;
+
+                try {
+                    retrievedUser = USER_SERVICE.getUser(emailIdOrMobileNumber, user.getPassword());
+                } catch (final HashingRejectedException exception) {
+                    return objectNode.put("status", exception.getMessage());
+                }
+
+                if (Objects.nonNull(retrievedUser)) {
+                    objectNode.put("userId", retrievedUser.getId());
+                    objectNode.put("token", TokenService.getInstance().issue(retrievedUser.getId()));
+                    objectNode.put("expiresIn", TokenService.getInstance().getTtlSeconds());
+                } else {
+                    objectNode.put("status", "Wrong credentials");
+                }
+
+                return objectNode;
+            }
 
-        return violationsInJson;
+            return violationsInJson;
+        });
     }
 
     /**
      * <p>
-     * Updates the details of the user.
+     * Updates the details of the user. Only the details of the user the token is issued to can be updated.
      * </p>
      *
+     * @param asyncResponse Refers the response resumed with the status.
+     * @param requestContext Refers the context of the request, holding the user of the token.
      * @param user Refers the current {@link User}.
      */
     @Path("/update")
     @Consumes(MediaType.APPLICATION_JSON)
     @PUT
-    public ObjectNode updateDetails(final User user) {
-        final ObjectNode violationsInJson = validate(UserUpdateChecker.class, user);
+    @TokenSecured
+    public void updateDetails(@Suspended final AsyncResponse asyncResponse,
+                              @Context final ContainerRequestContext requestContext,
+                              final User user) {
+        if (Objects.nonNull(user) && !TokenFilter.isIssuedTo(requestContext, user.getId())) {
+            asyncResponse.resume(TokenFilter.forbidden());
+
+            return;
+        }
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> {
+            final ObjectNode violationsInJson = validate(UserUpdateChecker.class, user);
 
-        if (violationsInJson.isEmpty()) {
-            USER_SERVICE.updateDetails(user);
+            if (violationsInJson.isEmpty()) {
+                try {
+                    USER_SERVICE.updateDetails(user);
+                } catch (final HashingRejectedException exception) {
+                    return objectMapper.createObjectNode().put("status", exception.getMessage());
+                }
 
-            return objectMapper.createObjectNode().put("status","update successful");
-        } else {
-            return  violationsInJson;
-        }
+                return objectMapper.createObjectNode().put("status","update successful");
+            } else {
+                return  violationsInJson;
+            }
+        });
     }
 
     /**
@@ -158,31 +243,33 @@ public class UserControllerREST {
      * Gets the user by id.
      * </p>
      *
+     * @param asyncResponse Refers the response resumed with {@link User}.
      * @param userId Refers the id of the user.
-     * @return {@link User}.
      */
     @Path("/getById/{userId}")
     @GET
-    public ObjectNode getUserById(@PathParam("userId") final int userId) {
-        final User user = new User();
+    public void getUserById(@Suspended final AsyncResponse asyncResponse, @PathParam("userId") final int userId) {
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> {
+            final User user = new User();
 
-        user.setId(userId);
-        final ObjectNode violationsInJson = validate(GetUserChecker.class, user);
+            user.setId(userId);
+            final ObjectNode violationsInJson = validate(GetUserChecker.class, user);
 
-        if (violationsInJson.isEmpty()) {
-            final User retrievedUser = USER_SERVICE.getUserById(userId);
-            ObjectNode objectNode = objectMapper.createObjectNode();
+            if (violationsInJson.isEmpty()) {
+                final User retrievedUser = USER_SERVICE.getUserById(userId);
+                ObjectNode objectNode = objectMapper.createObjectNode();
 
-            if (Objects.nonNull(retrievedUser)) {
-                objectNode.set("user", objectMapper.valueToTree(retrievedUser));
-            } else {
-                objectNode.put("status", "User not found");
-            }
+                if (Objects.nonNull(retrievedUser)) {
+                    objectNode.set("user", objectMapper.valueToTree(retrievedUser));
+                } else {
+                    objectNode.put("status", "User not found");
+                }
 
-            return objectNode;
-        }
+                return objectNode;
+            }
 
-        return violationsInJson;
+            return violationsInJson;
+        });
     }
 
     /**
@@ -195,6 +282,7 @@ public class UserControllerREST {
      */
     private ObjectNode validate(final Class clazz, final User user) {
         final ObjectNode violationsInJson = objectMapper.createObjectNode();
+        final Validator validator = ValidatorLocator.locate(UserControllerREST.class);
 
         validator.validate(user, clazz).stream().forEach(violation -> violationsInJson
                 .put(violation.getPropertyPath().toString(), violation.getMessage()));
@@ -1,9 +1,11 @@
 package org.abc.authentication.dao.impl;
 
+import org.abc.authentication.cache.UserCache;
 import org.abc.authentication.dao.UserDAO;
 import org.abc.authentication.exceptions.UserNotFoundException;
 import org.abc.authentication.exceptions.UpdateActionFailedException;
 import org.abc.authentication.model.User;
+import org.abc.authentication.security.PasswordHasher;
 import org.abc.dbconnection.connection.DBConnection;
 import org.abc.validation.Validator;
 
@@ -18,7 +20,9 @@ import java.util.Objects;
 
 /**
  * <p>
- * Stores and gets the user details from the database.
+ * Stores and gets the user details from the database. Passwords are hashed and verified by the
+ * {@link PasswordHasher} before they reach the database, which only stores the hashes. Legacy bcrypt hashes are
+ * verified once in the database and replaced on the next successful login.
  * </p>
  *
  * @author Maharaja S
@@ -28,7 +32,7 @@ public class UserDAOImpl implements UserDAO {
 
     private static UserDAOImpl userDAO;
     private static final Logger LOGGER = LogManager.getLogger(UserDAOImpl.class);
-    private final Connection connection = DBConnection.getConnection();
+    private static final PasswordHasher PASSWORD_HASHER = PasswordHasher.getInstance();
 
     /**
      * <p>
@@ -58,12 +62,15 @@ public class UserDAOImpl implements UserDAO {
      */
     @Override
     public boolean createNewUser(final User user) {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(String.join(" ", "insert into",
-                "users(name, mobile_number, email, password) values(?, ?, ?, crypt(?,gen_salt('bf'))) returning id"))) {
+        final String passwordHash = PASSWORD_HASHER.hash(user.getPassword());
+
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(String.join(" ", "insert into",
+                "users(name, mobile_number, email, password) values(?, ?, ?, ?) returning id"))) {
             preparedStatement.setString(1, user.getName());
             preparedStatement.setString(2, user.getMobileNumber());
             preparedStatement.setString(3, user.getEmailId());
-            preparedStatement.setString(4, user.getPassword());
+            preparedStatement.setString(4, passwordHash);
             final ResultSet resultSet = preparedStatement.executeQuery();
 
             resultSet.next();
@@ -90,18 +97,30 @@ public class UserDAOImpl implements UserDAO {
     @Override
     public User getUser(final String emailIdOrMobileNumber, final String password) {
         final String query = Validator.getInstance().isValidEmail(emailIdOrMobileNumber)
-                ? "select id, name, mobile_number, email, password from users where email=? and password=crypt(?,password)"
-                : "select id, name, mobile_number, email, password from users where mobile_number=? and password=crypt(?,password)";
+                ? "select id, name, mobile_number, email, password from users where email=?"
+                : "select id, name, mobile_number, email, password from users where mobile_number=?";
+        final User user;
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setString(1, emailIdOrMobileNumber);
-            preparedStatement.setString(2, password);
-
-            return getUserObjectFromResultSet(preparedStatement.executeQuery());
+            user = getUserObjectFromResultSet(preparedStatement.executeQuery());
         } catch (final SQLException exception) {
             LOGGER.warn("User not found");
             throw new UserNotFoundException(exception.getMessage());
         }
+
+        if (Objects.isNull(user) || !(PASSWORD_HASHER.isHash(user.getPassword())
+                ? PASSWORD_HASHER.verify(password, user.getPassword()) : isLegacyPassword(user.getId(), password))) {
+            return null;
+        }
+
+        if (PASSWORD_HASHER.needsRehash(user.getPassword())) {
+            user.setPassword(PASSWORD_HASHER.hash(password));
+            updatePassword(user);
+        }
+
+        return user;
     }
 
     /**
@@ -113,11 +132,14 @@ public class UserDAOImpl implements UserDAO {
      */
     @Override
     public void updateDetails(final User user) {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(String.join(" ","update",
-                "users set name=? ,email=?, password=crypt(?,gen_salt('bf')), mobile_number=? where id =?"))) {
+        final String passwordHash = PASSWORD_HASHER.hash(user.getPassword());
+
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(String.join(" ","update",
+                "users set name=? ,email=?, password=?, mobile_number=? where id =?"))) {
             preparedStatement.setString(1, user.getName());
             preparedStatement.setString(2, user.getEmailId());
-            preparedStatement.setString(3, user.getPassword());
+            preparedStatement.setString(3, passwordHash);
             preparedStatement.setString(4, user.getMobileNumber());
             preparedStatement.setInt(5, user.getId());
             preparedStatement.executeUpdate();
@@ -138,7 +160,8 @@ public class UserDAOImpl implements UserDAO {
      */
     @Override
     public User getUserById(int userId) {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(String.join(" ","select",
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(String.join(" ","select",
                 "id, name, mobile_number, email, password from users where id =?"))) {
             preparedStatement.setInt(1, userId);
 
@@ -149,6 +172,52 @@ public class UserDAOImpl implements UserDAO {
         }
     }
 
+    /**
+     * <p>
+     * Verifies the password against the legacy bcrypt hash of the user, which can only be checked in the database.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param password Refers the password entered by the user.
+     * @return true if the password matches.
+     */
+    private boolean isLegacyPassword(final int userId, final String password) {
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
+                     .prepareStatement("select password = crypt(?, password) from users where id = ?")) {
+            preparedStatement.setString(1, password);
+            preparedStatement.setInt(2, userId);
+            final ResultSet resultSet = preparedStatement.executeQuery();
+
+            return resultSet.next() && resultSet.getBoolean(1);
+        } catch (final SQLException exception) {
+            LOGGER.warn(String.format("Legacy password check failed for the given id: %d", userId));
+            throw new UserNotFoundException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Replaces the stored password hash of the user with the hash of the user object. The cached user still
+     * holds the old hash, so it is invalidated.
+     * </p>
+     *
+     * @param user Refers the {@link User} with the new password hash.
+     */
+    private void updatePassword(final User user) {
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
+                     .prepareStatement("update users set password = ? where id = ?")) {
+            preparedStatement.setString(1, user.getPassword());
+            preparedStatement.setInt(2, user.getId());
+            preparedStatement.executeUpdate();
+            UserCache.getInstance().invalidate(user.getId());
+            LOGGER.info(String.format("User : id - %d - Password rehashed", user.getId()));
+        } catch (final SQLException exception) {
+            LOGGER.warn(String.format("Password rehash failed for the given id: %d", user.getId()));
+        }
+    }
+
     /**
      * <p>
      * Gets the user object from the provided resultset.
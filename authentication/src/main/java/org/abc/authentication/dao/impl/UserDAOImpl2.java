@@ -2,26 +2,27 @@ package org.abc.authentication.dao.impl;
 
 import jakarta.persistence.Query;
 
+import org.abc.authentication.cache.UserCache;
 import org.abc.authentication.dao.UserDAO;
 import org.abc.authentication.exceptions.UpdateActionFailedException;
 import org.abc.authentication.exceptions.UserNotFoundException;
 import org.abc.authentication.model.User;
+import org.abc.authentication.security.PasswordHasher;
+import org.abc.dbconnection.session.SessionFactoryLocator;
 import org.abc.validation.Validator;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.hibernate.Session;
-import org.hibernate.SessionFactory;
-import org.hibernate.cfg.Configuration;
 
 import java.util.Objects;
 
 public class UserDAOImpl2 implements UserDAO {
 
     private static UserDAOImpl2 userDAO;
-    private final SessionFactory sessionFactory = new Configuration().addAnnotatedClass(User.class).buildSessionFactory();
     private static final Logger LOGGER = LogManager.getLogger(UserDAOImpl2.class);
+    private static final PasswordHasher PASSWORD_HASHER = PasswordHasher.getInstance();
 
     /**
      * <p>
@@ -51,7 +52,9 @@ public class UserDAOImpl2 implements UserDAO {
      */
     @Override
     public boolean createNewUser(final User user) {
-        try (Session session = sessionFactory.openSession()) {
+        user.setPassword(PASSWORD_HASHER.hash(user.getPassword()));
+
+        try (Session session = SessionFactoryLocator.locate(UserDAOImpl2.class).openSession()) {
             session.beginTransaction();
             session.persist(user);
             session.getTransaction().commit();
@@ -76,20 +79,32 @@ public class UserDAOImpl2 implements UserDAO {
      */
     @Override
     public User getUser(final String emailIdOrMobileNumber, final String password) {
-        try (Session session = sessionFactory.openSession()) {
+        final User user;
+
+        try (Session session = SessionFactoryLocator.locate(UserDAOImpl2.class).openSession()) {
             final String hqlQuery = Validator.getInstance().isValidEmail(emailIdOrMobileNumber)
-                    ? "From users where mobileNumber=:username and password=:password"
-                    : "From users where emailId=:username and password=:password";
+                    ? "From users where emailId=:username"
+                    : "From users where mobileNumber=:username";
             final Query query = session.createQuery(hqlQuery, User.class);
 
             query.setParameter("username", emailIdOrMobileNumber);
-            query.setParameter("password", password);
-
-            return  (User) query.getSingleResult();
+            user = (User) query.getResultList().stream().findFirst().orElse(null);
         } catch (Exception exception){
             LOGGER.warn("User not found");
             throw new UserNotFoundException(exception.getMessage());
         }
+
+        if (Objects.isNull(user) || !(PASSWORD_HASHER.isHash(user.getPassword())
+                ? PASSWORD_HASHER.verify(password, user.getPassword()) : isLegacyPassword(user.getId(), password))) {
+            return null;
+        }
+
+        if (PASSWORD_HASHER.needsRehash(user.getPassword())) {
+            user.setPassword(PASSWORD_HASHER.hash(password));
+            updatePassword(user);
+        }
+
+        return user;
     }
 
     /**
@@ -101,7 +116,9 @@ public class UserDAOImpl2 implements UserDAO {
      */
     @Override
     public void updateDetails(final User user) {
-        try (Session session = sessionFactory.openSession()) {
+        user.setPassword(PASSWORD_HASHER.hash(user.getPassword()));
+
+        try (Session session = SessionFactoryLocator.locate(UserDAOImpl2.class).openSession()) {
             session.beginTransaction();
             session.merge(user);
             session.getTransaction().commit();
@@ -122,7 +139,7 @@ public class UserDAOImpl2 implements UserDAO {
      */
     @Override
     public User getUserById(final int userId) {
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = SessionFactoryLocator.locate(UserDAOImpl2.class).openSession()) {
 
             return session.get(User.class, userId);
         } catch (Exception exception){
@@ -130,5 +147,50 @@ public class UserDAOImpl2 implements UserDAO {
             throw new UserNotFoundException(exception.getMessage());
         }
     }
-}
 
+    /**
+     * <p>
+     * Verifies the password against the legacy bcrypt hash of the user, which can only be checked in the database.
+     * </p>
+     *
+     * @param userId Refers the id of the user.
+     * @param password Refers the password entered by the user.
+     * @return true if the password matches.
+     */
+    private boolean isLegacyPassword(final int userId, final String password) {
+        try (Session session = SessionFactoryLocator.locate(UserDAOImpl2.class).openSession()) {
+            final Query query = session.createNativeQuery(
+                    "select password = crypt(:password, password) from users where id = :userId", Boolean.class);
+
+            query.setParameter("password", password);
+            query.setParameter("userId", userId);
+
+            return query.getResultList().stream().anyMatch(Boolean.TRUE::equals);
+        } catch (Exception exception) {
+            LOGGER.warn(String.format("Legacy password check failed for the given id: %d", userId));
+            throw new UserNotFoundException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Replaces the stored password hash of the user with the hash of the user object. The cached user still
+     * holds the old hash, so it is invalidated.
+     * </p>
+     *
+     * @param user Refers the {@link User} with the new password hash.
+     */
+    private void updatePassword(final User user) {
+        try (Session session = SessionFactoryLocator.locate(UserDAOImpl2.class).openSession()) {
+            session.beginTransaction();
+            session.createMutationQuery("update users set password = :password where id = :userId")
+                    .setParameter("password", user.getPassword()).setParameter("userId", user.getId())
+                    .executeUpdate();
+            session.getTransaction().commit();
+            UserCache.getInstance().invalidate(user.getId());
+            LOGGER.info(String.format("User : id - %d - Password rehashed", user.getId()));
+        } catch (Exception exception) {
+            LOGGER.warn(String.format("Password rehash failed for the given id: %d", user.getId()));
+        }
+    }
+}
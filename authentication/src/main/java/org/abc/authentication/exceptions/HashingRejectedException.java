@@ -0,0 +1,25 @@
+package org.abc.authentication.exceptions;
+
+import org.abc.exception.CustomException;
+
+/**
+ * <p>
+ * Represents the exception when a password can't be hashed because the hashing pool is saturated.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class HashingRejectedException extends CustomException {
+
+    /**
+     * <p>
+     * Constructs the HashingRejectedException object.
+     * </p>
+     *
+     * @param message Refers the message to be displayed.
+     */
+    public HashingRejectedException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,25 @@
+package org.abc.authentication.exceptions;
+
+import org.abc.exception.CustomException;
+
+/**
+ * <p>
+ * Represents the exception when a session token is malformed, forged or expired.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class InvalidTokenException extends CustomException {
+
+    /**
+     * <p>
+     * Constructs the InvalidTokenException object.
+     * </p>
+     *
+     * @param message Refers the message to be displayed.
+     */
+    public InvalidTokenException(final String message) {
+        super(message);
+    }
+}
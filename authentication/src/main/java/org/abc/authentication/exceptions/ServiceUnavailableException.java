@@ -0,0 +1,25 @@
+package org.abc.authentication.exceptions;
+
+import org.abc.exception.CustomException;
+
+/**
+ * <p>
+ * Represents the exception when the user service is not published in the osgi service registry.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class ServiceUnavailableException extends CustomException {
+
+    /**
+     * <p>
+     * Constructs the ServiceUnavailableException object.
+     * </p>
+     *
+     * @param message Refers the message to be displayed.
+     */
+    public ServiceUnavailableException(final String message) {
+        super(message);
+    }
+}
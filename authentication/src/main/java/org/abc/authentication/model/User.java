@@ -49,7 +49,7 @@ public class User {
     @NotNull(groups = UserLoginChecks.class)
     @Pattern(regexp = "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,20}$",
             message = "Password is invalid", groups = UserLoginChecks.class)
-    @Column(length = 20)
+    @Column(length = 120)
     private String password;
     @Positive(groups = GetUserChecker.class, message = "User id can't be negative")
     @Id
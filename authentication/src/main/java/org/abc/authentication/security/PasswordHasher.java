@@ -0,0 +1,323 @@
+package org.abc.authentication.security;
+
+import org.abc.authentication.exceptions.HashingRejectedException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Hashes and verifies the passwords of the users with PBKDF2-HMAC-SHA256 in the application instead of the
+ * database. Hashing runs on a dedicated pool with a bounded queue, so a burst of logins is rejected fast once the
+ * queue is full instead of piling up on the request threads.
+ * </p>
+ *
+ * <p>
+ * A hash is stored as {@code pbkdf2$<iterations>$<salt>$<hash>}, so the cost factor can be raised without
+ * invalidating the existing hashes. The cost, the pool size, the queue capacity and the time to wait for a result
+ * can be configured with the {@code org.abc.authentication.password.iterations},
+ * {@code org.abc.authentication.password.threads}, {@code org.abc.authentication.password.queueCapacity} and
+ * {@code org.abc.authentication.password.timeoutMillis} system properties.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class PasswordHasher {
+
+    private static PasswordHasher passwordHasher;
+    private static final Logger LOGGER = LogManager.getLogger(PasswordHasher.class);
+    private static final String PREFIX = "pbkdf2";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 256;
+    private final int iterations = Math.max(10_000, Integer.getInteger("org.abc.authentication.password.iterations",
+            210_000));
+    private final long timeoutMillis = Long.getLong("org.abc.authentication.password.timeoutMillis", 5000);
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ThreadPoolExecutor executor;
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder timedOutCount = new LongAdder();
+    private final LongAdder totalQueueTimeNanos = new LongAdder();
+    private final LongAdder totalHashTimeNanos = new LongAdder();
+
+    /**
+     * <p>
+     * Default constructor of PasswordHasher class. Kept private to restrict from creating object outside this class.
+     * </p>
+     */
+    private PasswordHasher() {
+        final int threads = Math.max(1, Integer.getInteger("org.abc.authentication.password.threads",
+                Runtime.getRuntime().availableProcessors()));
+        final int queueCapacity = Math.max(1, Integer.getInteger("org.abc.authentication.password.queueCapacity",
+                threads * 16));
+        final AtomicInteger threadCount = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    final Thread thread = new Thread(runnable,
+                            String.format("password-hasher-%d", threadCount.incrementAndGet()));
+
+                    thread.setDaemon(true);
+
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        LOGGER.info(String.format("Password hashing - %d iterations, %d threads, queue of %d", iterations, threads,
+                queueCapacity));
+    }
+
+    /**
+     * <p>
+     * Creates a single object of PasswordHasher class and returns it.
+     * </p>
+     *
+     * @return the single instance of PasswordHasher class.
+     */
+    public static synchronized PasswordHasher getInstance() {
+        return Objects.isNull(passwordHasher) ? passwordHasher = new PasswordHasher() : passwordHasher;
+    }
+
+    /**
+     * <p>
+     * Hashes the given password with a new random salt.
+     * </p>
+     *
+     * @param password Refers the password to be hashed.
+     * @return the encoded hash.
+     */
+    public String hash(final String password) {
+        final byte[] salt = new byte[SALT_LENGTH];
+
+        secureRandom.nextBytes(salt);
+        final byte[] hash = submit(() -> derive(password, salt, iterations));
+        final Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+
+        return String.join("$", PREFIX, String.valueOf(iterations), encoder.encodeToString(salt),
+                encoder.encodeToString(hash));
+    }
+
+    /**
+     * <p>
+     * Verifies the given password against the given encoded hash.
+     * </p>
+     *
+     * @param password Refers the password entered by the user.
+     * @param encodedHash Refers the stored hash.
+     * @return true if the password matches, false if it doesn't or the hash is not a PBKDF2 hash.
+     */
+    public boolean verify(final String password, final String encodedHash) {
+        if (!isHash(encodedHash)) {
+            return false;
+        }
+        final String[] parts = encodedHash.split("\\$");
+
+        if (4 != parts.length) {
+            return false;
+        }
+
+        try {
+            final Base64.Decoder decoder = Base64.getDecoder();
+            final int hashIterations = Integer.parseInt(parts[1]);
+            final byte[] salt = decoder.decode(parts[2]);
+            final byte[] expectedHash = decoder.decode(parts[3]);
+
+            return MessageDigest.isEqual(expectedHash, submit(() -> derive(password, salt, hashIterations)));
+        } catch (final IllegalArgumentException exception) {
+            LOGGER.warn("Malformed password hash");
+
+            return false;
+        }
+    }
+
+    /**
+     * <p>
+     * Checks whether the given stored hash is a PBKDF2 hash of this hasher.
+     * </p>
+     *
+     * @param encodedHash Refers the stored hash.
+     * @return true if the hash can be verified by this hasher.
+     */
+    public boolean isHash(final String encodedHash) {
+        return Objects.nonNull(encodedHash) && encodedHash.startsWith(PREFIX + "$");
+    }
+
+    /**
+     * <p>
+     * Checks whether the given stored hash should be replaced, as it is a legacy hash or uses another cost factor.
+     * </p>
+     *
+     * @param encodedHash Refers the stored hash.
+     * @return true if the password should be hashed again on the next successful login.
+     */
+    public boolean needsRehash(final String encodedHash) {
+        return !isHash(encodedHash) || !encodedHash.startsWith(String.format("%s$%d$", PREFIX, iterations));
+    }
+
+    /**
+     * <p>
+     * Gets the number of hashing tasks waiting in the queue.
+     * </p>
+     *
+     * @return the queue size.
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * <p>
+     * Gets the number of hashing tasks completed.
+     * </p>
+     *
+     * @return the completed count.
+     */
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the number of hashing tasks rejected because the queue was full.
+     * </p>
+     *
+     * @return the rejected count.
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the number of hashing tasks the caller stopped waiting for.
+     * </p>
+     *
+     * @return the timed out count.
+     */
+    public long getTimedOutCount() {
+        return timedOutCount.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the average time a hashing task waited in the queue.
+     * </p>
+     *
+     * @return the average queue time in milliseconds.
+     */
+    public double getAverageQueueTimeMillis() {
+        final long completed = completedCount.sum();
+
+        return completed == 0 ? 0 : totalQueueTimeNanos.sum() / 1_000_000.0 / completed;
+    }
+
+    /**
+     * <p>
+     * Gets the average time taken to hash a password.
+     * </p>
+     *
+     * @return the average hashing time in milliseconds.
+     */
+    public double getAverageHashTimeMillis() {
+        final long completed = completedCount.sum();
+
+        return completed == 0 ? 0 : totalHashTimeNanos.sum() / 1_000_000.0 / completed;
+    }
+
+    /**
+     * <p>
+     * Stops the hashing pool.
+     * </p>
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * <p>
+     * Runs the given hashing task on the pool and waits for its result.
+     * </p>
+     *
+     * @param task Refers the hashing task.
+     * @return the derived hash.
+     */
+    private byte[] submit(final Callable<byte[]> task) {
+        final long submitTime = System.nanoTime();
+        final Future<byte[]> future;
+
+        try {
+            future = executor.submit(() -> {
+                final long startTime = System.nanoTime();
+
+                try {
+                    return task.call();
+                } finally {
+                    final long endTime = System.nanoTime();
+
+                    totalQueueTimeNanos.add(startTime - submitTime);
+                    totalHashTimeNanos.add(endTime - startTime);
+                    completedCount.increment();
+                }
+            });
+        } catch (final RejectedExecutionException exception) {
+            rejectedCount.increment();
+            LOGGER.warn(String.format("Password hashing rejected - %d queued, %d rejected so far", getQueueSize(),
+                    getRejectedCount()));
+            throw new HashingRejectedException("Too many login requests, try again later");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException exception) {
+            future.cancel(true);
+            timedOutCount.increment();
+            throw new HashingRejectedException("Password hashing timed out, try again later");
+        } catch (final InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new HashingRejectedException("Password hashing interrupted");
+        } catch (final ExecutionException exception) {
+            throw new IllegalStateException("Password hashing failed", exception.getCause());
+        }
+    }
+
+    /**
+     * <p>
+     * Derives the hash of the given password.
+     * </p>
+     *
+     * @param password Refers the password.
+     * @param salt Refers the salt.
+     * @param hashIterations Refers the number of iterations.
+     * @return the derived hash.
+     */
+    private static byte[] derive(final String password, final byte[] salt, final int hashIterations)
+            throws GeneralSecurityException {
+        final PBEKeySpec keySpec = new PBEKeySpec(password.toCharArray(), salt, hashIterations, HASH_LENGTH);
+
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(keySpec).getEncoded();
+        } finally {
+            keySpec.clearPassword();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.abc.authentication.security;
+
+import org.abc.authentication.exceptions.InvalidTokenException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Checks the session token of the requests to the resources marked with {@link TokenSecured}. The token is taken
+ * from the bearer authorization header and, when the path has a user id, it must be issued to that user. The id of
+ * the user is set as the {@code userId} property of the request, which the resources taking the id of the user
+ * from the body check with {@link #isIssuedTo(ContainerRequestContext, int)}.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@Provider
+@TokenSecured
+public class TokenFilter implements ContainerRequestFilter {
+
+    private static TokenFilter tokenFilter;
+    private static final Logger LOGGER = LogManager.getLogger(TokenFilter.class);
+    private static final String BEARER = "Bearer ";
+    private static final String USER_ID = "userId";
+    private static final TokenService TOKEN_SERVICE = TokenService.getInstance();
+
+    /**
+     * <p>
+     * Default constructor of TokenFilter class. Kept private to restrict from creating object outside this class.
+     * </p>
+     */
+    private TokenFilter() {}
+
+    /**
+     * <p>
+     * Creates a single object of TokenFilter class and returns it.
+     * </p>
+     *
+     * @return the single instance of TokenFilter class.
+     */
+    public static synchronized TokenFilter getInstance() {
+        return Objects.isNull(tokenFilter) ? tokenFilter = new TokenFilter() : tokenFilter;
+    }
+
+    /**
+     * <p>
+     * Verifies the token of the request and aborts the request when it is missing, invalid or issued to another
+     * user.
+     * </p>
+     *
+     * @param requestContext Refers the context of the request.
+     */
+    @Override
+    public void filter(final ContainerRequestContext requestContext) {
+        final String authorization = requestContext.getHeaderString(HttpHeaders.AUTHORIZATION);
+
+        if (Objects.isNull(authorization) || !authorization.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            abort(requestContext, Response.Status.UNAUTHORIZED, "Token is missing");
+
+            return;
+        }
+        final int userId;
+
+        try {
+            userId = TOKEN_SERVICE.verify(authorization.substring(BEARER.length()).strip());
+        } catch (final InvalidTokenException exception) {
+            abort(requestContext, Response.Status.UNAUTHORIZED, exception.getMessage());
+
+            return;
+        }
+        final String pathUserId = requestContext.getUriInfo().getPathParameters().getFirst(USER_ID);
+
+        if (Objects.nonNull(pathUserId) && !pathUserId.equals(String.valueOf(userId))) {
+            LOGGER.warn(String.format("User : id - %d - denied access to user %s", userId, pathUserId));
+            requestContext.abortWith(forbidden());
+
+            return;
+        }
+        requestContext.setProperty(USER_ID, userId);
+    }
+
+    /**
+     * <p>
+     * Checks whether the token of the request is issued to the given user. Used by the resources taking the id of
+     * the user from the body of the request, which the filter can't see.
+     * </p>
+     *
+     * @param requestContext Refers the context of the request checked by the filter.
+     * @param userId Refers the id of the user the request acts for.
+     * @return true if the token of the request is issued to the user.
+     */
+    public static boolean isIssuedTo(final ContainerRequestContext requestContext, final int userId) {
+        return Objects.equals(requestContext.getProperty(USER_ID), userId);
+    }
+
+    /**
+     * <p>
+     * Builds the response denying the request to act for another user.
+     * </p>
+     *
+     * @return the forbidden {@link Response}.
+     */
+    public static Response forbidden() {
+        return Response.status(Response.Status.FORBIDDEN).type(MediaType.APPLICATION_JSON)
+                .entity("{\"status\":\"Access denied\"}").build();
+    }
+
+    /**
+     * <p>
+     * Aborts the request with the given status and message.
+     * </p>
+     *
+     * @param requestContext Refers the context of the request.
+     * @param status Refers the status of the response.
+     * @param message Refers the message of the response.
+     */
+    private void abort(final ContainerRequestContext requestContext, final Response.Status status,
+                       final String message) {
+        requestContext.abortWith(Response.status(status).type(MediaType.APPLICATION_JSON)
+                .entity(String.format("{\"status\":\"%s\"}", message)).build());
+    }
+}
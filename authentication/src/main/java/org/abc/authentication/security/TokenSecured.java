@@ -0,0 +1,23 @@
+package org.abc.authentication.security;
+
+import javax.ws.rs.NameBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * Marks the JAX-RS resources and methods which can only be accessed with a valid session token. The token is
+ * checked by the {@link TokenFilter} registered with the server.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@NameBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface TokenSecured {
+}
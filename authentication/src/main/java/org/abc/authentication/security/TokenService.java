@@ -0,0 +1,189 @@
+package org.abc.authentication.security;
+
+import org.abc.authentication.exceptions.InvalidTokenException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Issues and verifies the session tokens of the users. A token holds the user id and its expiry time signed with
+ * HMAC-SHA256, so it is verified with a local key instead of checking the password in the database again.
+ * </p>
+ *
+ * <p>
+ * The key is read from the file given by the {@code org.abc.authentication.token.keyFile} system property, which
+ * must be shared by every node issuing or verifying tokens. Without it a random key is generated and the tokens
+ * are valid only until the restart. The lifetime of a token can be configured with the
+ * {@code org.abc.authentication.token.ttlSeconds} system property.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class TokenService {
+
+    private static TokenService tokenService;
+    private static final Logger LOGGER = LogManager.getLogger(TokenService.class);
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_KEY_LENGTH = 32;
+    private final long ttlSeconds = Math.max(1, Long.getLong("org.abc.authentication.token.ttlSeconds", 3600));
+    private final SecretKeySpec key = new SecretKeySpec(loadKey(), ALGORITHM);
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::createMac);
+
+    /**
+     * <p>
+     * Default constructor of TokenService class. Kept private to restrict from creating object outside this class.
+     * </p>
+     */
+    private TokenService() {}
+
+    /**
+     * <p>
+     * Creates a single object of TokenService class and returns it.
+     * </p>
+     *
+     * @return the single instance of TokenService class.
+     */
+    public static synchronized TokenService getInstance() {
+        return Objects.isNull(tokenService) ? tokenService = new TokenService() : tokenService;
+    }
+
+    /**
+     * <p>
+     * Issues a token for the given user.
+     * </p>
+     *
+     * @param userId Refers the id of the authenticated user.
+     * @return the signed token.
+     */
+    public String issue(final int userId) {
+        final String payload = String.format("%d:%d", userId, System.currentTimeMillis() / 1000 + ttlSeconds);
+        final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+        return String.join(".", encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)),
+                encoder.encodeToString(sign(payload)));
+    }
+
+    /**
+     * <p>
+     * Verifies the signature and the expiry of the given token.
+     * </p>
+     *
+     * @param token Refers the token to be verified.
+     * @return the id of the user the token was issued to.
+     */
+    public int verify(final String token) {
+        if (Objects.isNull(token)) {
+            throw new InvalidTokenException("Token is missing");
+        }
+        final int separator = token.indexOf('.');
+
+        if (separator <= 0) {
+            throw new InvalidTokenException("Token is malformed");
+        }
+
+        try {
+            final Base64.Decoder decoder = Base64.getUrlDecoder();
+            final String payload = new String(decoder.decode(token.substring(0, separator)), StandardCharsets.UTF_8);
+
+            if (!MessageDigest.isEqual(sign(payload), decoder.decode(token.substring(separator + 1)))) {
+                throw new InvalidTokenException("Token signature is invalid");
+            }
+            final int colon = payload.indexOf(':');
+
+            if (Long.parseLong(payload.substring(colon + 1)) < System.currentTimeMillis() / 1000) {
+                throw new InvalidTokenException("Token is expired");
+            }
+
+            return Integer.parseInt(payload.substring(0, colon));
+        } catch (final IllegalArgumentException | IndexOutOfBoundsException exception) {
+            throw new InvalidTokenException("Token is malformed");
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the lifetime of the issued tokens.
+     * </p>
+     *
+     * @return the lifetime in seconds.
+     */
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    /**
+     * <p>
+     * Signs the given payload with the key.
+     * </p>
+     *
+     * @param payload Refers the payload of the token.
+     * @return the signature.
+     */
+    private byte[] sign(final String payload) {
+        return macs.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * <p>
+     * Creates the MAC of the current thread, since a MAC can't be shared between threads.
+     * </p>
+     *
+     * @return the {@link Mac} initialized with the key.
+     */
+    private Mac createMac() {
+        try {
+            final Mac mac = Mac.getInstance(ALGORITHM);
+
+            mac.init(key);
+
+            return mac;
+        } catch (final GeneralSecurityException exception) {
+            throw new IllegalStateException(String.format("%s is not available", ALGORITHM), exception);
+        }
+    }
+
+    /**
+     * <p>
+     * Reads the key from the key file, or generates a random key when no key file is configured.
+     * </p>
+     *
+     * @return the key.
+     */
+    private static byte[] loadKey() {
+        final String keyFile = System.getProperty("org.abc.authentication.token.keyFile");
+
+        if (Objects.nonNull(keyFile)) {
+            try {
+                final byte[] key = Files.readAllBytes(Path.of(keyFile));
+
+                if (key.length >= MIN_KEY_LENGTH) {
+                    return key;
+                }
+                LOGGER.error(String.format("Token key file %s is shorter than %d bytes", keyFile, MIN_KEY_LENGTH));
+            } catch (final IOException exception) {
+                LOGGER.error(String.format("Token key file %s can't be read - %s", keyFile, exception.getMessage()));
+            }
+        }
+        LOGGER.warn("No token key file configured, tokens are signed with a random key valid until the restart");
+        final byte[] key = new byte[MIN_KEY_LENGTH];
+
+        new SecureRandom().nextBytes(key);
+
+        return key;
+    }
+}
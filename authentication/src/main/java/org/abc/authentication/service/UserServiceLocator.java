@@ -0,0 +1,87 @@
+package org.abc.authentication.service;
+
+import org.abc.authentication.exceptions.ServiceUnavailableException;
+
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.FrameworkUtil;
+
+import org.osgi.util.tracker.ServiceTracker;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Looks up the {@link UserService} published by the authentication bundle from the osgi service registry. The
+ * service is tracked through the bundle of the caller, so a service withdrawn by the authentication bundle is
+ * dropped and a republished one is picked up by the next lookup, and it is released with {@code ungetService} when
+ * the bundle of the caller is released.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class UserServiceLocator {
+
+    private static final Map<Bundle, ServiceTracker<UserService, UserService>> TRACKERS = new ConcurrentHashMap<>();
+
+    /**
+     * <p>
+     * Default constructor of UserServiceLocator class. Kept private to restrict from creating object outside
+     * this class.
+     * </p>
+     */
+    private UserServiceLocator() {}
+
+    /**
+     * <p>
+     * Gets the user service currently published.
+     * </p>
+     *
+     * @param caller Refers the class of the bundle looking up the service.
+     * @return the {@link UserService}.
+     * @throws ServiceUnavailableException if the caller is not in a bundle or the service is not published.
+     */
+    public static UserService locate(final Class<?> caller) {
+        final Bundle bundle = FrameworkUtil.getBundle(caller);
+        final BundleContext context = Objects.nonNull(bundle) ? bundle.getBundleContext() : null;
+
+        if (Objects.isNull(context)) {
+            throw new ServiceUnavailableException(String.format("User service can't be looked up from %s",
+                    caller.getName()));
+        }
+        final UserService service = TRACKERS.computeIfAbsent(bundle, key -> {
+            final ServiceTracker<UserService, UserService> tracker = new ServiceTracker<>(context,
+                    UserService.class, null);
+
+            tracker.open();
+
+            return tracker;
+        }).getService();
+
+        if (Objects.isNull(service)) {
+            throw new ServiceUnavailableException("User service is not available");
+        }
+
+        return service;
+    }
+
+    /**
+     * <p>
+     * Releases the service tracked for the bundle of the given class. Called when that bundle stops.
+     * </p>
+     *
+     * @param caller Refers the class of the bundle which looked up the service.
+     */
+    public static void release(final Class<?> caller) {
+        final Bundle bundle = FrameworkUtil.getBundle(caller);
+        final ServiceTracker<UserService, UserService> tracker = Objects.nonNull(bundle) ? TRACKERS.remove(bundle)
+                : null;
+
+        if (Objects.nonNull(tracker)) {
+            tracker.close();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.abc.authentication.service.impl2;
 
+import org.abc.authentication.cache.UserCache;
 import org.abc.authentication.dao.impl.UserDAOImpl;
 import org.abc.authentication.dao.UserDAO;
 import org.abc.authentication.service.UserService;
@@ -19,6 +20,7 @@ public class UserServiceImpl implements UserService {
 
     private static UserServiceImpl userService;
     private static final UserDAO USER_DAO = UserDAOImpl.getInstance();
+    private static final UserCache USER_CACHE = UserCache.getInstance();
 
     /**
      * <p>
@@ -48,7 +50,13 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public boolean createUser(final User user) {
-        return USER_DAO.createNewUser(user);
+        final boolean isCreated = USER_DAO.createNewUser(user);
+
+        if (isCreated) {
+            USER_CACHE.invalidate(user.getId());
+        }
+
+        return isCreated;
     }
 
     /**
@@ -74,12 +82,16 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public void updateDetails(final User user) {
-        USER_DAO.updateDetails(user);
+        try {
+            USER_DAO.updateDetails(user);
+        } finally {
+            USER_CACHE.invalidate(user.getId());
+        }
     }
 
     /**
      * <p>
-     * Gets the user by id.
+     * Gets the user by id from the user cache, loading it from the database on a miss.
      * </p>
      *
      * @param userId Refers the id of the user.
@@ -87,6 +99,6 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public User getUserById(int userId) {
-        return USER_DAO.getUserById(userId);
+        return USER_CACHE.get(userId, USER_DAO::getUserById);
     }
 }
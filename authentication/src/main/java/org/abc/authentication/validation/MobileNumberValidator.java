@@ -3,9 +3,9 @@ package org.abc.authentication.validation;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import org.abc.authentication.validation.annotations.ValidMobileNumber;
+import org.abc.validation.Validator;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 public class MobileNumberValidator implements ConstraintValidator<ValidMobileNumber, String> {
 
@@ -21,23 +21,13 @@ public class MobileNumberValidator implements ConstraintValidator<ValidMobileNum
 
     /**
      * <p>
-     * Validates the mobile number by the given regular expression pattern.
+     * Validates the mobile number of any of the supported countries.
      * </p>
      *
      * @param mobileNumber Refers the mobile number to be validated.
      * @return true if the entered mobile number is valid, otherwise false.
      */
     private boolean isValidMobileNumber(final String mobileNumber) {
-        if (Objects.isNull(mobileNumber)) {
-            return true;
-        }
-        final String forAmerica = "^1[2-9]\\d{2}[2-9]\\d{2}\\d{4}$";
-        final String forAustralia = "^61(4|04)\\d{8}$";
-        final String forGermany = "^491[5-79]\\d{9}$";
-        final String forChina = "^861[3-9][0-9]{9}$";
-        final String forIndia = "^91[6789]\\d{9}$";
-        final String forAllCountries = String.join("|", forAmerica, forAustralia, forGermany, forChina, forIndia);
-
-        return Pattern.matches(forAllCountries, mobileNumber);
+        return Objects.isNull(mobileNumber) || Validator.getInstance().isValidMobileNumber(mobileNumber);
     }
 }
@@ -1,7 +1,16 @@
 package org.abc.dbconnection;
 
+import org.abc.dbconnection.connection.DBConnection;
+import org.abc.dbconnection.executor.DatabaseExecutor;
+import org.abc.dbconnection.session.SessionFactoryLocator;
+import org.abc.dbconnection.session.SessionFactoryService;
+import org.abc.dbconnection.session.impl.SessionFactoryRegistry;
+
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+
+import java.util.Objects;
 
 /**
  * <p>
@@ -13,25 +22,39 @@ import org.osgi.framework.BundleContext;
  */
 public class Activator implements BundleActivator {
 
+    private ServiceRegistration<SessionFactoryService> sessionFactoryRegistration;
+
     /**
      * <p>
-     * Invoked when the osgi bundle starts.
+     * Invoked when the osgi bundle starts. Publishes the shared session factory service.
      * </p>
      * @param context Refers the context of the bundle.
      */
     @Override
     public void start(final BundleContext context) {
         System.out.println("Starting the bundle - db");
+        sessionFactoryRegistration = context.registerService(SessionFactoryService.class,
+                SessionFactoryRegistry.getInstance(), null);
     }
 
     /**
      * <p>
-     * Invoked when the osgi bundle stops.
+     * Invoked when the osgi bundle stops. Stops the database executor, then closes the session factory and the
+     * database connection pool.
      * </p>
      * @param context Refers the context of the bundle.
      */
     @Override
     public void stop(final BundleContext context) {
         System.out.println("Stopping the bundle");
+
+        if (Objects.nonNull(sessionFactoryRegistration)) {
+            sessionFactoryRegistration.unregister();
+            sessionFactoryRegistration = null;
+        }
+        DatabaseExecutor.shutdown();
+        SessionFactoryLocator.reset();
+        SessionFactoryRegistry.getInstance().close();
+        DBConnection.shutdown();
     }
 }
@@ -0,0 +1,439 @@
+package org.abc.dbconnection.connection;
+
+import org.abc.dbconnection.exceptions.ConnectionFailedException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.sql.DataSource;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Provides a bounded pool of database connections. Each borrowed connection has to be closed by the caller,
+ * which returns it to the pool instead of closing the physical connection.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class ConnectionPool implements DataSource {
+
+    private static final Logger LOGGER = LogManager.getLogger(ConnectionPool.class);
+    private static final Throwable NO_BORROW_TRACE = new Throwable("Leak detection is disabled");
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int minSize;
+    private final int maxSize;
+    private final long acquireTimeoutMillis;
+    private final long idleTimeoutMillis;
+    private final long leakDetectionThresholdMillis;
+    private final int validationTimeoutSeconds;
+    private final LinkedBlockingDeque<PooledConnection> idleConnections = new LinkedBlockingDeque<>();
+    private final Map<PooledConnection, Throwable> borrowedConnections = new ConcurrentHashMap<>();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final Semaphore permits;
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    /**
+     * <p>
+     * Creates the pool from the given properties and opens the minimum number of connections. The connections
+     * already opened are closed again when one of them can't be opened.
+     * </p>
+     *
+     * @param properties Refers the database and pool properties.
+     */
+    public ConnectionPool(final Properties properties) {
+        this.url = properties.getProperty("url");
+        this.username = properties.getProperty("username");
+        this.password = properties.getProperty("password");
+        this.minSize = Integer.parseInt(properties.getProperty("pool.minSize", "2"));
+        this.maxSize = Math.max(minSize, Integer.parseInt(properties.getProperty("pool.maxSize", "10")));
+        this.acquireTimeoutMillis = Long.parseLong(properties.getProperty("pool.acquireTimeoutMillis", "5000"));
+        this.idleTimeoutMillis = Long.parseLong(properties.getProperty("pool.idleTimeoutMillis", "600000"));
+        this.leakDetectionThresholdMillis = Long.parseLong(properties.getProperty("pool.leakDetectionThresholdMillis", "0"));
+        this.validationTimeoutSeconds = Integer.parseInt(properties.getProperty("pool.validationTimeoutSeconds", "2"));
+        this.permits = new Semaphore(maxSize, true);
+        final long housekeepingPeriod = Long.parseLong(properties.getProperty("pool.housekeepingPeriodMillis", "30000"));
+
+        try {
+            for (int i = 0; i < minSize; i++) {
+                idleConnections.offer(openPhysicalConnection());
+            }
+        } catch (final ConnectionFailedException exception) {
+            PooledConnection pooledConnection;
+
+            while (Objects.nonNull(pooledConnection = idleConnections.poll())) {
+                closePhysicalConnection(pooledConnection);
+            }
+            throw exception;
+        }
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "db-connection-pool-housekeeper");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        housekeeper.scheduleWithFixedDelay(this::evictAndDetectLeaks, housekeepingPeriod, housekeepingPeriod,
+                TimeUnit.MILLISECONDS);
+        LOGGER.info(String.format("Connection pool started with min size %d and max size %d", minSize, maxSize));
+    }
+
+    /**
+     * <p>
+     * Borrows a connection from the pool. Waits up to the acquire timeout when all the connections are in use.
+     * </p>
+     *
+     * @return the {@link Connection} which returns to the pool when closed.
+     */
+    @Override
+    public Connection getConnection() {
+        if (closed) {
+            throw new ConnectionFailedException("Connection pool is closed");
+        }
+
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                LOGGER.warn(String.format("Timed out after %d ms waiting for a database connection", acquireTimeoutMillis));
+                throw new ConnectionFailedException("Timed out waiting for a database connection");
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ConnectionFailedException(exception.getMessage());
+        }
+
+        try {
+            final PooledConnection pooledConnection = takeValidConnection();
+
+            borrowedConnections.put(pooledConnection, 0 < leakDetectionThresholdMillis
+                    ? new Throwable("Connection borrowed here") : NO_BORROW_TRACE);
+            pooledConnection.borrowedAt = System.currentTimeMillis();
+
+            return pooledConnection.createHandle();
+        } catch (final RuntimeException exception) {
+            permits.release();
+            throw exception;
+        }
+    }
+
+    /**
+     * <p>
+     * Borrows a connection from the pool. The pool has a single set of credentials, so the given ones are ignored.
+     * </p>
+     *
+     * @param username Refers the user name.
+     * @param password Refers the password.
+     * @return the {@link Connection} which returns to the pool when closed.
+     */
+    @Override
+    public Connection getConnection(final String username, final String password) {
+        return getConnection();
+    }
+
+    /**
+     * <p>
+     * Gets the number of connections currently borrowed from the pool.
+     * </p>
+     *
+     * @return the number of active connections.
+     */
+    public int getActiveConnections() {
+        return borrowedConnections.size();
+    }
+
+    /**
+     * <p>
+     * Gets the number of connections currently idle in the pool.
+     * </p>
+     *
+     * @return the number of idle connections.
+     */
+    public int getIdleConnections() {
+        return idleConnections.size();
+    }
+
+    /**
+     * <p>
+     * Closes every idle connection and stops the housekeeping. Borrowed connections are closed when they are returned.
+     * </p>
+     */
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooledConnection;
+
+        while (Objects.nonNull(pooledConnection = idleConnections.poll())) {
+            closePhysicalConnection(pooledConnection);
+        }
+        LOGGER.info("Connection pool closed");
+    }
+
+    /**
+     * <p>
+     * Takes an idle connection which passes the validation or opens a new one.
+     * </p>
+     *
+     * @return the valid {@link PooledConnection}.
+     */
+    private PooledConnection takeValidConnection() {
+        PooledConnection pooledConnection;
+
+        while (Objects.nonNull(pooledConnection = idleConnections.pollFirst())) {
+            if (isValid(pooledConnection)) {
+                return pooledConnection;
+            }
+            LOGGER.warn("Discarding a broken database connection");
+            closePhysicalConnection(pooledConnection);
+        }
+
+        return openPhysicalConnection();
+    }
+
+    /**
+     * <p>
+     * Checks whether the connection is still usable.
+     * </p>
+     *
+     * @param pooledConnection Refers the connection to be validated.
+     * @return true if the connection is usable or false otherwise.
+     */
+    private boolean isValid(final PooledConnection pooledConnection) {
+        try {
+            return pooledConnection.physicalConnection.isValid(validationTimeoutSeconds);
+        } catch (final SQLException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * <p>
+     * Opens a new physical connection with the database.
+     * </p>
+     *
+     * @return the new {@link PooledConnection}.
+     */
+    private PooledConnection openPhysicalConnection() {
+        try {
+            final PooledConnection pooledConnection = new PooledConnection(DriverManager.getConnection(url, username, password));
+
+            totalConnections.incrementAndGet();
+
+            return pooledConnection;
+        } catch (final SQLException exception) {
+            LOGGER.error("Database Connection failed");
+            throw new ConnectionFailedException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Closes the physical connection and removes it from the pool.
+     * </p>
+     *
+     * @param pooledConnection Refers the connection to be closed.
+     */
+    private void closePhysicalConnection(final PooledConnection pooledConnection) {
+        totalConnections.decrementAndGet();
+
+        try {
+            pooledConnection.physicalConnection.close();
+        } catch (final SQLException exception) {
+            LOGGER.warn(String.format("Failed closing the database connection : %s", exception.getMessage()));
+        }
+    }
+
+    /**
+     * <p>
+     * Gives the connection back to the pool. Resets the connection state so the next borrower gets a clean connection.
+     * </p>
+     *
+     * @param pooledConnection Refers the connection to be returned.
+     */
+    private void giveBack(final PooledConnection pooledConnection) {
+        borrowedConnections.remove(pooledConnection);
+
+        try {
+            final Connection physicalConnection = pooledConnection.physicalConnection;
+
+            if (physicalConnection.isClosed()) {
+                totalConnections.decrementAndGet();
+
+                return;
+            }
+
+            if (!physicalConnection.getAutoCommit()) {
+                physicalConnection.rollback();
+                physicalConnection.setAutoCommit(true);
+            }
+            physicalConnection.clearWarnings();
+            pooledConnection.lastUsedAt = System.currentTimeMillis();
+
+            if (closed) {
+                closePhysicalConnection(pooledConnection);
+            } else {
+                idleConnections.offerFirst(pooledConnection);
+            }
+        } catch (final SQLException exception) {
+            LOGGER.warn(String.format("Discarding a database connection which failed on return : %s", exception.getMessage()));
+            closePhysicalConnection(pooledConnection);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * <p>
+     * Closes the connections idle for longer than the idle timeout, keeping at least the minimum size and reports
+     * the connections borrowed for longer than the leak detection threshold.
+     * </p>
+     */
+    private void evictAndDetectLeaks() {
+        final long now = System.currentTimeMillis();
+        final Iterator<PooledConnection> iterator = idleConnections.descendingIterator();
+
+        while (iterator.hasNext() && totalConnections.get() > minSize) {
+            final PooledConnection pooledConnection = iterator.next();
+
+            if (now - pooledConnection.lastUsedAt > idleTimeoutMillis && idleConnections.remove(pooledConnection)) {
+                closePhysicalConnection(pooledConnection);
+            }
+        }
+
+        if (0 < leakDetectionThresholdMillis) {
+            borrowedConnections.forEach((pooledConnection, borrowTrace) -> {
+                if (now - pooledConnection.borrowedAt > leakDetectionThresholdMillis) {
+                    LOGGER.warn(String.format("Database connection borrowed for %d ms, possible leak",
+                            now - pooledConnection.borrowedAt), borrowTrace);
+                }
+            });
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(final PrintWriter printWriter) {}
+
+    @Override
+    public void setLoginTimeout(final int seconds) {}
+
+    @Override
+    public int getLoginTimeout() {
+        return 0;
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException(String.format("Not a wrapper for %s", iface.getName()));
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    /**
+     * <p>
+     * Represents a physical connection owned by the pool.
+     * </p>
+     */
+    private final class PooledConnection {
+
+        private final Connection physicalConnection;
+        private volatile long borrowedAt;
+        private volatile long lastUsedAt = System.currentTimeMillis();
+
+        private PooledConnection(final Connection physicalConnection) {
+            this.physicalConnection = physicalConnection;
+        }
+
+        /**
+         * <p>
+         * Creates the handle given to the borrower. Closing the handle returns the connection to the pool and any
+         * further use of the handle fails.
+         * </p>
+         *
+         * @return the {@link Connection} handle.
+         */
+        private Connection createHandle() {
+            final InvocationHandler handler = new InvocationHandler() {
+
+                private boolean released;
+
+                @Override
+                public Object invoke(final Object proxy, final Method method, final Object[] arguments) throws Throwable {
+                    switch (method.getName()) {
+                        case "close" -> {
+                            if (!released) {
+                                released = true;
+                                giveBack(PooledConnection.this);
+                            }
+
+                            return null;
+                        }
+                        case "isClosed" -> {
+                            return released || physicalConnection.isClosed();
+                        }
+                        case "equals" -> {
+                            return proxy == arguments[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        case "toString" -> {
+                            return String.format("Pooled connection [%s]", physicalConnection);
+                        }
+                        default -> {
+                            if (released) {
+                                throw new SQLException("Connection is already returned to the pool");
+                            }
+                        }
+                    }
+
+                    try {
+                        return method.invoke(physicalConnection, arguments);
+                    } catch (final InvocationTargetException exception) {
+                        throw exception.getCause();
+                    }
+                }
+            };
+
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class}, handler);
+        }
+    }
+}
@@ -4,10 +4,11 @@ import org.abc.dbconnection.exceptions.ConnectionFailedException;
 
 import java.io.FileReader;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.util.Objects;
 import java.util.Properties;
 
+import javax.sql.DataSource;
+
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 
@@ -21,7 +22,7 @@ import org.apache.logging.log4j.LogManager;
  */
 public class DBConnection {
 
-    private static Connection connection;
+    private static volatile ConnectionPool connectionPool;
     private static final Logger LOGGER = LogManager.getLogger(DBConnection.class);
 
     /**
@@ -33,30 +34,84 @@ public class DBConnection {
 
     /**
      * <p>
-     * Creates a connection with database and returns it.
+     * Borrows a connection from the connection pool and returns it. The caller has to close the connection, which
+     * returns it to the pool.
      * </p>
      *
      * @return {@link Connection} of the database.
      */
     public static Connection getConnection() {
-        if (Objects.isNull(connection)) {
-            final Properties properties = new Properties();
+        return getConnectionPool().getConnection();
+    }
+
+    /**
+     * <p>
+     * Gets the pooled data source of the database.
+     * </p>
+     *
+     * @return the {@link DataSource} backed by the connection pool.
+     */
+    public static DataSource getDataSource() {
+        return getConnectionPool();
+    }
+
+    /**
+     * <p>
+     * Closes the connection pool.
+     * </p>
+     */
+    public static synchronized void shutdown() {
+        if (Objects.nonNull(connectionPool)) {
+            connectionPool.close();
+            connectionPool = null;
+        }
+    }
 
-            try (FileReader fileReader = new FileReader(String.join("",
-                    System.getenv("DB_CONFIG_PATH"), "/db.properties"))) {
-                properties.load(fileReader);
-                Class.forName("org.postgresql.Driver");
+    /**
+     * <p>
+     * Creates the connection pool with the database on the first use and returns it.
+     * </p>
+     *
+     * @return the {@link ConnectionPool}.
+     */
+    private static ConnectionPool getConnectionPool() {
+        ConnectionPool pool = connectionPool;
 
-                connection = DriverManager.getConnection(properties.getProperty("url"),
-                        properties.getProperty("username"), properties.getProperty("password"));
+        if (Objects.isNull(pool)) {
+            synchronized (DBConnection.class) {
+                pool = connectionPool;
 
-                LOGGER.info("Database is connected");
-            } catch (final Exception exception) {
-                LOGGER.error("Database Connection failed");
-                throw new ConnectionFailedException(exception.getMessage());
+                if (Objects.isNull(pool)) {
+                    connectionPool = pool = createConnectionPool();
+                }
             }
         }
 
-        return connection;
+        return pool;
+    }
+
+    /**
+     * <p>
+     * Creates the connection pool from the database properties.
+     * </p>
+     *
+     * @return the {@link ConnectionPool}.
+     */
+    private static ConnectionPool createConnectionPool() {
+        final Properties properties = new Properties();
+
+        try (FileReader fileReader = new FileReader(String.join("",
+                System.getenv("DB_CONFIG_PATH"), "/db.properties"))) {
+            properties.load(fileReader);
+            Class.forName("org.postgresql.Driver");
+            final ConnectionPool pool = new ConnectionPool(properties);
+
+            LOGGER.info("Database is connected");
+
+            return pool;
+        } catch (final Exception exception) {
+            LOGGER.error("Database Connection failed");
+            throw new ConnectionFailedException(exception.getMessage());
+        }
     }
 }
@@ -0,0 +1,274 @@
+package org.abc.dbconnection.executor;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Runs the blocking database work of the REST controllers off the http threads, one virtual thread per task, so a
+ * slow query holds a cheap virtual thread instead of a container thread. The number of tasks in flight is limited,
+ * and a task beyond the limit is rejected at once instead of queueing up. The controllers resume their suspended
+ * responses through {@link #resume(AsyncResponse, Supplier)}. Work done after the response is resumed, like
+ * reading the rows of a streamed response, holds a permit of the same limit through {@link #run(Runnable)}.
+ * </p>
+ *
+ * <p>
+ * Virtual threads are looked up at runtime, as they are a preview feature on Java 20. Without them the tasks run on
+ * a cached pool of platform threads within the same limit. The limit can be configured with the
+ * {@code org.abc.dbconnection.async.maxConcurrency} system property and the time to wait for a permit in
+ * {@link #run(Runnable)} with the {@code org.abc.dbconnection.async.permitWaitMillis} system property.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class DatabaseExecutor {
+
+    private static DatabaseExecutor databaseExecutor;
+    private static final Logger LOGGER = LogManager.getLogger(DatabaseExecutor.class);
+    private final int maxConcurrency = Math.max(1, Integer.getInteger("org.abc.dbconnection.async.maxConcurrency",
+            1000));
+    private final long permitWaitMillis = Math.max(0, Long.getLong("org.abc.dbconnection.async.permitWaitMillis",
+            5000));
+    private final Semaphore permits = new Semaphore(maxConcurrency);
+    private final ThreadLocal<Boolean> holdsPermit = ThreadLocal.withInitial(() -> false);
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final ExecutorService executor;
+    private final boolean isVirtual;
+
+    /**
+     * <p>
+     * Default constructor of DatabaseExecutor class. Kept private to restrict from creating object outside this
+     * class.
+     * </p>
+     */
+    private DatabaseExecutor() {
+        final ExecutorService virtualThreadExecutor = createVirtualThreadExecutor();
+
+        isVirtual = Objects.nonNull(virtualThreadExecutor);
+        executor = isVirtual ? virtualThreadExecutor : createPlatformThreadExecutor();
+        LOGGER.info(String.format("Database executor - %s threads, at most %d tasks in flight",
+                isVirtual ? "virtual" : "platform", maxConcurrency));
+    }
+
+    /**
+     * <p>
+     * Creates a single object of DatabaseExecutor class and returns it.
+     * </p>
+     *
+     * @return the single instance of DatabaseExecutor class.
+     */
+    public static synchronized DatabaseExecutor getInstance() {
+        return Objects.isNull(databaseExecutor) ? databaseExecutor = new DatabaseExecutor() : databaseExecutor;
+    }
+
+    /**
+     * <p>
+     * Runs the given task on its own thread.
+     * </p>
+     *
+     * @param task Refers the blocking task.
+     * @return the future completed with the result of the task, or failed with a
+     * {@link RejectedExecutionException} if the limit of tasks in flight is reached.
+     */
+    public <T> CompletableFuture<T> submit(final Supplier<T> task) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+
+        if (!permits.tryAcquire()) {
+            rejectedCount.increment();
+            future.completeExceptionally(new RejectedExecutionException("Too many requests, try again later"));
+
+            return future;
+        }
+
+        try {
+            executor.execute(() -> {
+                holdsPermit.set(true);
+
+                try {
+                    future.complete(task.get());
+                } catch (final Throwable exception) {
+                    future.completeExceptionally(exception);
+                } finally {
+                    holdsPermit.remove();
+                    permits.release();
+                    completedCount.increment();
+                }
+            });
+        } catch (final RejectedExecutionException exception) {
+            permits.release();
+            rejectedCount.increment();
+            future.completeExceptionally(exception);
+        }
+
+        return future;
+    }
+
+    /**
+     * <p>
+     * Runs the given work on its own thread and resumes the suspended response with its result. The response is
+     * resumed with service unavailable when the limit of tasks in flight is reached, and with the exception of the
+     * work when it fails.
+     * </p>
+     *
+     * @param asyncResponse Refers the suspended response.
+     * @param work Refers the work producing the entity of the response.
+     */
+    public void resume(final AsyncResponse asyncResponse, final Supplier<?> work) {
+        submit(work).whenComplete((entity, exception) -> {
+            if (Objects.isNull(exception)) {
+                asyncResponse.resume(entity);
+            } else if (exception instanceof RejectedExecutionException) {
+                asyncResponse.resume(Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                        .type(MediaType.APPLICATION_JSON)
+                        .entity(String.format("{\"status\":\"%s\"}", exception.getMessage())).build());
+            } else {
+                asyncResponse.resume(exception);
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Runs the given work on the calling thread while holding a permit, waiting a while for one when the limit of
+     * tasks in flight is reached. A thread already holding a permit runs the work within it.
+     * </p>
+     *
+     * @param work Refers the blocking work.
+     * @throws RejectedExecutionException if no permit is freed in time.
+     */
+    public void run(final Runnable work) {
+        if (holdsPermit.get()) {
+            work.run();
+
+            return;
+        }
+
+        try {
+            if (!permits.tryAcquire(permitWaitMillis, TimeUnit.MILLISECONDS)) {
+                rejectedCount.increment();
+                throw new RejectedExecutionException("Too many requests, try again later");
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for a permit", exception);
+        }
+        holdsPermit.set(true);
+
+        try {
+            work.run();
+        } finally {
+            holdsPermit.remove();
+            permits.release();
+            completedCount.increment();
+        }
+    }
+
+    /**
+     * <p>
+     * Checks whether the tasks run on virtual threads.
+     * </p>
+     *
+     * @return true if virtual threads are available.
+     */
+    public boolean isVirtual() {
+        return isVirtual;
+    }
+
+    /**
+     * <p>
+     * Gets the number of tasks in flight.
+     * </p>
+     *
+     * @return the active count.
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * <p>
+     * Gets the number of tasks completed.
+     * </p>
+     *
+     * @return the completed count.
+     */
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the number of tasks rejected because the limit of tasks in flight was reached.
+     * </p>
+     *
+     * @return the rejected count.
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * <p>
+     * Stops the shared executor, letting the tasks in flight finish.
+     * </p>
+     */
+    public static synchronized void shutdown() {
+        if (Objects.nonNull(databaseExecutor)) {
+            databaseExecutor.executor.shutdown();
+            databaseExecutor = null;
+        }
+    }
+
+    /**
+     * <p>
+     * Creates an executor starting a virtual thread per task.
+     * </p>
+     *
+     * @return the executor, or null if virtual threads are not available on this runtime.
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException | UnsupportedOperationException exception) {
+            LOGGER.warn("Virtual threads are not available, falling back to platform threads");
+
+            return null;
+        }
+    }
+
+    /**
+     * <p>
+     * Creates an executor of daemon platform threads, which are kept for reuse while they are idle.
+     * </p>
+     *
+     * @return the executor.
+     */
+    private static ExecutorService createPlatformThreadExecutor() {
+        final AtomicInteger threadCount = new AtomicInteger();
+
+        return Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, String.format("db-async-%d", threadCount.incrementAndGet()));
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+}
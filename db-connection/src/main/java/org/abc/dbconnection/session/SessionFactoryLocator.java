@@ -0,0 +1,102 @@
+package org.abc.dbconnection.session;
+
+import org.abc.dbconnection.session.impl.SessionFactoryRegistry;
+
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.FrameworkUtil;
+
+import org.osgi.util.tracker.ServiceTracker;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Looks up the shared {@link SessionFactoryService} from the osgi service registry. The service is tracked
+ * through the bundle of the caller, so it is released with {@code ungetService} when that bundle is released and
+ * a restarted service is picked up by the next lookup. Falls back to the shared instance when the service
+ * registry is not available.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class SessionFactoryLocator {
+
+    private static final Map<Bundle, ServiceTracker<SessionFactoryService, SessionFactoryService>> TRACKERS =
+            new ConcurrentHashMap<>();
+
+    /**
+     * <p>
+     * Default constructor of SessionFactoryLocator class. Kept private to restrict from creating object outside
+     * this class.
+     * </p>
+     */
+    private SessionFactoryLocator() {}
+
+    /**
+     * <p>
+     * Gets the shared session factory service.
+     * </p>
+     *
+     * @param caller Refers the class of the bundle looking up the service.
+     * @return the {@link SessionFactoryService}.
+     */
+    public static SessionFactoryService locate(final Class<?> caller) {
+        final Bundle bundle = FrameworkUtil.getBundle(caller);
+        final BundleContext context = Objects.nonNull(bundle) ? bundle.getBundleContext() : null;
+
+        if (Objects.isNull(context)) {
+            return SessionFactoryRegistry.getInstance();
+        }
+        final SessionFactoryService service = TRACKERS.computeIfAbsent(bundle, key -> {
+            final ServiceTracker<SessionFactoryService, SessionFactoryService> tracker =
+                    new ServiceTracker<>(context, SessionFactoryService.class, null);
+
+            tracker.open();
+
+            return tracker;
+        }).getService();
+
+        return Objects.nonNull(service) ? service : SessionFactoryRegistry.getInstance();
+    }
+
+    /**
+     * <p>
+     * Releases the service tracked for the bundle of the given class. Called when that bundle stops.
+     * </p>
+     *
+     * @param caller Refers the class of the bundle which looked up the service.
+     */
+    public static void release(final Class<?> caller) {
+        final Bundle bundle = FrameworkUtil.getBundle(caller);
+
+        if (Objects.nonNull(bundle)) {
+            close(TRACKERS.remove(bundle));
+        }
+    }
+
+    /**
+     * <p>
+     * Releases the service tracked for every bundle, so the next lookup goes to the service registry again.
+     * </p>
+     */
+    public static void reset() {
+        TRACKERS.keySet().forEach(bundle -> close(TRACKERS.remove(bundle)));
+    }
+
+    /**
+     * <p>
+     * Closes the given tracker, which ungets the tracked service.
+     * </p>
+     *
+     * @param tracker Refers the tracker to be closed.
+     */
+    private static void close(final ServiceTracker<SessionFactoryService, SessionFactoryService> tracker) {
+        if (Objects.nonNull(tracker)) {
+            tracker.close();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.abc.dbconnection.session;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+
+/**
+ * <p>
+ * Provides the shared hibernate session factory of the application. Every bundle registers its annotated
+ * entity classes and opens sessions from the same factory.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public interface SessionFactoryService {
+
+    /**
+     * <p>
+     * Registers the given annotated entity classes with the session factory.
+     * </p>
+     *
+     * @param annotatedClasses Refers the entity classes to be registered.
+     */
+    void registerAnnotatedClasses(final Class<?>... annotatedClasses);
+
+    /**
+     * <p>
+     * Removes the given annotated entity classes from the session factory, as when the bundle owning them stops.
+     * </p>
+     *
+     * @param annotatedClasses Refers the entity classes to be removed.
+     */
+    void unregisterAnnotatedClasses(final Class<?>... annotatedClasses);
+
+    /**
+     * <p>
+     * Opens a new session from the shared session factory.
+     * </p>
+     *
+     * @return the {@link Session}.
+     */
+    Session openSession();
+
+    /**
+     * <p>
+     * Gets the shared session factory, building it on the first use.
+     * </p>
+     *
+     * @return the {@link SessionFactory}.
+     */
+    SessionFactory getSessionFactory();
+
+    /**
+     * <p>
+     * Gets the number of times the session factory has been built.
+     * </p>
+     *
+     * @return the build count.
+     */
+    int getBuildCount();
+
+    /**
+     * <p>
+     * Gets the time taken by the last build of the session factory.
+     * </p>
+     *
+     * @return the build time in milliseconds.
+     */
+    long getLastBuildTimeMillis();
+
+    /**
+     * <p>
+     * Gets the total time taken by all the builds of the session factory.
+     * </p>
+     *
+     * @return the total build time in milliseconds.
+     */
+    long getTotalBuildTimeMillis();
+
+    /**
+     * <p>
+     * Closes the session factory.
+     * </p>
+     */
+    void close();
+}
@@ -0,0 +1,330 @@
+package org.abc.dbconnection.session.impl;
+
+import org.abc.dbconnection.connection.DBConnection;
+import org.abc.dbconnection.exceptions.ConnectionFailedException;
+import org.abc.dbconnection.session.SessionFactoryService;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Builds a single hibernate session factory for every registered entity class. The factory is built lazily on
+ * the first use and rebuilt only when the registered entity classes change after it has been built.
+ * </p>
+ *
+ * <p>
+ * A rebuilt factory replaces the previous one for the new sessions only. The previous factory is closed once the
+ * last session opened from it is closed, so the sessions in flight are not broken by the rebuild.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class SessionFactoryRegistry implements SessionFactoryService {
+
+    private static SessionFactoryRegistry sessionFactoryRegistry;
+    private static final Logger LOGGER = LogManager.getLogger(SessionFactoryRegistry.class);
+    private final Set<Class<?>> annotatedClasses = Collections.synchronizedSet(new LinkedHashSet<>());
+    private volatile TrackedFactory trackedFactory;
+    private volatile boolean stale;
+    private int buildCount;
+    private long lastBuildTimeMillis;
+    private long totalBuildTimeMillis;
+
+    /**
+     * <p>
+     * Default constructor of the SessionFactoryRegistry class. Kept private to restrict from creating object from
+     * outside of this class.
+     * </p>
+     */
+    private SessionFactoryRegistry() {}
+
+    /**
+     * <p>
+     * Creates a single object of SessionFactoryRegistry Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of SessionFactoryRegistry Class.
+     */
+    public static synchronized SessionFactoryRegistry getInstance() {
+        return Objects.isNull(sessionFactoryRegistry) ? sessionFactoryRegistry = new SessionFactoryRegistry()
+                : sessionFactoryRegistry;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param annotatedClasses Refers the entity classes to be registered.
+     */
+    @Override
+    public void registerAnnotatedClasses(final Class<?>... annotatedClasses) {
+        for (final Class<?> annotatedClass : annotatedClasses) {
+            if (this.annotatedClasses.add(annotatedClass) && Objects.nonNull(trackedFactory)) {
+                stale = true;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param annotatedClasses Refers the entity classes to be removed.
+     */
+    @Override
+    public void unregisterAnnotatedClasses(final Class<?>... annotatedClasses) {
+        for (final Class<?> annotatedClass : annotatedClasses) {
+            if (this.annotatedClasses.remove(annotatedClass) && Objects.nonNull(trackedFactory)) {
+                stale = true;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the {@link Session}.
+     */
+    @Override
+    public Session openSession() {
+        while (true) {
+            final TrackedFactory factory = getTrackedFactory();
+
+            factory.openSessions.incrementAndGet();
+
+            if (!factory.retired) {
+                try {
+                    return factory.sessionFactory.withOptions().eventListeners(new SessionEventListener() {
+
+                        @Override
+                        public void end() {
+                            factory.release();
+                        }
+                    }).openSession();
+                } catch (final RuntimeException exception) {
+                    factory.release();
+                    throw exception;
+                }
+            }
+            factory.release();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the {@link SessionFactory}.
+     */
+    @Override
+    public SessionFactory getSessionFactory() {
+        return getTrackedFactory().sessionFactory;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the build count.
+     */
+    @Override
+    public synchronized int getBuildCount() {
+        return buildCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the build time in milliseconds.
+     */
+    @Override
+    public synchronized long getLastBuildTimeMillis() {
+        return lastBuildTimeMillis;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the total build time in milliseconds.
+     */
+    @Override
+    public synchronized long getTotalBuildTimeMillis() {
+        return totalBuildTimeMillis;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void close() {
+        if (Objects.nonNull(trackedFactory)) {
+            trackedFactory.sessionFactory.close();
+            trackedFactory = null;
+            LOGGER.info("Session factory closed");
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the current session factory, building it on the first use and rebuilding it when the registered entity
+     * classes have changed. The stale flag is cleared only once the rebuild succeeds, so a failed rebuild is tried
+     * again by the next caller instead of leaving the new classes unmapped.
+     * </p>
+     *
+     * @return the current {@link TrackedFactory}.
+     */
+    private TrackedFactory getTrackedFactory() {
+        TrackedFactory factory = trackedFactory;
+
+        if (Objects.isNull(factory) || stale) {
+            synchronized (this) {
+                factory = trackedFactory;
+
+                if (Objects.isNull(factory) || stale) {
+                    final TrackedFactory previousFactory = factory;
+
+                    factory = new TrackedFactory(buildSessionFactory());
+                    trackedFactory = factory;
+                    stale = false;
+
+                    if (Objects.nonNull(previousFactory)) {
+                        previousFactory.retire();
+                    }
+                }
+            }
+        }
+
+        return factory;
+    }
+
+    /**
+     * <p>
+     * Builds the session factory with all the registered entity classes on the pooled data source.
+     * </p>
+     *
+     * @return the {@link SessionFactory}.
+     */
+    private SessionFactory buildSessionFactory() {
+        final long startTime = System.nanoTime();
+        final Configuration configuration = new Configuration();
+
+        configuration.addProperties(loadProperties());
+        configuration.getProperties().put(AvailableSettings.DATASOURCE, DBConnection.getDataSource());
+
+        final Class<?>[] classes;
+
+        synchronized (annotatedClasses) {
+            classes = annotatedClasses.toArray(new Class<?>[0]);
+        }
+
+        for (final Class<?> annotatedClass : classes) {
+            configuration.addAnnotatedClass(annotatedClass);
+        }
+
+        final SessionFactory factory = configuration.buildSessionFactory();
+
+        lastBuildTimeMillis = (System.nanoTime() - startTime) / 1_000_000;
+        totalBuildTimeMillis += lastBuildTimeMillis;
+        buildCount++;
+        LOGGER.info(String.format("Session factory built with %d entities in %d ms (build count : %d)",
+                classes.length, lastBuildTimeMillis, buildCount));
+
+        return factory;
+    }
+
+    /**
+     * <p>
+     * Loads the hibernate properties of the application.
+     * </p>
+     *
+     * @return the hibernate {@link Properties}.
+     */
+    private Properties loadProperties() {
+        final Properties properties = new Properties();
+
+        try (InputStream inputStream = SessionFactoryRegistry.class.getResourceAsStream("/hibernate.properties")) {
+            if (Objects.nonNull(inputStream)) {
+                properties.load(inputStream);
+            }
+        } catch (final Exception exception) {
+            LOGGER.error("Hibernate properties can't be loaded");
+            throw new ConnectionFailedException(exception.getMessage());
+        }
+
+        return properties;
+    }
+
+    /**
+     * <p>
+     * Represents a session factory with the number of sessions open on it. A retired factory takes no new sessions
+     * and is closed as soon as none of its sessions is open.
+     * </p>
+     */
+    private static class TrackedFactory {
+
+        private final SessionFactory sessionFactory;
+        private final AtomicInteger openSessions = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean retired;
+
+        /**
+         * <p>
+         * Constructs the TrackedFactory object.
+         * </p>
+         *
+         * @param sessionFactory Refers the session factory to be tracked.
+         */
+        private TrackedFactory(final SessionFactory sessionFactory) {
+            this.sessionFactory = sessionFactory;
+        }
+
+        /**
+         * <p>
+         * Stops handing out sessions and closes the factory if none of its sessions is open.
+         * </p>
+         */
+        private void retire() {
+            retired = true;
+
+            if (openSessions.get() == 0) {
+                closeOnce();
+            }
+        }
+
+        /**
+         * <p>
+         * Releases a session of the factory, closing the retired factory with its last session.
+         * </p>
+         */
+        private void release() {
+            if (openSessions.decrementAndGet() == 0 && retired) {
+                closeOnce();
+            }
+        }
+
+        /**
+         * <p>
+         * Closes the factory unless it is already closed.
+         * </p>
+         */
+        private void closeOnce() {
+            if (closed.compareAndSet(false, true)) {
+                sessionFactory.close();
+                LOGGER.info("Previous session factory closed after its sessions drained");
+            }
+        }
+    }
+}
@@ -1,15 +1,39 @@
 package org.abc.product;
 
+import com.fasterxml.jackson.jaxrs.cbor.JacksonCBORProvider;
 import com.fasterxml.jackson.jaxrs.json.JacksonJsonProvider;
+import com.fasterxml.jackson.jaxrs.smile.JacksonSmileProvider;
 
+import org.abc.authentication.security.TokenFilter;
+import org.abc.authentication.service.UserServiceLocator;
+import org.abc.authentication.validation.groups.GetUserChecker;
+import org.abc.dbconnection.session.SessionFactoryLocator;
 import org.abc.product.controller.cart.CartControllerREST;
 import org.abc.product.controller.inventory.InventoryControllerREST;
 import org.abc.product.controller.order.OrderControllerREST;
 import org.abc.product.controller.wishlist.WishlistControllerREST;
+import org.abc.product.dao.cart.impl.WriteBehindCartDAO;
+import org.abc.product.dao.schema.SchemaMigration;
+import org.abc.product.format.JsonFormat;
+import org.abc.product.format.VaryFilter;
+import org.abc.product.model.order.Order;
+import org.abc.product.model.product.Clothes;
+import org.abc.product.model.product.Laptop;
+import org.abc.product.model.product.Mobile;
+import org.abc.product.model.product.Product;
+import org.abc.product.validation.group.AddressChecker;
+import org.abc.product.validation.group.ClothesChecker;
+import org.abc.product.validation.group.ElectronicProductChecker;
+import org.abc.product.validation.group.OrderChecker;
+import org.abc.product.validation.group.ProductChecker;
+import org.abc.product.validation.group.UserIdChecker;
+import org.abc.validation.factory.SharedValidatorFactory;
+import org.abc.validation.factory.ValidatorLocator;
 
 import org.apache.cxf.BusFactory;
 import org.apache.cxf.endpoint.Server;
 import org.apache.cxf.jaxrs.JAXRSServerFactoryBean;
+import org.apache.cxf.transport.common.gzip.GZIPFeature;
 
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
@@ -18,6 +42,7 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -32,6 +57,13 @@ import java.util.Objects;
 public class Activator implements BundleActivator {
 
     private static final JacksonJsonProvider jacksonJsonProvider = new JacksonJsonProvider();
+    private static final JacksonSmileProvider jacksonSmileProvider = new JacksonSmileProvider(
+            JsonFormat.SMILE.getObjectMapper());
+    private static final JacksonCBORProvider jacksonCBORProvider = new JacksonCBORProvider(
+            JsonFormat.CBOR.getObjectMapper());
+    private static final int GZIP_THRESHOLD = Integer.getInteger("org.abc.product.gzip.threshold", 1024);
+    private static final Class<?>[] ENTITY_CLASSES = {Product.class, Mobile.class, Laptop.class, Clothes.class,
+            Order.class};
     private Server serverForCart;
     private Server serverForInventory;
     private Server serverForOrder;
@@ -39,7 +71,10 @@ public class Activator implements BundleActivator {
 
     /**
      * <p>
-     * Invoked when the osgi bundle starts. Initializes and starts JAX-RS server.
+     * Invoked when the osgi bundle starts. Registers the product entities with the shared session factory, migrates
+     * the schema of the product tables, failing the start if it can't, warms up the validation of the orders and
+     * products, starts watching the catalog files and writing the cart changes and initializes and starts JAX-RS
+     * server.
      * </p>
      * @param context Refers the context of the bundle.
      */
@@ -47,6 +82,11 @@ public class Activator implements BundleActivator {
     @Override
     public void start(final BundleContext context) {
         System.out.println("Starting the bundle - product");
+        SessionFactoryLocator.locate(Activator.class).registerAnnotatedClasses(ENTITY_CLASSES);
+        SchemaMigration.getInstance().migrate();
+        warmUpValidation();
+        CatalogWatcher.getInstance().start();
+        WriteBehindCartDAO.getInstance().start();
         serverForCart = createServerFactoryBean("/cart", CartControllerREST.getInstance()).create();
         serverForInventory = createServerFactoryBean("/inventory", InventoryControllerREST.getInstance()).create();
         serverForOrder = createServerFactoryBean("/order", OrderControllerREST.getInstance()).create();
@@ -55,7 +95,9 @@ public class Activator implements BundleActivator {
 
     /**
      * <p>
-     * Invoked when the osgi bundle stops. Stops and destroys the JAX-RS server.
+     * Invoked when the osgi bundle stops. Stops watching the catalog files, writes the pending cart changes, stops
+     * and destroys the JAX-RS server, releases the user and validator services and removes the product entities
+     * from the shared session factory.
      * </p>
      * @param context Refers the context of the bundle.
      */
@@ -63,10 +105,35 @@ public class Activator implements BundleActivator {
     @Override
     public void stop(final BundleContext context) {
         System.out.println("Stopping the bundle");
+        CatalogWatcher.getInstance().stop();
+        WriteBehindCartDAO.getInstance().stop();
         destroy(serverForCart);
         destroy(serverForInventory);
         destroy(serverForOrder);
         destroy(serverForWishlist);
+        UserServiceLocator.release(Activator.class);
+        ValidatorLocator.release(Activator.class);
+        SessionFactoryLocator.locate(Activator.class).unregisterAnnotatedClasses(ENTITY_CLASSES);
+        SessionFactoryLocator.release(Activator.class);
+    }
+
+    /**
+     * <p>
+     * Validates a sample of every constrained type for every group used by the controllers, so the first request
+     * doesn't pay for building the constraint metadata.
+     * </p>
+     */
+    private void warmUpValidation() {
+        final SharedValidatorFactory validatorFactory = SharedValidatorFactory.getInstance();
+
+        validatorFactory.warmUp(new Order.OrderBuilder(1).build(), OrderChecker.class, UserIdChecker.class,
+                AddressChecker.class, GetUserChecker.class);
+        validatorFactory.warmUp(new Mobile("brand", "model", 1, 1), ProductChecker.class,
+                ElectronicProductChecker.class);
+        validatorFactory.warmUp(new Laptop("brand", "model", 1, 1), ProductChecker.class,
+                ElectronicProductChecker.class);
+        validatorFactory.warmUp(new Clothes("type", "gender", "size", 1, "brand", 1), ProductChecker.class,
+                ClothesChecker.class);
     }
 
     /**
@@ -83,7 +150,11 @@ public class Activator implements BundleActivator {
 
     /**
      * <p>
-     * Creates a JAX-RS server factory bean with the specified address and service bean.
+     * Creates a JAX-RS server factory bean with the specified address and service bean. The resources marked with
+     * TokenSecured are guarded by the token filter. Responses are written as JSON, Smile or CBOR as asked in the
+     * Accept header and compressed with gzip for the clients accepting it once they are larger than the threshold,
+     * which can be configured with the {@code org.abc.product.gzip.threshold} system property. Every response
+     * carries a Vary header naming both headers, so caches keep the formats and encodings apart.
      * </p>
      *
      * @param address Refers the base address for the JAX-RS server.
@@ -96,9 +167,26 @@ public class Activator implements BundleActivator {
 
         bean.setAddress(address);
         bean.setBus(BusFactory.getDefaultBus());
-        bean.setProvider(jacksonJsonProvider);
+        bean.setProviders(List.of(jacksonJsonProvider, jacksonSmileProvider, jacksonCBORProvider,
+                TokenFilter.getInstance(), VaryFilter.getInstance()));
+        bean.setFeatures(List.of(createGzipFeature()));
         bean.setServiceBean(serviceBean);
 
         return bean;
     }
+
+    /**
+     * <p>
+     * Creates the feature compressing the responses larger than the threshold with gzip.
+     * </p>
+     *
+     * @return the {@link GZIPFeature}.
+     */
+    private GZIPFeature createGzipFeature() {
+        final GZIPFeature gzipFeature = new GZIPFeature();
+
+        gzipFeature.setThreshold(GZIP_THRESHOLD);
+
+        return gzipFeature;
+    }
 }
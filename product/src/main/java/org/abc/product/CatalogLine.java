@@ -0,0 +1,67 @@
+package org.abc.product;
+
+import org.abc.product.model.product.Clothes;
+import org.abc.product.model.product.Laptop;
+import org.abc.product.model.product.Mobile;
+import org.abc.product.model.product.Product;
+
+/**
+ * <p>
+ * Parses the lines of the catalog files. A line is either a properties line ({@code key=value}) or a plain CSV
+ * line with the columns of the product category. Blank lines and lines starting with {@code #} or {@code !} hold
+ * no product.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class CatalogLine {
+
+    /**
+     * <p>
+     * Default constructor of CatalogLine class. Kept private to restrict from creating object outside this class.
+     * </p>
+     */
+    private CatalogLine() {}
+
+    /**
+     * <p>
+     * Gets the comma separated values of the given catalog line. Strips the key of properties lines.
+     * </p>
+     *
+     * @param line Refers the line of the catalog.
+     * @return the values of the line, or null for blank and comment lines.
+     */
+    public static String getValues(final String line) {
+        final String trimmedLine = line.strip();
+
+        if (trimmedLine.isEmpty() || trimmedLine.startsWith("#") || trimmedLine.startsWith("!")) {
+            return null;
+        }
+        final int separator = trimmedLine.indexOf('=');
+
+        return separator >= 0 && trimmedLine.lastIndexOf(',', separator) < 0
+                ? trimmedLine.substring(separator + 1).strip() : trimmedLine;
+    }
+
+    /**
+     * <p>
+     * Creates a product of the given category from the values of a catalog line.
+     * </p>
+     *
+     * @param productCategory Refers the category of the product.
+     * @param values Refers the values of the catalog line.
+     * @return the {@link Product}.
+     * @throws RuntimeException if the line doesn't hold a valid product.
+     */
+    public static Product createProduct(final ProductCategory productCategory, final String[] values) {
+        return switch (productCategory) {
+            case MOBILE -> new Mobile(values[0].strip(), values[1].strip(), Float.parseFloat(values[2].strip()),
+                    Integer.parseInt(values[3].strip()));
+            case LAPTOP -> new Laptop(values[0].strip(), values[1].strip(), Float.parseFloat(values[2].strip()),
+                    Integer.parseInt(values[3].strip()));
+            case CLOTHES -> new Clothes(values[0].strip(), values[1].strip(), values[2].strip(),
+                    Float.parseFloat(values[3].strip()), values[4].strip(), Integer.parseInt(values[5].strip()));
+        };
+    }
+}
@@ -0,0 +1,228 @@
+package org.abc.product;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Watches the catalog files in the INVENTORY_PATH directory and applies their changes to the inventory in the
+ * background. Bursts of writes to a file are debounced into a single reload, which runs on a dedicated executor.
+ * </p>
+ *
+ * <p>
+ * The debounce delay can be configured with the {@code org.abc.product.catalog.debounceMillis} system property.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class CatalogWatcher {
+
+    private static CatalogWatcher catalogWatcher;
+    private static final Logger LOGGER = LogManager.getLogger(CatalogWatcher.class);
+    private static final Map<String, ProductCategory> CATALOG_FILES = Map.of("mobiles.properties",
+            ProductCategory.MOBILE, "laptops.properties", ProductCategory.LAPTOP, "clothes.properties",
+            ProductCategory.CLOTHES);
+    private final Map<ProductCategory, ScheduledFuture<?>> pendingReloads = new EnumMap<>(ProductCategory.class);
+    private final Map<ProductCategory, Long> firstChangeTimes = new EnumMap<>(ProductCategory.class);
+    private WatchService watchService;
+    private ScheduledExecutorService reloadExecutor;
+    private Thread watcherThread;
+
+    /**
+     * <p>
+     * Default constructor of CatalogWatcher class. Kept private to restrict from creating object outside this class.
+     * </p>
+     */
+    private CatalogWatcher() {}
+
+    /**
+     * <p>
+     * Creates a single object of CatalogWatcher class and returns it.
+     * </p>
+     *
+     * @return the single instance of CatalogWatcher class.
+     */
+    public static CatalogWatcher getInstance() {
+        return Objects.isNull(catalogWatcher) ? catalogWatcher = new CatalogWatcher() : catalogWatcher;
+    }
+
+    /**
+     * <p>
+     * Loads the catalog files and starts watching them for changes.
+     * </p>
+     */
+    public synchronized void start() {
+        final String inventoryPath = System.getenv("INVENTORY_PATH");
+
+        if (Objects.isNull(inventoryPath) || Objects.nonNull(reloadExecutor)) {
+            return;
+        }
+        final Path directory = Path.of(inventoryPath);
+
+        reloadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "catalog-reload");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        CATALOG_FILES.values().forEach(productCategory -> scheduleReload(directory, productCategory, 0));
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (final IOException exception) {
+            LOGGER.error(String.format("Catalog directory %s can't be watched", directory));
+
+            return;
+        }
+        watcherThread = new Thread(() -> watch(directory), "catalog-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+        LOGGER.info(String.format("Watching catalog directory %s", directory));
+    }
+
+    /**
+     * <p>
+     * Stops watching the catalog files and cancels the pending reloads.
+     * </p>
+     */
+    public synchronized void stop() {
+        if (Objects.nonNull(watchService)) {
+            try {
+                watchService.close();
+            } catch (final IOException exception) {
+                LOGGER.warn("Catalog watch service can't be closed");
+            }
+            watchService = null;
+        }
+
+        if (Objects.nonNull(watcherThread)) {
+            watcherThread.interrupt();
+            watcherThread = null;
+        }
+
+        if (Objects.nonNull(reloadExecutor)) {
+            reloadExecutor.shutdownNow();
+            reloadExecutor = null;
+        }
+        pendingReloads.clear();
+        firstChangeTimes.clear();
+    }
+
+    /**
+     * <p>
+     * Waits for changes in the catalog directory and schedules a reload for every changed catalog file.
+     * </p>
+     *
+     * @param directory Refers the catalog directory.
+     */
+    private void watch(final Path directory) {
+        final WatchService service = watchService;
+        final long debounceMillis = Long.getLong("org.abc.product.catalog.debounceMillis", 500);
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final WatchKey watchKey = service.take();
+
+                for (final WatchEvent<?> event : watchKey.pollEvents()) {
+                    if (event.context() instanceof Path path) {
+                        final ProductCategory productCategory = CATALOG_FILES.get(path.getFileName().toString());
+
+                        if (Objects.nonNull(productCategory)) {
+                            scheduleReload(directory, productCategory, debounceMillis);
+                        }
+                    } else if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        CATALOG_FILES.values().forEach(productCategory ->
+                                scheduleReload(directory, productCategory, debounceMillis));
+                    }
+                }
+
+                if (!watchKey.reset()) {
+                    LOGGER.warn(String.format("Catalog directory %s is no longer accessible", directory));
+                    break;
+                }
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (final ClosedWatchServiceException exception) {
+            LOGGER.info("Stopped watching the catalog directory");
+        }
+    }
+
+    /**
+     * <p>
+     * Schedules a reload of the given catalog after the given delay. A reload already pending for the catalog is
+     * replaced, so a burst of changes results in a single reload.
+     * </p>
+     *
+     * @param directory Refers the catalog directory.
+     * @param productCategory Refers the category of the catalog.
+     * @param delayMillis Refers the delay of the reload in milliseconds.
+     */
+    private synchronized void scheduleReload(final Path directory, final ProductCategory productCategory,
+                                             final long delayMillis) {
+        if (Objects.isNull(reloadExecutor)) {
+            return;
+        }
+        final ScheduledFuture<?> pendingReload = pendingReloads.get(productCategory);
+
+        if (Objects.nonNull(pendingReload)) {
+            pendingReload.cancel(false);
+        }
+        firstChangeTimes.putIfAbsent(productCategory, System.nanoTime());
+        pendingReloads.put(productCategory, reloadExecutor.schedule(() -> reload(directory, productCategory),
+                delayMillis, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * <p>
+     * Applies the changes of the given catalog to the inventory and reports the latency since the first change.
+     * </p>
+     *
+     * @param directory Refers the catalog directory.
+     * @param productCategory Refers the category of the catalog.
+     */
+    private void reload(final Path directory, final ProductCategory productCategory) {
+        final Long firstChangeTime;
+
+        synchronized (this) {
+            pendingReloads.remove(productCategory);
+            firstChangeTime = firstChangeTimes.remove(productCategory);
+        }
+        final String fileName = CATALOG_FILES.entrySet().stream()
+                .filter(entry -> entry.getValue() == productCategory).findFirst().orElseThrow().getKey();
+
+        try {
+            final long startTime = System.nanoTime();
+            final int count = InventoryManager.getInstance().syncCatalog(productCategory,
+                    directory.resolve(fileName));
+            final long endTime = System.nanoTime();
+
+            LOGGER.info(String.format("%s catalog reloaded - %d products applied in %d ms, %d ms after the change",
+                    productCategory, count, (endTime - startTime) / 1_000_000,
+                    (endTime - (Objects.nonNull(firstChangeTime) ? firstChangeTime : startTime)) / 1_000_000));
+        } catch (final RuntimeException exception) {
+            LOGGER.error(String.format("%s catalog can't be reloaded - %s", productCategory,
+                    exception.getMessage()));
+        }
+    }
+}
@@ -6,20 +6,29 @@ import org.abc.product.model.product.Clothes;
 import org.abc.product.model.product.Laptop;
 import org.abc.product.model.product.Mobile;
 import org.abc.product.model.product.Product;
-import org.abc.product.view.cart.CartView;
 
 import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
-import java.io.FileReader;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Properties;
+import java.util.zip.CRC32;
 
 /**
  * <p>
- * Creates all products and adds them to the inventory.
+ * Loads all the catalog files into the inventory. Keeps a manifest of every catalog file, so only the products
+ * added, changed or removed since the last load are applied to the inventory and unchanged files are not read.
  * </p>
  *
  * @author Maharaja S
@@ -28,6 +37,8 @@ import java.util.Properties;
 public class InventoryManager {
 
     private static InventoryManager inventoryManager;
+    private static final Logger LOGGER = LogManager.getLogger(InventoryManager.class);
+    private final Map<Path, CatalogManifest> manifests = new HashMap<>();
 
     /**
      * <p>
@@ -49,91 +60,413 @@ public class InventoryManager {
 
     /**
      * <p>
-     * Creates all the products and add them to the inventory.
+     * Applies the changes of all the catalog files to the inventory.
      * </p>
+     *
+     * @return the number of products added, updated or removed.
+     * @throws ConnectionFailedException if the INVENTORY_PATH environment variable is not set.
      */
-    public void addAllItems() {
-        final List<Product> allProducts = new ArrayList<>();
-
-        loadProducts(allProducts, String.join("",System.getenv("INVENTORY_PATH"),
-                "/mobiles.properties"), ProductCategory.MOBILE);
-        loadProducts(allProducts, String.join("",System.getenv("INVENTORY_PATH"),
-                "/laptops.properties"), ProductCategory.LAPTOP);
-        loadProducts(allProducts, String.join("",System.getenv("INVENTORY_PATH"),
-                "/clothes.properties"), ProductCategory.CLOTHES);
-        InventoryController.getInstance().addItemToInventory(allProducts);
+    public synchronized int addAllItems() {
+        final String inventoryPath = System.getenv("INVENTORY_PATH");
+
+        if (Objects.isNull(inventoryPath) || inventoryPath.isBlank()) {
+            LOGGER.error("INVENTORY_PATH environment variable is not set");
+            throw new ConnectionFailedException(
+                    "INVENTORY_PATH environment variable is not set, catalog files can't be located");
+        }
+
+        return syncCatalog(ProductCategory.MOBILE, Path.of(inventoryPath, "mobiles.properties"))
+                + syncCatalog(ProductCategory.LAPTOP, Path.of(inventoryPath, "laptops.properties"))
+                + syncCatalog(ProductCategory.CLOTHES, Path.of(inventoryPath, "clothes.properties"));
     }
 
     /**
      * <p>
-     * Loads product data from properties files and add all the products into a list.
+     * Applies the changes of the given catalog file since its last load to the inventory. The file is loaded
+     * completely the first time and skipped without being read while its modified time and size are unchanged.
      * </p>
      *
-     * @param allProducts Refers the collection of product.
-     * @param filePath Refers the file path of properties file.
-     * @param productCategory Refers the product category.
+     * @param productCategory Refers the category of the products in the catalog.
+     * @param filePath Refers the path of the catalog file.
+     * @return the number of products added, updated or removed.
      */
-    private void loadProducts(final List<Product> allProducts, final String filePath, final ProductCategory productCategory) {
-        try (final FileReader fileReader = new FileReader(filePath)) {
-            final Properties properties = new Properties();
+    public synchronized int syncCatalog(final ProductCategory productCategory, final Path filePath) {
+        final BasicFileAttributes attributes;
+
+        try {
+            attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+        } catch (final IOException exception) {
+            LOGGER.error("Failed Loading catalog file or File not found");
+            throw new ConnectionFailedException(exception.getMessage());
+        }
+        final CatalogManifest previous = manifests.get(filePath);
 
-            properties.load(fileReader);
+        if (Objects.nonNull(previous) && previous.lastModified == attributes.lastModifiedTime().toMillis()
+                && previous.size == attributes.size()) {
+            return 0;
+        }
 
-            for (final Object key : properties.keySet()) {
-                final String value = properties.getProperty((String) key);
+        if (Objects.isNull(previous)) {
+            return loadCatalog(productCategory, filePath, attributes);
+        }
+        final Map<String, Product> changedProducts = new LinkedHashMap<>();
+        final CatalogManifest current = readManifest(productCategory, filePath, attributes, previous, changedProducts);
 
-                switch (productCategory) {
-                    case MOBILE -> allProducts.add(createMobile(value));
-                    case LAPTOP -> allProducts.add(createLaptop(value));
-                    case CLOTHES -> allProducts.add(createClothes(value));
-                }
+        if (previous.checksum == current.checksum) {
+            manifests.put(filePath, current);
+
+            return 0;
+        }
+        final List<Product> addedProducts = new ArrayList<>();
+        final List<Product> updatedProducts = new ArrayList<>();
+        final List<Product> removedProducts = new ArrayList<>();
+
+        for (final Map.Entry<String, Product> changedProduct : changedProducts.entrySet()) {
+            final Product product = changedProduct.getValue();
+
+            if (previous.lineHashes.containsKey(changedProduct.getKey())) {
+                updatedProducts.add(product);
+            } else {
+                addedProducts.add(product);
+            }
+        }
+
+        for (final String naturalKey : previous.lineHashes.keySet()) {
+            if (!current.lineHashes.containsKey(naturalKey)) {
+                removedProducts.add(createProductFromNaturalKey(productCategory, naturalKey));
             }
+        }
+        final InventoryController inventoryController = InventoryController.getInstance();
+
+        if (!addedProducts.isEmpty()) {
+            inventoryController.addItemToInventory(addedProducts);
+        }
+
+        if (!updatedProducts.isEmpty()) {
+            inventoryController.updateItemsInInventory(updatedProducts);
+        }
+
+        if (!removedProducts.isEmpty()) {
+            inventoryController.removeItemsFromInventory(removedProducts);
+        }
+        manifests.put(filePath, current);
+        LOGGER.info(String.format("%s catalog - %d added, %d updated, %d removed", productCategory,
+                addedProducts.size(), updatedProducts.size(), removedProducts.size()));
+
+        return addedProducts.size() + updatedProducts.size() + removedProducts.size();
+    }
+
+    /**
+     * <p>
+     * Streams the given catalog file into the inventory. The file can be a properties file or a CSV file with the
+     * columns of the product category.
+     * </p>
+     *
+     * @param productCategory Refers the category of the products in the catalog.
+     * @param filePath Refers the path of the catalog file.
+     * @return the number of products added to the inventory.
+     */
+    public int loadCatalog(final ProductCategory productCategory, final Path filePath) {
+        try (final BufferedReader reader = Files.newBufferedReader(filePath)) {
+            return InventoryController.getInstance().loadItemsToInventory(productCategory, reader);
         } catch (final IOException exception) {
-            LogManager.getLogger(CartView.class).error("Failed Loading properties file or File not found");
+            LOGGER.error("Failed Loading catalog file or File not found");
             throw new ConnectionFailedException(exception.getMessage());
         }
     }
 
     /**
      * <p>
-     * Creates a Mobiles object from a string of comma separated values.
+     * Streams the given catalog file into the inventory on its first load, building its manifest from the same read
+     * of the file. No product is created here, the lines are only hashed as they pass to the loader.
      * </p>
      *
-     * @param input Refers the string of comma separated values.
-     * @return the instance of {@link Mobile}.
+     * @param productCategory Refers the category of the products in the catalog.
+     * @param filePath Refers the path of the catalog file.
+     * @param attributes Refers the attributes of the catalog file.
+     * @return the number of products added to the inventory.
      */
-    private Mobile createMobile(final String input) {
-        final String[] attributes = input.split(",");
+    private int loadCatalog(final ProductCategory productCategory, final Path filePath,
+                            final BasicFileAttributes attributes) {
+        final ManifestBuilder manifestBuilder = new ManifestBuilder(productCategory, null, null);
+        final int addedCount;
+
+        try (final ManifestReader reader = new ManifestReader(Files.newBufferedReader(filePath), manifestBuilder)) {
+            addedCount = InventoryController.getInstance().loadItemsToInventory(productCategory, reader);
+            reader.drain();
+        } catch (final IOException exception) {
+            LOGGER.error("Failed Loading catalog file or File not found");
+            throw new ConnectionFailedException(exception.getMessage());
+        }
+        manifests.put(filePath, manifestBuilder.build(attributes));
 
-        return new Mobile(attributes[0], attributes[1], Float.parseFloat(attributes[2]), Integer.parseInt(attributes[3]));
+        return addedCount;
     }
 
     /**
      * <p>
-     * Creates a Laptop object from a string of comma separated values.
+     * Reads the manifest of the given catalog file. Collects the products whose line is new or changed since the
+     * previous manifest.
      * </p>
      *
-     * @param input Refers the string of comma separated values.
-     * @return the instance of {@link Laptop}.
+     * @param productCategory Refers the category of the products in the catalog.
+     * @param filePath Refers the path of the catalog file.
+     * @param attributes Refers the attributes of the catalog file.
+     * @param previous Refers the previous manifest of the file, null on the first load.
+     * @param changedProducts Refers the new or changed products by their natural key.
+     * @return the {@link CatalogManifest} of the file.
      */
-    private Laptop createLaptop(final String input) {
-        final String[] attributes = input.split(",");
+    private CatalogManifest readManifest(final ProductCategory productCategory, final Path filePath,
+                                         final BasicFileAttributes attributes, final CatalogManifest previous,
+                                         final Map<String, Product> changedProducts) {
+        final ManifestBuilder manifestBuilder = new ManifestBuilder(productCategory, previous, changedProducts);
+
+        try (final BufferedReader reader = Files.newBufferedReader(filePath)) {
+            String line;
 
-        return new Laptop(attributes[0], attributes[1], Float.parseFloat(attributes[2]), Integer.parseInt(attributes[3]));
+            while (Objects.nonNull(line = reader.readLine())) {
+                manifestBuilder.addLine(line);
+            }
+        } catch (final IOException exception) {
+            LOGGER.error("Failed Loading catalog file or File not found");
+            throw new ConnectionFailedException(exception.getMessage());
+        }
+
+        return manifestBuilder.build(attributes);
+    }
+
+    /**
+     * <p>
+     * Gets the natural key of the product of a catalog line, made of the values which identify it in the inventory.
+     * The price and quantity are checked without creating the product, so a line which can't be a product has no
+     * natural key.
+     * </p>
+     *
+     * @param productCategory Refers the category of the product.
+     * @param values Refers the values of the catalog line.
+     * @return the natural key.
+     * @throws RuntimeException if the line doesn't hold a valid product.
+     */
+    private static String getNaturalKey(final ProductCategory productCategory, final String[] values) {
+        return switch (productCategory) {
+            case MOBILE, LAPTOP -> {
+                Float.parseFloat(values[2].strip());
+                Integer.parseInt(values[3].strip());
+
+                yield String.join(",", values[0].strip(), values[1].strip());
+            }
+            case CLOTHES -> {
+                Float.parseFloat(values[3].strip());
+                Integer.parseInt(values[5].strip());
+
+                yield String.join(",", values[0].strip(), values[1].strip(), values[2].strip(), values[4].strip());
+            }
+        };
     }
 
     /**
      * <p>
-     * Creates a Clothes object from a string of comma separated values.
+     * Creates a product of the given category from its natural key, for removing it from the inventory.
      * </p>
      *
-     * @param input Refers the string of comma separated values.
-     * @return the instance of {@link Clothes}.
+     * @param productCategory Refers the category of the product.
+     * @param naturalKey Refers the natural key of the product.
+     * @return the {@link Product}.
      */
-    private Clothes createClothes(final String input) {
-        final String[] attributes = input.split(",");
+    private Product createProductFromNaturalKey(final ProductCategory productCategory, final String naturalKey) {
+        final String[] values = naturalKey.split(",", -1);
 
-        return new Clothes(attributes[0], attributes[1], attributes[2],
-                Float.parseFloat(attributes[3]), attributes[4], Integer.parseInt(attributes[5]));
+        return switch (productCategory) {
+            case MOBILE -> new Mobile(values[0], values[1], 0, 0);
+            case LAPTOP -> new Laptop(values[0], values[1], 0, 0);
+            case CLOTHES -> new Clothes(values[0], values[1], values[2], 0, values[3], 0);
+        };
+    }
+
+    /**
+     * <p>
+     * Builds the manifest of a catalog file one line at a time. Against a previous manifest, collects the products
+     * whose line is new or changed, creating a product only for those lines.
+     * </p>
+     */
+    private static class ManifestBuilder {
+
+        private final ProductCategory productCategory;
+        private final CatalogManifest previous;
+        private final Map<String, Product> changedProducts;
+        private final CRC32 fileChecksum = new CRC32();
+        private final CRC32 lineChecksum = new CRC32();
+        private final Map<String, Long> lineHashes = new HashMap<>();
+
+        /**
+         * <p>
+         * Constructs the ManifestBuilder object.
+         * </p>
+         *
+         * @param productCategory Refers the category of the products in the catalog.
+         * @param previous Refers the previous manifest of the file, null on the first load.
+         * @param changedProducts Refers the new or changed products by their natural key, null on the first load.
+         */
+        private ManifestBuilder(final ProductCategory productCategory, final CatalogManifest previous,
+                                final Map<String, Product> changedProducts) {
+            this.productCategory = productCategory;
+            this.previous = previous;
+            this.changedProducts = changedProducts;
+        }
+
+        /**
+         * <p>
+         * Adds the given line of the catalog file to the manifest.
+         * </p>
+         *
+         * @param line Refers the line, without its line terminator.
+         */
+        private void addLine(final String line) {
+            fileChecksum.update(line.getBytes(StandardCharsets.UTF_8));
+            fileChecksum.update('\n');
+            final String values = CatalogLine.getValues(line);
+
+            if (Objects.isNull(values)) {
+                return;
+            }
+
+            try {
+                final String[] splitValues = values.split(",");
+                final String naturalKey = getNaturalKey(productCategory, splitValues);
+
+                lineChecksum.reset();
+                lineChecksum.update(values.getBytes(StandardCharsets.UTF_8));
+
+                if (Objects.nonNull(previous)
+                        && !Objects.equals(previous.lineHashes.get(naturalKey), lineChecksum.getValue())) {
+                    changedProducts.put(naturalKey, CatalogLine.createProduct(productCategory, splitValues));
+                }
+                lineHashes.put(naturalKey, lineChecksum.getValue());
+            } catch (final RuntimeException exception) {
+                LOGGER.warn(String.format("Invalid catalog line skipped - %s", line));
+            }
+        }
+
+        /**
+         * <p>
+         * Builds the manifest of the lines added.
+         * </p>
+         *
+         * @param attributes Refers the attributes of the catalog file.
+         * @return the {@link CatalogManifest} of the file.
+         */
+        private CatalogManifest build(final BasicFileAttributes attributes) {
+            return new CatalogManifest(attributes.lastModifiedTime().toMillis(), attributes.size(),
+                    fileChecksum.getValue(), lineHashes);
+        }
+    }
+
+    /**
+     * <p>
+     * Reads a catalog file for the loader of the inventory while passing every line read to a manifest builder.
+     * Lines end like the lines of {@link BufferedReader#readLine()}, so the manifest matches the one read again
+     * on the next change of the file.
+     * </p>
+     */
+    private static class ManifestReader extends Reader {
+
+        private final Reader reader;
+        private final ManifestBuilder manifestBuilder;
+        private final StringBuilder line = new StringBuilder();
+        private boolean isAfterCarriageReturn;
+
+        /**
+         * <p>
+         * Constructs the ManifestReader object.
+         * </p>
+         *
+         * @param reader Refers the reader of the catalog file.
+         * @param manifestBuilder Refers the builder of the manifest of the file.
+         */
+        private ManifestReader(final Reader reader, final ManifestBuilder manifestBuilder) {
+            this.reader = reader;
+            this.manifestBuilder = manifestBuilder;
+        }
+
+        @Override
+        public int read(final char[] buffer, final int offset, final int length) throws IOException {
+            final int count = reader.read(buffer, offset, length);
+
+            if (count < 0) {
+                if (!line.isEmpty()) {
+                    manifestBuilder.addLine(line.toString());
+                    line.setLength(0);
+                }
+
+                return count;
+            }
+
+            for (int index = offset; index < offset + count; index++) {
+                final char character = buffer[index];
+
+                if ('\n' == character && isAfterCarriageReturn) {
+                    isAfterCarriageReturn = false;
+                } else if ('\n' == character || '\r' == character) {
+                    isAfterCarriageReturn = '\r' == character;
+                    manifestBuilder.addLine(line.toString());
+                    line.setLength(0);
+                } else {
+                    isAfterCarriageReturn = false;
+                    line.append(character);
+                }
+            }
+
+            return count;
+        }
+
+        /**
+         * <p>
+         * Reads the rest of the file the loader left unread, so the manifest covers the whole file.
+         * </p>
+         */
+        private void drain() throws IOException {
+            final char[] buffer = new char[8192];
+            int count;
+
+            do {
+                count = read(buffer, 0, buffer.length);
+            } while (count >= 0);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * <p>
+     * Represents the state of a catalog file when it was last applied to the inventory.
+     * </p>
+     */
+    private static class CatalogManifest {
+
+        private final long lastModified;
+        private final long size;
+        private final long checksum;
+        private final Map<String, Long> lineHashes;
+
+        /**
+         * <p>
+         * Constructs the CatalogManifest object.
+         * </p>
+         *
+         * @param lastModified Refers the last modified time of the file in milliseconds.
+         * @param size Refers the size of the file.
+         * @param checksum Refers the checksum of the content of the file.
+         * @param lineHashes Refers the checksum of every product line by its natural key.
+         */
+        private CatalogManifest(final long lastModified, final long size, final long checksum,
+                                final Map<String, Long> lineHashes) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.checksum = checksum;
+            this.lineHashes = lineHashes;
+        }
     }
 }
@@ -0,0 +1,401 @@
+package org.abc.product.cache;
+
+import org.abc.product.ProductCategory;
+import org.abc.product.model.product.Product;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Caches the products of the inventory by category. Entries are loaded on a miss, expire after a time to live and
+ * the oldest entries are evicted once the cache is full. The cached lists are immutable and their products are
+ * shared by every reader, so a hit costs no copying. A reader which changes a product has to copy it first.
+ * </p>
+ *
+ * <p>
+ * Every entry keeps the generation of its category at the time it was loaded and is served only while that is
+ * still the generation of the category. An entry loaded before an invalidation is never served after it, even
+ * when the load finishes after the invalidation.
+ * </p>
+ *
+ * <p>
+ * The size and time to live can be configured with the {@code org.abc.product.cache.maxEntries} and
+ * {@code org.abc.product.cache.ttlMillis} system properties.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class CatalogCache {
+
+    private static CatalogCache catalogCache;
+    private static final Logger LOGGER = LogManager.getLogger(CatalogCache.class);
+    private final Map<CacheKey, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final Queue<CacheKey> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicLongArray generations = new AtomicLongArray(ProductCategory.values().length);
+    private final int maxEntries = Math.max(1, Integer.getInteger("org.abc.product.cache.maxEntries", 256));
+    private final long ttlNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong("org.abc.product.cache.ttlMillis",
+            60_000));
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder totalLoadTimeNanos = new LongAdder();
+
+    /**
+     * <p>
+     * Default constructor of CatalogCache class. Kept private to restrict from creating object outside this class.
+     * </p>
+     */
+    private CatalogCache() {}
+
+    /**
+     * <p>
+     * Creates a single object of CatalogCache class and returns it.
+     * </p>
+     *
+     * @return the single instance of CatalogCache class.
+     */
+    public static synchronized CatalogCache getInstance() {
+        return Objects.isNull(catalogCache) ? catalogCache = new CatalogCache() : catalogCache;
+    }
+
+    /**
+     * <p>
+     * Gets all the products of the given category, loading them with the given loader on a miss.
+     * </p>
+     *
+     * @param productCategory Refers the product category.
+     * @param loader Refers the loader of the products.
+     * @return the list of {@link Product}.
+     */
+    public List<Product> get(final ProductCategory productCategory,
+                             final Supplier<? extends List<? extends Product>> loader) {
+        return get(productCategory, 0, 0, loader);
+    }
+
+    /**
+     * <p>
+     * Gets a page of the products of the given category, loading them with the given loader on a miss.
+     * </p>
+     *
+     * @param productCategory Refers the product category.
+     * @param afterId Refers the id of the last product of the previous page.
+     * @param limit Refers the limit of data to show.
+     * @param loader Refers the loader of the products.
+     * @return the list of {@link Product}.
+     */
+    public List<Product> get(final ProductCategory productCategory, final int afterId, final int limit,
+                             final Supplier<? extends List<? extends Product>> loader) {
+        final CacheKey cacheKey = new CacheKey(productCategory, afterId, limit);
+        final CacheEntry cacheEntry = entries.get(cacheKey);
+
+        if (isFresh(cacheEntry, productCategory)) {
+            hitCount.increment();
+
+            return cacheEntry.products;
+        }
+        missCount.increment();
+        final long generation = generations.get(productCategory.ordinal());
+        final long startTime = System.nanoTime();
+        final List<Product> products = List.copyOf(loader.get());
+        final long endTime = System.nanoTime();
+
+        totalLoadTimeNanos.add(endTime - startTime);
+
+        if (generation == generations.get(productCategory.ordinal())) {
+            put(cacheKey, new CacheEntry(products, generation, endTime + ttlNanos));
+        }
+
+        return products;
+    }
+
+    /**
+     * <p>
+     * Gets all the products of the given categories. The categories missing from the cache are loaded together
+     * with a single call of the given loader.
+     * </p>
+     *
+     * @param productCategories Refers the product categories.
+     * @param loader Refers the loader of the products of the missing categories.
+     * @return the list of {@link Product} of every given category.
+     */
+    public Map<ProductCategory, List<Product>> getAll(final Set<ProductCategory> productCategories,
+            final Function<Set<ProductCategory>, ? extends Map<ProductCategory, ? extends List<? extends Product>>> loader) {
+        final Map<ProductCategory, List<Product>> products = new EnumMap<>(ProductCategory.class);
+        final Set<ProductCategory> missingCategories = EnumSet.noneOf(ProductCategory.class);
+        final long[] loadGenerations = new long[generations.length()];
+
+        for (final ProductCategory productCategory : productCategories) {
+            final CacheEntry cacheEntry = entries.get(new CacheKey(productCategory, 0, 0));
+
+            if (isFresh(cacheEntry, productCategory)) {
+                hitCount.increment();
+                products.put(productCategory, cacheEntry.products);
+            } else {
+                missCount.increment();
+                missingCategories.add(productCategory);
+                loadGenerations[productCategory.ordinal()] = generations.get(productCategory.ordinal());
+            }
+        }
+
+        if (missingCategories.isEmpty()) {
+            return products;
+        }
+        final long startTime = System.nanoTime();
+        final Map<ProductCategory, ? extends List<? extends Product>> loadedProducts = loader.apply(missingCategories);
+        final long endTime = System.nanoTime();
+
+        totalLoadTimeNanos.add(endTime - startTime);
+
+        for (final ProductCategory productCategory : missingCategories) {
+            final List<? extends Product> categoryProducts = loadedProducts.get(productCategory);
+            final List<Product> sharedProducts = Objects.isNull(categoryProducts) ? List.of()
+                    : List.copyOf(categoryProducts);
+            final long generation = loadGenerations[productCategory.ordinal()];
+
+            products.put(productCategory, sharedProducts);
+
+            if (generation == generations.get(productCategory.ordinal())) {
+                put(new CacheKey(productCategory, 0, 0), new CacheEntry(sharedProducts, generation,
+                        endTime + ttlNanos));
+            }
+        }
+
+        return products;
+    }
+
+    /**
+     * <p>
+     * Removes all the cached products of the given category, together with their keys in the order of insertion.
+     * </p>
+     *
+     * @param productCategory Refers the product category.
+     */
+    public void invalidate(final ProductCategory productCategory) {
+        generations.incrementAndGet(productCategory.ordinal());
+        insertionOrder.removeIf(cacheKey -> cacheKey.productCategory == productCategory);
+        entries.keySet().removeIf(cacheKey -> cacheKey.productCategory == productCategory);
+    }
+
+    /**
+     * <p>
+     * Removes all the cached products.
+     * </p>
+     */
+    public void invalidateAll() {
+        for (final ProductCategory productCategory : ProductCategory.values()) {
+            invalidate(productCategory);
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the generation of the given category, which changes every time its products are invalidated.
+     * </p>
+     *
+     * @param productCategory Refers the product category.
+     * @return the generation of the category.
+     */
+    public long getGeneration(final ProductCategory productCategory) {
+        return generations.get(productCategory.ordinal());
+    }
+
+    /**
+     * <p>
+     * Gets the number of requests served from the cache.
+     * </p>
+     *
+     * @return the hit count.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the number of requests which had to load the products.
+     * </p>
+     *
+     * @return the miss count.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the ratio of requests served from the cache.
+     * </p>
+     *
+     * @return the hit ratio between 0 and 1.
+     */
+    public double getHitRatio() {
+        final long hits = hitCount.sum();
+        final long requests = hits + missCount.sum();
+
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    /**
+     * <p>
+     * Gets the number of entries evicted to keep the cache within its size.
+     * </p>
+     *
+     * @return the eviction count.
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the average time taken to load the products on a miss.
+     * </p>
+     *
+     * @return the average load time in milliseconds.
+     */
+    public double getAverageLoadTimeMillis() {
+        final long misses = missCount.sum();
+
+        return misses == 0 ? 0 : totalLoadTimeNanos.sum() / 1_000_000.0 / misses;
+    }
+
+    /**
+     * <p>
+     * Gets the number of cached entries.
+     * </p>
+     *
+     * @return the size of the cache.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * <p>
+     * Checks whether the given entry can be served. An entry is served until it expires and only while its
+     * category is not invalidated since the entry was loaded.
+     * </p>
+     *
+     * @param cacheEntry Refers the cached entry, null on a miss.
+     * @param productCategory Refers the product category of the entry.
+     * @return true if the entry can be served, false otherwise.
+     */
+    private boolean isFresh(final CacheEntry cacheEntry, final ProductCategory productCategory) {
+        return Objects.nonNull(cacheEntry) && cacheEntry.expiresAt - System.nanoTime() > 0
+                && cacheEntry.generation == generations.get(productCategory.ordinal());
+    }
+
+    /**
+     * <p>
+     * Caches the given entry and evicts the oldest entries once the cache is full.
+     * </p>
+     *
+     * @param cacheKey Refers the key of the entry.
+     * @param cacheEntry Refers the entry to be cached.
+     */
+    private void put(final CacheKey cacheKey, final CacheEntry cacheEntry) {
+        if (Objects.isNull(entries.put(cacheKey, cacheEntry))) {
+            insertionOrder.add(cacheKey);
+        }
+
+        while (entries.size() > maxEntries) {
+            final CacheKey oldestKey = insertionOrder.poll();
+
+            if (Objects.isNull(oldestKey)) {
+                break;
+            }
+
+            if (Objects.nonNull(entries.remove(oldestKey))) {
+                evictionCount.increment();
+            }
+        }
+
+        if (insertionOrder.size() > maxEntries * 2) {
+            insertionOrder.removeIf(key -> !entries.containsKey(key));
+            LOGGER.debug(String.format("Catalog cache - hit ratio %.2f, %d evictions", getHitRatio(),
+                    getEvictionCount()));
+        }
+    }
+
+    /**
+     * <p>
+     * Represents the key of a cached list of products.
+     * </p>
+     */
+    private static class CacheKey {
+
+        private final ProductCategory productCategory;
+        private final int afterId;
+        private final int limit;
+
+        /**
+         * <p>
+         * Constructs the CacheKey object.
+         * </p>
+         *
+         * @param productCategory Refers the product category.
+         * @param afterId Refers the id of the last product of the previous page, zero for all the products.
+         * @param limit Refers the limit of data to show, zero for all the products.
+         */
+        private CacheKey(final ProductCategory productCategory, final int afterId, final int limit) {
+            this.productCategory = productCategory;
+            this.afterId = afterId;
+            this.limit = limit;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(productCategory, afterId, limit);
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            return object instanceof CacheKey cacheKey && productCategory == cacheKey.productCategory
+                    && afterId == cacheKey.afterId && limit == cacheKey.limit;
+        }
+    }
+
+    /**
+     * <p>
+     * Represents a cached list of products with the generation of its category and its expiry time.
+     * </p>
+     */
+    private static class CacheEntry {
+
+        private final List<Product> products;
+        private final long generation;
+        private final long expiresAt;
+
+        /**
+         * <p>
+         * Constructs the CacheEntry object.
+         * </p>
+         *
+         * @param products Refers the immutable list of products.
+         * @param generation Refers the generation of the category when the products were loaded.
+         * @param expiresAt Refers the expiry time in nanoseconds.
+         */
+        private CacheEntry(final List<Product> products, final long generation, final long expiresAt) {
+            this.products = products;
+            this.generation = generation;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
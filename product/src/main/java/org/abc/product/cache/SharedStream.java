@@ -0,0 +1,223 @@
+package org.abc.product.cache;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * Coalesces concurrent streamed reads for the same key into a single read, like {@link SingleFlight} does for
+ * reads returning a list. The first caller of a key reads the rows and passes each one on as it is read, while every
+ * caller arriving before the read finishes gets the rows already read and then follows the rest as they come, or
+ * gets the exception of the read. Once the read finishes the key is forgotten, so the next caller reads again.
+ * </p>
+ *
+ * <p>
+ * The rows of a read are kept until it finishes, so it is meant for reads of a bounded number of rows, like a page.
+ * A consumer failing, like the response of a client gone away, doesn't stop the read for the other callers.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class SharedStream<K, T> {
+
+    private static final Logger LOGGER = LogManager.getLogger(SharedStream.class);
+    private final Map<K, Flight<T>> flights = new ConcurrentHashMap<>();
+    private final LongAdder callCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * <p>
+     * Passes the rows of the read for the given key to the given consumer, running the given source only if no
+     * read for the key is in flight.
+     * </p>
+     *
+     * @param key Refers the key identifying identical reads.
+     * @param source Refers the source passing the rows to the consumer it is given.
+     * @param consumer Refers the consumer of each row.
+     */
+    public void stream(final K key, final Consumer<Consumer<? super T>> source, final Consumer<? super T> consumer) {
+        final Flight<T> flight = new Flight<>();
+        final Flight<T> currentFlight = flights.putIfAbsent(key, flight);
+
+        if (Objects.nonNull(currentFlight)) {
+            coalescedCount.increment();
+            follow(currentFlight, consumer);
+
+            return;
+        }
+        callCount.increment();
+        final RowPublisher<T> rowPublisher = new RowPublisher<>(flight, consumer);
+
+        try {
+            source.accept(rowPublisher);
+            flight.finish(null);
+        } catch (final RuntimeException | Error exception) {
+            flight.finish(exception);
+
+            throw exception;
+        } finally {
+            flights.remove(key, flight);
+        }
+
+        if (Objects.nonNull(rowPublisher.failure)) {
+            throw rowPublisher.failure;
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the number of calls which ran the source.
+     * </p>
+     *
+     * @return the call count.
+     */
+    public long getCallCount() {
+        return callCount.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the number of calls which shared the rows of a read in flight instead of running the source.
+     * </p>
+     *
+     * @return the coalesced count.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /**
+     * <p>
+     * Passes the rows of the given read to the given consumer as they are read, until the read finishes, then
+     * rethrows the exception of the read if it failed.
+     * </p>
+     *
+     * @param flight Refers the read in flight.
+     * @param consumer Refers the consumer of each row.
+     */
+    private void follow(final Flight<T> flight, final Consumer<? super T> consumer) {
+        int index = 0;
+
+        while (true) {
+            final List<T> rows;
+            final boolean isDone;
+
+            synchronized (flight) {
+                while (index == flight.rows.size() && !flight.isDone) {
+                    try {
+                        flight.wait();
+                    } catch (final InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while waiting for the rows", exception);
+                    }
+                }
+                rows = List.copyOf(flight.rows.subList(index, flight.rows.size()));
+                isDone = flight.isDone;
+            }
+            rows.forEach(consumer);
+            index += rows.size();
+
+            if (isDone) {
+                break;
+            }
+        }
+
+        if (Objects.nonNull(flight.failure)) {
+            LOGGER.debug(String.format("Shared stream - read failed after %d rows", index));
+
+            if (flight.failure instanceof Error error) {
+                throw error;
+            }
+
+            throw (RuntimeException) flight.failure;
+        }
+    }
+
+    /**
+     * <p>
+     * Represents a read in flight with the rows read so far.
+     * </p>
+     */
+    private static class Flight<T> {
+
+        private final List<T> rows = new ArrayList<>();
+        private boolean isDone;
+        private Throwable failure;
+
+        /**
+         * <p>
+         * Adds the given row and wakes up the callers waiting for it.
+         * </p>
+         *
+         * @param row Refers the row read.
+         */
+        private synchronized void add(final T row) {
+            rows.add(row);
+            notifyAll();
+        }
+
+        /**
+         * <p>
+         * Marks the read as finished and wakes up the callers waiting for it.
+         * </p>
+         *
+         * @param failure Refers the exception of the read, null if it succeeded.
+         */
+        private synchronized void finish(final Throwable failure) {
+            this.failure = failure;
+            isDone = true;
+            notifyAll();
+        }
+    }
+
+    /**
+     * <p>
+     * Adds each row read to the read in flight and passes it on to the consumer of the first caller. Once that
+     * consumer fails, the rows are only added for the other callers and the failure is kept to be rethrown after
+     * the read.
+     * </p>
+     */
+    private static class RowPublisher<T> implements Consumer<T> {
+
+        private final Flight<T> flight;
+        private final Consumer<? super T> consumer;
+        private RuntimeException failure;
+
+        /**
+         * <p>
+         * Constructs the RowPublisher object.
+         * </p>
+         *
+         * @param flight Refers the read in flight.
+         * @param consumer Refers the consumer of the first caller.
+         */
+        private RowPublisher(final Flight<T> flight, final Consumer<? super T> consumer) {
+            this.flight = flight;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void accept(final T row) {
+            flight.add(row);
+
+            if (Objects.nonNull(failure)) {
+                return;
+            }
+
+            try {
+                consumer.accept(row);
+            } catch (final RuntimeException exception) {
+                failure = exception;
+            }
+        }
+    }
+}
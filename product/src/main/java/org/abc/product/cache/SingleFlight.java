@@ -0,0 +1,141 @@
+package org.abc.product.cache;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Coalesces concurrent calls for the same key into a single call. The first caller of a key runs the loader while
+ * every caller arriving before it finishes waits for and shares its result, or its exception. Once the call
+ * finishes the key is forgotten, so the next caller runs the loader again.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class SingleFlight<K, V> {
+
+    private static final Logger LOGGER = LogManager.getLogger(SingleFlight.class);
+    private final Map<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final LongAdder callCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * <p>
+     * Gets the result of the call for the given key, running the given loader only if no call for the key is in
+     * flight.
+     * </p>
+     *
+     * @param key Refers the key identifying identical calls.
+     * @param loader Refers the loader of the result.
+     * @return the result of the call in flight for the key.
+     */
+    public V execute(final K key, final Supplier<? extends V> loader) {
+        final Flight<V> flight = new Flight<>();
+        final Flight<V> currentFlight = flights.putIfAbsent(key, flight);
+
+        if (Objects.nonNull(currentFlight)) {
+            coalescedCount.increment();
+            currentFlight.waiterCount.incrementAndGet();
+
+            return await(currentFlight);
+        }
+        callCount.increment();
+
+        try {
+            final V result = loader.get();
+
+            flight.result.complete(result);
+
+            return result;
+        } catch (final RuntimeException | Error exception) {
+            flight.result.completeExceptionally(exception);
+
+            throw exception;
+        } finally {
+            flights.remove(key, flight);
+
+            if (flight.waiterCount.get() > 0) {
+                LOGGER.debug(String.format("Single flight - 1 call shared by %d waiting calls, %d calls coalesced",
+                        flight.waiterCount.get(), getCoalescedCount()));
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the number of calls which ran the loader.
+     * </p>
+     *
+     * @return the call count.
+     */
+    public long getCallCount() {
+        return callCount.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the number of calls which shared the result of a call in flight instead of running the loader.
+     * </p>
+     *
+     * @return the coalesced count.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /**
+     * <p>
+     * Gets the number of calls in flight.
+     * </p>
+     *
+     * @return the in flight count.
+     */
+    public int getInFlightCount() {
+        return flights.size();
+    }
+
+    /**
+     * <p>
+     * Waits for the given call to finish, rethrowing its exception as it was thrown by the loader.
+     * </p>
+     *
+     * @param flight Refers the call in flight.
+     * @return the result of the call.
+     */
+    private V await(final Flight<V> flight) {
+        try {
+            return flight.result.join();
+        } catch (final CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            if (exception.getCause() instanceof Error error) {
+                throw error;
+            }
+
+            throw exception;
+        }
+    }
+
+    /**
+     * <p>
+     * Represents a call in flight with the number of calls waiting for it.
+     * </p>
+     */
+    private static class Flight<V> {
+
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final AtomicInteger waiterCount = new AtomicInteger();
+    }
+}
@@ -0,0 +1,155 @@
+package org.abc.product.cache;
+
+import org.abc.product.ProductCategory;
+
+import javax.ws.rs.core.EntityTag;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>
+ * Keeps a version of the products of every category and of the cart and wishlist of every user, which changes
+ * every time they change. The version of a category is the generation of the {@link CatalogCache}, while the carts
+ * and wishlists are bumped by their DAOs. As the carts and wishlists are returned with the price and the stock of
+ * their products, their versions also count the generations of every category, so a change of the catalog changes
+ * their tags too. Entity tags built from a version let a client check whether its copy is still current without
+ * reading the data again.
+ * </p>
+ *
+ * <p>
+ * Users share a fixed number of stripes, so a change of one user may change the tags of other users in the same
+ * stripe, which only costs them a full response. The tags carry the time the versions were created, so tags issued
+ * before a restart never match. The number of stripes can be configured with the
+ * {@code org.abc.product.etag.stripes} system property.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class VersionStamps {
+
+    private static VersionStamps versionStamps;
+    private final long epoch = System.currentTimeMillis();
+    private final int stripes = Math.max(1, Integer.getInteger("org.abc.product.etag.stripes", 1024));
+    private final AtomicLongArray cartVersions = new AtomicLongArray(stripes);
+    private final AtomicLongArray wishlistVersions = new AtomicLongArray(stripes);
+
+    /**
+     * <p>
+     * Default constructor of VersionStamps class. Kept private to restrict from creating object outside this class.
+     * </p>
+     */
+    private VersionStamps() {}
+
+    /**
+     * <p>
+     * Creates a single object of VersionStamps class and returns it.
+     * </p>
+     *
+     * @return the single instance of VersionStamps class.
+     */
+    public static synchronized VersionStamps getInstance() {
+        return Objects.isNull(versionStamps) ? versionStamps = new VersionStamps() : versionStamps;
+    }
+
+    /**
+     * <p>
+     * Changes the version of the cart of the given user. Called after the cart is changed.
+     * </p>
+     *
+     * @param userId Refers the user id.
+     */
+    public void bumpCart(final int userId) {
+        cartVersions.incrementAndGet(Math.floorMod(userId, stripes));
+    }
+
+    /**
+     * <p>
+     * Changes the version of the wishlist of the given user. Called after the wishlist is changed.
+     * </p>
+     *
+     * @param userId Refers the user id.
+     */
+    public void bumpWishlist(final int userId) {
+        wishlistVersions.incrementAndGet(Math.floorMod(userId, stripes));
+    }
+
+    /**
+     * <p>
+     * Gets the entity tag of the products of the given category. Must be taken before the products are read, so a
+     * change during the read gives a newer tag on the next request.
+     * </p>
+     *
+     * @param productCategory Refers the product category.
+     * @param params Refers the parameters selecting the part of the products returned.
+     * @return the weak {@link EntityTag} of the products.
+     */
+    public EntityTag tagCategory(final ProductCategory productCategory, final Object... params) {
+        return tag("category", CatalogCache.getInstance().getGeneration(productCategory), productCategory, params);
+    }
+
+    /**
+     * <p>
+     * Gets the entity tag of the cart of the given user. Must be taken before the cart is read.
+     * </p>
+     *
+     * @param userId Refers the user id.
+     * @param params Refers the parameters selecting the part of the cart returned.
+     * @return the weak {@link EntityTag} of the cart.
+     */
+    public EntityTag tagCart(final int userId, final Object... params) {
+        return tag("cart", cartVersions.get(Math.floorMod(userId, stripes)) + getCatalogVersion(), userId, params);
+    }
+
+    /**
+     * <p>
+     * Gets the entity tag of the wishlist of the given user. Must be taken before the wishlist is read.
+     * </p>
+     *
+     * @param userId Refers the user id.
+     * @param params Refers the parameters selecting the part of the wishlist returned.
+     * @return the weak {@link EntityTag} of the wishlist.
+     */
+    public EntityTag tagWishlist(final int userId, final Object... params) {
+        return tag("wishlist", wishlistVersions.get(Math.floorMod(userId, stripes)) + getCatalogVersion(), userId,
+                params);
+    }
+
+    /**
+     * <p>
+     * Gets the version of the whole catalog, the sum of the generations of every category. As the generations
+     * only grow, the sum changes whenever any category changes and never returns to an earlier value.
+     * </p>
+     *
+     * @return the version of the catalog.
+     */
+    private long getCatalogVersion() {
+        final CatalogCache catalogCache = CatalogCache.getInstance();
+        long catalogVersion = 0;
+
+        for (final ProductCategory productCategory : ProductCategory.values()) {
+            catalogVersion += catalogCache.getGeneration(productCategory);
+        }
+
+        return catalogVersion;
+    }
+
+    /**
+     * <p>
+     * Builds a weak entity tag from the epoch, the version and the parameters of the resource. The tag is weak as
+     * it identifies the data, while the bytes of the response may differ by encoding.
+     * </p>
+     *
+     * @param resource Refers the name of the resource.
+     * @param version Refers the version of the resource.
+     * @param owner Refers the category or the user owning the resource.
+     * @param params Refers the parameters selecting the part of the resource returned.
+     * @return the weak {@link EntityTag}.
+     */
+    private EntityTag tag(final String resource, final long version, final Object owner, final Object... params) {
+        return new EntityTag(String.format("%s-%x-%x-%s-%x", resource, epoch, version, owner,
+                Arrays.hashCode(params)), true);
+    }
+}
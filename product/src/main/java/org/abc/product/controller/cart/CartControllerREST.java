@@ -2,12 +2,19 @@ package org.abc.product.controller.cart;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.jaxrs.cbor.CBORMediaTypes;
+import com.fasterxml.jackson.jaxrs.smile.SmileMediaTypes;
 
+import org.abc.authentication.security.TokenSecured;
+import org.abc.dbconnection.executor.DatabaseExecutor;
 import org.abc.product.ProductCategory;
-import org.abc.product.model.cart.Cart;
+import org.abc.product.cache.VersionStamps;
+import org.abc.product.exceptions.InvalidCursorException;
+import org.abc.product.model.cart.CartItem;
 import org.abc.product.service.cart.CartServiceREST;
 import org.abc.product.service.cart.impl2.CartServiceImpl;
 
+import javax.ws.rs.PATCH;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
@@ -15,7 +22,13 @@ import javax.ws.rs.GET;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 
 import java.util.Objects;
 
@@ -28,7 +41,9 @@ import java.util.Objects;
  * @version 1.0
  */
 @Path("/")
-@Produces(MediaType.APPLICATION_JSON)
+@TokenSecured
+@Produces({MediaType.APPLICATION_JSON, SmileMediaTypes.APPLICATION_JACKSON_SMILE,
+        CBORMediaTypes.APPLICATION_JACKSON_CBOR})
 public class CartControllerREST {
 
     private static CartControllerREST cartController;
@@ -58,17 +73,19 @@ public class CartControllerREST {
      * Adds the product to the cart of the specified user.
      * </p>
      *
+     * @param asyncResponse Refers the response resumed with true if product added.
      * @param productId Refers the id of the product to be added
      * @param userId Refers the user id.
      * @param productCategory Refers the product category.
-     * @return true if product added.
      */
     @Path("/add/{userId}/{category}/{productId}")
     @POST
-    public ObjectNode addItem(@PathParam("productId") final int productId,
-                              @PathParam("userId") final int userId,
-                              @PathParam("category") final ProductCategory productCategory) {
-        return objectMapper.createObjectNode().put("status", CART_SERVICE.addItem(productId, userId, productCategory));
+    public void addItem(@Suspended final AsyncResponse asyncResponse,
+                        @PathParam("productId") final int productId,
+                        @PathParam("userId") final int userId,
+                        @PathParam("category") final ProductCategory productCategory) {
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> objectMapper.createObjectNode().put("status",
+                CART_SERVICE.addItem(productId, userId, productCategory)));
     }
 
     /**
@@ -76,36 +93,102 @@ public class CartControllerREST {
      * Removes the product from the cart of the specified user.
      * </p>
      *
+     * @param asyncResponse Refers the response resumed with the status.
      * @param productId Refers the id of the product to be removed.
      * @param userId Refers the user id.
      */
     @Path("/remove/{userId}/{productId}")
     @DELETE
-    public ObjectNode removeItem(@PathParam("productId") final int productId,
-                                 @PathParam("userId") final int userId) {
-        CART_SERVICE.removeItem(productId, userId);
+    public void removeItem(@Suspended final AsyncResponse asyncResponse,
+                           @PathParam("productId") final int productId,
+                           @PathParam("userId") final int userId) {
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> {
+            CART_SERVICE.removeItem(productId, userId);
 
-        return objectMapper.createObjectNode().put("status", "Successful");
+            return objectMapper.createObjectNode().put("status", "Successful");
+        });
     }
 
     /**
      * <p>
-     * Gets the cart of the specified user id and returns it.
+     * Changes the quantity of the product in the cart of the specified user.
      * </p>
      *
+     * @param asyncResponse Refers the response resumed with true if the product is in the cart.
+     * @param productId Refers the id of the product in the cart.
      * @param userId Refers the user id.
-     * @param page Refers the page number.
+     * @param quantity Refers the quantity to be ordered.
+     */
+    @Path("/quantity/{userId}/{productId}")
+    @PATCH
+    public void updateQuantity(@Suspended final AsyncResponse asyncResponse,
+                               @PathParam("productId") final int productId,
+                               @PathParam("userId") final int userId,
+                               @QueryParam("quantity") final int quantity) {
+        if (quantity <= 0) {
+            asyncResponse.resume(objectMapper.createObjectNode().put("quantity", "Quantity should be positive"));
+
+            return;
+        }
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> objectMapper.createObjectNode().put("status",
+                CART_SERVICE.updateQuantity(productId, userId, quantity)));
+    }
+
+    /**
+     * <p>
+     * Gets a page of the cart of the specified user id and returns it. The next page is requested with the next
+     * cursor of the current page. A client sending the tag of the page it has gets not modified, without reading
+     * the cart, until the cart of the user changes.
+     * </p>
+     *
+     * @param asyncResponse Refers the response resumed with the page of {@link CartItem} in the cart of the user with
+     * the next cursor.
+     * @param request Refers the request, evaluated against the tag of the cart.
+     * @param userId Refers the user id.
+     * @param cursor Refers the cursor of the page, empty for the first page.
      * @param limit Refers the limit of data to show.
-     * @return the {@link Cart} of the user.
      */
     @Path("/get/{userId}")
     @GET
-    public ObjectNode getCart(@PathParam("userId") final int userId,
-                              @QueryParam("page") final int page,
-                              @QueryParam("limit") final int limit) {
-        return objectMapper.valueToTree(CART_SERVICE.getCart(userId, page, limit));
+    public void getCart(@Suspended final AsyncResponse asyncResponse,
+                        @Context final Request request,
+                        @PathParam("userId") final int userId,
+                        @QueryParam("cursor") final String cursor,
+                        @QueryParam("limit") final int limit) {
+        final EntityTag entityTag = VersionStamps.getInstance().tagCart(userId, cursor, limit);
+
+        if (isNotModified(asyncResponse, request, entityTag)) {
+            return;
+        }
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> {
+            try {
+                return Response.ok(objectMapper.valueToTree(CART_SERVICE.getCart(userId, cursor, limit)))
+                        .tag(entityTag).build();
+            } catch (final InvalidCursorException exception) {
+                return objectMapper.createObjectNode().put("cursor", exception.getMessage());
+            }
+        });
     }
-}
 
+    /**
+     * <p>
+     * Resumes the suspended response with not modified if the client already has the cart of the given tag.
+     * </p>
+     *
+     * @param asyncResponse Refers the suspended response.
+     * @param request Refers the request carrying the tags known to the client.
+     * @param entityTag Refers the current tag of the cart.
+     * @return true if the response is resumed with not modified.
+     */
+    private boolean isNotModified(final AsyncResponse asyncResponse, final Request request,
+                                  final EntityTag entityTag) {
+        final Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
 
+        if (Objects.isNull(notModified)) {
+            return false;
+        }
+        asyncResponse.resume(notModified.build());
 
+        return true;
+    }
+}
@@ -5,8 +5,11 @@ import org.abc.product.model.product.Product;
 import org.abc.product.service.inventory.impl2.InventoryServiceImpl;
 import org.abc.product.service.inventory.InventoryService;
 
+import java.io.Reader;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * <p>
@@ -50,6 +53,19 @@ public class InventoryController {
         INVENTORY.addItem(products);
     }
 
+    /**
+     * <p>
+     * Streams the products of the given catalog into the inventory.
+     * </p>
+     *
+     * @param productCategory Refers the category of the products in the catalog.
+     * @param reader Refers the reader of the catalog.
+     * @return the number of products added to the inventory.
+     */
+    public int loadItemsToInventory(final ProductCategory productCategory, final Reader reader) {
+        return INVENTORY.loadItems(productCategory, reader);
+    }
+
     /**
      * <p>
      * Removes the given item from the inventory.
@@ -61,6 +77,28 @@ public class InventoryController {
         INVENTORY.removeItem(productId, productCategory);
     }
 
+    /**
+     * <p>
+     * Updates the price and quantity of the given products in the inventory.
+     * </p>
+     *
+     * @param products Refers the products to be updated.
+     */
+    public void updateItemsInInventory(final List<Product> products) {
+        INVENTORY.updateItems(products);
+    }
+
+    /**
+     * <p>
+     * Removes the given products from the inventory.
+     * </p>
+     *
+     * @param products Refers the products to be removed.
+     */
+    public void removeItemsFromInventory(final List<Product> products) {
+        INVENTORY.removeItems(products);
+    }
+
     /**
      * <p>
      * Gets all the products from the inventory based on the category and returns it.
@@ -71,4 +109,16 @@ public class InventoryController {
     public List<Product> getItemsByCategory(final ProductCategory productCategory) {
         return (List<Product>) INVENTORY.getItemsByCategory(productCategory);
     }
+
+    /**
+     * <p>
+     * Gets all the products of the given categories from the inventory and returns them grouped by category.
+     * </p>
+     *
+     * @param productCategories Refers the product categories.
+     * @return the {@link Product} of every given category.
+     */
+    public Map<ProductCategory, List<Product>> getItems(final Set<ProductCategory> productCategories) {
+        return INVENTORY.getItems(productCategories);
+    }
 }
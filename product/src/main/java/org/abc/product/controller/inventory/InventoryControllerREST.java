@@ -3,20 +3,25 @@ package org.abc.product.controller.inventory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.jaxrs.cbor.CBORMediaTypes;
+import com.fasterxml.jackson.jaxrs.smile.SmileMediaTypes;
 
 import jakarta.validation.Valid;
-import jakarta.validation.Validation;
-import jakarta.validation.Validator;
 
+import org.abc.dbconnection.executor.DatabaseExecutor;
 import org.abc.product.ProductCategory;
+import org.abc.product.cache.VersionStamps;
+import org.abc.product.exceptions.InvalidCursorException;
+import org.abc.product.format.JsonFormat;
 import org.abc.product.model.product.Product;
+import org.abc.product.pagination.PageCursor;
+import org.abc.product.pagination.PageStreamer;
 import org.abc.product.service.inventory.InventoryServiceREST;
 import org.abc.product.service.inventory.impl2.InventoryServiceImpl;
-
 import org.abc.product.validation.group.ClothesChecker;
 import org.abc.product.validation.group.ElectronicProductChecker;
-import org.hibernate.validator.HibernateValidator;
-import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.abc.validation.bulk.BulkValidationResult;
+import org.abc.validation.bulk.BulkValidator;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
@@ -26,7 +31,14 @@ import javax.ws.rs.GET;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 
 import java.util.List;
 import java.util.Objects;
@@ -40,14 +52,14 @@ import java.util.Objects;
  * @version 1.0
  */
 @Path("/")
-@Produces(MediaType.APPLICATION_JSON)
+@Produces({MediaType.APPLICATION_JSON, SmileMediaTypes.APPLICATION_JACKSON_SMILE,
+        CBORMediaTypes.APPLICATION_JACKSON_CBOR})
 public class InventoryControllerREST {
 
     private static InventoryControllerREST inventoryController;
     private static final InventoryServiceREST INVENTORY = InventoryServiceImpl.getInstance();
+    private static final int STREAMING_THRESHOLD = Integer.getInteger("org.abc.product.streaming.threshold", 100);
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final Validator validator = Validation.byProvider(HibernateValidator.class)
-            .configure().messageInterpolator(new ParameterMessageInterpolator()).buildValidatorFactory().getValidator();
 
     /**
      * <p>
@@ -69,30 +81,41 @@ public class InventoryControllerREST {
 
     /**
      * <p>
-     * Adds the given products to the inventory.
+     * Adds the given products to the inventory. The products are validated in parallel and none of them is added
+     * if any product is invalid. Each invalid product is reported with its index in the given list, and the
+     * validation stops once the error limit of the {@link BulkValidator} is reached.
      * </p>
      *
+     * @param asyncResponse Refers the response resumed with the status.
      * @param products the products to be added.
      */
     @Path("/add")
     @Consumes(MediaType.APPLICATION_JSON)
     @POST
-    public ArrayNode addItemToInventory(@Valid final List<Product> products) {
-        final ArrayNode violationsInJson = objectMapper.createArrayNode();
-
-        for (final Product product : products) {
-           violationsInJson.add(switch (product.getProductCategory()) {
-               case MOBILE, LAPTOP -> validate(ElectronicProductChecker.class, product);
-               case CLOTHES -> validate(ClothesChecker.class, product);
-           });
-        }
-
-        if (violationsInJson.isEmpty()) {
-            INVENTORY.addItem(products);
-            violationsInJson.add(objectMapper.createObjectNode().put("status", "Successful"));
-        }
-
-        return violationsInJson;
+    public void addItemToInventory(@Suspended final AsyncResponse asyncResponse, @Valid final List<Product> products) {
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> {
+            final ArrayNode violationsInJson = objectMapper.createArrayNode();
+            final BulkValidationResult result = BulkValidator.getInstance().validate(products,
+                    product -> switch (product.getProductCategory()) {
+                        case MOBILE, LAPTOP -> ElectronicProductChecker.class;
+                        case CLOTHES -> ClothesChecker.class;
+                    });
+
+            result.getViolations().forEach((index, violations) -> violationsInJson.addObject().put("index", index)
+                    .set("violations", objectMapper.valueToTree(violations)));
+
+            if (result.isLimitReached()) {
+                violationsInJson.addObject().put("status", String.format(
+                        "Validation stopped after %d invalid products", result.getViolations().size()));
+            }
+
+            if (result.isValid()) {
+                INVENTORY.addItem(products);
+                violationsInJson.add(objectMapper.createObjectNode().put("status", "Successful"));
+            }
+
+            return violationsInJson;
+        });
     }
 
     /**
@@ -100,46 +123,91 @@ public class InventoryControllerREST {
      * Removes the given item from the inventory.
      * </p>
      *
+     * @param asyncResponse Refers the response resumed with the status.
      * @param productId Refers the id of the product to be removed.
      */
     @Path("/remove/{category}/{id}")
     @DELETE
-    public ObjectNode removeItemFromInventory(@PathParam("id") final int productId,
-                                              @PathParam("category") final ProductCategory productCategory) {
-        INVENTORY.removeItem(productId, productCategory);
-
-        return objectMapper.createObjectNode().put("status", "Successful");
+    public void removeItemFromInventory(@Suspended final AsyncResponse asyncResponse,
+                                        @PathParam("id") final int productId,
+                                        @PathParam("category") final ProductCategory productCategory) {
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> {
+            INVENTORY.removeItem(productId, productCategory);
+
+            return objectMapper.createObjectNode().put("status", "Successful");
+        });
     }
 
     /**
      * <p>
-     * Gets all the products from the inventory based on the category and returns it.
+     * Gets a page of the products from the inventory based on the category and returns it. The next page is
+     * requested with the next cursor of the current page. Pages larger than the streaming threshold are written to
+     * the response row by row as they are read from the database, small pages are served from the cache. A client
+     * sending the tag of the page it has gets not modified, without reading the products, until the category changes.
+     * Streamed pages are written in the format preferred by the Accept header.
      * </p>
      *
-     * @return all the {@link Product} from the inventory.
+     * @param asyncResponse Refers the response resumed with the page of {@link Product} from the inventory with the
+     * next cursor.
+     * @param request Refers the request, evaluated against the tag of the category.
+     * @param httpHeaders Refers the headers of the request, giving the accepted formats.
+     * @param productCategory Refers the product category.
+     * @param cursor Refers the cursor of the page, empty for the first page.
+     * @param limit Refers the limit of data to show.
      */
     @Path("/getByCategory")
     @GET
-    public ObjectNode getItemsByCategory(@QueryParam("category") final ProductCategory productCategory,
-                                         @QueryParam("page") final int page,
-                                         @QueryParam("limit") final int limit) {
-        return objectMapper.valueToTree(INVENTORY.getItemsByCategory(productCategory, page, limit));
+    public void getItemsByCategory(@Suspended final AsyncResponse asyncResponse,
+                                   @Context final Request request,
+                                   @Context final HttpHeaders httpHeaders,
+                                   @QueryParam("category") final ProductCategory productCategory,
+                                   @QueryParam("cursor") final String cursor,
+                                   @QueryParam("limit") final int limit) {
+        final EntityTag entityTag = VersionStamps.getInstance().tagCategory(productCategory, cursor, limit);
+
+        if (isNotModified(asyncResponse, request, entityTag)) {
+            return;
+        }
+        final JsonFormat jsonFormat = JsonFormat.of(httpHeaders.getAcceptableMediaTypes());
+
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> {
+            try {
+                final int pageLimit = PageCursor.toLimit(limit);
+
+                if (pageLimit <= STREAMING_THRESHOLD) {
+                    return Response.ok(objectMapper.valueToTree(INVENTORY.getItemsByCategory(productCategory, cursor,
+                            pageLimit))).tag(entityTag).build();
+                }
+                final int afterId = PageCursor.decode(cursor);
+
+                return Response.ok(PageStreamer.<Product>stream(jsonFormat.getObjectMapper(), pageLimit,
+                        Product::getId, consumer -> INVENTORY.streamItemsByCategory(productCategory, afterId, pageLimit,
+                        consumer)), jsonFormat.getMediaType()).tag(entityTag).build();
+            } catch (final InvalidCursorException exception) {
+                return Response.ok(objectMapper.createObjectNode().put("cursor", exception.getMessage())).build();
+            }
+        });
     }
 
     /**
      * <p>
-     * Validates the object by the given group and returns object node containing the violations.
+     * Resumes the suspended response with not modified if the client already has the products of the given tag.
      * </p>
-     * @param clazz Refers the group class.
-     * @param product Refers the {@link Product}.
-     * @return the object node contains the violations.
+     *
+     * @param asyncResponse Refers the suspended response.
+     * @param request Refers the request carrying the tags known to the client.
+     * @param entityTag Refers the current tag of the products.
+     * @return true if the response is resumed with not modified.
      */
-    private ObjectNode validate(final Class clazz, final Product product) {
-        final ObjectNode violationsInJson = objectMapper.createObjectNode();
+    private boolean isNotModified(final AsyncResponse asyncResponse, final Request request,
+                                  final EntityTag entityTag) {
+        final Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
 
-        validator.validate(product, clazz).forEach(violation -> violationsInJson
-                .put(violation.getPropertyPath().toString(), violation.getMessage()));
+        if (Objects.isNull(notModified)) {
+            return false;
+        }
+        asyncResponse.resume(notModified.build());
 
-        return violationsInJson;
+        return true;
     }
 }
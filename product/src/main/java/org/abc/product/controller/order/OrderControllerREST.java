@@ -2,22 +2,38 @@ package org.abc.product.controller.order;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.jaxrs.cbor.CBORMediaTypes;
+import com.fasterxml.jackson.jaxrs.smile.SmileMediaTypes;
 
-import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 
+import org.abc.authentication.security.TokenFilter;
+import org.abc.authentication.security.TokenSecured;
 import org.abc.authentication.validation.groups.GetUserChecker;
+import org.abc.dbconnection.executor.DatabaseExecutor;
+import org.abc.product.PaymentMode;
+import org.abc.product.exceptions.InvalidCursorException;
+import org.abc.product.format.JsonFormat;
+import org.abc.product.exceptions.OutOfStockException;
 import org.abc.product.model.order.Order;
+import org.abc.product.pagination.PageCursor;
+import org.abc.product.pagination.PageStreamer;
+import org.abc.product.service.cart.CartService;
+import org.abc.product.service.cart.impl2.CartServiceImpl;
 import org.abc.product.service.order.OrderServiceREST;
 import org.abc.product.service.order.impl2.OrderServiceImpl;
-
 import org.abc.product.validation.group.AddressChecker;
 import org.abc.product.validation.group.OrderChecker;
 import org.abc.product.validation.group.UserIdChecker;
-import org.hibernate.validator.HibernateValidator;
-import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.abc.validation.factory.ValidatorLocator;
 
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
@@ -38,14 +54,15 @@ import java.util.Objects;
  * @version 1.0
  */
 @Path("/")
-@Produces(MediaType.APPLICATION_JSON)
+@TokenSecured
+@Produces({MediaType.APPLICATION_JSON, SmileMediaTypes.APPLICATION_JACKSON_SMILE,
+        CBORMediaTypes.APPLICATION_JACKSON_CBOR})
 public class OrderControllerREST {
 
     private static OrderControllerREST orderController;
     private static final OrderServiceREST ORDER_SERVICE = OrderServiceImpl.getInstance();
+    private static final CartService CART_SERVICE = (CartService) CartServiceImpl.getInstance();
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final Validator validator = Validation.byProvider(HibernateValidator.class)
-            .configure().messageInterpolator(new ParameterMessageInterpolator()).buildValidatorFactory().getValidator();
 
     /**
      * <p>
@@ -67,67 +84,153 @@ public class OrderControllerREST {
 
     /**
      * <p>
-     * Gets all the orders placed by the user.
+     * Gets a page of the orders placed by the user. The next page is requested with the next cursor of the
+     * current page. The orders are written to the response row by row as they are read from the database, in the
+     * format preferred by the Accept header.
      * </p>
      *
+     * @param asyncResponse Refers the response resumed with the page of {@link Order} of the user with the next cursor.
+     * @param httpHeaders Refers the headers of the request, giving the accepted formats.
      * @param userId Refers the id of the user
-     * @return  all the {@link Order} of the user.
+     * @param cursor Refers the cursor of the page, empty for the first page.
+     * @param limit Refers the limit of data to show.
      */
     @Path("/getOrders/{userId}")
     @Consumes(MediaType.APPLICATION_JSON)
     @GET
-    public ObjectNode getOrders(@PathParam("userId") final int userId,
-                                @QueryParam("page") final int page,
-                                @QueryParam("limit") final int limit) {
-        final ObjectNode violationsInJson = validate(UserIdChecker.class, new Order.OrderBuilder(userId).build());
-
-        return violationsInJson.isEmpty()
-                ? objectMapper.valueToTree(ORDER_SERVICE.getOrders(userId, page, limit))
-                : violationsInJson;
+    public void getOrders(@Suspended final AsyncResponse asyncResponse,
+                          @Context final HttpHeaders httpHeaders,
+                          @PathParam("userId") final int userId,
+                          @QueryParam("cursor") final String cursor,
+                          @QueryParam("limit") final int limit) {
+        final JsonFormat jsonFormat = JsonFormat.of(httpHeaders.getAcceptableMediaTypes());
+
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> {
+            final ObjectNode violationsInJson = validate(UserIdChecker.class, new Order.OrderBuilder(userId).build());
+
+            if (!violationsInJson.isEmpty()) {
+                return Response.ok(violationsInJson).build();
+            }
+
+            try {
+                final int afterId = PageCursor.decode(cursor);
+                final int pageLimit = PageCursor.toLimit(limit);
+
+                return Response.ok(PageStreamer.<Order>stream(jsonFormat.getObjectMapper(), pageLimit, Order::getId,
+                        consumer -> ORDER_SERVICE.streamOrders(userId, afterId, pageLimit, consumer)),
+                        jsonFormat.getMediaType()).build();
+            } catch (final InvalidCursorException exception) {
+                return Response.ok(violationsInJson.put("cursor", exception.getMessage())).build();
+            }
+        });
     }
 
     /**
      * <p>
-     * Adds the order of the user.
+     * Adds the order of the user. The order can only be added for the user the token is issued to.
      * </p>
      *
+     * @param asyncResponse Refers the response resumed with the status.
+     * @param requestContext Refers the context of the request, holding the user of the token.
      * @param order Refers the {@link Order} to be added.
      */
     @Path("/add")
     @Consumes(MediaType.APPLICATION_JSON)
     @POST
-    public ObjectNode addOrder(final Order order) {
-        final ObjectNode violationsInJson = validate(OrderChecker.class, order);
+    public void addOrder(@Suspended final AsyncResponse asyncResponse,
+                         @Context final ContainerRequestContext requestContext,
+                         final Order order) {
+        if (Objects.nonNull(order) && !TokenFilter.isIssuedTo(requestContext, order.getUserId())) {
+            asyncResponse.resume(TokenFilter.forbidden());
+
+            return;
+        }
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> {
+            final ObjectNode violationsInJson = validate(OrderChecker.class, order);
+
+            if (violationsInJson.isEmpty()) {
+                try {
+                    ORDER_SERVICE.addOrder(order.getUserId(), order);
+                } catch (final OutOfStockException exception) {
+                    return objectMapper.createObjectNode().put("status", "Out of stock");
+                }
+
+                return objectMapper.createObjectNode().put("status", "Successful");
+            } else {
+                return violationsInJson;
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Places the orders of all the products in the cart of the user and empties the cart.
+     * </p>
+     *
+     * @param asyncResponse Refers the response resumed with the status.
+     * @param userId Refers the id of the user.
+     * @param address Refers the delivery address of the orders.
+     * @param paymentMode Refers the payment mode of the orders.
+     */
+    @Path("/checkout/{userId}")
+    @POST
+    public void checkout(@Suspended final AsyncResponse asyncResponse,
+                         @PathParam("userId") final int userId,
+                         @QueryParam("address") final String address,
+                         @QueryParam("paymentMode") final PaymentMode paymentMode) {
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> {
+            final ObjectNode violationsInJson = validate(AddressChecker.class,
+                    new Order.OrderBuilder(userId).setAddress(address).build());
+
+            if (Objects.isNull(paymentMode)) {
+                violationsInJson.put("paymentMode", "Payment mode can't be null");
+            }
+
+            if (!violationsInJson.isEmpty()) {
+                return violationsInJson;
+            }
 
-        if (violationsInJson.isEmpty()) {
-            ORDER_SERVICE.addOrder(order.getUserId(), order);
+            try {
+                ORDER_SERVICE.checkout(userId, CART_SERVICE.getCart(userId), address, paymentMode);
+            } catch (final OutOfStockException exception) {
+                return objectMapper.createObjectNode().put("status", "Out of stock");
+            }
 
             return objectMapper.createObjectNode().put("status", "Successful");
-        } else {
-            return violationsInJson;
-        }
+        });
     }
 
     /**
      * <p>
-     * Cancels the order placed by the user.
+     * Cancels the order placed by the user. Only the orders of the user the token is issued to can be cancelled.
      * </p>
      *
+     * @param asyncResponse Refers the response resumed with the status.
+     * @param requestContext Refers the context of the request, holding the user of the token.
      * @param order Refers the {@link Order} to be cancelled.
      */
     @Path("/cancel")
     @Consumes(MediaType.APPLICATION_JSON)
     @PATCH
-    public ObjectNode cancelOrder(final Order order) {
-        final ObjectNode violationsInJson = validate(OrderChecker.class, order);
-
-        if (violationsInJson.isEmpty()) {
-            ORDER_SERVICE.cancelOrder(order);
+    public void cancelOrder(@Suspended final AsyncResponse asyncResponse,
+                            @Context final ContainerRequestContext requestContext,
+                            final Order order) {
+        if (Objects.nonNull(order) && !TokenFilter.isIssuedTo(requestContext, order.getUserId())) {
+            asyncResponse.resume(TokenFilter.forbidden());
 
-            return objectMapper.createObjectNode().put("status", "Successful");
-        } else {
-            return violationsInJson;
+            return;
         }
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> {
+            final ObjectNode violationsInJson = validate(OrderChecker.class, order);
+
+            if (violationsInJson.isEmpty()) {
+                ORDER_SERVICE.cancelOrder(order);
+
+                return objectMapper.createObjectNode().put("status", "Successful");
+            } else {
+                return violationsInJson;
+            }
+        });
     }
 
     /**
@@ -135,23 +238,28 @@ public class OrderControllerREST {
      * Adds the address of the user.
      * </p>
      *
+     * @param asyncResponse Refers the response resumed with the status.
      * @param userId Refers the id of the user.
      * @param address Refers the address to be added.
      */
     @Path("/addAddress/{userId}/{address}")
     @Consumes(MediaType.APPLICATION_JSON)
     @POST
-    public ObjectNode addAddress(@PathParam("userId") final int userId,
-                                 @PathParam("address") final String address) {
-        final ObjectNode violationsInJson = validate(AddressChecker.class, new Order.OrderBuilder(userId).setAddress(address).build());
+    public void addAddress(@Suspended final AsyncResponse asyncResponse,
+                           @PathParam("userId") final int userId,
+                           @PathParam("address") final String address) {
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> {
+            final ObjectNode violationsInJson = validate(AddressChecker.class,
+                    new Order.OrderBuilder(userId).setAddress(address).build());
 
-        if (violationsInJson.isEmpty()) {
-            ORDER_SERVICE.addAddress(userId, address);
+            if (violationsInJson.isEmpty()) {
+                ORDER_SERVICE.addAddress(userId, address);
 
-            return objectMapper.createObjectNode().put("status","Successful");
-        } else {
-            return  violationsInJson;
-        }
+                return objectMapper.createObjectNode().put("status","Successful");
+            } else {
+                return  violationsInJson;
+            }
+        });
     }
 
     /**
@@ -159,17 +267,19 @@ public class OrderControllerREST {
      * Gets all the addresses of the user.
      * </p>
      *
+     * @param asyncResponse Refers the response resumed with the list of all the address.
      * @param userId Refers the id of the user.
-     * @return the list of all the address.
      */
     @Path("/getAddresses/{userId}")
     @GET
-    public ObjectNode getAllAddresses(@PathParam("userId") final int userId) {
-        final ObjectNode violationsInJson = validate(GetUserChecker.class, new Order.OrderBuilder(userId).build());
+    public void getAllAddresses(@Suspended final AsyncResponse asyncResponse, @PathParam("userId") final int userId) {
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> {
+            final ObjectNode violationsInJson = validate(GetUserChecker.class, new Order.OrderBuilder(userId).build());
 
-        return violationsInJson.isEmpty()
-                ? objectMapper.valueToTree(ORDER_SERVICE.getAllAddresses(userId))
-                : violationsInJson;
+            return violationsInJson.isEmpty()
+                    ? objectMapper.valueToTree(ORDER_SERVICE.getAllAddresses(userId))
+                    : violationsInJson;
+        });
     }
 
     /**
@@ -182,6 +292,7 @@ public class OrderControllerREST {
      */
     private ObjectNode validate(final Class clazz, final Order order) {
         final ObjectNode violationsInJson = objectMapper.createObjectNode();
+        final Validator validator = ValidatorLocator.locate(OrderControllerREST.class);
 
         validator.validate(order, clazz).forEach(violation -> violationsInJson
                 .put(violation.getPropertyPath().toString(), violation.getMessage()));
@@ -2,9 +2,15 @@ package org.abc.product.controller.wishlist;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.jaxrs.cbor.CBORMediaTypes;
+import com.fasterxml.jackson.jaxrs.smile.SmileMediaTypes;
 
+import org.abc.authentication.security.TokenSecured;
+import org.abc.dbconnection.executor.DatabaseExecutor;
 import org.abc.product.ProductCategory;
-import org.abc.product.model.wishlist.Wishlist;
+import org.abc.product.cache.VersionStamps;
+import org.abc.product.exceptions.InvalidCursorException;
+import org.abc.product.model.product.Product;
 import org.abc.product.service.wishlist.WishlistServiceREST;
 import org.abc.product.service.wishlist.impl2.WishlistServiceImpl;
 
@@ -15,7 +21,13 @@ import javax.ws.rs.GET;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 
 import java.util.Objects;
 
@@ -28,7 +40,9 @@ import java.util.Objects;
  * @version 1.0
  */
 @Path("/")
-@Produces(MediaType.APPLICATION_JSON)
+@TokenSecured
+@Produces({MediaType.APPLICATION_JSON, SmileMediaTypes.APPLICATION_JACKSON_SMILE,
+        CBORMediaTypes.APPLICATION_JACKSON_CBOR})
 public class WishlistControllerREST {
 
     private static WishlistControllerREST wishlistController;
@@ -57,17 +71,19 @@ public class WishlistControllerREST {
      * <p>
      * Adds the product to the wishlist of the specified user.
      * </p>
+     * @param asyncResponse Refers the response resumed with the if product added to the wishlist.
      * @param productId Refers the id of the product to be added
      * @param userId Refers the user id.
      * @param productCategory Refers the product category.
-     * @return the if product added to the wishlist.
      */
     @Path("/add/{userId}/{category}/{productId}")
     @POST
-    public ObjectNode addItem(@PathParam("productId") final int productId,
-                              @PathParam("userId") final int userId,
-                              @PathParam("category") final ProductCategory productCategory) {
-        return objectMapper.createObjectNode().put("status", WISHLIST_SERVICE.addItem(productId, userId, productCategory));
+    public void addItem(@Suspended final AsyncResponse asyncResponse,
+                        @PathParam("productId") final int productId,
+                        @PathParam("userId") final int userId,
+                        @PathParam("category") final ProductCategory productCategory) {
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> objectMapper.createObjectNode().put("status",
+                WISHLIST_SERVICE.addItem(productId, userId, productCategory)));
     }
 
     /**
@@ -75,31 +91,77 @@ public class WishlistControllerREST {
      * Removes the product from the wishlist of the specified user.
      * </p>
      *
+     * @param asyncResponse Refers the response resumed with the status.
      * @param productId Refers the id of the product to be removed.
      * @param userId Refers the user id.
      */
     @Path("/remove/{userId}/{productId}")
     @DELETE
-    public ObjectNode removeItem(@PathParam("productId") final int productId,
-                                 @PathParam("userId") final int userId) {
-        WISHLIST_SERVICE.removeItem(productId, userId);
+    public void removeItem(@Suspended final AsyncResponse asyncResponse,
+                           @PathParam("productId") final int productId,
+                           @PathParam("userId") final int userId) {
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> {
+            WISHLIST_SERVICE.removeItem(productId, userId);
 
-        return objectMapper.createObjectNode().put("status", "Successful");
+            return objectMapper.createObjectNode().put("status", "Successful");
+        });
     }
 
     /**
      * <p>
-     * Gets the wishlist of the specified user id and returns it.
+     * Gets a page of the wishlist of the specified user id and returns it. The next page is requested with the next
+     * cursor of the current page. A client sending the tag of the page it has gets not modified, without reading
+     * the wishlist, until the wishlist of the user changes.
      * </p>
      *
-     * @param userId Refers the user id who owns the cart.
-     * @return the {@link Wishlist} of the user.
+     * @param asyncResponse Refers the response resumed with the page of {@link Product} in the wishlist of the user
+     * with the next cursor.
+     * @param request Refers the request, evaluated against the tag of the wishlist.
+     * @param userId Refers the user id.
+     * @param cursor Refers the cursor of the page, empty for the first page.
+     * @param limit Refers the limit of data to show.
      */
     @Path("/get/{userId}")
     @GET
-    public ObjectNode getWishlist(@PathParam("userId") final int userId,
-                                  @QueryParam("page") final int page,
-                                  @QueryParam("limit") final int limit) {
-        return objectMapper.valueToTree(WISHLIST_SERVICE.getWishlist(userId, page, limit));
+    public void getWishlist(@Suspended final AsyncResponse asyncResponse,
+                            @Context final Request request,
+                            @PathParam("userId") final int userId,
+                            @QueryParam("cursor") final String cursor,
+                            @QueryParam("limit") final int limit) {
+        final EntityTag entityTag = VersionStamps.getInstance().tagWishlist(userId, cursor, limit);
+
+        if (isNotModified(asyncResponse, request, entityTag)) {
+            return;
+        }
+        DatabaseExecutor.getInstance().resume(asyncResponse, () -> {
+            try {
+                return Response.ok(objectMapper.valueToTree(WISHLIST_SERVICE.getWishlist(userId, cursor, limit)))
+                        .tag(entityTag).build();
+            } catch (final InvalidCursorException exception) {
+                return objectMapper.createObjectNode().put("cursor", exception.getMessage());
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Resumes the suspended response with not modified if the client already has the wishlist of the given tag.
+     * </p>
+     *
+     * @param asyncResponse Refers the suspended response.
+     * @param request Refers the request carrying the tags known to the client.
+     * @param entityTag Refers the current tag of the wishlist.
+     * @return true if the response is resumed with not modified.
+     */
+    private boolean isNotModified(final AsyncResponse asyncResponse, final Request request,
+                                  final EntityTag entityTag) {
+        final Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+
+        if (Objects.isNull(notModified)) {
+            return false;
+        }
+        asyncResponse.resume(notModified.build());
+
+        return true;
     }
 }
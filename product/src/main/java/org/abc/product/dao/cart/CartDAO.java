@@ -45,13 +45,44 @@ public interface CartDAO {
 
     /**
      * <p>
-     * Gets the cart of the current user and returns it.
+     * Changes the quantity of the specific product in the cart.
+     * </p>
+     *
+     * @param productId Refers the id of the product in the cart.
+     * @param userId Refers the user id.
+     * @param quantity Refers the quantity to be ordered.
+     * @return true if the product is in the cart.
+     */
+    boolean updateQuantity(final int productId, final int userId, final int quantity);
+
+    /**
+     * <p>
+     * Gets a page of the cart of the current user, ordered by the product id, and returns it.
      * </p>
      *
      * @param userId Refers the user id.
-     * @param page Refers the page number.
+     * @param afterProductId Refers the id of the last product of the previous page, zero for the first page.
      * @param limit Refers the limit of data to show.
-     * @return {@link Cart} of the user.
+     * @return {@link Cart} of the user with the products after the given product.
+     */
+    Cart getCart(final int userId, final int afterProductId, final int limit);
+
+    /**
+     * <p>
+     * Writes the pending changes of the cart of the given user to the cart table.
+     * </p>
+     *
+     * @param userId Refers the user id.
+     */
+    void flush(final int userId);
+
+    /**
+     * <p>
+     * Forgets what is known about the cart of the given user, so it is read again from the cart table. Called after
+     * the cart table is changed outside the DAO, as on checkout.
+     * </p>
+     *
+     * @param userId Refers the user id.
      */
-    Cart getCart(final int userId, final int page, final int limit);
+    void invalidate(final int userId);
 }
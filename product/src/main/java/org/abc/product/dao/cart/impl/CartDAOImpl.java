@@ -1,9 +1,11 @@
 package org.abc.product.dao.cart.impl;
 
+import org.abc.product.cache.VersionStamps;
 import org.abc.product.dao.cart.CartDAO;
 import org.abc.dbconnection.connection.DBConnection;
 import org.abc.product.exceptions.ItemRemovalFailedException;
 import org.abc.product.exceptions.ItemNotFoundException;
+import org.abc.product.exceptions.ItemUpdateFailedException;
 import org.abc.product.model.cart.Cart;
 import org.abc.product.model.product.Clothes;
 import org.abc.product.model.product.Laptop;
@@ -30,7 +32,6 @@ import java.util.Objects;
 public class CartDAOImpl implements CartDAO {
 
     private static CartDAOImpl cartDAO;
-    private final Connection connection = DBConnection.getConnection();
     private static final Logger LOGGER = LogManager.getLogger(CartDAOImpl.class);
 
     /**
@@ -62,12 +63,17 @@ public class CartDAOImpl implements CartDAO {
      */
     @Override
     public boolean addItem(final int productId, final int userId) {
-        try (PreparedStatement preparedStatement = connection
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
                 .prepareStatement("insert into cart (user_id , product_id) values(?,?)")) {
             preparedStatement.setInt(1, userId);
             preparedStatement.setInt(2, productId);
             final int updatedRows = preparedStatement.executeUpdate();
 
+            if (updatedRows > 0) {
+                VersionStamps.getInstance().bumpCart(userId);
+            }
+
             return  updatedRows > 0;
         } catch (final SQLException exception) {
             LOGGER.info(String.format("User id :%d Product Id :%d - Item is already in the cart", userId, productId));
@@ -86,11 +92,13 @@ public class CartDAOImpl implements CartDAO {
      */
     @Override
     public void removeItem(final int productId, final int userId) {
-        try (PreparedStatement preparedStatement = connection
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
                 .prepareStatement("delete from cart where user_id =? and product_id =?")) {
             preparedStatement.setInt(1, userId);
             preparedStatement.setInt(2, productId);
             preparedStatement.executeUpdate();
+            VersionStamps.getInstance().bumpCart(userId);
             LOGGER.info(String.format("User id :%d Product Id :%d - Item removed from the cart", userId, productId));
 
         } catch (final SQLException exception) {
@@ -99,6 +107,37 @@ public class CartDAOImpl implements CartDAO {
         }
     }
 
+    /**
+     * <p>
+     * Changes the quantity of the product in the cart in the database.
+     * </p>
+     *
+     * @param productId Refers the id of the product in the cart.
+     * @param userId Refers the user id.
+     * @param quantity Refers the quantity to be ordered.
+     * @return true if the product is in the cart.
+     */
+    @Override
+    public boolean updateQuantity(final int productId, final int userId, final int quantity) {
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
+                .prepareStatement("update cart set quantity = ? where user_id = ? and product_id = ?")) {
+            preparedStatement.setInt(1, quantity);
+            preparedStatement.setInt(2, userId);
+            preparedStatement.setInt(3, productId);
+            final int updatedRows = preparedStatement.executeUpdate();
+
+            if (updatedRows > 0) {
+                VersionStamps.getInstance().bumpCart(userId);
+            }
+
+            return updatedRows > 0;
+        } catch (final SQLException exception) {
+            LOGGER.info(String.format("User id :%d Product Id :%d - Quantity can't be changed", userId, productId));
+            throw new ItemUpdateFailedException(exception.getMessage());
+        }
+    }
+
     /**
      * <p>
      * Gets the cart to the user from the database.
@@ -109,9 +148,11 @@ public class CartDAOImpl implements CartDAO {
      */
     @Override
     public Cart getCart(final int userId) {
-        try (PreparedStatement preparedStatement = connection
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
                 .prepareStatement(String.join(" ", "select cart.product_id, p.product_category_id,",
-                        "e.brand,e.model, p.price,c.clothes_type,c.size,c.gender, c.brand, p.quantity from cart join product p",
+                        "e.brand,e.model, p.price,c.clothes_type,c.size,c.gender, c.brand, p.quantity, cart.quantity",
+                        "from cart join product p",
                         "on cart.product_id=p.id left join electronics_inventory e on cart.product_id = e.product_id",
                         "left join clothes_inventory c on p.id=c.product_id where cart.user_id = ?"))) {
             preparedStatement.setInt(1, userId);
@@ -124,25 +165,26 @@ public class CartDAOImpl implements CartDAO {
 
     /**
      * <p>
-     * Gets the cart to the user from the database.
+     * Gets a page of the cart to the user from the database, ordered by the product id.
      * </p>
      *
      * @param userId Refers the user id.
-     * @param page Refers the page number.
+     * @param afterProductId Refers the id of the last product of the previous page, zero for the first page.
      * @param limit Refers the limit of data to show.
-     * @return {@link Cart} of the user.
+     * @return {@link Cart} of the user with the products after the given product.
      */
     @Override
-    public Cart getCart(final int userId, final int page, final int limit) {
-        final int offset = (page - 1) * limit;
-
-        try (PreparedStatement preparedStatement = connection
+    public Cart getCart(final int userId, final int afterProductId, final int limit) {
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
                 .prepareStatement(String.join(" ", "select cart.product_id, p.product_category_id,",
-                "e.brand,e.model, p.price,c.clothes_type,c.size,c.gender, c.brand, p.quantity from cart join product p",
+                "e.brand,e.model, p.price,c.clothes_type,c.size,c.gender, c.brand, p.quantity, cart.quantity",
+                "from cart join product p",
                 "on cart.product_id=p.id left join electronics_inventory e on cart.product_id = e.product_id",
-                "left join clothes_inventory c on p.id=c.product_id where cart.user_id = ? order by cart.id offset ? limit ?"))) {
+                "left join clothes_inventory c on p.id=c.product_id where cart.user_id = ? and cart.product_id > ?",
+                "order by cart.product_id limit ?"))) {
             preparedStatement.setInt(1, userId);
-            preparedStatement.setInt(2, offset);
+            preparedStatement.setInt(2, afterProductId);
             preparedStatement.setInt(3, limit);
 
             return getCartFromResultSet(preparedStatement.executeQuery());
@@ -151,6 +193,29 @@ public class CartDAOImpl implements CartDAO {
         }
     }
 
+    /**
+     * <p>
+     * Nothing is pending, as every change is written to the cart table right away.
+     * </p>
+     *
+     * @param userId Refers the user id.
+     */
+    @Override
+    public void flush(final int userId) {}
+
+    /**
+     * <p>
+     * Nothing of the cart is kept in memory, so only the version of the cart is changed. Used when the cart table
+     * is changed outside this DAO, as on checkout.
+     * </p>
+     *
+     * @param userId Refers the user id.
+     */
+    @Override
+    public void invalidate(final int userId) {
+        VersionStamps.getInstance().bumpCart(userId);
+    }
+
     /**
      * <p>
      * Gets the cart from the provided Resultset.
@@ -174,7 +239,7 @@ public class CartDAOImpl implements CartDAO {
                 final Mobile mobile = new Mobile(brand, model, price, quantity);
 
                 mobile.setId(productId);
-                cart.addItem(mobile);
+                cart.addItem(mobile, resultSet.getInt(11));
             }
 
             if (ProductCategory.LAPTOP == productCategory) {
@@ -185,7 +250,7 @@ public class CartDAOImpl implements CartDAO {
                 final Laptop laptop = new Laptop(brand, model, price, quantity);
 
                 laptop.setId(productId);
-                cart.addItem(laptop);
+                cart.addItem(laptop, resultSet.getInt(11));
             }
 
             if (ProductCategory.CLOTHES == productCategory) {
@@ -198,7 +263,7 @@ public class CartDAOImpl implements CartDAO {
                 final Clothes clothes = new Clothes(clothesType, gender, size, price, brand, quantity);
 
                 clothes.setId(productId);
-                cart.addItem(clothes);
+                cart.addItem(clothes, resultSet.getInt(11));
             }
         }
 
@@ -2,9 +2,12 @@ package org.abc.product.dao.cart.impl;
 
 import jakarta.persistence.Query;
 
+import org.abc.dbconnection.session.SessionFactoryLocator;
+import org.abc.product.cache.VersionStamps;
 import org.abc.product.dao.cart.CartDAO;
 import org.abc.product.exceptions.ItemNotFoundException;
 import org.abc.product.exceptions.ItemRemovalFailedException;
+import org.abc.product.exceptions.ItemUpdateFailedException;
 import org.abc.product.model.cart.Cart;
 import org.abc.product.model.product.Clothes;
 import org.abc.product.model.product.Laptop;
@@ -14,8 +17,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.hibernate.Session;
-import org.hibernate.SessionFactory;
-import org.hibernate.cfg.Configuration;
 
 import java.util.List;
 import java.util.Objects;
@@ -31,7 +32,6 @@ import java.util.Objects;
 public class CartDAOImpl2 implements CartDAO {
 
     private static CartDAOImpl2 cartDAO;
-    private static final SessionFactory sessionFactory = new Configuration().buildSessionFactory();
     private static final Logger LOGGER = LogManager.getLogger(CartDAOImpl2.class);
 
     /**
@@ -63,7 +63,7 @@ public class CartDAOImpl2 implements CartDAO {
      */
     @Override
     public boolean addItem(final int productId, final int userId) {
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = SessionFactoryLocator.locate(CartDAOImpl2.class).openSession()) {
             final Query query = (Query) session.createNativeMutationQuery("insert into cart (user_id , product_id) values(?,?)");
 
             session.beginTransaction();
@@ -73,6 +73,10 @@ public class CartDAOImpl2 implements CartDAO {
 
             session.getTransaction().commit();
 
+            if (updatedRows > 0) {
+                VersionStamps.getInstance().bumpCart(userId);
+            }
+
             return updatedRows > 0;
         } catch (Exception exception) {
             LOGGER.info(String.format("User id :%d Product Id :%d - Item is already in the cart", userId, productId));
@@ -91,7 +95,7 @@ public class CartDAOImpl2 implements CartDAO {
      */
     @Override
     public void removeItem(final int productId, final int userId) {
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = SessionFactoryLocator.locate(CartDAOImpl2.class).openSession()) {
             final Query query = (Query) session.createNativeMutationQuery("delete from cart where user_id =? and product_id =?");
 
             session.beginTransaction();
@@ -99,6 +103,7 @@ public class CartDAOImpl2 implements CartDAO {
             query.setParameter(2, productId);
             query.executeUpdate();
             session.getTransaction().commit();
+            VersionStamps.getInstance().bumpCart(userId);
             LOGGER.info(String.format("User id :%d Product Id :%d - Item removed from the cart", userId, productId));
         } catch (Exception exception) {
             LOGGER.info(String.format("User id :%d Product Id :%d - Item can't be removed", userId, productId));
@@ -106,6 +111,41 @@ public class CartDAOImpl2 implements CartDAO {
         }
     }
 
+    /**
+     * <p>
+     * Changes the quantity of the product in the cart in the database.
+     * </p>
+     *
+     * @param productId Refers the id of the product in the cart.
+     * @param userId Refers the user id.
+     * @param quantity Refers the quantity to be ordered.
+     * @return true if the product is in the cart.
+     */
+    @Override
+    public boolean updateQuantity(final int productId, final int userId, final int quantity) {
+        try (Session session = SessionFactoryLocator.locate(CartDAOImpl2.class).openSession()) {
+            final Query query = (Query) session.createNativeMutationQuery(
+                    "update cart set quantity = ? where user_id = ? and product_id = ?");
+
+            session.beginTransaction();
+            query.setParameter(1, quantity);
+            query.setParameter(2, userId);
+            query.setParameter(3, productId);
+            final int updatedRows = query.executeUpdate();
+
+            session.getTransaction().commit();
+
+            if (updatedRows > 0) {
+                VersionStamps.getInstance().bumpCart(userId);
+            }
+
+            return updatedRows > 0;
+        } catch (Exception exception) {
+            LOGGER.info(String.format("User id :%d Product Id :%d - Quantity can't be changed", userId, productId));
+            throw new ItemUpdateFailedException(exception.getMessage());
+        }
+    }
+
     /**
      * <p>
      * Gets the cart to the user from the database.
@@ -116,9 +156,10 @@ public class CartDAOImpl2 implements CartDAO {
      */
     @Override
     public Cart getCart(final int userId) {
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = SessionFactoryLocator.locate(CartDAOImpl2.class).openSession()) {
             final String sqlQuery = String.join(" ", "select cart.product_id, p.product_category_id,",
-                    "e.brand,e.model, p.price,c.clothes_type,c.size,c.gender, c.brand, p.quantity from cart join product p",
+                    "e.brand,e.model, p.price,c.clothes_type,c.size,c.gender, c.brand, p.quantity, cart.quantity",
+                    "from cart join product p",
                     "on cart.product_id=p.id left join electronics_inventory e on cart.product_id = e.product_id",
                     "left join clothes_inventory c on p.id=c.product_id where cart.user_id = ?");
             final List<Object[]> resultList = session
@@ -135,23 +176,26 @@ public class CartDAOImpl2 implements CartDAO {
 
     /**
      * <p>
-     * Gets the cart to the user from the database.
+     * Gets a page of the cart to the user from the database, ordered by the product id.
      * </p>
      *
      * @param userId Refers the user id.
-     * @param page Refers the page number.
+     * @param afterProductId Refers the id of the last product of the previous page, zero for the first page.
      * @param limit Refers the limit of data to show.
-     * @return {@link Cart} of the user.
+     * @return {@link Cart} of the user with the products after the given product.
      */
     @Override
-    public Cart getCart(int userId, int page, int limit) {
-        try (Session session = sessionFactory.openSession()) {
+    public Cart getCart(final int userId, final int afterProductId, final int limit) {
+        try (Session session = SessionFactoryLocator.locate(CartDAOImpl2.class).openSession()) {
             final String sqlQuery = String.join(" ", "select cart.product_id, p.product_category_id,",
-                    "e.brand,e.model, p.price,c.clothes_type,c.size,c.gender, c.brand, p.quantity from cart join product p",
+                    "e.brand,e.model, p.price,c.clothes_type,c.size,c.gender, c.brand, p.quantity, cart.quantity",
+                    "from cart join product p",
                     "on cart.product_id=p.id left join electronics_inventory e on cart.product_id = e.product_id",
-                    "left join clothes_inventory c on p.id=c.product_id where cart.user_id = :userId");
-            final List<Object[]> resultList = session.createNativeQuery(sqlQuery, Object[].class).setParameter("userId", userId).setFirstResult(page).setMaxResults(limit)
-                    .getResultList();
+                    "left join clothes_inventory c on p.id=c.product_id where cart.user_id = :userId",
+                    "and cart.product_id > :afterProductId order by cart.product_id limit :limit");
+            final List<Object[]> resultList = session.createNativeQuery(sqlQuery, Object[].class)
+                    .setParameter("userId", userId).setParameter("afterProductId", afterProductId)
+                    .setParameter("limit", limit).getResultList();
 
             return getCartFromResultList(resultList);
         } catch (Exception exception) {
@@ -159,6 +203,29 @@ public class CartDAOImpl2 implements CartDAO {
         }
     }
 
+    /**
+     * <p>
+     * Nothing is pending, as every change is written to the cart table right away.
+     * </p>
+     *
+     * @param userId Refers the user id.
+     */
+    @Override
+    public void flush(final int userId) {}
+
+    /**
+     * <p>
+     * Nothing of the cart is kept in memory, so only the version of the cart is changed. Used when the cart table
+     * is changed outside this DAO, as on checkout.
+     * </p>
+     *
+     * @param userId Refers the user id.
+     */
+    @Override
+    public void invalidate(final int userId) {
+        VersionStamps.getInstance().bumpCart(userId);
+    }
+
     /**
      * <p>
      * Gets the cart from the provided result list and returns it.
@@ -181,11 +248,13 @@ public class CartDAOImpl2 implements CartDAO {
             final String gender = (String) row[7];
             final String clothesBrand = (String) row[8];
             final int quantity = (int) row[9];
+            final int cartQuantity = (int) row[10];
 
             switch (productCategoryId) {
-                case 1 -> cart.addItem(new Mobile(brand, model, price, quantity, (int) productId));
-                case 2 -> cart.addItem(new Laptop(brand, model, price, quantity, (int) productId));
-                case 3 -> cart.addItem(new Clothes(clothesType, clothesBrand, gender, size, price, quantity, (int) productId));
+                case 1 -> cart.addItem(new Mobile(brand, model, price, quantity, (int) productId), cartQuantity);
+                case 2 -> cart.addItem(new Laptop(brand, model, price, quantity, (int) productId), cartQuantity);
+                case 3 -> cart.addItem(new Clothes(clothesType, clothesBrand, gender, size, price, quantity,
+                        (int) productId), cartQuantity);
             }
         }
 
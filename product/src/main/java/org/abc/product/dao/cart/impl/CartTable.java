@@ -0,0 +1,114 @@
+package org.abc.product.dao.cart.impl;
+
+import org.abc.dbconnection.connection.DBConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * Reads and writes the cart table for the {@link WriteBehindCartDAO}.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+class CartTable {
+
+    static final int REMOVED = 0;
+
+    /**
+     * <p>
+     * Gets the ids of the products in the cart of the user.
+     * </p>
+     *
+     * @param userId Refers the user id.
+     * @return the ids of the products in the cart table.
+     */
+    Set<Integer> getProductIds(final int userId) throws SQLException {
+        final Set<Integer> productIds = new HashSet<>();
+
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
+                     .prepareStatement("select product_id from cart where user_id = ?")) {
+            preparedStatement.setInt(1, userId);
+
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    productIds.add(resultSet.getInt(1));
+                }
+            }
+        }
+
+        return productIds;
+    }
+
+    /**
+     * <p>
+     * Writes the given changes to the cart table with a batch of updates, a batch of inserts and a batch of
+     * deletes in a single transaction. The quantity of a product already in the cart table is updated, while a
+     * missing one is inserted.
+     * </p>
+     *
+     * @param changes Refers the changes by user id, the quantity of the products in the cart and zero for the
+     *                removed ones.
+     * @return the number of changes written.
+     */
+    int write(final Map<Integer, Map<Integer, Integer>> changes) throws SQLException {
+        try (Connection connection = DBConnection.getConnection()) {
+            final boolean autoCommit = connection.getAutoCommit();
+
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement updateStatement = connection
+                    .prepareStatement("update cart set quantity = ? where user_id = ? and product_id = ?");
+                 PreparedStatement insertStatement = connection.prepareStatement(String.join(" ",
+                    "insert into cart (user_id, product_id, quantity) select ?, ?, ? where not exists",
+                    "(select 1 from cart where user_id = ? and product_id = ?)"));
+                 PreparedStatement deleteStatement = connection
+                         .prepareStatement("delete from cart where user_id = ? and product_id = ?")) {
+                int count = 0;
+
+                for (final Map.Entry<Integer, Map<Integer, Integer>> userChanges : changes.entrySet()) {
+                    final int userId = userChanges.getKey();
+
+                    for (final Map.Entry<Integer, Integer> change : userChanges.getValue().entrySet()) {
+                        if (REMOVED != change.getValue()) {
+                            updateStatement.setInt(1, change.getValue());
+                            updateStatement.setInt(2, userId);
+                            updateStatement.setInt(3, change.getKey());
+                            updateStatement.addBatch();
+                            insertStatement.setInt(1, userId);
+                            insertStatement.setInt(2, change.getKey());
+                            insertStatement.setInt(3, change.getValue());
+                            insertStatement.setInt(4, userId);
+                            insertStatement.setInt(5, change.getKey());
+                            insertStatement.addBatch();
+                        } else {
+                            deleteStatement.setInt(1, userId);
+                            deleteStatement.setInt(2, change.getKey());
+                            deleteStatement.addBatch();
+                        }
+                        count++;
+                    }
+                }
+                updateStatement.executeBatch();
+                insertStatement.executeBatch();
+                deleteStatement.executeBatch();
+                connection.commit();
+
+                return count;
+            } catch (final SQLException exception) {
+                connection.rollback();
+                throw exception;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+}
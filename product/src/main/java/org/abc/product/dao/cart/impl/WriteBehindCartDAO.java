@@ -0,0 +1,619 @@
+package org.abc.product.dao.cart.impl;
+
+import org.abc.product.cache.VersionStamps;
+import org.abc.product.dao.cart.CartDAO;
+import org.abc.product.exceptions.ItemNotFoundException;
+import org.abc.product.model.cart.Cart;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * <p>
+ * Keeps the carts of the users in memory and writes their changes to the cart table in the background. Only the
+ * last change of a product in a cart is written, so adding and removing the same product or changing its quantity
+ * several times within a flush interval costs a single database write at most. Every change is appended to a
+ * local journal before it is acknowledged and the journal is replayed on start, so the changes not yet written
+ * survive a crash.
+ * </p>
+ *
+ * <p>
+ * A change takes the read lock of the journal before the lock of the cart, the same order the journal is compacted
+ * in, so changing a cart never waits on a compaction which waits on that cart. The changes of a cart are written by
+ * one flush at a time, so a batch of a cart is committed or given back before the next batch of the cart is taken.
+ * </p>
+ *
+ * <p>
+ * The flush interval and the journal file can be configured with the {@code org.abc.product.cart.flushMillis} and
+ * {@code org.abc.product.cart.journal} system properties. The changes of a user are also written before the cart
+ * of the user is read. Until the store is started every change is written through to the database.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class WriteBehindCartDAO implements CartDAO {
+
+    private static WriteBehindCartDAO writeBehindCartDAO;
+    private static final Logger LOGGER = LogManager.getLogger(WriteBehindCartDAO.class);
+    private static final String ADD = "A";
+    private static final String REMOVE = "R";
+    private final Map<Integer, UserCart> userCarts = new ConcurrentHashMap<>();
+    private final ReadWriteLock journalLock = new ReentrantReadWriteLock();
+    private final CartDAO cartDAO;
+    private final CartTable cartTable;
+    private final Path journalPath;
+    private final long flushMillis;
+    private FileChannel journal;
+    private volatile ScheduledExecutorService flushExecutor;
+
+    /**
+     * <p>
+     * Default constructor of WriteBehindCartDAO class. Kept private to restrict from creating object outside this class.
+     * </p>
+     */
+    private WriteBehindCartDAO() {
+        this(CartDAOImpl.getInstance(), new CartTable(), Path.of(System.getProperty("org.abc.product.cart.journal",
+                Path.of(System.getProperty("karaf.data", System.getProperty("java.io.tmpdir")), "cart-journal.log")
+                        .toString())), Long.getLong("org.abc.product.cart.flushMillis", 1000));
+    }
+
+    /**
+     * <p>
+     * Constructs the WriteBehindCartDAO over the given cart table and journal.
+     * </p>
+     *
+     * @param cartDAO Refers the DAO the changes are written through before the store is started.
+     * @param cartTable Refers the cart table the changes are written to.
+     * @param journalPath Refers the path of the journal.
+     * @param flushMillis Refers the interval of writing the changes in milliseconds.
+     */
+    WriteBehindCartDAO(final CartDAO cartDAO, final CartTable cartTable, final Path journalPath,
+                       final long flushMillis) {
+        this.cartDAO = cartDAO;
+        this.cartTable = cartTable;
+        this.journalPath = journalPath;
+        this.flushMillis = Math.max(10, flushMillis);
+    }
+
+    /**
+     * <p>
+     * Creates a single object of WriteBehindCartDAO class and returns it.
+     * </p>
+     *
+     * @return the single instance of WriteBehindCartDAO class.
+     */
+    public static synchronized WriteBehindCartDAO getInstance() {
+        return Objects.isNull(writeBehindCartDAO) ? writeBehindCartDAO = new WriteBehindCartDAO() : writeBehindCartDAO;
+    }
+
+    /**
+     * <p>
+     * Replays the journal, writes the recovered changes and starts writing the changes in the background.
+     * </p>
+     */
+    public synchronized void start() {
+        if (Objects.nonNull(flushExecutor)) {
+            return;
+        }
+
+        try {
+            replay();
+            journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        } catch (final IOException exception) {
+            LOGGER.error(String.format("Cart journal %s can't be opened, cart changes are written through - %s",
+                    journalPath, exception.getMessage()));
+
+            return;
+        }
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "cart-flush");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        flushExecutor.execute(this::flushAll);
+        flushExecutor.scheduleWithFixedDelay(this::flushAll, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+        LOGGER.info(String.format("Cart changes are written every %d ms, journal %s", flushMillis, journalPath));
+    }
+
+    /**
+     * <p>
+     * Stops writing in the background and writes all the pending changes.
+     * </p>
+     */
+    public void stop() {
+        final ScheduledExecutorService executor;
+
+        synchronized (this) {
+            executor = flushExecutor;
+            flushExecutor = null;
+        }
+
+        if (Objects.isNull(executor)) {
+            return;
+        }
+        executor.shutdown();
+
+        try {
+            executor.awaitTermination(flushMillis * 2, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        flushAll();
+        journalLock.writeLock().lock();
+
+        try {
+            journal.close();
+        } catch (final IOException exception) {
+            LOGGER.warn(String.format("Cart journal %s can't be closed", journalPath));
+        } finally {
+            journal = null;
+            journalLock.writeLock().unlock();
+        }
+        userCarts.clear();
+    }
+
+    /**
+     * <p>
+     * Adds the product to the cart of the user. The cart table is updated in the background.
+     * </p>
+     *
+     * @param productId Refers the id of the product to be added.
+     * @param userId Refers the user id.
+     * @return true if the product is added to the cart.
+     */
+    @Override
+    public boolean addItem(final int productId, final int userId) {
+        if (Objects.isNull(flushExecutor)) {
+            return cartDAO.addItem(productId, userId);
+        }
+
+        return change(userId, userCart -> {
+            if (getProductIds(userId, userCart).contains(productId)) {
+                return false;
+            }
+            append(ADD, userId, productId, 1);
+            userCart.productIds.add(productId);
+            userCart.pendingChanges.put(productId, 1);
+            VersionStamps.getInstance().bumpCart(userId);
+
+            return true;
+        });
+    }
+
+    /**
+     * <p>
+     * Removes the product from the cart of the user. The cart table is updated in the background.
+     * </p>
+     *
+     * @param productId Refers the id of the product to be removed from the cart.
+     * @param userId Refers the user id.
+     */
+    @Override
+    public void removeItem(final int productId, final int userId) {
+        if (Objects.isNull(flushExecutor)) {
+            cartDAO.removeItem(productId, userId);
+
+            return;
+        }
+        change(userId, userCart -> {
+            append(REMOVE, userId, productId, CartTable.REMOVED);
+            getProductIds(userId, userCart).remove(productId);
+            userCart.pendingChanges.put(productId, CartTable.REMOVED);
+            VersionStamps.getInstance().bumpCart(userId);
+
+            return true;
+        });
+    }
+
+    /**
+     * <p>
+     * Changes the quantity of the product in the cart of the user. The cart table is updated in the background.
+     * </p>
+     *
+     * @param productId Refers the id of the product in the cart.
+     * @param userId Refers the user id.
+     * @param quantity Refers the quantity to be ordered.
+     * @return true if the product is in the cart.
+     */
+    @Override
+    public boolean updateQuantity(final int productId, final int userId, final int quantity) {
+        if (Objects.isNull(flushExecutor)) {
+            return cartDAO.updateQuantity(productId, userId, quantity);
+        }
+
+        return change(userId, userCart -> {
+            if (!getProductIds(userId, userCart).contains(productId)) {
+                return false;
+            }
+            append(ADD, userId, productId, quantity);
+            userCart.pendingChanges.put(productId, quantity);
+            VersionStamps.getInstance().bumpCart(userId);
+
+            return true;
+        });
+    }
+
+    /**
+     * <p>
+     * Writes the pending changes of the user and gets the cart of the user.
+     * </p>
+     *
+     * @param userId Refers the user id.
+     * @return {@link Cart} of the user.
+     */
+    @Override
+    public Cart getCart(final int userId) {
+        flush(userId);
+
+        return cartDAO.getCart(userId);
+    }
+
+    /**
+     * <p>
+     * Writes the pending changes of the user and gets a page of the cart of the user.
+     * </p>
+     *
+     * @param userId Refers the user id.
+     * @param afterProductId Refers the id of the last product of the previous page, zero for the first page.
+     * @param limit Refers the limit of data to show.
+     * @return {@link Cart} of the user with the products after the given product.
+     */
+    @Override
+    public Cart getCart(final int userId, final int afterProductId, final int limit) {
+        flush(userId);
+
+        return cartDAO.getCart(userId, afterProductId, limit);
+    }
+
+    /**
+     * <p>
+     * Writes the pending changes of the given user to the cart table. Waits for a flush of the cart already in
+     * progress, so every change made before the call is written when it returns.
+     * </p>
+     *
+     * @param userId Refers the user id.
+     */
+    @Override
+    public void flush(final int userId) {
+        final UserCart userCart = userCarts.get(userId);
+
+        if (Objects.nonNull(userCart)) {
+            flush(Map.of(userId, userCart));
+        }
+    }
+
+    /**
+     * <p>
+     * Forgets the products known to be in the cart of the user, so they are read again from the cart table. Used
+     * when the cart table is changed outside this store, as on checkout, which also changes the version of the cart.
+     * </p>
+     *
+     * @param userId Refers the user id.
+     */
+    @Override
+    public void invalidate(final int userId) {
+        final UserCart userCart = userCarts.get(userId);
+
+        if (Objects.nonNull(userCart)) {
+            synchronized (userCart) {
+                userCart.productIds = null;
+            }
+        }
+        VersionStamps.getInstance().bumpCart(userId);
+    }
+
+    /**
+     * <p>
+     * Writes the pending changes of all the users to the cart table and forgets the carts which are idle.
+     * </p>
+     */
+    void flushAll() {
+        try {
+            flush(userCarts);
+            userCarts.values().removeIf(userCart -> userCart.evictIfIdle(flushMillis * 10));
+        } catch (final RuntimeException exception) {
+            LOGGER.error(String.format("Cart changes can't be written - %s", exception.getMessage()));
+        }
+    }
+
+    /**
+     * <p>
+     * Applies the given change to the cart of the user, holding the read lock of the journal and the lock of the
+     * cart. A cart forgotten meanwhile is replaced by a new one, so no change is applied to a cart which is no
+     * longer written.
+     * </p>
+     *
+     * @param userId Refers the user id.
+     * @param change Refers the change of the cart, which appends it to the journal.
+     * @return the result of the change.
+     */
+    private boolean change(final int userId, final Predicate<UserCart> change) {
+        journalLock.readLock().lock();
+
+        try {
+            while (true) {
+                final UserCart userCart = userCarts.computeIfAbsent(userId, key -> new UserCart());
+
+                synchronized (userCart) {
+                    if (!userCart.evicted) {
+                        return change.test(userCart);
+                    }
+                }
+                Thread.onSpinWait();
+            }
+        } finally {
+            journalLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * <p>
+     * Writes the pending changes of the given carts to the cart table in a single transaction. Holds the flush lock
+     * of every cart, taken in the order of the user ids, until the transaction ends. The changes are kept to be
+     * written again when the transaction fails, unless they are replaced by newer changes meanwhile.
+     * </p>
+     *
+     * @param carts Refers the carts of the users.
+     */
+    private void flush(final Map<Integer, UserCart> carts) {
+        final Map<Integer, UserCart> lockedCarts = new TreeMap<>(carts);
+        final Map<Integer, Map<Integer, Integer>> changes = new LinkedHashMap<>();
+        boolean written = false;
+
+        lockedCarts.values().forEach(userCart -> userCart.flushLock.lock());
+
+        try {
+            lockedCarts.forEach((userId, userCart) -> {
+                synchronized (userCart) {
+                    if (!userCart.pendingChanges.isEmpty()) {
+                        userCart.flushingChanges = userCart.pendingChanges;
+                        userCart.pendingChanges = new LinkedHashMap<>();
+                        changes.put(userId, userCart.flushingChanges);
+                    }
+                }
+            });
+
+            if (changes.isEmpty()) {
+                return;
+            }
+
+            try {
+                final long startTime = System.nanoTime();
+                final int count = cartTable.write(changes);
+
+                written = true;
+                LOGGER.debug(String.format("Cart changes written - %d changes of %d users in %d ms", count,
+                        changes.size(), (System.nanoTime() - startTime) / 1_000_000));
+            } catch (final SQLException exception) {
+                LOGGER.warn(String.format("Cart changes of %d users can't be written - %s", changes.size(),
+                        exception.getMessage()));
+            } finally {
+                for (final Integer userId : changes.keySet()) {
+                    final UserCart userCart = lockedCarts.get(userId);
+
+                    synchronized (userCart) {
+                        if (!written) {
+                            userCart.flushingChanges.forEach(userCart.pendingChanges::putIfAbsent);
+                        }
+                        userCart.flushingChanges = Map.of();
+                    }
+                }
+            }
+        } finally {
+            lockedCarts.values().forEach(userCart -> userCart.flushLock.unlock());
+        }
+
+        if (written) {
+            compactJournal();
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the products in the cart of the user, reading them from the cart table the first time. The changes not
+     * yet written are applied over the products read.
+     * </p>
+     *
+     * @param userId Refers the user id.
+     * @param userCart Refers the cart of the user, locked by the caller.
+     * @return the ids of the products in the cart.
+     */
+    private Set<Integer> getProductIds(final int userId, final UserCart userCart) {
+        userCart.lastAccessTime = System.nanoTime();
+
+        if (Objects.nonNull(userCart.productIds)) {
+            return userCart.productIds;
+        }
+        final Set<Integer> productIds;
+
+        try {
+            productIds = cartTable.getProductIds(userId);
+        } catch (final SQLException exception) {
+            throw new ItemNotFoundException(exception.getMessage());
+        }
+
+        for (final Map<Integer, Integer> changes : List.of(userCart.flushingChanges, userCart.pendingChanges)) {
+            changes.forEach((productId, quantity) -> {
+                if (CartTable.REMOVED != quantity) {
+                    productIds.add(productId);
+                } else {
+                    productIds.remove(productId);
+                }
+            });
+        }
+
+        return userCart.productIds = productIds;
+    }
+
+    /**
+     * <p>
+     * Appends the change to the journal and forces it to the disk. Called with the read lock of the journal held.
+     * </p>
+     *
+     * @param operation Refers the operation, ADD or REMOVE.
+     * @param userId Refers the user id.
+     * @param productId Refers the product id.
+     * @param quantity Refers the quantity of the product in the cart, zero when it is removed.
+     */
+    private void append(final String operation, final int userId, final int productId, final int quantity) {
+        final ByteBuffer record = ByteBuffer.wrap(String.format("%s,%d,%d,%d%n", operation, userId, productId,
+                quantity).getBytes(StandardCharsets.UTF_8));
+
+        if (Objects.isNull(journal)) {
+            throw new ItemNotFoundException("Cart change can't be journaled, the cart store is stopped");
+        }
+
+        try {
+            while (record.hasRemaining()) {
+                journal.write(record);
+            }
+            journal.force(false);
+        } catch (final IOException exception) {
+            throw new ItemNotFoundException(String.format("Cart change can't be journaled - %s",
+                    exception.getMessage()));
+        }
+    }
+
+    /**
+     * <p>
+     * Rewrites the journal with only the changes which are not yet written to the cart table.
+     * </p>
+     */
+    private void compactJournal() {
+        journalLock.writeLock().lock();
+
+        try {
+            if (Objects.isNull(journal)) {
+                return;
+            }
+            final List<String> records = new ArrayList<>();
+
+            userCarts.forEach((userId, userCart) -> {
+                synchronized (userCart) {
+                    for (final Map<Integer, Integer> changes : List.of(userCart.flushingChanges,
+                            userCart.pendingChanges)) {
+                        changes.forEach((productId, quantity) -> records.add(String.format("%s,%d,%d,%d",
+                                CartTable.REMOVED != quantity ? ADD : REMOVE, userId, productId, quantity)));
+                    }
+                }
+            });
+            final Path compactedPath = journalPath.resolveSibling(journalPath.getFileName() + ".tmp");
+
+            try (FileChannel compacted = FileChannel.open(compactedPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                final ByteBuffer content = ByteBuffer.wrap(records.isEmpty() ? new byte[0]
+                        : (String.join(System.lineSeparator(), records) + System.lineSeparator())
+                                .getBytes(StandardCharsets.UTF_8));
+
+                while (content.hasRemaining()) {
+                    compacted.write(content);
+                }
+                compacted.force(true);
+            }
+            journal.close();
+            Files.move(compactedPath, journalPath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        } catch (final IOException exception) {
+            LOGGER.warn(String.format("Cart journal %s can't be compacted - %s", journalPath,
+                    exception.getMessage()));
+        } finally {
+            journalLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * <p>
+     * Reads the changes left in the journal by the previous run as pending changes. Records written before the
+     * quantity was journaled add the product with a quantity of one.
+     * </p>
+     */
+    private void replay() throws IOException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        int count = 0;
+
+        for (final String record : Files.readAllLines(journalPath, StandardCharsets.UTF_8)) {
+            final String[] fields = record.strip().split(",");
+
+            if (3 != fields.length && 4 != fields.length) {
+                continue;
+            }
+
+            try {
+                final int userId = Integer.parseInt(fields[1]);
+                final int productId = Integer.parseInt(fields[2]);
+                final int quantity = 4 == fields.length ? Integer.parseInt(fields[3]) : 1;
+
+                userCarts.computeIfAbsent(userId, key -> new UserCart()).pendingChanges
+                        .put(productId, ADD.equals(fields[0]) ? quantity : CartTable.REMOVED);
+                count++;
+            } catch (final NumberFormatException exception) {
+                LOGGER.warn(String.format("Invalid cart journal record : %s", record));
+            }
+        }
+        LOGGER.info(String.format("Cart journal replayed - %d changes recovered", count));
+    }
+
+    /**
+     * <p>
+     * Represents the cart of a user with the changes not yet written to the cart table.
+     * </p>
+     */
+    private static class UserCart {
+
+        private final Lock flushLock = new ReentrantLock();
+        private Set<Integer> productIds;
+        private Map<Integer, Integer> pendingChanges = new LinkedHashMap<>();
+        private Map<Integer, Integer> flushingChanges = Map.of();
+        private long lastAccessTime = System.nanoTime();
+        private boolean evicted;
+
+        /**
+         * <p>
+         * Marks the cart as forgotten if it has no changes to be written and was not used for the given time.
+         * </p>
+         *
+         * @param idleMillis Refers the idle time in milliseconds.
+         * @return true if the cart can be forgotten.
+         */
+        private synchronized boolean evictIfIdle(final long idleMillis) {
+            evicted = pendingChanges.isEmpty() && flushingChanges.isEmpty()
+                    && System.nanoTime() - lastAccessTime > TimeUnit.MILLISECONDS.toNanos(idleMillis);
+
+            return evicted;
+        }
+    }
+}
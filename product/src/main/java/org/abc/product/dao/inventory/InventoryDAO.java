@@ -3,7 +3,11 @@ package org.abc.product.dao.inventory;
 import org.abc.product.ProductCategory;
 import org.abc.product.model.product.Product;
 
+import java.io.Reader;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * <p>
@@ -24,6 +28,17 @@ public interface InventoryDAO {
      */
     void addItem(final List<Product> products);
 
+    /**
+     * <p>
+     * Streams the products of the given catalog into the inventory.
+     * </p>
+     *
+     * @param productCategory Refers the category of the products in the catalog.
+     * @param reader Refers the reader of the catalog.
+     * @return the number of products added to the inventory.
+     */
+    int loadItems(final ProductCategory productCategory, final Reader reader);
+
     /**
      * <p>
      * Removes the product from the inventory.
@@ -33,6 +48,24 @@ public interface InventoryDAO {
      */
     void removeItem(final int productId);
 
+    /**
+     * <p>
+     * Updates the price and quantity of the given products in the inventory, found by their natural key.
+     * </p>
+     *
+     * @param products Refers the {@link Product} to be updated.
+     */
+    void updateItems(final List<Product> products);
+
+    /**
+     * <p>
+     * Removes the given products from the inventory, found by their natural key.
+     * </p>
+     *
+     * @param products Refers the {@link Product} to be removed.
+     */
+    void removeItems(final List<Product> products);
+
     /**
      * <p>
      * Gets all the products from the inventory based on the category and returns it.
@@ -45,13 +78,38 @@ public interface InventoryDAO {
 
     /**
      * <p>
-     * Gets all the products from the inventory based on the category and returns it.
+     * Gets all the products of the given categories from the inventory in a single query and returns them grouped
+     * by category.
+     * </p>
+     *
+     * @param productCategories Refers the product categories.
+     * @return the {@link Product} of every given category, ordered by their id.
+     */
+    Map<ProductCategory, List<Product>> getItems(final Set<ProductCategory> productCategories);
+
+    /**
+     * <p>
+     * Gets a page of the products from the inventory based on the category, ordered by their id.
      * </p>
      *
      * @param productCategory Refers the product Category.
+     * @param afterId Refers the id of the last product of the previous page, zero for the first page.
      * @param limit Refers the limit of data to show.
-     * @param page Refers the page number.
-     * @return all the {@link Product} from the inventory.
+     * @return the {@link Product} from the inventory after the given product.
+     */
+    List<? extends Product> getItemsByCategory(final ProductCategory productCategory, final int afterId, final int limit);
+
+    /**
+     * <p>
+     * Passes a page of the products from the inventory based on the category, ordered by their id, to the given
+     * consumer one row at a time.
+     * </p>
+     *
+     * @param productCategory Refers the product Category.
+     * @param afterId Refers the id of the last product of the previous page, zero for the first page.
+     * @param limit Refers the limit of data to show.
+     * @param consumer Refers the consumer of each {@link Product}.
      */
-    List<? extends Product> getItemsByCategory(final ProductCategory productCategory, final int page, final int limit);
+    void streamItemsByCategory(final ProductCategory productCategory, final int afterId, final int limit,
+                               final Consumer<? super Product> consumer);
 }
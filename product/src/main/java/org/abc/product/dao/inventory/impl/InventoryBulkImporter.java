@@ -0,0 +1,319 @@
+package org.abc.product.dao.inventory.impl;
+
+import org.abc.product.dao.schema.SchemaMigration;
+import org.abc.product.exceptions.ItemAdditionFailedException;
+import org.abc.product.exceptions.ItemRemovalFailedException;
+import org.abc.product.exceptions.ItemUpdateFailedException;
+import org.abc.product.model.product.Clothes;
+import org.abc.product.model.product.Laptop;
+import org.abc.product.model.product.Mobile;
+import org.abc.product.model.product.Product;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Imports products into the inventory in bulk. Duplicates are skipped by the database on the natural key of the
+ * product, parent and child rows are inserted together by a single batched statement per category and the import
+ * is committed in chunks. The child row is inserted first with an id taken from the product sequence, and the
+ * parent row only when the child row was inserted, so a duplicate never leaves an orphaned product. Products can
+ * also be updated and removed in bulk by their natural key.
+ * </p>
+ *
+ * <p>
+ * The natural keys are enforced by the unique indexes created by {@link SchemaMigration} when the bundle starts.
+ * The conflicts name the natural keys, so a missing index fails the import instead of inserting duplicates.
+ * </p>
+ *
+ * <p>
+ * The chunk size can be configured with the {@code org.abc.product.import.chunkSize} system property.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class InventoryBulkImporter {
+
+    private static InventoryBulkImporter inventoryBulkImporter;
+    private static final Logger LOGGER = LogManager.getLogger(InventoryBulkImporter.class);
+    private static final String CHUNK_SIZE_PROPERTY = "org.abc.product.import.chunkSize";
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+    private static final String ELECTRONICS_QUERY = String.join(" ",
+            "with new_id as (select nextval(pg_get_serial_sequence('product', 'id'))::integer as id",
+            "where not exists (select 1 from electronics_inventory where product_category_id = ? and brand = ?",
+            "and model = ?)),",
+            "new_item as (insert into electronics_inventory (product_id, product_category_id, brand, model)",
+            "select id, ?, ?, ? from new_id",
+            "on conflict (product_category_id, brand, model) do nothing returning product_id)",
+            "insert into product (id, product_category_id, price, quantity) select product_id, ?, ?, ? from new_item");
+    private static final String CLOTHES_QUERY = String.join(" ",
+            "with new_id as (select nextval(pg_get_serial_sequence('product', 'id'))::integer as id",
+            "where not exists (select 1 from clothes_inventory where brand = ? and clothes_type = ? and gender = ?",
+            "and size = ?)),",
+            "new_item as (insert into clothes_inventory (product_id, brand, clothes_type, gender, size)",
+            "select id, ?, ?, ?, ? from new_id",
+            "on conflict (brand, clothes_type, gender, size) do nothing returning product_id)",
+            "insert into product (id, product_category_id, price, quantity) select product_id, ?, ?, ? from new_item");
+    private static final String ELECTRONICS_UPDATE = String.join(" ",
+            "update product p set price = ?, quantity = ? from electronics_inventory e",
+            "where e.product_id = p.id and p.product_category_id = ? and e.brand = ? and e.model = ?");
+    private static final String CLOTHES_UPDATE = String.join(" ",
+            "update product p set price = ?, quantity = ? from clothes_inventory c",
+            "where c.product_id = p.id and p.product_category_id = ? and c.brand = ? and c.clothes_type = ?",
+            "and c.gender = ? and c.size = ?");
+    private static final String ELECTRONICS_REMOVE = String.join(" ",
+            "delete from product p using electronics_inventory e",
+            "where e.product_id = p.id and p.product_category_id = ? and e.brand = ? and e.model = ?");
+    private static final String CLOTHES_REMOVE = String.join(" ",
+            "delete from product p using clothes_inventory c",
+            "where c.product_id = p.id and p.product_category_id = ? and c.brand = ? and c.clothes_type = ?",
+            "and c.gender = ? and c.size = ?");
+
+    /**
+     * <p>
+     * Default constructor of the InventoryBulkImporter class. Kept private to restrict from creating object from
+     * outside of this class.
+     * </p>
+     */
+    private InventoryBulkImporter() {}
+
+    /**
+     * <p>
+     * Creates a single object of InventoryBulkImporter Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of InventoryBulkImporter Class.
+     */
+    public static InventoryBulkImporter getInstance() {
+        return Objects.isNull(inventoryBulkImporter) ? inventoryBulkImporter = new InventoryBulkImporter()
+                : inventoryBulkImporter;
+    }
+
+    /**
+     * <p>
+     * Imports the given products with the given connection. Products already in the inventory are skipped.
+     * </p>
+     *
+     * @param connection Refers the connection to the database.
+     * @param products Refers the {@link Product} to be imported.
+     * @return the number of products inserted.
+     */
+    public int importItems(final Connection connection, final List<? extends Product> products) {
+        final int chunkSize = Math.max(1, Integer.getInteger(CHUNK_SIZE_PROPERTY, DEFAULT_CHUNK_SIZE));
+        final long startTime = System.nanoTime();
+        int insertedCount = 0;
+
+        try {
+            final boolean autoCommit = connection.getAutoCommit();
+
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement lockStatement = connection
+                    .prepareStatement("select pg_advisory_xact_lock(hashtext('inventory_import'))");
+                 PreparedStatement electronicsStatement = connection.prepareStatement(ELECTRONICS_QUERY);
+                 PreparedStatement clothesStatement = connection.prepareStatement(CLOTHES_QUERY)) {
+
+                for (int from = 0; from < products.size(); from += chunkSize) {
+                    final List<? extends Product> chunk = products.subList(from,
+                            Math.min(products.size(), from + chunkSize));
+
+                    lockStatement.execute();
+
+                    for (final Product product : chunk) {
+                        switch (product.getProductCategory()) {
+                            case MOBILE, LAPTOP -> addElectronics(electronicsStatement, product);
+                            case CLOTHES -> addClothes(clothesStatement, (Clothes) product);
+                        }
+                    }
+                    insertedCount += count(electronicsStatement.executeBatch());
+                    insertedCount += count(clothesStatement.executeBatch());
+                    connection.commit();
+                }
+            } catch (final SQLException exception) {
+                connection.rollback();
+                throw exception;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (final SQLException exception) {
+            LOGGER.warn(String.format("Inventory import failed after %d products", insertedCount));
+            throw new ItemAdditionFailedException(exception.getMessage());
+        }
+        final long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+
+        LOGGER.info(String.format("Inventory import - %d of %d products inserted in %d ms (%.1f rows/sec)",
+                insertedCount, products.size(), elapsedMillis, products.size() * 1000.0 / elapsedMillis));
+
+        return insertedCount;
+    }
+
+    /**
+     * <p>
+     * Updates the price and quantity of the given products, found by their natural key.
+     * </p>
+     *
+     * @param connection Refers the connection to the database.
+     * @param products Refers the {@link Product} to be updated.
+     * @return the number of products updated.
+     */
+    public int updateItems(final Connection connection, final List<? extends Product> products) {
+        try {
+            return executeByNaturalKey(connection, products, ELECTRONICS_UPDATE, CLOTHES_UPDATE, true);
+        } catch (final SQLException exception) {
+            LOGGER.warn(String.format("%d products can't be updated in the inventory", products.size()));
+            throw new ItemUpdateFailedException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Removes the given products, found by their natural key.
+     * </p>
+     *
+     * @param connection Refers the connection to the database.
+     * @param products Refers the {@link Product} to be removed.
+     * @return the number of products removed.
+     */
+    public int removeItems(final Connection connection, final List<? extends Product> products) {
+        try {
+            return executeByNaturalKey(connection, products, ELECTRONICS_REMOVE, CLOTHES_REMOVE, false);
+        } catch (final SQLException exception) {
+            LOGGER.warn(String.format("%d products can't be removed from the inventory", products.size()));
+            throw new ItemRemovalFailedException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Executes the given statements for every product, found by its natural key, in a single transaction.
+     * </p>
+     *
+     * @param connection Refers the connection to the database.
+     * @param products Refers the {@link Product} to be changed.
+     * @param electronicsQuery Refers the query for mobiles and laptops.
+     * @param clothesQuery Refers the query for clothes.
+     * @param withPriceAndQuantity Refers whether the query starts with the price and quantity parameters.
+     * @return the number of products changed.
+     * @throws SQLException when the products can't be changed.
+     */
+    private int executeByNaturalKey(final Connection connection, final List<? extends Product> products,
+                                    final String electronicsQuery, final String clothesQuery,
+                                    final boolean withPriceAndQuantity) throws SQLException {
+        final boolean autoCommit = connection.getAutoCommit();
+
+        connection.setAutoCommit(false);
+
+        try (PreparedStatement electronicsStatement = connection.prepareStatement(electronicsQuery);
+             PreparedStatement clothesStatement = connection.prepareStatement(clothesQuery)) {
+            for (final Product product : products) {
+                final PreparedStatement preparedStatement = product instanceof Clothes ? clothesStatement
+                        : electronicsStatement;
+                int index = 1;
+
+                if (withPriceAndQuantity) {
+                    preparedStatement.setFloat(index++, product.getPrice());
+                    preparedStatement.setInt(index++, product.getQuantity());
+                }
+                preparedStatement.setInt(index++, product.getProductCategory().getId());
+                preparedStatement.setString(index++, product.getBrandName());
+
+                if (product instanceof Clothes clothes) {
+                    preparedStatement.setString(index++, clothes.getClothesType());
+                    preparedStatement.setString(index++, clothes.getGender());
+                    preparedStatement.setString(index, clothes.getSize());
+                } else {
+                    preparedStatement.setString(index, product instanceof Mobile
+                            ? ((Mobile) product).getModel() : ((Laptop) product).getModel());
+                }
+                preparedStatement.addBatch();
+            }
+            final int changedCount = count(electronicsStatement.executeBatch())
+                    + count(clothesStatement.executeBatch());
+
+            connection.commit();
+
+            return changedCount;
+        } catch (final SQLException exception) {
+            connection.rollback();
+            throw exception;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * <p>
+     * Adds the given mobile or laptop to the batch.
+     * </p>
+     *
+     * @param preparedStatement Refers the statement of the electronics batch.
+     * @param product Refers the {@link Product} to be added.
+     * @throws SQLException when the parameters can't be set.
+     */
+    private void addElectronics(final PreparedStatement preparedStatement, final Product product) throws SQLException {
+        final String model = product instanceof Mobile ? ((Mobile) product).getModel() : ((Laptop) product).getModel();
+
+        preparedStatement.setInt(1, product.getProductCategory().getId());
+        preparedStatement.setString(2, product.getBrandName());
+        preparedStatement.setString(3, model);
+        preparedStatement.setInt(4, product.getProductCategory().getId());
+        preparedStatement.setString(5, product.getBrandName());
+        preparedStatement.setString(6, model);
+        preparedStatement.setInt(7, product.getProductCategory().getId());
+        preparedStatement.setFloat(8, product.getPrice());
+        preparedStatement.setInt(9, product.getQuantity());
+        preparedStatement.addBatch();
+    }
+
+    /**
+     * <p>
+     * Adds the given clothes to the batch.
+     * </p>
+     *
+     * @param preparedStatement Refers the statement of the clothes batch.
+     * @param clothes Refers the {@link Clothes} to be added.
+     * @throws SQLException when the parameters can't be set.
+     */
+    private void addClothes(final PreparedStatement preparedStatement, final Clothes clothes) throws SQLException {
+        preparedStatement.setString(1, clothes.getBrandName());
+        preparedStatement.setString(2, clothes.getClothesType());
+        preparedStatement.setString(3, clothes.getGender());
+        preparedStatement.setString(4, clothes.getSize());
+        preparedStatement.setString(5, clothes.getBrandName());
+        preparedStatement.setString(6, clothes.getClothesType());
+        preparedStatement.setString(7, clothes.getGender());
+        preparedStatement.setString(8, clothes.getSize());
+        preparedStatement.setInt(9, clothes.getProductCategory().getId());
+        preparedStatement.setFloat(10, clothes.getPrice());
+        preparedStatement.setInt(11, clothes.getQuantity());
+        preparedStatement.addBatch();
+    }
+
+    /**
+     * <p>
+     * Counts the rows inserted by the given batch.
+     * </p>
+     *
+     * @param updateCounts Refers the update counts of the batch.
+     * @return the number of inserted rows.
+     */
+    private int count(final int[] updateCounts) {
+        int count = 0;
+
+        for (final int updateCount : updateCounts) {
+            if (updateCount > 0 || updateCount == Statement.SUCCESS_NO_INFO) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,235 @@
+package org.abc.product.dao.inventory.impl;
+
+import org.abc.product.ProductCategory;
+import org.abc.product.exceptions.ItemAdditionFailedException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Loads catalog files into the inventory with the COPY protocol of PostgreSQL. The file is streamed line by line
+ * into a staging table and merged into the inventory with a single statement, so memory use doesn't grow with
+ * the size of the file.
+ * </p>
+ *
+ * <p>
+ * Accepts both the bundled properties files ({@code key=value} lines) and plain CSV files with the same columns.
+ * Blank lines and lines starting with {@code #} or {@code !} are skipped.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class InventoryCopyLoader {
+
+    private static InventoryCopyLoader inventoryCopyLoader;
+    private static final Logger LOGGER = LogManager.getLogger(InventoryCopyLoader.class);
+    private static final String ELECTRONICS_STAGING = String.join(" ",
+            "create temporary table electronics_staging (brand text, model text, price real, quantity integer)",
+            "on commit drop");
+    private static final String CLOTHES_STAGING = String.join(" ",
+            "create temporary table clothes_staging (clothes_type text, gender text, size text, price real,",
+            "brand text, quantity integer) on commit drop");
+    private static final String ELECTRONICS_COPY =
+            "copy electronics_staging (brand, model, price, quantity) from stdin with (format csv)";
+    private static final String CLOTHES_COPY =
+            "copy clothes_staging (clothes_type, gender, size, price, brand, quantity) from stdin with (format csv)";
+    private static final String ELECTRONICS_MERGE = String.join(" ",
+            "with fresh as (select distinct on (s.brand, s.model) s.brand, s.model, s.price, s.quantity",
+            "from electronics_staging s where not exists (select 1 from electronics_inventory e",
+            "where e.product_category_id = ? and e.brand = s.brand and e.model = s.model)),",
+            "numbered as (select nextval(pg_get_serial_sequence('product', 'id'))::integer as id, fresh.* from fresh),",
+            "new_item as (insert into electronics_inventory (product_id, product_category_id, brand, model)",
+            "select id, ?, brand, model from numbered",
+            "on conflict (product_category_id, brand, model) do nothing returning product_id)",
+            "insert into product (id, product_category_id, price, quantity)",
+            "select n.id, ?, n.price, n.quantity from numbered n join new_item i on i.product_id = n.id");
+    private static final String CLOTHES_MERGE = String.join(" ",
+            "with fresh as (select distinct on (s.brand, s.clothes_type, s.gender, s.size) s.brand, s.clothes_type,",
+            "s.gender, s.size, s.price, s.quantity from clothes_staging s where not exists (select 1",
+            "from clothes_inventory c where c.brand = s.brand and c.clothes_type = s.clothes_type",
+            "and c.gender = s.gender and c.size = s.size)),",
+            "numbered as (select nextval(pg_get_serial_sequence('product', 'id'))::integer as id, fresh.* from fresh),",
+            "new_item as (insert into clothes_inventory (product_id, brand, clothes_type, gender, size)",
+            "select id, brand, clothes_type, gender, size from numbered",
+            "on conflict (brand, clothes_type, gender, size) do nothing returning product_id)",
+            "insert into product (id, product_category_id, price, quantity)",
+            "select n.id, ?, n.price, n.quantity from numbered n join new_item i on i.product_id = n.id");
+
+    /**
+     * <p>
+     * Default constructor of the InventoryCopyLoader class. Kept private to restrict from creating object from
+     * outside of this class.
+     * </p>
+     */
+    private InventoryCopyLoader() {}
+
+    /**
+     * <p>
+     * Creates a single object of InventoryCopyLoader Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of InventoryCopyLoader Class.
+     */
+    public static InventoryCopyLoader getInstance() {
+        return Objects.isNull(inventoryCopyLoader) ? inventoryCopyLoader = new InventoryCopyLoader()
+                : inventoryCopyLoader;
+    }
+
+    /**
+     * <p>
+     * Streams the given catalog into the inventory with the given connection. Products already in the inventory
+     * are skipped.
+     * </p>
+     *
+     * @param connection Refers the connection to the database.
+     * @param productCategory Refers the category of the products in the catalog.
+     * @param reader Refers the reader of the catalog.
+     * @return the number of products added to the inventory.
+     */
+    public int load(final Connection connection, final ProductCategory productCategory, final Reader reader) {
+        final long startTime = System.nanoTime();
+        final boolean electronics = productCategory != ProductCategory.CLOTHES;
+        final long copiedCount;
+        final int mergedCount;
+
+        try {
+            final boolean autoCommit = connection.getAutoCommit();
+
+            connection.setAutoCommit(false);
+
+            try (Statement statement = connection.createStatement();
+                 PreparedStatement mergeStatement = connection
+                         .prepareStatement(electronics ? ELECTRONICS_MERGE : CLOTHES_MERGE)) {
+                statement.execute("select pg_advisory_xact_lock(hashtext('inventory_import'))");
+                statement.execute(electronics ? ELECTRONICS_STAGING : CLOTHES_STAGING);
+                final CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+
+                copiedCount = copyManager.copyIn(electronics ? ELECTRONICS_COPY : CLOTHES_COPY,
+                        new CatalogLineReader(reader));
+                final int categoryParameterCount = electronics ? 3 : 1;
+
+                for (int index = 1; index <= categoryParameterCount; index++) {
+                    mergeStatement.setInt(index, productCategory.getId());
+                }
+                mergedCount = mergeStatement.executeUpdate();
+                connection.commit();
+            } catch (final SQLException | IOException exception) {
+                connection.rollback();
+                throw exception;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (final SQLException | IOException exception) {
+            LOGGER.warn(String.format("%s catalog can't be loaded into the inventory", productCategory));
+            throw new ItemAdditionFailedException(exception.getMessage());
+        }
+        final long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+
+        LOGGER.info(String.format("%s catalog - %d rows copied, %d products added in %d ms (%.1f rows/sec)",
+                productCategory, copiedCount, mergedCount, elapsedMillis, copiedCount * 1000.0 / elapsedMillis));
+
+        return mergedCount;
+    }
+
+    /**
+     * <p>
+     * Reads a catalog line by line and passes on only the CSV values. Skips blank and comment lines and strips the
+     * key of properties lines.
+     * </p>
+     */
+    private static class CatalogLineReader extends Reader {
+
+        private final BufferedReader bufferedReader;
+        private String line = "";
+        private int position;
+
+        /**
+         * <p>
+         * Constructs the CatalogLineReader object.
+         * </p>
+         *
+         * @param reader Refers the reader of the catalog.
+         */
+        private CatalogLineReader(final Reader reader) {
+            this.bufferedReader = reader instanceof BufferedReader ? (BufferedReader) reader
+                    : new BufferedReader(reader);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read(final char[] buffer, final int offset, final int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+
+            while (position >= line.length()) {
+                final String nextLine = nextLine();
+
+                if (Objects.isNull(nextLine)) {
+                    return -1;
+                }
+                line = nextLine;
+                position = 0;
+            }
+            final int count = Math.min(length, line.length() - position);
+
+            line.getChars(position, position + count, buffer, offset);
+            position += count;
+
+            return count;
+        }
+
+        /**
+         * <p>
+         * Gets the values of the next catalog line ending with a line break.
+         * </p>
+         *
+         * @return the values of the line, or null at the end of the catalog.
+         * @throws IOException when the catalog can't be read.
+         */
+        private String nextLine() throws IOException {
+            String nextLine;
+
+            while (Objects.nonNull(nextLine = bufferedReader.readLine())) {
+                final String trimmedLine = nextLine.strip();
+
+                if (trimmedLine.isEmpty() || trimmedLine.startsWith("#") || trimmedLine.startsWith("!")) {
+                    continue;
+                }
+                final int separator = trimmedLine.indexOf('=');
+
+                if (separator >= 0 && trimmedLine.lastIndexOf(',', separator) < 0) {
+                    return trimmedLine.substring(separator + 1).strip() + "\n";
+                }
+
+                return trimmedLine + "\n";
+            }
+
+            return null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void close() throws IOException {
+            bufferedReader.close();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.abc.dbconnection.connection.DBConnection;
 import org.abc.product.exceptions.ItemAdditionFailedException;
 import org.abc.product.exceptions.ItemNotFoundException;
 import org.abc.product.exceptions.ItemRemovalFailedException;
+import org.abc.product.exceptions.ItemUpdateFailedException;
 import org.abc.product.model.product.Product;
 import org.abc.product.model.product.Clothes;
 import org.abc.product.model.product.Laptop;
@@ -14,14 +15,18 @@ import org.abc.product.model.product.Mobile;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.Reader;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * <p>
@@ -34,8 +39,10 @@ import java.util.Objects;
 public class InventoryDAOImpl implements InventoryDAO {
 
     private static InventoryDAOImpl inventoryDAO;
-    private final Connection connection = DBConnection.getConnection();
     private static final Logger LOGGER = LogManager.getLogger(InventoryDAOImpl.class);
+    private static final int FETCH_SIZE = 100;
+    private static final int STREAM_TIMEOUT_SECONDS = Math.max(1,
+            Integer.getInteger("org.abc.product.stream.timeoutSeconds", 30));
 
     /**
      * <p>
@@ -64,56 +71,30 @@ public class InventoryDAOImpl implements InventoryDAO {
      */
     @Override
     public void addItem(final List<Product> products) {
-        int productId;
-        final HashSet<Product> allProducts = new HashSet<>();
-
-        allProducts.addAll(getMobileItems());
-        allProducts.addAll(getLaptopItems());
-        allProducts.addAll(getClothesItems());
-
-        for (final Product product : products) {
-            if (allProducts.contains(product)) {
-                continue;
-            }
-
-            try (PreparedStatement preparedStatement = connection
-                    .prepareStatement("insert into product (product_category_id, price, quantity) values(?,?,?) returning id")) {
-                preparedStatement.setInt(1, product.getProductCategory().getId());
-                preparedStatement.setFloat(2, product.getPrice());
-                preparedStatement.setFloat(3, product.getQuantity());
-
-                final ResultSet resultSet = preparedStatement.executeQuery();
-
-                resultSet.next();
-                productId = resultSet.getInt(1) ;
-            } catch (SQLException exception) {
+        try (Connection connection = DBConnection.getConnection()) {
+            InventoryBulkImporter.getInstance().importItems(connection, products);
+        } catch (final SQLException exception) {
+            LOGGER.warn("Items can't be added to the inventory");
+            throw new ItemAdditionFailedException(exception.getMessage());
+        }
+    }
 
-                throw new ItemAdditionFailedException(exception.getMessage());
-            }
-            final String query = switch (product.getProductCategory()) {
-                case MOBILE, LAPTOP -> "insert into electronics_inventory(product_id, brand, model) values(?, ?, ?)";
-                case CLOTHES -> "insert into clothes_inventory(product_id, brand, clothes_type, gender, size) values(?, ?, ?, ?, ?)";
-            };
-
-            try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-                preparedStatement.setInt(1, productId);
-                preparedStatement.setString(2, product.getBrandName());
-
-                switch (product.getProductCategory()) {
-                    case MOBILE -> preparedStatement.setString(3, ((Mobile) product).getModel());
-                    case LAPTOP -> preparedStatement.setString(3, ((Laptop) product).getModel());
-                    case CLOTHES -> {
-                        preparedStatement.setString(3, ((Clothes) product).getClothesType());
-                        preparedStatement.setString(4, ((Clothes) product).getGender());
-                        preparedStatement.setString(5, ((Clothes) product).getSize());
-                    }
-                }
-                preparedStatement.executeUpdate();
-                allProducts.add(product);
-            } catch (final SQLException exception) {
-                LOGGER.warn(String.format("Product - %s -Item can't be added to the inventory", product));
-                throw new ItemAdditionFailedException(exception.getMessage());
-            }
+    /**
+     * <p>
+     * Streams the products of the given catalog into the inventory.
+     * </p>
+     *
+     * @param productCategory Refers the category of the products in the catalog.
+     * @param reader Refers the reader of the catalog.
+     * @return the number of products added to the inventory.
+     */
+    @Override
+    public int loadItems(final ProductCategory productCategory, final Reader reader) {
+        try (Connection connection = DBConnection.getConnection()) {
+            return InventoryCopyLoader.getInstance().load(connection, productCategory, reader);
+        } catch (final SQLException exception) {
+            LOGGER.warn(String.format("%s catalog can't be added to the inventory", productCategory));
+            throw new ItemAdditionFailedException(exception.getMessage());
         }
     }
 
@@ -126,7 +107,8 @@ public class InventoryDAOImpl implements InventoryDAO {
      */
     @Override
     public void removeItem(final int productId) {
-        try (PreparedStatement preparedStatement = connection
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
                 .prepareStatement("delete from product where id = ?")) {
             preparedStatement.setInt(1, productId);
             preparedStatement.executeUpdate();
@@ -137,6 +119,38 @@ public class InventoryDAOImpl implements InventoryDAO {
         }
     }
 
+    /**
+     * <p>
+     * Updates the price and quantity of the given products in the inventory, found by their natural key.
+     * </p>
+     *
+     * @param products Refers the {@link Product} to be updated.
+     */
+    @Override
+    public void updateItems(final List<Product> products) {
+        try (Connection connection = DBConnection.getConnection()) {
+            InventoryBulkImporter.getInstance().updateItems(connection, products);
+        } catch (final SQLException exception) {
+            throw new ItemUpdateFailedException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Removes the given products from the inventory, found by their natural key.
+     * </p>
+     *
+     * @param products Refers the {@link Product} to be removed.
+     */
+    @Override
+    public void removeItems(final List<Product> products) {
+        try (Connection connection = DBConnection.getConnection()) {
+            InventoryBulkImporter.getInstance().removeItems(connection, products);
+        } catch (final SQLException exception) {
+            throw new ItemRemovalFailedException(exception.getMessage());
+        }
+    }
+
     /**
      * <p>
      * Gets all the products from the inventory based on the category and returns it.
@@ -155,44 +169,139 @@ public class InventoryDAOImpl implements InventoryDAO {
 
     /**
      * <p>
-     * Gets all the products from the inventory based on the category and returns it.
+     * Gets all the products of the given categories from the inventory in a single query and returns them grouped
+     * by category.
+     * </p>
+     *
+     * @param productCategories Refers the product categories.
+     * @return the {@link Product} of every given category, ordered by their id.
+     */
+    @Override
+    public Map<ProductCategory, List<Product>> getItems(final Set<ProductCategory> productCategories) {
+        final Map<ProductCategory, List<Product>> products = new EnumMap<>(ProductCategory.class);
+
+        productCategories.forEach(productCategory -> products.put(productCategory, new ArrayList<>()));
+
+        if (productCategories.isEmpty()) {
+            return products;
+        }
+
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
+                .prepareStatement(String.join(" ", "select p.id, p.product_category_id, p.price, p.quantity,",
+                        "e.brand, e.model, c.clothes_type, c.brand, c.gender, c.size from product p",
+                        "left join electronics_inventory e on e.product_id = p.id",
+                        "left join clothes_inventory c on c.product_id = p.id",
+                        "where p.product_category_id = any(?) order by p.id"))) {
+            preparedStatement.setArray(1, connection.createArrayOf("integer", productCategories.stream()
+                    .map(ProductCategory::getId).toArray()));
+            final ResultSet resultSet = preparedStatement.executeQuery();
+
+            while (resultSet.next()) {
+                final Product product = getProductFromResultSet(resultSet);
+
+                products.get(product.getProductCategory()).add(product);
+            }
+
+            return products;
+        } catch (final SQLException exception) {
+            throw new ItemNotFoundException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the product of the current row of the given result set, mapped by its category.
+     * </p>
+     *
+     * @param resultSet Refers the result set.
+     * @return the {@link Mobile}, {@link Laptop} or {@link Clothes}.
+     */
+    private Product getProductFromResultSet(final ResultSet resultSet) throws SQLException {
+        final int productId = resultSet.getInt(1);
+        final float price = resultSet.getFloat(3);
+        final int quantity = resultSet.getInt(4);
+        final Product product = switch (ProductCategory.valueOf(resultSet.getInt(2))) {
+            case MOBILE -> new Mobile(resultSet.getString(5), resultSet.getString(6), price, quantity);
+            case LAPTOP -> new Laptop(resultSet.getString(5), resultSet.getString(6), price, quantity);
+            case CLOTHES -> new Clothes(resultSet.getString(7), resultSet.getString(9), resultSet.getString(10),
+                    price, resultSet.getString(8), quantity);
+        };
+
+        product.setId(productId);
+
+        return product;
+    }
+
+    /**
+     * <p>
+     * Gets a page of the products from the inventory based on the category, ordered by their id.
      * </p>
      *
      * @param productCategory Refers the product category.
-     * @param page Refers the page number.
+     * @param afterId Refers the id of the last product of the previous page, zero for the first page.
      * @param limit Refers the limit of data to show.
-     * @return all the {@link Product} from the inventory.
+     * @return the {@link Product} from the inventory after the given product.
      */
     @Override
-    public List<? extends Product> getItemsByCategory(final ProductCategory productCategory, final int page, final int limit) {
-        return switch (productCategory) {
-            case MOBILE -> getMobileItems(page, limit);
-            case LAPTOP -> getLaptopItems(page, limit);
-            case CLOTHES -> getClothesItems(page, limit);
-        };
+    public List<? extends Product> getItemsByCategory(final ProductCategory productCategory, final int afterId, final int limit) {
+        final List<Product> products = new ArrayList<>();
+
+        streamItemsByCategory(productCategory, afterId, limit, products::add);
+
+        return products;
     }
 
     /**
      * <p>
-     * Gets all the mobiles from the inventory and returns it.
+     * Passes a page of the products from the inventory based on the category, ordered by their id, to the given
+     * consumer one row at a time. The rows are fetched from the database in batches, so the page is never held in
+     * memory as a whole. The query times out after the seconds set by the
+     * {@code org.abc.product.stream.timeoutSeconds} system property.
      * </p>
      *
-     * @param page Refers the page number.
+     * @param productCategory Refers the product category.
+     * @param afterId Refers the id of the last product of the previous page, zero for the first page.
      * @param limit Refers the limit of data to show.
-     * @return all the {@link Mobile}.
+     * @param consumer Refers the consumer of each {@link Product}.
      */
-    private List<Mobile> getMobileItems(final int page, final int limit) {
-        final int offset = (page - 1) * limit;
+    @Override
+    public void streamItemsByCategory(final ProductCategory productCategory, final int afterId, final int limit,
+                                      final Consumer<? super Product> consumer) {
+        switch (productCategory) {
+            case MOBILE -> streamMobileItems(afterId, limit, consumer);
+            case LAPTOP -> streamLaptopItems(afterId, limit, consumer);
+            case CLOTHES -> streamClothesItems(afterId, limit, consumer);
+        }
+    }
 
-        try (PreparedStatement preparedStatement = connection
+    /**
+     * <p>
+     * Passes a page of the mobiles from the inventory to the given consumer.
+     * </p>
+     *
+     * @param afterId Refers the id of the last mobile of the previous page.
+     * @param limit Refers the limit of data to show.
+     * @param consumer Refers the consumer of each {@link Mobile}.
+     */
+    private void streamMobileItems(final int afterId, final int limit, final Consumer<? super Mobile> consumer) {
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
                 .prepareStatement(String.join(" ", "select p.id, e.brand, e.model, p.price,",
                 "p.quantity from electronics_inventory e join product p on p.id = e.product_id",
-                "where p.product_category_id=? order by p.id offset ? limit ?"))) {
+                "where p.product_category_id=? and p.id > ? order by p.id limit ?"))) {
+            connection.setAutoCommit(false);
+            preparedStatement.setFetchSize(FETCH_SIZE);
+            preparedStatement.setQueryTimeout(STREAM_TIMEOUT_SECONDS);
             preparedStatement.setInt(1, ProductCategory.MOBILE.getId());
-            preparedStatement.setInt(2, offset);
+            preparedStatement.setInt(2, afterId);
             preparedStatement.setInt(3, limit);
 
-           return getMobilesFromResultSet(preparedStatement.executeQuery()) ;
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    consumer.accept(getMobileFromResultSet(resultSet));
+                }
+            }
         } catch (final SQLException exception) {
             throw new ItemNotFoundException(exception.getMessage());
         }
@@ -206,7 +315,8 @@ public class InventoryDAOImpl implements InventoryDAO {
      * @return all the {@link Product} in the mobile inventory.
      */
     private List<Mobile> getMobileItems() {
-        try (PreparedStatement preparedStatement = connection
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
                 .prepareStatement(String.join(" ", "select p.id, e.brand, e.model, p.price,",
                         "p.quantity from electronics_inventory e join product p on p.id = e.product_id",
                         "where p.product_category_id=?"))) {
@@ -229,20 +339,33 @@ public class InventoryDAOImpl implements InventoryDAO {
         final List<Mobile> mobileCollection = new ArrayList<>();
 
         while (resultSet.next()) {
-            final int productId = resultSet.getInt(1);
-            final String brand = resultSet.getString(2);
-            final String model = resultSet.getString(3);
-            final float price = resultSet.getFloat(4);
-            final int quantity = resultSet.getInt(5);
-            final Mobile mobile = new Mobile(brand, model, price, quantity);
-
-            mobile.setId(productId);
-            mobileCollection.add(mobile);
+            mobileCollection.add(getMobileFromResultSet(resultSet));
         }
 
         return mobileCollection;
     }
 
+    /**
+     * <p>
+     * Gets the mobile of the current row of the given result set.
+     * </p>
+     *
+     * @param resultSet Refers the result set.
+     * @return the {@link Mobile}.
+     */
+    private Mobile getMobileFromResultSet(final ResultSet resultSet) throws SQLException {
+        final int productId = resultSet.getInt(1);
+        final String brand = resultSet.getString(2);
+        final String model = resultSet.getString(3);
+        final float price = resultSet.getFloat(4);
+        final int quantity = resultSet.getInt(5);
+        final Mobile mobile = new Mobile(brand, model, price, quantity);
+
+        mobile.setId(productId);
+
+        return mobile;
+    }
+
     /**
      * <p>
      * Gets all the laptops from the inventory and returns it.
@@ -251,7 +374,8 @@ public class InventoryDAOImpl implements InventoryDAO {
      * @return all the {@link Laptop}.
      */
     private List<Laptop> getLaptopItems() {
-        try (PreparedStatement preparedStatement = connection
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
                 .prepareStatement(String.join(" ", "select p.id, e.brand, e.model, p.price,",
                 "p.quantity  from electronics_inventory e join product p on p.id = e.product_id where",
                 "p.product_category_id=?"))) {
@@ -265,25 +389,31 @@ public class InventoryDAOImpl implements InventoryDAO {
 
     /**
      * <p>
-     * Gets all the laptops from the inventory and returns it.
+     * Passes a page of the laptops from the inventory to the given consumer.
      * </p>
      *
+     * @param afterId Refers the id of the last laptop of the previous page.
      * @param limit Refers the limit of data to show.
-     * @param page Refers the page number.
-     * @return all the {@link Laptop}.
+     * @param consumer Refers the consumer of each {@link Laptop}.
      */
-    private List<Laptop> getLaptopItems(final int page, final int limit) {
-        final int offset = (page - 1) * limit;
-
-        try (PreparedStatement preparedStatement = connection
+    private void streamLaptopItems(final int afterId, final int limit, final Consumer<? super Laptop> consumer) {
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
                 .prepareStatement(String.join(" ", "select p.id, e.brand, e.model, p.price,",
                         "p.quantity  from electronics_inventory e join product p on p.id = e.product_id where",
-                        "p.product_category_id=? order by p.id offset ? limit ?"))) {
+                        "p.product_category_id=? and p.id > ? order by p.id limit ?"))) {
+            connection.setAutoCommit(false);
+            preparedStatement.setFetchSize(FETCH_SIZE);
+            preparedStatement.setQueryTimeout(STREAM_TIMEOUT_SECONDS);
             preparedStatement.setInt(1, ProductCategory.LAPTOP.getId());
-            preparedStatement.setInt(2, offset);
+            preparedStatement.setInt(2, afterId);
             preparedStatement.setInt(3, limit);
 
-            return  getLaptopsFromResultSet(preparedStatement.executeQuery());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    consumer.accept(getLaptopFromResultSet(resultSet));
+                }
+            }
         } catch (final SQLException exception) {
             throw new ItemNotFoundException(exception.getMessage());
         }
@@ -301,20 +431,33 @@ public class InventoryDAOImpl implements InventoryDAO {
         final List<Laptop> laptopCollection = new ArrayList<>();
 
         while (resultSet.next()) {
-            final int product_id = resultSet.getInt(1);
-            final String brand = resultSet.getString(2);
-            final String model = resultSet.getString(3);
-            final float price = resultSet.getFloat(4);
-            final int quantity = resultSet.getInt(5);
-            final Laptop laptop = new Laptop(brand, model, price, quantity);
-
-            laptop.setId(product_id);
-            laptopCollection.add(laptop);
+            laptopCollection.add(getLaptopFromResultSet(resultSet));
         }
 
         return laptopCollection;
     }
 
+    /**
+     * <p>
+     * Gets the laptop of the current row of the given result set.
+     * </p>
+     *
+     * @param resultSet Refers the result set.
+     * @return the {@link Laptop}.
+     */
+    private Laptop getLaptopFromResultSet(final ResultSet resultSet) throws SQLException {
+        final int product_id = resultSet.getInt(1);
+        final String brand = resultSet.getString(2);
+        final String model = resultSet.getString(3);
+        final float price = resultSet.getFloat(4);
+        final int quantity = resultSet.getInt(5);
+        final Laptop laptop = new Laptop(brand, model, price, quantity);
+
+        laptop.setId(product_id);
+
+        return laptop;
+    }
+
     /**
      * <p>
      * Gets all the clothes from the inventory and returns it.
@@ -323,7 +466,8 @@ public class InventoryDAOImpl implements InventoryDAO {
      * @return all the {@link Clothes}.
      */
     private List<Clothes> getClothesItems() {
-        try (PreparedStatement preparedStatement = connection
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
                 .prepareStatement(String.join(" ", "select p.id, c.clothes_type ,c.brand,",
                 "c.gender, c.size, p.price,p.quantity  from clothes_inventory c join product p",
                 "on p.id = c.product_id where p.product_category_id =?"))) {
@@ -337,25 +481,31 @@ public class InventoryDAOImpl implements InventoryDAO {
 
     /**
      * <p>
-     * Gets all the clothes from the inventory and returns it.
+     * Passes a page of the clothes from the inventory to the given consumer.
      * </p>
      *
+     * @param afterId Refers the id of the last clothes of the previous page.
      * @param limit Refers the limit of data to show.
-     * @param page Refers the page number.
-     * @return all the {@link Clothes} in the clothes inventory.
+     * @param consumer Refers the consumer of each {@link Clothes}.
      */
-    private List<Clothes> getClothesItems(final int page, final int limit) {
-        final int offset = (page - 1) * limit;
-
-        try (PreparedStatement preparedStatement = connection
+    private void streamClothesItems(final int afterId, final int limit, final Consumer<? super Clothes> consumer) {
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
                 .prepareStatement(String.join(" ", "select p.id, c.clothes_type ,c.brand,",
                         "c.gender, c.size, p.price,p.quantity  from clothes_inventory c join product p",
-                        "on p.id = c.product_id where p.product_category_id =? order by p.id offset ? limit ?"))) {
+                        "on p.id = c.product_id where p.product_category_id =? and p.id > ? order by p.id limit ?"))) {
+            connection.setAutoCommit(false);
+            preparedStatement.setFetchSize(FETCH_SIZE);
+            preparedStatement.setQueryTimeout(STREAM_TIMEOUT_SECONDS);
             preparedStatement.setInt(1, ProductCategory.CLOTHES.getId());
-            preparedStatement.setInt(2, offset);
+            preparedStatement.setInt(2, afterId);
             preparedStatement.setInt(3, limit);
 
-            return getClothesFromResultSet(preparedStatement.executeQuery());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    consumer.accept(getClothesItemFromResultSet(resultSet));
+                }
+            }
         } catch (final SQLException exception) {
             throw new ItemNotFoundException(exception.getMessage());
         }
@@ -373,19 +523,32 @@ public class InventoryDAOImpl implements InventoryDAO {
         final List<Clothes> clothesCollection = new ArrayList<>();
 
         while (resultSet.next()) {
-            final int productId = resultSet.getInt(1);
-            final String clothesType = resultSet.getString(2);
-            final String brand = resultSet.getString(3);
-            final String gender = resultSet.getString(4);
-            final String size = resultSet.getString(5);
-            final float price = resultSet.getFloat(6);
-            final int quantity = resultSet.getInt(7);
-            final Clothes clothes = new Clothes(clothesType, gender, size, price, brand, quantity);
-
-            clothes.setId(productId);
-            clothesCollection.add(clothes);
+            clothesCollection.add(getClothesItemFromResultSet(resultSet));
         }
 
         return clothesCollection;
     }
+
+    /**
+     * <p>
+     * Gets the clothes of the current row of the given result set.
+     * </p>
+     *
+     * @param resultSet Refers the result set.
+     * @return the {@link Clothes}.
+     */
+    private Clothes getClothesItemFromResultSet(final ResultSet resultSet) throws SQLException {
+        final int productId = resultSet.getInt(1);
+        final String clothesType = resultSet.getString(2);
+        final String brand = resultSet.getString(3);
+        final String gender = resultSet.getString(4);
+        final String size = resultSet.getString(5);
+        final float price = resultSet.getFloat(6);
+        final int quantity = resultSet.getInt(7);
+        final Clothes clothes = new Clothes(clothesType, gender, size, price, brand, quantity);
+
+        clothes.setId(productId);
+
+        return clothes;
+    }
 }
\ No newline at end of file
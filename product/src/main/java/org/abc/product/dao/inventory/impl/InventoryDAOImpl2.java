@@ -1,7 +1,9 @@
 package org.abc.product.dao.inventory.impl;
 
+import jakarta.persistence.PersistenceException;
 import jakarta.persistence.Query;
 
+import org.abc.dbconnection.session.SessionFactoryLocator;
 import org.abc.product.ProductCategory;
 import org.abc.product.dao.inventory.InventoryDAO;
 import org.abc.product.exceptions.ItemAdditionFailedException;
@@ -16,18 +18,24 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.hibernate.Session;
-import org.hibernate.SessionFactory;
-import org.hibernate.cfg.Configuration;
 
-import java.util.HashSet;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public class InventoryDAOImpl2 implements InventoryDAO {
 
     private static InventoryDAOImpl2 inventoryDAO;
-    private static final SessionFactory sessionFactory = new Configuration().addAnnotatedClass(Product.class).buildSessionFactory();
     private static final Logger LOGGER = LogManager.getLogger(InventoryDAOImpl2.class);
+    private static final int FETCH_SIZE = 100;
+    private static final int STREAM_TIMEOUT_SECONDS = Math.max(1,
+            Integer.getInteger("org.abc.product.stream.timeoutSeconds", 30));
 
     /**
      * <p>
@@ -56,37 +64,8 @@ public class InventoryDAOImpl2 implements InventoryDAO {
      */
     @Override
     public void addItem(final List<Product> products) {
-        try (Session session = sessionFactory.openSession()) {
-            final HashSet<Product> allProducts = new HashSet<>();
-
-            allProducts.addAll(getMobileItems());
-            allProducts.addAll(getLaptopItems());
-            allProducts.addAll(getClothesItems());
-
-            for (final Product product : products) {
-                if (allProducts.contains(product)) {
-                    continue;
-                }
-
-                session.beginTransaction();
-                final Query query = (Query) session.createNativeMutationQuery("insert into product (product_category_id, price, quantity) values(?,?,?) returning id");
-
-                query.setParameter(1, product.getProductCategory().getId());
-                query.setParameter(2, product.getPrice());
-                query.setParameter(3, product.getQuantity());
-
-                int productId = (int) query.getSingleResult();
-
-                product.setId(productId);
-
-                switch (product.getProductCategory()) {
-                    case MOBILE, LAPTOP -> saveMobileOrLaptop(product, session);
-                    case CLOTHES -> saveClothes(product, session);
-                }
-
-                allProducts.add(product);
-                session.getTransaction().commit();
-            }
+        try (Session session = SessionFactoryLocator.locate(InventoryDAOImpl2.class).openSession()) {
+            session.doWork(connection -> InventoryBulkImporter.getInstance().importItems(connection, products));
         } catch (Exception exception) {
             LOGGER.info(String.format("Item can't be added to the inventory"));
             throw new ItemAdditionFailedException(exception.getMessage());
@@ -95,50 +74,20 @@ public class InventoryDAOImpl2 implements InventoryDAO {
 
     /**
      * <p>
-     * Saves the given mobile or laptop to the inventory.
+     * Streams the products of the given catalog into the inventory.
      * </p>
      *
-     * @param product Refers the {@link Product} to be added.
-     * @param session Refers the session.
+     * @param productCategory Refers the category of the products in the catalog.
+     * @param reader Refers the reader of the catalog.
+     * @return the number of products added to the inventory.
      */
-    private void saveMobileOrLaptop(final Product product, final Session session) {
-        try {
-            final Query query = (Query) session.createNativeMutationQuery("insert into electronics_inventory(product_id, brand, model) values(?, ?, ?)");
-
-            query.setParameter(1, product.getId());
-            query.setParameter(2, product.getBrandName());
-
-            if (product.getProductCategory() == ProductCategory.MOBILE) {
-                query.setParameter(3, ((Mobile) product).getModel());
-            } else {
-                query.setParameter(3, ((Laptop) product).getModel());
-            }
-
-            query.executeUpdate();
-        } catch (Exception exception) {
-            throw new ItemAdditionFailedException(exception.getMessage());
-        }
-    }
-
-    /**
-     * <p>
-     * Saves the given clothes to the inventory.
-     * </p>
-     *
-     * @param product Refers the {@link Product} to be added.
-     * @param session Refers the session.
-     */
-    private void saveClothes(final Product product, final Session session) {
-        try {
-            final Query query = (Query) session.createNativeMutationQuery("insert into clothes_inventory(product_id, brand, clothes_type, gender, size) values(?, ?, ?, ?, ?)");
-
-            query.setParameter(1, product.getId());
-            query.setParameter(2, product.getBrandName());
-            query.setParameter(3, ((Clothes) product).getClothesType());
-            query.setParameter(4, ((Clothes) product).getGender());
-            query.setParameter(5, ((Clothes) product).getSize());
-            query.executeUpdate();
+    @Override
+    public int loadItems(final ProductCategory productCategory, final Reader reader) {
+        try (Session session = SessionFactoryLocator.locate(InventoryDAOImpl2.class).openSession()) {
+            return session.doReturningWork(connection -> InventoryCopyLoader.getInstance()
+                    .load(connection, productCategory, reader));
         } catch (Exception exception) {
+            LOGGER.info(String.format("%s catalog can't be added to the inventory", productCategory));
             throw new ItemAdditionFailedException(exception.getMessage());
         }
     }
@@ -152,7 +101,7 @@ public class InventoryDAOImpl2 implements InventoryDAO {
      */
     @Override
     public void removeItem(int productId) {
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = SessionFactoryLocator.locate(InventoryDAOImpl2.class).openSession()) {
             final Query query = session.createNativeQuery("Delete from product where id=?", Product.class);
 
             session.beginTransaction();
@@ -166,6 +115,34 @@ public class InventoryDAOImpl2 implements InventoryDAO {
         }
     }
 
+    /**
+     * <p>
+     * Updates the price and quantity of the given products in the inventory, found by their natural key.
+     * </p>
+     *
+     * @param products Refers the {@link Product} to be updated.
+     */
+    @Override
+    public void updateItems(final List<Product> products) {
+        try (Session session = SessionFactoryLocator.locate(InventoryDAOImpl2.class).openSession()) {
+            session.doWork(connection -> InventoryBulkImporter.getInstance().updateItems(connection, products));
+        }
+    }
+
+    /**
+     * <p>
+     * Removes the given products from the inventory, found by their natural key.
+     * </p>
+     *
+     * @param products Refers the {@link Product} to be removed.
+     */
+    @Override
+    public void removeItems(final List<Product> products) {
+        try (Session session = SessionFactoryLocator.locate(InventoryDAOImpl2.class).openSession()) {
+            session.doWork(connection -> InventoryBulkImporter.getInstance().removeItems(connection, products));
+        }
+    }
+
     /**
      * <p>
      * Gets all the products from the inventory based on the category and returns it.
@@ -184,35 +161,106 @@ public class InventoryDAOImpl2 implements InventoryDAO {
 
     /**
      * <p>
-     * Gets all the products from the inventory based on the category and returns it.
+     * Gets all the products of the given categories from the inventory in a single query and returns them grouped
+     * by category.
+     * </p>
+     *
+     * @param productCategories Refers the product categories.
+     * @return the {@link Product} of every given category, ordered by their id.
+     */
+    @Override
+    public Map<ProductCategory, List<Product>> getItems(final Set<ProductCategory> productCategories) {
+        final Map<ProductCategory, List<Product>> products = new EnumMap<>(ProductCategory.class);
+
+        productCategories.forEach(productCategory -> products.put(productCategory, new ArrayList<>()));
+
+        if (productCategories.isEmpty()) {
+            return products;
+        }
+
+        try (Session session = SessionFactoryLocator.locate(InventoryDAOImpl2.class).openSession()) {
+            final String sqlQuery = String.join(" ", "select p.id, p.product_category_id, p.price, p.quantity,",
+                    "e.brand, e.model, c.clothes_type, c.brand as clothes_brand, c.gender, c.size from product p",
+                    "left join electronics_inventory e on e.product_id = p.id",
+                    "left join clothes_inventory c on c.product_id = p.id",
+                    "where p.product_category_id in (:productCategoryIds) order by p.id");
+            final List<Object[]> resultList = session.createNativeQuery(sqlQuery, Object[].class)
+                    .setParameterList("productCategoryIds", productCategories.stream()
+                            .map(ProductCategory::getId).toList()).getResultList();
+
+            for (final Object[] row : resultList) {
+                final Product product = getProductFromRow(row);
+
+                products.get(product.getProductCategory()).add(product);
+            }
+
+            return products;
+        } catch (Exception exception) {
+            throw new ItemNotFoundException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the product of the given row, mapped by its category.
+     * </p>
+     *
+     * @param row Refers the row of the result list.
+     * @return the {@link Mobile}, {@link Laptop} or {@link Clothes}.
+     */
+    private Product getProductFromRow(final Object[] row) {
+        final float price = ((Number) row[2]).floatValue();
+        final int quantity = ((Number) row[3]).intValue();
+        final Product product = switch (ProductCategory.valueOf(((Number) row[1]).intValue())) {
+            case MOBILE -> new Mobile((String) row[4], (String) row[5], price, quantity);
+            case LAPTOP -> new Laptop((String) row[4], (String) row[5], price, quantity);
+            case CLOTHES -> new Clothes((String) row[6], (String) row[8], (String) row[9], price, (String) row[7],
+                    quantity);
+        };
+
+        product.setId(((Number) row[0]).intValue());
+
+        return product;
+    }
+
+    /**
+     * <p>
+     * Gets a page of the products from the inventory based on the category, ordered by their id.
      * </p>
      *
      * @param productCategory Refers the product category.
-     * @param page Refers the page number.
+     * @param afterId Refers the id of the last product of the previous page, zero for the first page.
      * @param limit Refers the limit of data to show.
-     * @return all the {@link Product} from the inventory.
+     * @return the {@link Product} from the inventory after the given product.
      */
     @Override
-    public List<? extends Product> getItemsByCategory(final ProductCategory productCategory, final int page, final int limit) {
+    public List<? extends Product> getItemsByCategory(final ProductCategory productCategory, final int afterId, final int limit) {
         return switch (productCategory) {
-            case MOBILE -> getMobileItems(page, limit);
-            case LAPTOP -> getLaptopItems(page, limit);
-            case CLOTHES -> getClothesItems(page, limit);
+            case MOBILE -> getItemsAfter(getQueryForMobiles(), Mobile.class, afterId, limit);
+            case LAPTOP -> getItemsAfter(getQueryForLaptops(), Laptop.class, afterId, limit);
+            case CLOTHES -> getItemsAfter(getQueryForClothes(), Clothes.class, afterId, limit);
         };
     }
 
     /**
      * <p>
-     * Gets all the mobiles from the inventory and returns it.
+     * Passes a page of the products from the inventory based on the category, ordered by their id, to the given
+     * consumer one row at a time. The query times out after the seconds set by the
+     * {@code org.abc.product.stream.timeoutSeconds} system property.
      * </p>
      *
-     * @return all the {@link Mobile}.
+     * @param productCategory Refers the product category.
+     * @param afterId Refers the id of the last product of the previous page, zero for the first page.
+     * @param limit Refers the limit of data to show.
+     * @param consumer Refers the consumer of each {@link Product}.
      */
-    private List<Mobile> getMobileItems() {
-        try (Session session = sessionFactory.openSession()) {
-            return session.createNativeQuery(getQueryForMobiles(), Mobile.class).getResultList();
-        } catch (Exception exception) {
-            throw new ItemNotFoundException(exception.getMessage());
+    @Override
+    public void streamItemsByCategory(final ProductCategory productCategory, final int afterId, final int limit,
+                                      final Consumer<? super Product> consumer) {
+        switch (productCategory) {
+            case MOBILE -> streamItemsAfter(getQueryForMobiles(), Mobile.class, afterId, limit, consumer);
+            case LAPTOP -> streamItemsAfter(getQueryForLaptops(), Laptop.class, afterId, limit, consumer);
+            case CLOTHES -> streamItemsAfter(getQueryForClothes(), Clothes.class, afterId, limit, consumer);
         }
     }
 
@@ -221,19 +269,14 @@ public class InventoryDAOImpl2 implements InventoryDAO {
      * Gets all the mobiles from the inventory and returns it.
      * </p>
      *
-     * @param page Refers the page number.
-     * @param limit Refers the limit of data to show.
-     * @return all the {@link Product}.
+     * @return all the {@link Mobile}.
      */
-    private List<Mobile> getMobileItems(final int page, final int limit) {
-        final Session session = sessionFactory.openSession();
-
-        final Query query = session.createNativeQuery(getQueryForMobiles(), Mobile.class);
-        query.setFirstResult(page);
-        query.setMaxResults(limit);
-        session.close();
-
-        return query.getResultList();
+    private List<Mobile> getMobileItems() {
+        try (Session session = SessionFactoryLocator.locate(InventoryDAOImpl2.class).openSession()) {
+            return session.createNativeQuery(getQueryForMobiles(), Mobile.class).getResultList();
+        } catch (Exception exception) {
+            throw new ItemNotFoundException(exception.getMessage());
+        }
     }
 
     /**
@@ -244,7 +287,7 @@ public class InventoryDAOImpl2 implements InventoryDAO {
      * @return all the {@link Laptop}.
      */
     private List<Laptop> getLaptopItems() {
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = SessionFactoryLocator.locate(InventoryDAOImpl2.class).openSession()) {
             return session.createNativeQuery(getQueryForLaptops(), Laptop.class).getResultList();
         } catch (Exception exception) {
             throw new ItemNotFoundException(exception.getMessage());
@@ -253,34 +296,35 @@ public class InventoryDAOImpl2 implements InventoryDAO {
 
     /**
      * <p>
-     * Gets all the Laptops from the inventory and returns it.
+     * Gets all the clothes from the inventory and returns it.
      * </p>
      *
-     * @param page Refers the page number.
-     * @param limit Refers the limit of data to show.
-     * @return all the {@link Product} in the mobile inventory.
+     * @return all the {@link Clothes}.
      */
-    private List<Laptop> getLaptopItems(final int page, final int limit) {
-        final Session session = sessionFactory.openSession();
-
-        final Query query = session.createNativeQuery(getQueryForMobiles(), Laptop.class);
-        query.setFirstResult(page);
-        query.setMaxResults(limit);
-        session.close();
-
-        return query.getResultList();
+    private List<Clothes> getClothesItems() {
+        try (Session session = SessionFactoryLocator.locate(InventoryDAOImpl2.class).openSession()) {
+            return session.createNativeQuery(getQueryForClothes(), Clothes.class).getResultList();
+        } catch (Exception exception) {
+            throw new ItemNotFoundException(exception.getMessage());
+        }
     }
 
     /**
      * <p>
-     * Gets all the clothes from the inventory and returns it.
+     * Gets a page of the products of the given query, seeking past the given product id.
      * </p>
      *
-     * @return all the {@link Clothes}.
+     * @param sqlQuery Refers the query for getting all the products of a category.
+     * @param type Refers the type of the products.
+     * @param afterId Refers the id of the last product of the previous page.
+     * @param limit Refers the limit of data to show.
+     * @return the products after the given product.
      */
-    private List<Clothes> getClothesItems() {
-        try (Session session = sessionFactory.openSession()) {
-            return session.createNativeQuery(getQueryForClothes(), Clothes.class).getResultList();
+    private <T extends Product> List<T> getItemsAfter(final String sqlQuery, final Class<T> type, final int afterId,
+                                                      final int limit) {
+        try (Session session = SessionFactoryLocator.locate(InventoryDAOImpl2.class).openSession()) {
+            return session.createNativeQuery(String.join(" ", sqlQuery, "and p.id > ? order by p.id limit ?"), type)
+                    .setParameter(1, afterId).setParameter(2, limit).getResultList();
         } catch (Exception exception) {
             throw new ItemNotFoundException(exception.getMessage());
         }
@@ -288,22 +332,37 @@ public class InventoryDAOImpl2 implements InventoryDAO {
 
     /**
      * <p>
-     * Gets all the clothes from inventory and returns it.
+     * Passes a page of the products of the given query, seeking past the given product id, to the given consumer.
+     * The rows are fetched in batches within a read only transaction and every product is detached once consumed,
+     * so neither the result nor the session grows with the page.
      * </p>
      *
-     * @param page Refers the page number.
+     * @param sqlQuery Refers the query for getting all the products of a category.
+     * @param type Refers the type of the products.
+     * @param afterId Refers the id of the last product of the previous page.
      * @param limit Refers the limit of data to show.
-     * @return all the {@link Product} in the mobile inventory.
+     * @param consumer Refers the consumer of each product.
      */
-    private List<Clothes> getClothesItems(final int page, final int limit) {
-        final Session session = sessionFactory.openSession();
-
-        final Query query = session.createNativeQuery(getQueryForClothes(), Clothes.class);
-        query.setFirstResult(page);
-        query.setMaxResults(limit);
-        session.close();
+    private <T extends Product> void streamItemsAfter(final String sqlQuery, final Class<T> type, final int afterId,
+                                                      final int limit, final Consumer<? super T> consumer) {
+        try (Session session = SessionFactoryLocator.locate(InventoryDAOImpl2.class).openSession()) {
+            session.setDefaultReadOnly(true);
+            session.beginTransaction();
 
-        return query.getResultList();
+            try (Stream<T> products = session.createNativeQuery(String.join(" ", sqlQuery,
+                            "and p.id > ? order by p.id limit ?"), type).setParameter(1, afterId)
+                    .setParameter(2, limit).setFetchSize(FETCH_SIZE)
+                    .setTimeout(STREAM_TIMEOUT_SECONDS).getResultStream()) {
+                products.forEach(product -> {
+                    consumer.accept(product);
+                    session.detach(product);
+                });
+            } finally {
+                session.getTransaction().rollback();
+            }
+        } catch (PersistenceException exception) {
+            throw new ItemNotFoundException(exception.getMessage());
+        }
     }
 
     /**
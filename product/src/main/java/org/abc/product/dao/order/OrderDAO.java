@@ -1,8 +1,10 @@
 package org.abc.product.dao.order;
 
+import org.abc.product.ProductCategory;
 import org.abc.product.model.order.Order;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * <p>
@@ -21,20 +23,43 @@ public interface OrderDAO {
      *
      * @param userId Refers the id of the user
      * @param order Refers the {@link Order} to be added.
+     * @return the {@link ProductCategory} of the ordered product.
      */
-    void addOrder(final int userId, final Order order);
+    ProductCategory addOrder(final int userId, final Order order);
 
     /**
      * <p>
-     * Gets all the orders placed by the user.
+     * Adds all the given orders of the user and removes their products from the cart in a single transaction.
      * </p>
      *
-     * @param page Refers the page number.
+     * @param userId Refers the id of the user
+     * @param orders Refers the {@link Order} to be added, one for each product of the cart.
+     */
+    void checkout(final int userId, final List<Order> orders);
+
+    /**
+     * <p>
+     * Gets a page of the orders placed by the user, ordered by their id.
+     * </p>
+     *
+     * @param userId Refers the id of the user
+     * @param afterId Refers the id of the last order of the previous page, zero for the first page.
      * @param limit Refers the limit of data to show.
+     * @return  the {@link Order} of the user placed after the given order.
+     */
+    List<Order> getOrders(final int userId, final int afterId, final int limit);
+
+    /**
+     * <p>
+     * Passes a page of the orders placed by the user, ordered by their id, to the given consumer one row at a time.
+     * </p>
+     *
      * @param userId Refers the id of the user
-     * @return  all the {@link Order} of the user.
+     * @param afterId Refers the id of the last order of the previous page, zero for the first page.
+     * @param limit Refers the limit of data to show.
+     * @param consumer Refers the consumer of each {@link Order}.
      */
-    List<Order> getOrders(final int userId, final int page, final int limit);
+    void streamOrders(final int userId, final int afterId, final int limit, final Consumer<? super Order> consumer);
 
     /**
      * <p>
@@ -42,8 +67,10 @@ public interface OrderDAO {
      * </p>
      *
      * @param order Refers the {@link Order} to be cancelled.
+     * @return the {@link ProductCategory} of the product of the order, null if the order was already cancelled
+     *         or is not placed by the user.
      */
-    void cancelOrder(final Order order);
+    ProductCategory cancelOrder(final Order order);
 
     /**
      * <p>
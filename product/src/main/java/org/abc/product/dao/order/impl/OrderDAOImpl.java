@@ -1,15 +1,14 @@
 package org.abc.product.dao.order.impl;
 
-import org.abc.product.OrderStatus;
 import org.abc.product.ProductCategory;
 import org.abc.authentication.exceptions.UpdateActionFailedException;
 import org.abc.authentication.exceptions.UserNotFoundException;
 import org.abc.product.dao.order.OrderDAO;
 import org.abc.dbconnection.connection.DBConnection;
-import org.abc.product.exceptions.ItemUpdateFailedException;
 import org.abc.product.exceptions.OrderAdditionFailedException;
 import org.abc.product.exceptions.OrderRemovalFailedException;
 import org.abc.product.exceptions.OrderNotFoundException;
+import org.abc.product.exceptions.OutOfStockException;
 import org.abc.product.model.order.Order;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -21,6 +20,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * <p>
@@ -33,8 +33,10 @@ import java.util.Objects;
 public class OrderDAOImpl implements OrderDAO {
 
     private static OrderDAOImpl orderDAO;
-    private final Connection connection = DBConnection.getConnection();
     private static final Logger LOGGER = LogManager.getLogger(OrderDAOImpl.class);
+    private static final int FETCH_SIZE = 100;
+    private static final int STREAM_TIMEOUT_SECONDS = Math.max(1,
+            Integer.getInteger("org.abc.product.stream.timeoutSeconds", 30));
 
     /**
      * <p>
@@ -56,29 +58,24 @@ public class OrderDAOImpl implements OrderDAO {
 
     /**
      * <p>
-     * Adds the order of the user.
+     * Adds the order of the user, reserving the stock of the product in the same statement.
      * </p>
      *
      * @param userId Refers the id of the user
      * @param order Refers the {@link Order} to be added.
+     * @return the {@link ProductCategory} of the ordered product.
+     * @throws OutOfStockException if the stock of the product is less than the ordered quantity.
      */
     @Override
-    public void addOrder(final int userId, final Order order) {
+    public ProductCategory addOrder(final int userId, final Order order) {
         final int productId = order.getProductId();
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(String.join(" ",
-                "insert into orders(user_id, product_id, address, payment_mode_id,",
-                "quantity, total_amount, order_status_id) values (?,?,?,?,?,?,?)"))) {
-            preparedStatement.setInt(1, userId);
-            preparedStatement.setInt(2, productId);
-            preparedStatement.setString(3, order.getAddress());
-            preparedStatement.setInt(4, order.getPaymentModeId());
-            preparedStatement.setInt(5, order.getQuantity());
-            preparedStatement.setFloat(6, order.getTotalAmount());
-            preparedStatement.setInt(7, order.getOrderStatusId());
-            preparedStatement.executeUpdate();
-            updateQuantity(productId, order.getQuantity());
+        try (Connection connection = DBConnection.getConnection()) {
+            final ProductCategory productCategory = OrderPlacement.getInstance().placeOrder(connection, userId, order);
+
             LOGGER.info(String.format("User id :%d Product Id :%d - Order placed successfully", userId, productId));
+
+            return productCategory;
         } catch (final SQLException exception) {
             LOGGER.info(String.format("User id :%d Product Id :%d - Order not placed", userId, productId));
             throw new OrderAdditionFailedException(exception.getMessage());
@@ -87,20 +84,21 @@ public class OrderDAOImpl implements OrderDAO {
 
     /**
      * <p>
-     * Updates the quantity of product when order is placed by the user.
+     * Adds all the given orders of the user and removes their products from the cart in a single transaction.
      * </p>
      *
-     * @param productId Refers the id of the product.
-     * @param quantity Refers the quantity to be updated.
+     * @param userId Refers the id of the user
+     * @param orders Refers the {@link Order} to be added, one for each product of the cart.
+     * @throws OutOfStockException if the stock of any product is less than its ordered quantity.
      */
-    private void updateQuantity(final int productId, final int quantity) {
-        try (PreparedStatement preparedStatement = connection
-                .prepareStatement("update product set quantity = quantity - ? where id =?")) {
-            preparedStatement.setInt(1, quantity);
-            preparedStatement.setInt(2, productId);
-            preparedStatement.executeUpdate();
+    @Override
+    public void checkout(final int userId, final List<Order> orders) {
+        try (Connection connection = DBConnection.getConnection()) {
+            OrderPlacement.getInstance().checkout(connection, userId, orders);
+            LOGGER.info(String.format("User id :%d - %d orders placed successfully", userId, orders.size()));
         } catch (final SQLException exception) {
-            throw new ItemUpdateFailedException(exception.getMessage());
+            LOGGER.info(String.format("User id :%d - Orders not placed", userId));
+            throw new OrderAdditionFailedException(exception.getMessage());
         }
     }
 
@@ -110,16 +108,17 @@ public class OrderDAOImpl implements OrderDAO {
      * </p>
      *
      * @param order Refers the {@link Order} to be cancelled.
+     * @return the {@link ProductCategory} of the product of the order, null if the order was already cancelled
+     *         or is not placed by the user.
      */
     @Override
-    public void cancelOrder(final Order order) {
-        try (PreparedStatement preparedStatement = connection
-                .prepareStatement("update orders set order_status_id =? where id =?")) {
-            preparedStatement.setInt(1, OrderStatus.CANCELLED.getId());
-            preparedStatement.setInt(2, order.getId());
-            preparedStatement.executeUpdate();
-            updateQuantity(order.getProductId(), -order.getQuantity());
+    public ProductCategory cancelOrder(final Order order) {
+        try (Connection connection = DBConnection.getConnection()) {
+            final ProductCategory productCategory = OrderPlacement.getInstance().cancelOrder(connection, order);
+
             LOGGER.info(String.format("User id :%d Product Id :%d - Order cancelled successfully.", order.getUserId(), order.getProductId()));
+
+            return productCategory;
         } catch (final SQLException exception) {
             LOGGER.warn(String.format("User id :%d Product Id :%d - Order can't be cancelled.", order.getUserId(), order.getProductId()));
             throw new OrderRemovalFailedException(exception.getMessage());
@@ -136,7 +135,8 @@ public class OrderDAOImpl implements OrderDAO {
      */
     @Override
     public List<Order> getOrders(final int userId) {
-        try (PreparedStatement preparedStatement = connection
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
                 .prepareStatement(String.join(" ", "select o.id,o.product_id,",
                         "o.payment_mode_id,o.quantity,o.total_amount, o.address,o.order_status_id, p.product_category_id,",
                         "e.brand,e.model, p.price,c.clothes_type,c.size,c.gender, c.brand from orders o join product p",
@@ -152,29 +152,57 @@ public class OrderDAOImpl implements OrderDAO {
 
     /**
      * <p>
-     * Gets all the orders placed by the user.
+     * Gets a page of the orders placed by the user, ordered by their id.
      * </p>
      *
      * @param userId Refers the id of the user
-     * @param page Refers the page number.
+     * @param afterId Refers the id of the last order of the previous page, zero for the first page.
      * @param limit Refers the limit of data to show.
-     * @return  all the {@link Order} of the user.
+     * @return  the {@link Order} of the user placed after the given order.
      */
     @Override
-    public List<Order> getOrders(final int userId, final int page, final int limit) {
-        final int offset = (page - 1) * limit;
+    public List<Order> getOrders(final int userId, final int afterId, final int limit) {
+        final List<Order> orders = new ArrayList<>();
 
-        try (PreparedStatement preparedStatement = connection
+        streamOrders(userId, afterId, limit, orders::add);
+
+        return orders;
+    }
+
+    /**
+     * <p>
+     * Passes a page of the orders placed by the user, ordered by their id, to the given consumer one row at a time.
+     * The rows are fetched from the database in batches, so the page is never held in memory as a whole. The query
+     * times out after the seconds set by the {@code org.abc.product.stream.timeoutSeconds} system property.
+     * </p>
+     *
+     * @param userId Refers the id of the user
+     * @param afterId Refers the id of the last order of the previous page, zero for the first page.
+     * @param limit Refers the limit of data to show.
+     * @param consumer Refers the consumer of each {@link Order}.
+     */
+    @Override
+    public void streamOrders(final int userId, final int afterId, final int limit,
+                             final Consumer<? super Order> consumer) {
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
                 .prepareStatement(String.join(" ", "select o.id,o.product_id,",
                         "o.payment_mode_id,o.quantity,o.total_amount, o.address,o.order_status_id, p.product_category_id,",
                         "e.brand,e.model, p.price,c.clothes_type,c.size,c.gender, c.brand from orders o join product p",
                         "on o.product_id=p.id  left join electronics_inventory e on o.product_id = e.product_id",
-                        "left join clothes_inventory c on o.product_id=c.product_id where o.user_id=? order by order.id offset ? limit ?"))) {
+                        "left join clothes_inventory c on o.product_id=c.product_id where o.user_id=? and o.id > ? order by o.id limit ?"))) {
+            connection.setAutoCommit(false);
+            preparedStatement.setFetchSize(FETCH_SIZE);
+            preparedStatement.setQueryTimeout(STREAM_TIMEOUT_SECONDS);
             preparedStatement.setInt(1, userId);
-            preparedStatement.setInt(2, offset);
+            preparedStatement.setInt(2, afterId);
             preparedStatement.setInt(3, limit);
 
-            return getOrdersFromResultSet(preparedStatement.executeQuery(), userId);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    consumer.accept(getOrderFromResultSet(resultSet, userId));
+                }
+            }
         } catch (final SQLException exception) {
             throw new OrderNotFoundException(exception.getMessage());
         }
@@ -193,39 +221,51 @@ public class OrderDAOImpl implements OrderDAO {
         final List<Order> orders = new ArrayList<>();
 
         while (resultSet.next()) {
-            final int orderId = resultSet.getInt(1);
-            final int productId = resultSet.getInt(2);
-            String productName = null;
-            final int paymentModeId = resultSet.getInt(3);
-            final int quantity = resultSet.getInt(4);
-            final float totalAmount = resultSet.getFloat(5);
-            final String address = resultSet.getString(6);
-            final int orderStatusId = resultSet.getInt(7);
-            final ProductCategory productCategory = ProductCategory.valueOf(resultSet.getInt(8));
-
-            if (ProductCategory.MOBILE == productCategory || ProductCategory.LAPTOP == productCategory) {
-                final String brand = resultSet.getString(9);
-                final String model = resultSet.getString(10);
-                final float price = resultSet.getFloat(11);
-                productName = String.format("Product name : %s %s - Rs :%.2f", brand, model, price);
-            }
+            orders.add(getOrderFromResultSet(resultSet, userId));
+        }
 
-            if (ProductCategory.CLOTHES == productCategory) {
-                final float price = resultSet.getFloat(11);
-                final String clothesType = resultSet.getString(12);
-                final String size = resultSet.getString(13);
-                final String gender = resultSet.getString(14);
-                final String brand = resultSet.getString(15);
-                productName = String.format("%s brand :%s size : %s gender: %s - Rs :%.2f ", clothesType, brand, size, gender, price);
-            }
-            final Order order = new Order.OrderBuilder(userId).setId(orderId)
-                    .setProductName(productName).setTotalAmount(totalAmount).setQuantity(quantity).setAddress(address)
-                    .setOrderStatusId(orderStatusId).setPaymentModeId(paymentModeId).setProductId(productId).build();
+        return orders;
+    }
 
-            orders.add(order);
+    /**
+     * <p>
+     * Gets the order of the current row of the given result set.
+     * </p>
+     *
+     * @param resultSet Refers the result set.
+     * @param userId Refers the user id.
+     * @return the {@link Order} of the user.
+     */
+    private Order getOrderFromResultSet(final ResultSet resultSet, final int userId) throws SQLException {
+        final int orderId = resultSet.getInt(1);
+        final int productId = resultSet.getInt(2);
+        String productName = null;
+        final int paymentModeId = resultSet.getInt(3);
+        final int quantity = resultSet.getInt(4);
+        final float totalAmount = resultSet.getFloat(5);
+        final String address = resultSet.getString(6);
+        final int orderStatusId = resultSet.getInt(7);
+        final ProductCategory productCategory = ProductCategory.valueOf(resultSet.getInt(8));
+
+        if (ProductCategory.MOBILE == productCategory || ProductCategory.LAPTOP == productCategory) {
+            final String brand = resultSet.getString(9);
+            final String model = resultSet.getString(10);
+            final float price = resultSet.getFloat(11);
+            productName = String.format("Product name : %s %s - Rs :%.2f", brand, model, price);
         }
 
-        return orders;
+        if (ProductCategory.CLOTHES == productCategory) {
+            final float price = resultSet.getFloat(11);
+            final String clothesType = resultSet.getString(12);
+            final String size = resultSet.getString(13);
+            final String gender = resultSet.getString(14);
+            final String brand = resultSet.getString(15);
+            productName = String.format("%s brand :%s size : %s gender: %s - Rs :%.2f ", clothesType, brand, size, gender, price);
+        }
+
+        return new Order.OrderBuilder(userId).setId(orderId)
+                .setProductName(productName).setTotalAmount(totalAmount).setQuantity(quantity).setAddress(address)
+                .setOrderStatusId(orderStatusId).setPaymentModeId(paymentModeId).setProductId(productId).build();
     }
 
     /**
@@ -240,7 +280,8 @@ public class OrderDAOImpl implements OrderDAO {
     public List<String> getAllAddresses(final int userId) {
         final List<String> addresses = new ArrayList<>();
 
-        try (PreparedStatement preparedStatement = DBConnection.getConnection()
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
                 .prepareStatement("select address from address join users on users.id=address.user_id where user_id =?")) {
             preparedStatement.setInt(1, userId);
             final ResultSet resultSet = preparedStatement.executeQuery();
@@ -266,7 +307,8 @@ public class OrderDAOImpl implements OrderDAO {
      */
     @Override
     public void addAddress(final int userId, final String address) {
-        try (PreparedStatement preparedStatement = DBConnection.getConnection()
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
                 .prepareStatement("insert into address(user_id, address) values (?,?)")) {
             preparedStatement.setInt(1, userId);
             preparedStatement.setString(2, address);
@@ -1,15 +1,17 @@
 package org.abc.product.dao.order.impl;
 
+import jakarta.persistence.PersistenceException;
 import jakarta.persistence.Query;
 
 import org.abc.authentication.exceptions.UpdateActionFailedException;
 import org.abc.authentication.exceptions.UserNotFoundException;
-import org.abc.product.OrderStatus;
+import org.abc.dbconnection.session.SessionFactoryLocator;
 import org.abc.product.ProductCategory;
 import org.abc.product.dao.order.OrderDAO;
 import org.abc.product.exceptions.OrderAdditionFailedException;
 import org.abc.product.exceptions.OrderNotFoundException;
 import org.abc.product.exceptions.OrderRemovalFailedException;
+import org.abc.product.exceptions.OutOfStockException;
 import org.abc.product.model.order.Order;
 import org.abc.product.model.product.Product;
 
@@ -17,12 +19,12 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.hibernate.Session;
-import org.hibernate.SessionFactory;
-import org.hibernate.cfg.Configuration;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -35,9 +37,10 @@ import java.util.Objects;
 public class OrderDAOImpl2 implements OrderDAO {
 
     private static OrderDAOImpl2 orderDAO;
-    private static final SessionFactory sessionFactory = new Configuration().addAnnotatedClass(Order.class)
-            .addAnnotatedClass(Product.class).buildSessionFactory();
     private static final Logger LOGGER = LogManager.getLogger(OrderDAOImpl2.class);
+    private static final int FETCH_SIZE = 100;
+    private static final int STREAM_TIMEOUT_SECONDS = Math.max(1,
+            Integer.getInteger("org.abc.product.stream.timeoutSeconds", 30));
 
     /**
      * <p>
@@ -59,19 +62,27 @@ public class OrderDAOImpl2 implements OrderDAO {
 
     /**
      * <p>
-     * Adds the order of the user.
+     * Adds the order of the user, reserving the stock of the product in the same statement.
      * </p>
      *
      * @param userId Refers the id of the user
      * @param order Refers the {@link Order} to be added.
+     * @return the {@link ProductCategory} of the ordered product.
+     * @throws OutOfStockException if the stock of the product is less than the ordered quantity.
      */
     @Override
-    public void addOrder(final int userId, final Order order) {
-        try (Session session = sessionFactory.openSession()) {
-            session.beginTransaction();
-            session.persist(order);
-            session.getTransaction().commit();
-            LOGGER.info(String.format("User id :%d Product Id :%d - Order placed successfully", userId, order.getProductId()));
+    public ProductCategory addOrder(final int userId, final Order order) {
+        try (Session session = SessionFactoryLocator.locate(OrderDAOImpl2.class).openSession()) {
+            final ProductCategory productCategory = session.doReturningWork(connection -> OrderPlacement
+                    .getInstance().placeOrder(connection, userId, order));
+
+            LOGGER.info(String.format("User id :%d Product Id :%d - Order placed successfully", userId,
+                    order.getProductId()));
+
+            return productCategory;
+        } catch (OutOfStockException exception) {
+            LOGGER.info(String.format("User id :%d Product Id :%d - Out of stock", userId, order.getProductId()));
+            throw exception;
         } catch (Exception exception) {
             LOGGER.warn(String.format("User id :%d Product Id :%d - Order not placed", userId, order.getProductId()));
             throw new OrderAdditionFailedException(exception.getMessage());
@@ -80,24 +91,25 @@ public class OrderDAOImpl2 implements OrderDAO {
 
     /**
      * <p>
-     * Gets all the orders placed by the user.
+     * Gets a page of the orders placed by the user, ordered by their id.
      * </p>
      *
      * @param userId Refers the id of the user
-     * @param page Refers the page number.
+     * @param afterId Refers the id of the last order of the previous page, zero for the first page.
      * @param limit Refers the limit of data to show.
-     * @return  all the {@link Order} of the user.
+     * @return  the {@link Order} of the user placed after the given order.
      */
     @Override
-    public List<Order> getOrders(final int userId, final int page, final int limit) {
-        try (Session session = sessionFactory.openSession()) {
+    public List<Order> getOrders(final int userId, final int afterId, final int limit) {
+        try (Session session = SessionFactoryLocator.locate(OrderDAOImpl2.class).openSession()) {
             final String sqlQuery = String.join(" ", "select o.id, o.product_id,",
                     "o.payment_mode_id,o.quantity,o.total_amount, o.address,o.order_status_id, p.product_category_id,",
                     "e.brand,e.model, p.price,c.clothes_type,c.size,c.gender, c.brand from orders o join product p",
                     "on o.product_id=p.id  left join electronics_inventory e on o.product_id = e.product_id",
-                    "left join clothes_inventory c on o.product_id=c.product_id where o.user_id=?");
+                    "left join clothes_inventory c on o.product_id=c.product_id where o.user_id=? and o.id > ?",
+                    "order by o.id limit ?");
             final List<Object[]> resultList = session.createNativeQuery(sqlQuery, Object[].class).setParameter(1, userId)
-                    .setFirstResult(page).setMaxResults(limit).getResultList();
+                    .setParameter(2, afterId).setParameter(3, limit).getResultList();
 
             return getOrdersFromResultList(resultList, userId);
         } catch (Exception exception) {
@@ -105,25 +117,85 @@ public class OrderDAOImpl2 implements OrderDAO {
         }
     }
 
+    /**
+     * <p>
+     * Passes a page of the orders placed by the user, ordered by their id, to the given consumer one row at a time.
+     * The rows are fetched in batches within a read only transaction, so the page is never held in memory as a whole.
+     * The query times out after the seconds set by the {@code org.abc.product.stream.timeoutSeconds} system property.
+     * </p>
+     *
+     * @param userId Refers the id of the user
+     * @param afterId Refers the id of the last order of the previous page, zero for the first page.
+     * @param limit Refers the limit of data to show.
+     * @param consumer Refers the consumer of each {@link Order}.
+     */
+    @Override
+    public void streamOrders(final int userId, final int afterId, final int limit,
+                             final Consumer<? super Order> consumer) {
+        try (Session session = SessionFactoryLocator.locate(OrderDAOImpl2.class).openSession()) {
+            final String sqlQuery = String.join(" ", "select o.id, o.product_id,",
+                    "o.payment_mode_id,o.quantity,o.total_amount, o.address,o.order_status_id, p.product_category_id,",
+                    "e.brand,e.model, p.price,c.clothes_type,c.size,c.gender, c.brand from orders o join product p",
+                    "on o.product_id=p.id  left join electronics_inventory e on o.product_id = e.product_id",
+                    "left join clothes_inventory c on o.product_id=c.product_id where o.user_id=? and o.id > ?",
+                    "order by o.id limit ?");
+
+            session.setDefaultReadOnly(true);
+            session.beginTransaction();
+
+            try (Stream<Object[]> rows = session.createNativeQuery(sqlQuery, Object[].class).setParameter(1, userId)
+                    .setParameter(2, afterId).setParameter(3, limit).setFetchSize(FETCH_SIZE)
+                    .setTimeout(STREAM_TIMEOUT_SECONDS).getResultStream()) {
+                rows.forEach(row -> consumer.accept(getOrderFromRow(row, userId)));
+            } finally {
+                session.getTransaction().rollback();
+            }
+        } catch (PersistenceException exception) {
+            throw new OrderNotFoundException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Adds all the given orders of the user and removes their products from the cart in a single transaction.
+     * </p>
+     *
+     * @param userId Refers the id of the user
+     * @param orders Refers the {@link Order} to be added, one for each product of the cart.
+     * @throws OutOfStockException if the stock of any product is less than its ordered quantity.
+     */
+    @Override
+    public void checkout(final int userId, final List<Order> orders) {
+        try (Session session = SessionFactoryLocator.locate(OrderDAOImpl2.class).openSession()) {
+            session.doWork(connection -> OrderPlacement.getInstance().checkout(connection, userId, orders));
+            LOGGER.info(String.format("User id :%d - %d orders placed successfully", userId, orders.size()));
+        } catch (OutOfStockException exception) {
+            LOGGER.info(String.format("User id :%d - Out of stock", userId));
+            throw exception;
+        } catch (Exception exception) {
+            LOGGER.warn(String.format("User id :%d - Orders not placed", userId));
+            throw new OrderAdditionFailedException(exception.getMessage());
+        }
+    }
+
     /**
      * <p>
      * Cancels the order placed by the user.
      * </p>
      *
      * @param order Refers the {@link Order} to be cancelled.
+     * @return the {@link ProductCategory} of the product of the order, null if the order was already cancelled
+     *         or is not placed by the user.
      */
     @Override
-    public void cancelOrder(final Order order) {
-        try (Session session = sessionFactory.openSession()) {
-            final Query query = (Query) session.createNativeMutationQuery("update orders set orderStatusId=:orderStatusId where id=:id");
+    public ProductCategory cancelOrder(final Order order) {
+        try (Session session = SessionFactoryLocator.locate(OrderDAOImpl2.class).openSession()) {
+            final ProductCategory productCategory = session.doReturningWork(connection -> OrderPlacement
+                    .getInstance().cancelOrder(connection, order));
 
-            session.beginTransaction();
-            query.setParameter("orderStatusId", OrderStatus.CANCELLED.getId());
-            query.setParameter("id", order.getId());
-            query.executeUpdate();
-            updateQuantity(order.getProductId(), order.getQuantity());
-            session.getTransaction().commit();
             LOGGER.info(String.format("User id :%d Product Id :%d - Order cancelled successfully.", order.getUserId(), order.getProductId()));
+
+            return productCategory;
         } catch (Exception exception) {
             LOGGER.warn(String.format("User id :%d Product Id :%d - Order can't be cancelled.", order.getUserId(), order.getProductId()));
             throw new OrderRemovalFailedException(exception.getMessage());
@@ -140,7 +212,7 @@ public class OrderDAOImpl2 implements OrderDAO {
      */
     @Override
     public void addAddress(final int userId, final String address) {
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = SessionFactoryLocator.locate(OrderDAOImpl2.class).openSession()) {
             final Query query = (Query) session.createNativeMutationQuery("insert into address(user_id, address) values (?,?)");
 
             session.beginTransaction();
@@ -165,7 +237,7 @@ public class OrderDAOImpl2 implements OrderDAO {
      */
     @Override
     public List<String> getAllAddresses(final int userId) {
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = SessionFactoryLocator.locate(OrderDAOImpl2.class).openSession()) {
             final String sqlQuery = "select address from address join users on users.id=address.user_id where user_id =?";
 
             return session.createNativeQuery(sqlQuery, String.class)
@@ -185,7 +257,7 @@ public class OrderDAOImpl2 implements OrderDAO {
      */
     @Override
     public List<Order> getOrders(final int userId) {
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = SessionFactoryLocator.locate(OrderDAOImpl2.class).openSession()) {
             final String sqlQuery = String.join(" ", "select o.id, o.product_id,",
                     "o.payment_mode_id,o.quantity,o.total_amount, o.address,o.order_status_id, p.product_category_id,",
                     "e.brand,e.model, p.price,c.clothes_type,c.size,c.gender, c.brand from orders o join product p",
@@ -202,71 +274,61 @@ public class OrderDAOImpl2 implements OrderDAO {
 
     /**
      * <p>
-     * Updates the quantity of product when order is placed by the user.
+     * Gets all the orders from the provided ResultList.
      * </p>
      *
-     * @param productId Refers the id of the product.
-     * @param quantity Refers the quantity to be updated.
+     * @param resultList Refers the result set.
+     * @param userId Refers the user id.
+     * @return  all the {@link Order} of the user.
      */
-    private void updateQuantity(final int productId, final int quantity) {
-        try (Session session = sessionFactory.openSession()) {
-            final Query query = (Query) session.createNativeMutationQuery("update product p set p.quantity=quantity -:quantity where p.id =:id");
+    private List<Order> getOrdersFromResultList(final List<Object[]> resultList, final int userId) {
+        final List<Order> orders = new ArrayList<>();
 
-            session.beginTransaction();
-            query.setParameter("quantity", quantity);
-            query.setParameter("id", productId);
-            query.executeUpdate();
-            session.getTransaction().commit();
-        } catch (Exception exception) {
-            throw new UpdateActionFailedException(exception.getMessage());
+        for (final Object[] row : resultList) {
+            orders.add(getOrderFromRow(row, userId));
         }
+
+        return orders;
     }
 
     /**
      * <p>
-     * Gets all the orders from the provided ResultList.
+     * Gets the order of the given row.
      * </p>
      *
-     * @param resultList Refers the result set.
+     * @param row Refers the row of the result.
      * @param userId Refers the user id.
-     * @return  all the {@link Order} of the user.
+     * @return the {@link Order} of the user.
      */
-    private List<Order> getOrdersFromResultList(final List<Object[]> resultList, final int userId) {
-        final List<Order> orders = new ArrayList<>();
-
-        for (final Object[] row : resultList) {
-            final int orderId = (int) row[0];
-            final int productId = (int) row[1];
-            String productName = null;
-            final int paymentModeId = (int) row[2];
-            final int quantity = (int) row[3];
-            final double totalAmount = (double) row[4];
-            final String address = (String) row[5];
-            final int orderStatusId = (int) row[6];
-            final ProductCategory productCategory = ProductCategory.valueOf((int) row[7]);
-
-            if (ProductCategory.MOBILE == productCategory || ProductCategory.LAPTOP == productCategory) {
-                final String brand = (String) row[8];
-                final String model = (String) row[9];
-                final double price = (double) row[10];
-                productName = String.format("Product name : %s %s - Rs :%.2f", brand, model, price);
-            }
+    private Order getOrderFromRow(final Object[] row, final int userId) {
+        final int orderId = (int) row[0];
+        final int productId = (int) row[1];
+        String productName = null;
+        final int paymentModeId = (int) row[2];
+        final int quantity = (int) row[3];
+        final double totalAmount = (double) row[4];
+        final String address = (String) row[5];
+        final int orderStatusId = (int) row[6];
+        final ProductCategory productCategory = ProductCategory.valueOf((int) row[7]);
 
-            if (ProductCategory.CLOTHES == productCategory) {
-                final double price = (double) row[10];
-                final String clothesType = (String) row[11];
-                final String size = (String) row[12];
-                final String gender = (String) row[13];
-                final String brand = (String) row[14];
-                productName = String.format("%s brand :%s size : %s gender: %s - Rs :%.2f ", clothesType, brand, size, gender, price);
-            }
-            final Order order = new Order.OrderBuilder(userId).setId(orderId)
-                    .setProductName(productName).setTotalAmount((float) totalAmount).setQuantity(quantity).setAddress(address)
-                    .setOrderStatusId(orderStatusId).setPaymentModeId(paymentModeId).setProductId(productId).build();
+        if (ProductCategory.MOBILE == productCategory || ProductCategory.LAPTOP == productCategory) {
+            final String brand = (String) row[8];
+            final String model = (String) row[9];
+            final double price = (double) row[10];
+            productName = String.format("Product name : %s %s - Rs :%.2f", brand, model, price);
+        }
 
-            orders.add(order);
+        if (ProductCategory.CLOTHES == productCategory) {
+            final double price = (double) row[10];
+            final String clothesType = (String) row[11];
+            final String size = (String) row[12];
+            final String gender = (String) row[13];
+            final String brand = (String) row[14];
+            productName = String.format("%s brand :%s size : %s gender: %s - Rs :%.2f ", clothesType, brand, size, gender, price);
         }
 
-        return orders;
+        return new Order.OrderBuilder(userId).setId(orderId)
+                .setProductName(productName).setTotalAmount((float) totalAmount).setQuantity(quantity).setAddress(address)
+                .setOrderStatusId(orderStatusId).setPaymentModeId(paymentModeId).setProductId(productId).build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,242 @@
+package org.abc.product.dao.order.impl;
+
+import org.abc.product.OrderStatus;
+import org.abc.product.ProductCategory;
+import org.abc.product.exceptions.OrderAdditionFailedException;
+import org.abc.product.exceptions.OutOfStockException;
+import org.abc.product.model.order.Order;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Places and cancels the orders together with the stock of their products in a single statement. The stock is
+ * only reserved while it is enough for the order, so concurrent orders of the same product can't oversell it and
+ * the row lock of the product is held just for that statement.
+ * </p>
+ *
+ * <p>
+ * A checkout places every line of a cart in one transaction with a batch of reservations, a batch of order
+ * inserts and a single delete of the cart rows, so it takes the same number of round trips for any cart size.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class OrderPlacement {
+
+    private static OrderPlacement orderPlacement;
+    private static final String PLACE_ORDER_QUERY = String.join(" ",
+            "with reserved as (update product set quantity = quantity - ? where id = ? and quantity >= ?",
+            "returning id, product_category_id), placed as (insert into orders(user_id, product_id, address,",
+            "payment_mode_id, quantity, total_amount, order_status_id) select ?, id, ?, ?, ?, ?, ? from reserved",
+            "returning id) select r.product_category_id from placed, reserved r");
+    private static final String CANCEL_ORDER_QUERY = String.join(" ",
+            "with cancelled as (update orders set order_status_id = ? where id = ? and user_id = ?",
+            "and order_status_id <> ? returning product_id, quantity) update product p",
+            "set quantity = p.quantity + c.quantity from cancelled c where p.id = c.product_id",
+            "returning p.product_category_id");
+    private static final String RESERVE_QUERY =
+            "update product set quantity = quantity - ? where id = ? and quantity >= ?";
+    private static final String INSERT_ORDER_QUERY = String.join(" ",
+            "insert into orders(user_id, product_id, address, payment_mode_id, quantity, total_amount, order_status_id)",
+            "values (?, ?, ?, ?, ?, ?, ?)");
+
+    /**
+     * <p>
+     * Default constructor of OrderPlacement class. Kept private to restrict from creating object outside this class.
+     * </p>
+     */
+    private OrderPlacement() {}
+
+    /**
+     * <p>
+     * Creates a single object of OrderPlacement class and returns it.
+     * </p>
+     *
+     * @return the single instance of OrderPlacement class.
+     */
+    public static synchronized OrderPlacement getInstance() {
+        return Objects.isNull(orderPlacement) ? orderPlacement = new OrderPlacement() : orderPlacement;
+    }
+
+    /**
+     * <p>
+     * Reserves the stock of the ordered product and adds the order of the user.
+     * </p>
+     *
+     * @param connection Refers the connection to the database.
+     * @param userId Refers the id of the user.
+     * @param order Refers the {@link Order} to be added.
+     * @return the {@link ProductCategory} of the ordered product, whose stock is changed.
+     * @throws OutOfStockException if the stock of the product is less than the ordered quantity.
+     * @throws OrderAdditionFailedException if the ordered quantity is not positive.
+     */
+    public ProductCategory placeOrder(final Connection connection, final int userId, final Order order)
+            throws SQLException {
+        checkQuantity(order);
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(PLACE_ORDER_QUERY)) {
+            preparedStatement.setInt(1, order.getQuantity());
+            preparedStatement.setInt(2, order.getProductId());
+            preparedStatement.setInt(3, order.getQuantity());
+            preparedStatement.setInt(4, userId);
+            preparedStatement.setString(5, order.getAddress());
+            preparedStatement.setInt(6, order.getPaymentModeId());
+            preparedStatement.setInt(7, order.getQuantity());
+            preparedStatement.setFloat(8, order.getTotalAmount());
+            preparedStatement.setInt(9, order.getOrderStatusId());
+
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new OutOfStockException(String.format("Product Id :%d - Out of stock for quantity %d",
+                            order.getProductId(), order.getQuantity()));
+                }
+
+                return ProductCategory.valueOf(resultSet.getInt(1));
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Cancels the order and returns its quantity to the stock of the product. An order which is already cancelled
+     * is left as it is, so its quantity is returned only once, and so is an order placed by another user.
+     * </p>
+     *
+     * @param connection Refers the connection to the database.
+     * @param order Refers the {@link Order} to be cancelled.
+     * @return the {@link ProductCategory} of the product whose stock is returned, null if the order was already
+     *         cancelled or is not placed by the user.
+     */
+    public ProductCategory cancelOrder(final Connection connection, final Order order) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(CANCEL_ORDER_QUERY)) {
+            preparedStatement.setInt(1, OrderStatus.CANCELLED.getId());
+            preparedStatement.setInt(2, order.getId());
+            preparedStatement.setInt(3, order.getUserId());
+            preparedStatement.setInt(4, OrderStatus.CANCELLED.getId());
+
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? ProductCategory.valueOf(resultSet.getInt(1)) : null;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Reserves the stock of all the given orders, adds them and removes their products from the cart of the user
+     * in a single transaction. Nothing is changed when any of the products is out of stock.
+     * </p>
+     *
+     * @param connection Refers the connection to the database.
+     * @param userId Refers the id of the user.
+     * @param orders Refers the {@link Order} to be added, one for each product of the cart.
+     * @throws OutOfStockException if the stock of any product is less than its ordered quantity.
+     * @throws OrderAdditionFailedException if the quantity of any order is not positive.
+     */
+    public void checkout(final Connection connection, final int userId, final List<Order> orders) throws SQLException {
+        orders.forEach(this::checkQuantity);
+        final List<Order> sortedOrders = new ArrayList<>(orders);
+        final boolean autoCommit = connection.getAutoCommit();
+
+        // Locks the products in the same order in every checkout, so concurrent checkouts can't deadlock.
+        sortedOrders.sort(Comparator.comparingInt(Order::getProductId));
+        connection.setAutoCommit(false);
+
+        try {
+            reserve(connection, sortedOrders);
+            insertOrders(connection, userId, sortedOrders);
+
+            try (PreparedStatement preparedStatement = connection
+                    .prepareStatement("delete from cart where user_id = ? and product_id = any(?)")) {
+                preparedStatement.setInt(1, userId);
+                preparedStatement.setArray(2, connection.createArrayOf("integer", sortedOrders.stream()
+                        .map(Order::getProductId).toArray()));
+                preparedStatement.executeUpdate();
+            }
+            connection.commit();
+        } catch (final SQLException | RuntimeException exception) {
+            connection.rollback();
+            throw exception;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * <p>
+     * Checks the ordered quantity before any stock is reserved. A quantity of zero or less would pass the stock
+     * check and add to the stock instead of reserving it.
+     * </p>
+     *
+     * @param order Refers the {@link Order} to be checked.
+     * @throws OrderAdditionFailedException if the ordered quantity is not positive.
+     */
+    private void checkQuantity(final Order order) {
+        if (order.getQuantity() <= 0) {
+            throw new OrderAdditionFailedException(String.format("Product Id :%d - Invalid quantity %d",
+                    order.getProductId(), order.getQuantity()));
+        }
+    }
+
+    /**
+     * <p>
+     * Reserves the stock of the given orders with a single batch.
+     * </p>
+     *
+     * @param connection Refers the connection to the database.
+     * @param orders Refers the {@link Order} to be reserved.
+     * @throws OutOfStockException if the stock of any product is less than its ordered quantity.
+     */
+    private void reserve(final Connection connection, final List<Order> orders) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(RESERVE_QUERY)) {
+            for (final Order order : orders) {
+                preparedStatement.setInt(1, order.getQuantity());
+                preparedStatement.setInt(2, order.getProductId());
+                preparedStatement.setInt(3, order.getQuantity());
+                preparedStatement.addBatch();
+            }
+            final int[] updateCounts = preparedStatement.executeBatch();
+
+            for (int index = 0; index < updateCounts.length; index++) {
+                if (updateCounts[index] == 0) {
+                    throw new OutOfStockException(String.format("Product Id :%d - Out of stock for quantity %d",
+                            orders.get(index).getProductId(), orders.get(index).getQuantity()));
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Adds the given orders of the user with a single batch.
+     * </p>
+     *
+     * @param connection Refers the connection to the database.
+     * @param userId Refers the id of the user.
+     * @param orders Refers the {@link Order} to be added.
+     */
+    private void insertOrders(final Connection connection, final int userId, final List<Order> orders)
+            throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(INSERT_ORDER_QUERY)) {
+            for (final Order order : orders) {
+                preparedStatement.setInt(1, userId);
+                preparedStatement.setInt(2, order.getProductId());
+                preparedStatement.setString(3, order.getAddress());
+                preparedStatement.setInt(4, order.getPaymentModeId());
+                preparedStatement.setInt(5, order.getQuantity());
+                preparedStatement.setFloat(6, order.getTotalAmount());
+                preparedStatement.setInt(7, order.getOrderStatusId());
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+    }
+}
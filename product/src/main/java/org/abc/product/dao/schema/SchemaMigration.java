@@ -0,0 +1,184 @@
+package org.abc.product.dao.schema;
+
+import org.abc.dbconnection.connection.DBConnection;
+import org.abc.product.exceptions.SchemaMigrationFailedException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Migrates the schema of the product tables with the versioned scripts under {@code /db/migration}, named
+ * {@code V<version>__<description>.sql}. The versions applied are kept in the {@code product_schema_version} table,
+ * so every script runs once per database.
+ * </p>
+ *
+ * <p>
+ * Each script runs in its own transaction together with the record of its version, under an advisory lock, so a
+ * failing statement rolls back the whole script and bundles starting together don't apply it twice. A failure
+ * fails the start of the bundle, as the product tables can't be used with a schema they don't expect.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class SchemaMigration {
+
+    private static SchemaMigration schemaMigration;
+    private static final Logger LOGGER = LogManager.getLogger(SchemaMigration.class);
+    private static final String MIGRATION_PATH = "/db/migration/";
+    private static final List<String> MIGRATIONS = List.of("V1__inventory_natural_keys.sql",
+            "V2__cart_quantity.sql");
+    private static final String VERSION_TABLE = String.join(" ",
+            "create table if not exists product_schema_version (version integer primary key,",
+            "description text not null, applied_at timestamptz not null default now())");
+
+    /**
+     * <p>
+     * Default constructor of the SchemaMigration class. Kept private to restrict from creating object from outside
+     * of this class.
+     * </p>
+     */
+    private SchemaMigration() {}
+
+    /**
+     * <p>
+     * Creates a single object of SchemaMigration Class and returns it.
+     * </p>
+     *
+     * @return returns the single instance of SchemaMigration Class.
+     */
+    public static SchemaMigration getInstance() {
+        return Objects.isNull(schemaMigration) ? schemaMigration = new SchemaMigration() : schemaMigration;
+    }
+
+    /**
+     * <p>
+     * Applies the scripts whose versions are not applied yet, in the order of their versions.
+     * </p>
+     *
+     * @throws SchemaMigrationFailedException if a script can't be read or applied.
+     */
+    public void migrate() {
+        try (Connection connection = DBConnection.getConnection()) {
+            final boolean autoCommit = connection.getAutoCommit();
+
+            try (Statement statement = connection.createStatement()) {
+                connection.setAutoCommit(true);
+                statement.execute(VERSION_TABLE);
+                connection.setAutoCommit(false);
+
+                for (final String migration : MIGRATIONS) {
+                    apply(connection, migration);
+                }
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (final SQLException exception) {
+            LOGGER.error(String.format("Product schema can't be migrated - %s", exception.getMessage()));
+            throw new SchemaMigrationFailedException(exception.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Applies the given script and records its version in a single transaction, unless the version is already
+     * applied.
+     * </p>
+     *
+     * @param connection Refers the connection to the database, not in auto commit mode.
+     * @param migration Refers the file name of the script.
+     */
+    private void apply(final Connection connection, final String migration) throws SQLException {
+        final int separator = migration.indexOf("__");
+        final int version = Integer.parseInt(migration.substring(1, separator));
+        final String description = migration.substring(separator + 2, migration.lastIndexOf('.')).replace('_', ' ');
+        final List<String> queries = readStatements(migration);
+
+        try (Statement statement = connection.createStatement();
+             PreparedStatement versionStatement = connection
+                     .prepareStatement("select 1 from product_schema_version where version = ?");
+             PreparedStatement recordStatement = connection.prepareStatement(
+                     "insert into product_schema_version (version, description) values (?, ?)")) {
+            statement.execute("select pg_advisory_xact_lock(hashtext('product_schema'))");
+            versionStatement.setInt(1, version);
+
+            try (ResultSet resultSet = versionStatement.executeQuery()) {
+                if (resultSet.next()) {
+                    connection.commit();
+
+                    return;
+                }
+            }
+
+            for (final String query : queries) {
+                statement.execute(query);
+            }
+            recordStatement.setInt(1, version);
+            recordStatement.setString(2, description);
+            recordStatement.executeUpdate();
+            connection.commit();
+            LOGGER.info(String.format("Product schema migrated to version %d - %s", version, description));
+        } catch (final SQLException exception) {
+            connection.rollback();
+            throw new SQLException(String.format("%s failed - %s", migration, exception.getMessage()), exception);
+        }
+    }
+
+    /**
+     * <p>
+     * Reads the statements of the given script. Statements end with a semicolon at the end of a line and lines
+     * starting with {@code --} are comments.
+     * </p>
+     *
+     * @param migration Refers the file name of the script.
+     * @return the statements of the script.
+     */
+    private List<String> readStatements(final String migration) {
+        final String script;
+
+        try (InputStream inputStream = SchemaMigration.class.getResourceAsStream(MIGRATION_PATH + migration)) {
+            if (Objects.isNull(inputStream)) {
+                throw new SchemaMigrationFailedException(String.format("Migration %s is missing", migration));
+            }
+            script = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (final IOException exception) {
+            throw new SchemaMigrationFailedException(String.format("Migration %s can't be read - %s", migration,
+                    exception.getMessage()));
+        }
+        final List<String> statements = new ArrayList<>();
+        final StringBuilder statement = new StringBuilder();
+
+        for (final String line : script.split("\\R")) {
+            final String strippedLine = line.strip();
+
+            if (strippedLine.isEmpty() || strippedLine.startsWith("--")) {
+                continue;
+            }
+            statement.append(strippedLine).append(' ');
+
+            if (strippedLine.endsWith(";")) {
+                statements.add(statement.substring(0, statement.lastIndexOf(";")));
+                statement.setLength(0);
+            }
+        }
+
+        if (!statement.toString().isBlank()) {
+            statements.add(statement.toString().strip());
+        }
+
+        return statements;
+    }
+}
@@ -35,15 +35,15 @@ public interface WishlistDAO {
 
     /**
      * <p>
-     * Gets the wishlist of the current user and returns it.
+     * Gets a page of the wishlist of the current user, ordered by the product id, and returns it.
      * </p>
      *
-     * @param limit Refers the limit of data to show.
-     * @param page Refers the page number.
      * @param userId Refers the id of the user.
-     * @return the {@link Wishlist} of the user.
+     * @param afterProductId Refers the id of the last product of the previous page, zero for the first page.
+     * @param limit Refers the limit of data to show.
+     * @return the {@link Wishlist} of the user with the products after the given product.
      */
-    Wishlist getWishlist(final int userId, final int page, final int limit);
+    Wishlist getWishlist(final int userId, final int afterProductId, final int limit);
 
     /**
      * <p>
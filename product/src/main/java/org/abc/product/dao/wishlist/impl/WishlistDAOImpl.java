@@ -1,5 +1,6 @@
 package org.abc.product.dao.wishlist.impl;
 
+import org.abc.product.cache.VersionStamps;
 import org.abc.product.dao.wishlist.WishlistDAO;
 import org.abc.dbconnection.connection.DBConnection;
 import org.abc.product.ProductCategory;
@@ -30,7 +31,6 @@ import java.util.Objects;
 public class WishlistDAOImpl implements WishlistDAO {
 
     private static WishlistDAOImpl wishlistDAO;
-    private final Connection connection = DBConnection.getConnection();
     private static final Logger LOGGER = LogManager.getLogger(WishlistDAOImpl.class);
 
     /**
@@ -62,12 +62,17 @@ public class WishlistDAOImpl implements WishlistDAO {
      */
     @Override
     public boolean addItem(final int productId, final int userId) {
-        try (PreparedStatement preparedStatement = connection
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
                 .prepareStatement("insert into wishlist (user_id , product_id) values(?,?)")) {
             preparedStatement.setInt(1, userId);
             preparedStatement.setInt(2, productId);
             final int updatedRows = preparedStatement.executeUpdate();
 
+            if (updatedRows > 0) {
+                VersionStamps.getInstance().bumpWishlist(userId);
+            }
+
             return  updatedRows > 0;
         } catch (final SQLException exception) {
             LOGGER.info(String.format("User id :%d Product Id :%d - Item is already in the wishlist", userId, productId));
@@ -86,11 +91,13 @@ public class WishlistDAOImpl implements WishlistDAO {
      */
     @Override
     public void removeItem(final int productId, final int userId) {
-        try (PreparedStatement preparedStatement = connection
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
                 .prepareStatement("delete from wishlist where user_id =? and product_id =?")) {
             preparedStatement.setInt(1, userId);
             preparedStatement.setInt(2, productId);
             preparedStatement.executeUpdate();
+            VersionStamps.getInstance().bumpWishlist(userId);
             LOGGER.info(String.format("User id :%d Product Id :%d - Item removed from the wishlist", userId, productId));
         } catch (final SQLException exception) {
             LOGGER.info(String.format("User id :%d Product Id :%d - Item can't be removed from the wishlist", userId, productId));
@@ -100,25 +107,25 @@ public class WishlistDAOImpl implements WishlistDAO {
 
     /**
      * <p>
-     * Gets the wishlist of the specified user id and returns it.
+     * Gets a page of the wishlist of the specified user id, ordered by the product id, and returns it.
      * </p>
      *
-     * @param limit Refers the limit of data to show.
-     * @param page Refers the page number.
      * @param userId Refers the id of the user who owns the cart.
-     * @return the {@link Wishlist} of the user.
+     * @param afterProductId Refers the id of the last product of the previous page, zero for the first page.
+     * @param limit Refers the limit of data to show.
+     * @return the {@link Wishlist} of the user with the products after the given product.
      */
     @Override
-    public Wishlist getWishlist(final int userId, final int page, final int limit) {
-        final int offset = (page - 1) * limit;
-
-        try (PreparedStatement preparedStatement = connection
+    public Wishlist getWishlist(final int userId, final int afterProductId, final int limit) {
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
                 .prepareStatement(String.join(" ", "select w.product_id,",
                         "p.product_category_id, e.brand,e.model, p.price,c.clothes_type,c.size,c.gender, c.brand ,p.quantity",
                         "from wishlist w join product p on w.product_id=p.id left join electronics_inventory e on",
-                        "w.product_id = e.product_id left join clothes_inventory c on p.id=c.product_id where w.user_id = ? order by wishlist.id offset ? limit ?"))) {
+                        "w.product_id = e.product_id left join clothes_inventory c on p.id=c.product_id where w.user_id = ?",
+                        "and w.product_id > ? order by w.product_id limit ?"))) {
             preparedStatement.setInt(1, userId);
-            preparedStatement.setInt(2, offset);
+            preparedStatement.setInt(2, afterProductId);
             preparedStatement.setInt(3, limit);
 
             return getWishlistFromResultSet(preparedStatement.executeQuery());
@@ -137,7 +144,8 @@ public class WishlistDAOImpl implements WishlistDAO {
      */
     @Override
     public Wishlist getWishlist(final int userId) {
-        try (PreparedStatement preparedStatement = connection
+        try (Connection connection = DBConnection.getConnection();
+             PreparedStatement preparedStatement = connection
                 .prepareStatement(String.join(" ", "select w.product_id,",
                         "p.product_category_id, e.brand,e.model, p.price,c.clothes_type,c.size,c.gender, c.brand ,p.quantity",
                         "from wishlist w join product p on w.product_id=p.id left join electronics_inventory e on",
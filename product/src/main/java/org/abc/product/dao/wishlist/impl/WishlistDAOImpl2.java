@@ -2,6 +2,8 @@ package org.abc.product.dao.wishlist.impl;
 
 import jakarta.persistence.Query;
 
+import org.abc.dbconnection.session.SessionFactoryLocator;
+import org.abc.product.cache.VersionStamps;
 import org.abc.product.dao.wishlist.WishlistDAO;
 import org.abc.product.exceptions.ItemNotFoundException;
 import org.abc.product.exceptions.ItemRemovalFailedException;
@@ -14,8 +16,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.hibernate.Session;
-import org.hibernate.SessionFactory;
-import org.hibernate.cfg.Configuration;
 
 import java.util.List;
 import java.util.Objects;
@@ -31,7 +31,6 @@ import java.util.Objects;
 public class WishlistDAOImpl2 implements WishlistDAO {
 
     private static WishlistDAOImpl2 wishlistDAO;
-    private static final SessionFactory sessionFactory = new Configuration().buildSessionFactory();
     private static final Logger LOGGER = LogManager.getLogger(WishlistDAOImpl2.class);
 
     /**
@@ -63,7 +62,7 @@ public class WishlistDAOImpl2 implements WishlistDAO {
      */
     @Override
     public boolean addItem(int productId, int userId) {
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = SessionFactoryLocator.locate(WishlistDAOImpl2.class).openSession()) {
             final Query query = (Query) session.createNativeMutationQuery("insert into wishlist (user_id , product_id) values(?,?)");
 
             session.beginTransaction();
@@ -72,6 +71,10 @@ public class WishlistDAOImpl2 implements WishlistDAO {
             final int updatedRows = query.executeUpdate();
 
             session.getTransaction().commit();
+
+            if (updatedRows > 0) {
+                VersionStamps.getInstance().bumpWishlist(userId);
+            }
             session.close();
 
             return updatedRows > 0;
@@ -92,7 +95,7 @@ public class WishlistDAOImpl2 implements WishlistDAO {
      */
     @Override
     public void removeItem(final int productId, final int userId) {
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = SessionFactoryLocator.locate(WishlistDAOImpl2.class).openSession()) {
             final Query query = (Query) session.createNativeMutationQuery("delete from wishlist where user_id =? and product_id =?");
 
             session.beginTransaction();
@@ -100,6 +103,7 @@ public class WishlistDAOImpl2 implements WishlistDAO {
             query.setParameter(2, productId);
             query.executeUpdate();
             session.getTransaction().commit();
+            VersionStamps.getInstance().bumpWishlist(userId);
             LOGGER.info(String.format("User id :%d Product Id :%d - Item removed from the wishlist", userId, productId));
         } catch (Exception exception) {
             LOGGER.info(String.format("User id :%d Product Id :%d - Item can't be removed from the wishlist", userId, productId));
@@ -109,23 +113,24 @@ public class WishlistDAOImpl2 implements WishlistDAO {
 
     /**
      * <p>
-     * Gets the wishlist of the specified user id and returns it.
+     * Gets a page of the wishlist of the specified user id, ordered by the product id, and returns it.
      * </p>
      *
-     * @param limit Refers the limit of data to show.
-     * @param page Refers the page number.
      * @param userId Refers the id of the user who owns the cart.
-     * @return the {@link Wishlist} of the user.
+     * @param afterProductId Refers the id of the last product of the previous page, zero for the first page.
+     * @param limit Refers the limit of data to show.
+     * @return the {@link Wishlist} of the user with the products after the given product.
      */
     @Override
-    public Wishlist getWishlist(int userId, int page, int limit) {
-        try (Session session = sessionFactory.openSession()) {
+    public Wishlist getWishlist(final int userId, final int afterProductId, final int limit) {
+        try (Session session = SessionFactoryLocator.locate(WishlistDAOImpl2.class).openSession()) {
             final String sqlQuery = String.join(" ", "select w.product_id,",
                     "p.product_category_id, e.brand,e.model, p.price,c.clothes_type,c.size,c.gender, c.brand ,p.quantity",
                     "from wishlist w join product p on w.product_id=p.id left join electronics_inventory e on",
-                    "w.product_id = e.product_id left join clothes_inventory c on p.id=c.product_id where w.user_id = ?");
-            final List<Object[]> resultList = session.createNativeQuery(sqlQuery, Object[].class).setParameter(1, userId).setFirstResult(page).setMaxResults(limit)
-                    .getResultList();
+                    "w.product_id = e.product_id left join clothes_inventory c on p.id=c.product_id where w.user_id = ?",
+                    "and w.product_id > ? order by w.product_id limit ?");
+            final List<Object[]> resultList = session.createNativeQuery(sqlQuery, Object[].class).setParameter(1, userId)
+                    .setParameter(2, afterProductId).setParameter(3, limit).getResultList();
 
             return getWishlistFromResultList(resultList);
         } catch (Exception exception) {
@@ -144,7 +149,7 @@ public class WishlistDAOImpl2 implements WishlistDAO {
      */
     @Override
     public Wishlist getWishlist(final int userId) {
-        try (Session session = sessionFactory.openSession()) {
+        try (Session session = SessionFactoryLocator.locate(WishlistDAOImpl2.class).openSession()) {
             final String sqlQuery = String.join(" ", "select w.product_id,",
                     "p.product_category_id, e.brand,e.model, p.price,c.clothes_type,c.size,c.gender, c.brand ,p.quantity",
                     "from wishlist w join product p on w.product_id=p.id left join electronics_inventory e on",
@@ -0,0 +1,25 @@
+package org.abc.product.exceptions;
+
+import org.abc.exception.CustomException;
+
+/**
+ * <p>
+ * Represents the exception when the cursor of a page is invalid.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class InvalidCursorException extends CustomException {
+
+    /**
+     * <p>
+     * Constructs the InvalidCursorException object.
+     * </p>
+     *
+     * @param message Refers the message to be displayed.
+     */
+    public InvalidCursorException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,25 @@
+package org.abc.product.exceptions;
+
+import org.abc.exception.CustomException;
+
+/**
+ * <p>
+ * Represents the exception when the stock of a product is not enough for an order.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class OutOfStockException extends CustomException {
+
+    /**
+     * <p>
+     * Constructs the OutOfStockException object.
+     * </p>
+     *
+     * @param message Refers the message to be displayed.
+     */
+    public OutOfStockException(final String message) {
+        super(message);
+    }
+}
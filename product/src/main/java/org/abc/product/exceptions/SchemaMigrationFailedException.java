@@ -0,0 +1,25 @@
+package org.abc.product.exceptions;
+
+import org.abc.exception.CustomException;
+
+/**
+ * <p>
+ * Represents the exception when the schema of the product tables can't be migrated.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class SchemaMigrationFailedException extends CustomException {
+
+    /**
+     * <p>
+     * Constructs the SchemaMigrationFailedException object.
+     * </p>
+     *
+     * @param message Refers the message to be displayed.
+     */
+    public SchemaMigrationFailedException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,84 @@
+package org.abc.product.format;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import javax.ws.rs.core.MediaType;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Represents the formats the responses are written in. JSON is the default, while the binary Smile and CBOR
+ * formats are written for the clients asking for them in the Accept header, as they are smaller and faster to
+ * parse. Each format has a single thread safe object mapper.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public enum JsonFormat {
+
+    JSON(MediaType.APPLICATION_JSON_TYPE, new ObjectMapper()),
+    SMILE(new MediaType("application", "x-jackson-smile"), new ObjectMapper(new SmileFactory())),
+    CBOR(new MediaType("application", "cbor"), new ObjectMapper(new CBORFactory()));
+
+    private final MediaType mediaType;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * <p>
+     * Constructs the JsonFormat.
+     * </p>
+     *
+     * @param mediaType Refers the media type of the format.
+     * @param objectMapper Refers the object mapper writing the format.
+     */
+    JsonFormat(final MediaType mediaType, final ObjectMapper objectMapper) {
+        this.mediaType = mediaType;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * <p>
+     * Gets the media type of the format.
+     * </p>
+     *
+     * @return the {@link MediaType}.
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * <p>
+     * Gets the object mapper of the format.
+     * </p>
+     *
+     * @return the {@link ObjectMapper}.
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * <p>
+     * Gets the format preferred by the client. A wildcard prefers JSON.
+     * </p>
+     *
+     * @param acceptableMediaTypes Refers the media types accepted by the client, in the order of preference.
+     * @return the preferred {@link JsonFormat}, JSON if none of the formats is accepted.
+     */
+    public static JsonFormat of(final List<MediaType> acceptableMediaTypes) {
+        for (final MediaType acceptableMediaType : acceptableMediaTypes) {
+            for (final JsonFormat jsonFormat : values()) {
+                if (acceptableMediaType.isCompatible(jsonFormat.mediaType)) {
+                    return jsonFormat;
+                }
+            }
+        }
+
+        return JSON;
+    }
+}
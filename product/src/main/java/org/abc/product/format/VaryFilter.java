@@ -0,0 +1,62 @@
+package org.abc.product.format;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.ext.Provider;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Adds the Vary header to the responses, as their format follows the Accept header and their compression follows
+ * the Accept-Encoding header. Without it a shared cache could serve a Smile or gzip response cached for one client
+ * to a client asking for plain JSON.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@Provider
+public class VaryFilter implements ContainerResponseFilter {
+
+    private static VaryFilter varyFilter;
+    private static final String VARY = String.join(", ", HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+
+    /**
+     * <p>
+     * Default constructor of VaryFilter class. Kept private to restrict from creating object outside this class.
+     * </p>
+     */
+    private VaryFilter() {}
+
+    /**
+     * <p>
+     * Creates a single object of VaryFilter class and returns it.
+     * </p>
+     *
+     * @return the single instance of VaryFilter class.
+     */
+    public static synchronized VaryFilter getInstance() {
+        return Objects.isNull(varyFilter) ? varyFilter = new VaryFilter() : varyFilter;
+    }
+
+    /**
+     * <p>
+     * Adds the Accept and Accept-Encoding headers to the Vary header of the response, keeping the headers already
+     * listed in it.
+     * </p>
+     *
+     * @param requestContext Refers the context of the request.
+     * @param responseContext Refers the context of the response.
+     */
+    @Override
+    public void filter(final ContainerRequestContext requestContext,
+                       final ContainerResponseContext responseContext) {
+        final String vary = responseContext.getHeaderString(HttpHeaders.VARY);
+
+        responseContext.getHeaders().putSingle(HttpHeaders.VARY, Objects.isNull(vary) || vary.isBlank() ? VARY
+                : String.join(", ", vary, VARY));
+    }
+}
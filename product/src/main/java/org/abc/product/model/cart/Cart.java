@@ -1,14 +1,18 @@
 package org.abc.product.model.cart;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import org.abc.product.model.product.Product;
 
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * <p>
- * Represents a cart for the user to add the items to the cart and placing the orders.
+ * Represents a cart for the user to add the items to the cart and placing the orders. The items are kept in the
+ * order they are added and are found by their product id, each with the quantity to be ordered.
  * </p>
  *
  * @author Maharaja S
@@ -16,8 +20,8 @@ import java.util.Objects;
  */
 public class Cart {
 
-    private List<Product> cartItems;
-    private float totalAmountInCart;
+    private final Map<Integer, CartItem> cartItems = new LinkedHashMap<>();
+    private double totalAmountInCart;
 
     /**
      * <p>
@@ -28,15 +32,25 @@ public class Cart {
      * @return true if the product is added.
      */
     public boolean addItem(final Product product) {
-        cartItems = Objects.isNull(cartItems) ? new LinkedList<>() : cartItems;
-
-        if (!cartItems.contains(product)) {
-            totalAmountInCart += product.getPrice();
+        return addItem(product, 1);
+    }
 
-            return cartItems.add(product);
+    /**
+     * <p>
+     * Adds the specific product to the cart with the given quantity. A product already in the cart is left as it is.
+     * </p>
+     *
+     * @param product Refers {@link Product} to be added to the cart.
+     * @param quantity Refers the quantity to be ordered.
+     * @return true if the product is added.
+     */
+    public boolean addItem(final Product product, final int quantity) {
+        if (Objects.nonNull(cartItems.putIfAbsent(product.getId(), new CartItem(product, quantity)))) {
+            return false;
         }
+        totalAmountInCart += cartItems.get(product.getId()).getAmount();
 
-        return false;
+        return true;
     }
 
     /**
@@ -45,10 +59,88 @@ public class Cart {
      * </p>
      *
      * @param product Refers {@link Product} the product to be removed.
+     * @return true if the product was in the cart.
+     */
+    public boolean removeItem(final Product product) {
+        return removeItem(product.getId());
+    }
+
+    /**
+     * <p>
+     * Removes the product of the given id from the cart
+     * </p>
+     *
+     * @param productId Refers the id of the product to be removed.
+     * @return true if the product was in the cart.
      */
-    public void removeItem(final Product product) {
-        cartItems.remove(product);
-        totalAmountInCart -= product.getPrice();
+    public boolean removeItem(final int productId) {
+        final CartItem cartItem = cartItems.remove(productId);
+
+        if (Objects.isNull(cartItem)) {
+            return false;
+        }
+        totalAmountInCart -= cartItem.getAmount();
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Changes the quantity of the product of the given id in the cart.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @param quantity Refers the quantity to be ordered.
+     * @return true if the product is in the cart.
+     */
+    public boolean setQuantity(final int productId, final int quantity) {
+        final CartItem cartItem = cartItems.get(productId);
+
+        if (Objects.isNull(cartItem)) {
+            return false;
+        }
+        totalAmountInCart += (double) cartItem.getProduct().getPrice() * (quantity - cartItem.getQuantity());
+        cartItem.setQuantity(quantity);
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Gets the quantity of the product of the given id in the cart.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @return the quantity, zero if the product is not in the cart.
+     */
+    public int getQuantity(final int productId) {
+        final CartItem cartItem = cartItems.get(productId);
+
+        return Objects.isNull(cartItem) ? 0 : cartItem.getQuantity();
+    }
+
+    /**
+     * <p>
+     * Checks whether the product of the given id is in the cart.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @return true if the product is in the cart.
+     */
+    public boolean contains(final int productId) {
+        return cartItems.containsKey(productId);
+    }
+
+    /**
+     * <p>
+     * Checks whether the cart has no products.
+     * </p>
+     *
+     * @return true if the cart is empty.
+     */
+    @JsonIgnore
+    public boolean isEmpty() {
+        return cartItems.isEmpty();
     }
 
     /**
@@ -56,10 +148,21 @@ public class Cart {
      * Gets the products in the cart and returns it.
      * </p>
      *
-     * @return all the {@link Product} in the cart.
+     * @return all the {@link Product} in the cart, in the order they are added.
      */
     public List<Product> getItems() {
-        return cartItems;
+        return cartItems.values().stream().map(CartItem::getProduct).toList();
+    }
+
+    /**
+     * <p>
+     * Gets the products in the cart with their quantities and returns it.
+     * </p>
+     *
+     * @return all the {@link CartItem} in the cart, in the order they are added.
+     */
+    public List<CartItem> getCartItems() {
+        return List.copyOf(cartItems.values());
     }
 
     /**
@@ -70,6 +173,6 @@ public class Cart {
      * @return the total amount.
      */
     public float getTotalAmount() {
-        return totalAmountInCart;
+        return (float) totalAmountInCart;
     }
 }
@@ -0,0 +1,53 @@
+package org.abc.product.model.cart;
+
+import org.abc.product.model.product.Product;
+
+/**
+ * <p>
+ * Represents a product in the cart with the quantity of it to be ordered.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class CartItem {
+
+    private final Product product;
+    private int quantity;
+
+    /**
+     * <p>
+     * Constructs the CartItem object.
+     * </p>
+     *
+     * @param product Refers the {@link Product}.
+     * @param quantity Refers the quantity to be ordered.
+     */
+    public CartItem(final Product product, final int quantity) {
+        this.product = product;
+        this.quantity = quantity;
+    }
+
+    public Product getProduct() {
+        return product;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    void setQuantity(final int quantity) {
+        this.quantity = quantity;
+    }
+
+    /**
+     * <p>
+     * Gets the amount of the item.
+     * </p>
+     *
+     * @return the price of the product multiplied by its quantity.
+     */
+    double getAmount() {
+        return (double) product.getPrice() * quantity;
+    }
+}
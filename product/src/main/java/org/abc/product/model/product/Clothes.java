@@ -69,6 +69,15 @@ public class Clothes extends Product {
         return size;
     }
 
+    @Override
+    public Clothes copy() {
+        final Clothes clothes = new Clothes(clothesType, gender, size, getPrice(), getBrandName(), getQuantity());
+
+        clothes.setId(getId());
+
+        return clothes;
+    }
+
     @Override
     public String toString() {
         return String.format("%s - %s : %s : %s : %.2f", clothesType, super.getBrandName(), gender, size, super.getPrice());
@@ -47,6 +47,15 @@ public class Laptop extends Product {
         super.setId(id);
     }
 
+    @Override
+    public Laptop copy() {
+        final Laptop laptop = new Laptop(getBrandName(), model, getPrice(), getQuantity());
+
+        laptop.setId(getId());
+
+        return laptop;
+    }
+
     @Override
     public String toString() {
         return String.format("%s : %s - Rs : %.2f", super.getBrandName(), model, super.getPrice());
@@ -48,6 +48,15 @@ public class Mobile extends Product {
         return model;
     }
 
+    @Override
+    public Mobile copy() {
+        final Mobile mobile = new Mobile(getBrandName(), model, getPrice(), getQuantity());
+
+        mobile.setId(getId());
+
+        return mobile;
+    }
+
     @Override
     public String toString() {
         return String.format("%s : %s - Rs : %.2f", super.getBrandName(), model, super.getPrice());
@@ -90,6 +90,8 @@ public abstract class Product {
         this.quantity = quantity;
     }
 
+    public abstract Product copy();
+
     @Override
     public boolean equals(final Object object) {
         return !Objects.isNull(object) && getClass() == object.getClass() && this.hashCode() == object.hashCode();
@@ -1,14 +1,18 @@
 package org.abc.product.model.wishlist;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import org.abc.product.model.product.Product;
 
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * <p>
- * Represents a wishlist for the user to add the items to the wishlist and can move them to cart for ordering.
+ * Represents a wishlist for the user to add the items to the wishlist and can move them to cart for ordering. The
+ * items are kept in the order they are added and are found by their product id.
  * </p>
  *
  * @author Maharaja S
@@ -16,20 +20,18 @@ import java.util.Objects;
  */
 public class Wishlist {
 
-    private List<Product> wishlistItems;
+    private final Map<Integer, Product> wishlistItems = new LinkedHashMap<>();
 
     /**
      * <p>
-     * Adds the specific product to the wishlist
+     * Adds the specific product to the wishlist. A product already in the wishlist is left as it is.
      * </p>
      *
      * @param product Refers {@link Product} to be added to the wishlist.
      * @return true if the product is added.
      */
     public boolean addItem(final Product product) {
-        wishlistItems = Objects.isNull(wishlistItems) ? new LinkedList<>() : wishlistItems;
-
-        return wishlistItems.add(product);
+        return Objects.isNull(wishlistItems.putIfAbsent(product.getId(), product));
     }
 
     /**
@@ -38,9 +40,46 @@ public class Wishlist {
      * </p>
      *
      * @param product Refers {@link Product} the product to be removed.
+     * @return true if the product was in the wishlist.
+     */
+    public boolean removeItem(final Product product) {
+        return removeItem(product.getId());
+    }
+
+    /**
+     * <p>
+     * Removes the product of the given id from the wishlist
+     * </p>
+     *
+     * @param productId Refers the id of the product to be removed.
+     * @return true if the product was in the wishlist.
+     */
+    public boolean removeItem(final int productId) {
+        return Objects.nonNull(wishlistItems.remove(productId));
+    }
+
+    /**
+     * <p>
+     * Checks whether the product of the given id is in the wishlist.
+     * </p>
+     *
+     * @param productId Refers the id of the product.
+     * @return true if the product is in the wishlist.
+     */
+    public boolean contains(final int productId) {
+        return wishlistItems.containsKey(productId);
+    }
+
+    /**
+     * <p>
+     * Checks whether the wishlist has no products.
+     * </p>
+     *
+     * @return true if the wishlist is empty.
      */
-    public void removeItem(final Product product) {
-        wishlistItems.remove(product);
+    @JsonIgnore
+    public boolean isEmpty() {
+        return wishlistItems.isEmpty();
     }
 
     /**
@@ -48,9 +87,9 @@ public class Wishlist {
      * Gets the products in the wishlist and returns it.
      * </p>
      *
-     * @return all the {@link Product} in the wishlist.
+     * @return all the {@link Product} in the wishlist, in the order they are added.
      */
     public List<Product> getItems() {
-        return wishlistItems;
+        return List.copyOf(wishlistItems.values());
     }
 }
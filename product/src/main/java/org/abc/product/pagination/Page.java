@@ -0,0 +1,59 @@
+package org.abc.product.pagination;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/**
+ * <p>
+ * Represents a page of a listing with the cursor of the next page.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class Page<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    /**
+     * <p>
+     * Constructs the Page object.
+     * </p>
+     *
+     * @param items Refers the items of the page.
+     * @param nextCursor Refers the cursor of the next page, null on the last page.
+     */
+    public Page(final List<T> items, final String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * <p>
+     * Creates a page of the given items. The page has a next cursor, pointing after its last item, only when it is
+     * full.
+     * </p>
+     *
+     * @param items Refers the items of the page, in the order of their key.
+     * @param limit Refers the limit of the page.
+     * @param keyExtractor Refers the function giving the key of an item.
+     * @return the {@link Page}.
+     */
+    public static <T> Page<T> of(final List<T> items, final int limit, final ToIntFunction<? super T> keyExtractor) {
+        final List<T> pageItems = Objects.isNull(items) ? List.of() : items;
+        final String nextCursor = !pageItems.isEmpty() && pageItems.size() >= limit
+                ? PageCursor.encode(keyExtractor.applyAsInt(pageItems.get(pageItems.size() - 1))) : null;
+
+        return new Page<>(pageItems, nextCursor);
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,80 @@
+package org.abc.product.pagination;
+
+import org.abc.product.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Encodes and decodes the opaque cursors of keyset pagination. A cursor holds the key of the last item of a page,
+ * so the next page is read with an index seek after that key instead of skipping the previous rows.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class PageCursor {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 500;
+    private static final String PREFIX = "k1:";
+
+    /**
+     * <p>
+     * Default constructor of PageCursor class. Kept private to restrict from creating object outside this class.
+     * </p>
+     */
+    private PageCursor() {}
+
+    /**
+     * <p>
+     * Encodes the given key into a cursor.
+     * </p>
+     *
+     * @param key Refers the key of the last item of a page.
+     * @return the cursor.
+     */
+    public static String encode(final int key) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * <p>
+     * Decodes the given cursor into the key after which the page starts.
+     * </p>
+     *
+     * @param cursor Refers the cursor, null or empty for the first page.
+     * @return the key, zero for the first page.
+     */
+    public static int decode(final String cursor) {
+        if (Objects.isNull(cursor) || cursor.isBlank()) {
+            return 0;
+        }
+
+        try {
+            final String value = new String(Base64.getUrlDecoder().decode(cursor.strip()), StandardCharsets.UTF_8);
+
+            if (value.startsWith(PREFIX)) {
+                return Integer.parseInt(value.substring(PREFIX.length()));
+            }
+        } catch (final IllegalArgumentException exception) {
+            throw new InvalidCursorException(String.format("Invalid cursor : %s", cursor));
+        }
+        throw new InvalidCursorException(String.format("Invalid cursor : %s", cursor));
+    }
+
+    /**
+     * <p>
+     * Gets the given limit within the allowed range.
+     * </p>
+     *
+     * @param limit Refers the requested limit, zero or less for the default.
+     * @return the limit of the page.
+     */
+    public static int toLimit(final int limit) {
+        return limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+    }
+}
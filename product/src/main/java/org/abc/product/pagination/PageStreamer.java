@@ -0,0 +1,134 @@
+package org.abc.product.pagination;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.abc.dbconnection.executor.DatabaseExecutor;
+
+import javax.ws.rs.core.StreamingOutput;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * <p>
+ * Writes a page straight to the response while its rows are read, instead of building the list of items and a
+ * json tree of it first. The output has the same shape as a serialized {@link Page}, with the next cursor written
+ * after the items, once it is known whether the page is full.
+ * </p>
+ *
+ * <p>
+ * The generator never closes the open array and object by itself, and a failure while the rows are read aborts
+ * the response, so a page cut short can't be read as a complete page without a next cursor.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class PageStreamer {
+
+    /**
+     * <p>
+     * Default constructor of PageStreamer class. Kept private to restrict from creating object outside this class.
+     * </p>
+     */
+    private PageStreamer() {}
+
+    /**
+     * <p>
+     * Creates the output writing the items of the given source as a page. The source is read only when the
+     * response is written, so anything that can fail before the first item, like decoding the cursor, has to be
+     * done before. The source is read under a permit of the {@link DatabaseExecutor}, as the permit of the request
+     * is released once the response is resumed. A failure of the source, or no permit freed in time, aborts the
+     * response with an {@link IOException}.
+     * </p>
+     *
+     * @param objectMapper Refers the object mapper serializing the items, in JSON or in a binary format.
+     * @param limit Refers the limit of the page.
+     * @param keyExtractor Refers the function giving the key of an item.
+     * @param source Refers the source passing the items of the page, in the order of their key.
+     * @return the {@link StreamingOutput} of the page.
+     */
+    public static <T> StreamingOutput stream(final ObjectMapper objectMapper, final int limit,
+                                             final ToIntFunction<? super T> keyExtractor,
+                                             final RowSource<T> source) {
+        return outputStream -> {
+            final JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            final PageWriter<T> pageWriter = new PageWriter<>(generator, keyExtractor);
+
+            try (generator) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("items");
+                DatabaseExecutor.getInstance().run(() -> source.forEachRow(pageWriter));
+                generator.writeEndArray();
+                generator.writeStringField("nextCursor", pageWriter.count >= limit
+                        ? PageCursor.encode(pageWriter.lastKey) : null);
+                generator.writeEndObject();
+            } catch (final UncheckedIOException exception) {
+                throw exception.getCause();
+            } catch (final RuntimeException exception) {
+                throw new IOException(String.format("Page aborted after %d items - %s", pageWriter.count,
+                        exception.getMessage()), exception);
+            }
+        };
+    }
+
+    /**
+     * <p>
+     * Passes the rows of a page one at a time.
+     * </p>
+     */
+    @FunctionalInterface
+    public interface RowSource<T> {
+
+        /**
+         * <p>
+         * Passes every row of the page to the given consumer.
+         * </p>
+         *
+         * @param consumer Refers the consumer of each row.
+         */
+        void forEachRow(final Consumer<? super T> consumer);
+    }
+
+    /**
+     * <p>
+     * Writes each item to the generator as it is passed, keeping only the count and the key of the last item.
+     * </p>
+     */
+    private static class PageWriter<T> implements Consumer<T> {
+
+        private final JsonGenerator generator;
+        private final ToIntFunction<? super T> keyExtractor;
+        private int count;
+        private int lastKey;
+
+        /**
+         * <p>
+         * Constructs the PageWriter object.
+         * </p>
+         *
+         * @param generator Refers the generator of the response.
+         * @param keyExtractor Refers the function giving the key of an item.
+         */
+        private PageWriter(final JsonGenerator generator, final ToIntFunction<? super T> keyExtractor) {
+            this.generator = generator;
+            this.keyExtractor = keyExtractor;
+        }
+
+        @Override
+        public void accept(final T item) {
+            try {
+                generator.writeObject(item);
+            } catch (final IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            lastKey = keyExtractor.applyAsInt(item);
+            count++;
+        }
+    }
+}
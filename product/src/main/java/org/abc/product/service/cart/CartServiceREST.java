@@ -1,7 +1,8 @@
 package org.abc.product.service.cart;
 
 import org.abc.product.ProductCategory;
-import org.abc.product.model.cart.Cart;
+import org.abc.product.model.cart.CartItem;
+import org.abc.product.pagination.Page;
 
 public interface CartServiceREST {
 
@@ -26,15 +27,28 @@ public interface CartServiceREST {
      * @param productId Refers the id of the product to be removed from the cart.
      */
     void removeItem(final int productId, final int userId);
+
+    /**
+     * <p>
+     * Changes the quantity of the specific product in the cart.
+     * </p>
+     *
+     * @param productId Refers the id of the product in the cart.
+     * @param userId Refers the user id.
+     * @param quantity Refers the quantity to be ordered.
+     * @return true if the product is in the cart.
+     */
+    boolean updateQuantity(final int productId, final int userId, final int quantity);
+
     /**
      * <p>
-     * Gets the cart of the current user and returns it.
+     * Gets a page of the cart of the current user and returns it.
      * </p>
      *
      * @param userId Refers the user id.
-     * @param page Refers the page number.
+     * @param cursor Refers the cursor of the page, null for the first page.
      * @param limit Refers the limit of data to show.
-     * @return {@link Cart} of the user.
+     * @return the {@link Page} of {@link CartItem} in the cart of the user.
      */
-    Cart getCart(final int userId, final int page, final int limit);
+    Page<CartItem> getCart(final int userId, final String cursor, final int limit);
 }
@@ -3,6 +3,7 @@ package org.abc.product.service.cart.impl;
 import org.abc.product.ProductCategory;
 import org.abc.product.controller.inventory.InventoryController;
 import org.abc.product.model.cart.Cart;
+import org.abc.product.model.product.Product;
 import org.abc.product.service.cart.CartService;
 
 import java.util.HashMap;
@@ -42,7 +43,8 @@ public class CartServiceImpl implements CartService {
 
     /**
      * <p>
-     * Adds the product to the cart of the user.
+     * Adds the product to the cart of the user. The cart gets its own copy of the product, as the products of the
+     * inventory are shared by every reader and the quantity of a product is changed when it is ordered.
      * </p>
      *
      * @param productId Refers the id of the product to be added to the cart.
@@ -57,7 +59,7 @@ public class CartServiceImpl implements CartService {
 
         return InventoryController.getInstance().getItemsByCategory(productCategory).stream()
                 .filter(product -> productId == product.getId())
-                .findFirst().map(cart::addItem).orElse(false);
+                .findFirst().map(Product::copy).map(cart::addItem).orElse(false);
     }
 
     /**
@@ -72,7 +74,7 @@ public class CartServiceImpl implements CartService {
     public void removeItem(final int productId, final int userId) {
         final Cart cart = CARTS.get(userId);
 
-        cart.getItems().removeIf(product -> productId == product.getId());
+        cart.removeItem(productId);
     }
 
     /**
@@ -2,8 +2,11 @@ package org.abc.product.service.cart.impl2;
 
 import org.abc.product.ProductCategory;
 import org.abc.product.dao.cart.CartDAO;
-import org.abc.product.dao.cart.impl.CartDAOImpl;
+import org.abc.product.dao.cart.impl.WriteBehindCartDAO;
 import org.abc.product.model.cart.Cart;
+import org.abc.product.model.cart.CartItem;
+import org.abc.product.pagination.Page;
+import org.abc.product.pagination.PageCursor;
 import org.abc.product.service.cart.CartService;
 import org.abc.product.service.cart.CartServiceREST;
 
@@ -20,7 +23,7 @@ import java.util.Objects;
 public class CartServiceImpl implements CartServiceREST, CartService {
 
     private static CartServiceImpl cartService;
-    private static final CartDAO CART_DAO = CartDAOImpl.getInstance();
+    private static final CartDAO CART_DAO = WriteBehindCartDAO.getInstance();
 
     /**
      * <p>
@@ -70,17 +73,35 @@ public class CartServiceImpl implements CartServiceREST, CartService {
 
     /**
      * <p>
-     * Gets the cart of the current user and returns it.
+     * Changes the quantity of the specific product in the cart.
+     * </p>
+     *
+     * @param productId Refers the id of the product in the cart.
+     * @param userId Refers the user id.
+     * @param quantity Refers the quantity to be ordered.
+     * @return true if the product is in the cart.
+     */
+    @Override
+    public boolean updateQuantity(final int productId, final int userId, final int quantity) {
+        return CART_DAO.updateQuantity(productId, userId, quantity);
+    }
+
+    /**
+     * <p>
+     * Gets a page of the cart of the current user and returns it.
      * </p>
      *
      * @param userId Refers the user id.
-     * @param page Refers the page number.
+     * @param cursor Refers the cursor of the page, null for the first page.
      * @param limit Refers the limit of data to show.
-     * @return the {@link Cart} of the user.
+     * @return the {@link Page} of {@link CartItem} in the cart of the user.
      */
     @Override
-    public Cart getCart(final int userId, final int page, final int limit) {
-        return CART_DAO.getCart(userId, page, limit);
+    public Page<CartItem> getCart(final int userId, final String cursor, final int limit) {
+        final int pageLimit = PageCursor.toLimit(limit);
+
+        return Page.of(CART_DAO.getCart(userId, PageCursor.decode(cursor), pageLimit).getCartItems(), pageLimit,
+                cartItem -> cartItem.getProduct().getId());
     }
 
     /**
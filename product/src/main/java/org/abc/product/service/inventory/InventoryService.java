@@ -3,7 +3,10 @@ package org.abc.product.service.inventory;
 import org.abc.product.ProductCategory;
 import org.abc.product.model.product.Product;
 
+import java.io.Reader;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * <p>
@@ -24,6 +27,17 @@ public interface InventoryService {
      */
     void addItem(final List<Product> products);
 
+    /**
+     * <p>
+     * Streams the products of the given catalog into the inventory.
+     * </p>
+     *
+     * @param productCategory Refers the category of the products in the catalog.
+     * @param reader Refers the reader of the catalog.
+     * @return the number of products added to the inventory.
+     */
+    int loadItems(final ProductCategory productCategory, final Reader reader);
+
     /**
      * <p>
      * Removes the product from the inventory.
@@ -34,6 +48,24 @@ public interface InventoryService {
      */
     void removeItem(final int productId, final ProductCategory productCategory);
 
+    /**
+     * <p>
+     * Updates the price and quantity of the given products in the inventory, found by their natural key.
+     * </p>
+     *
+     * @param products Refers the {@link Product} to be updated.
+     */
+    void updateItems(final List<Product> products);
+
+    /**
+     * <p>
+     * Removes the given products from the inventory, found by their natural key.
+     * </p>
+     *
+     * @param products Refers the {@link Product} to be removed.
+     */
+    void removeItems(final List<Product> products);
+
     /**
      * <p>
      * Gets all the products from the inventory based on the category and returns it.
@@ -42,4 +74,14 @@ public interface InventoryService {
      * @return all the {@link Product} from the inventory.
      */
     List<? extends Product> getItemsByCategory(final ProductCategory productCategory);
+
+    /**
+     * <p>
+     * Gets all the products of the given categories from the inventory and returns them grouped by category.
+     * </p>
+     *
+     * @param productCategories Refers the product categories.
+     * @return the {@link Product} of every given category.
+     */
+    Map<ProductCategory, List<Product>> getItems(final Set<ProductCategory> productCategories);
 }
@@ -2,8 +2,10 @@ package org.abc.product.service.inventory;
 
 import org.abc.product.ProductCategory;
 import org.abc.product.model.product.Product;
+import org.abc.product.pagination.Page;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface InventoryServiceREST {
 
@@ -28,13 +30,27 @@ public interface InventoryServiceREST {
 
     /**
      * <p>
-     * Gets all the products from the inventory based on the category and returns it.
+     * Gets a page of the products from the inventory based on the category and returns it.
      * </p>
      *
      * @param productCategory Refers the product category.
-     * @param page Refers the page number.
+     * @param cursor Refers the cursor of the page, null for the first page.
      * @param limit Refers the limit of data to show.
-     * @return all the {@link Product} from the inventory.
+     * @return the {@link Page} of {@link Product} from the inventory.
      */
-    List<? extends Product> getItemsByCategory(final ProductCategory productCategory, final int page, final int limit);
+    Page<Product> getItemsByCategory(final ProductCategory productCategory, final String cursor, final int limit);
+
+    /**
+     * <p>
+     * Passes a page of the products from the inventory based on the category to the given consumer one product at
+     * a time, without holding the page in memory.
+     * </p>
+     *
+     * @param productCategory Refers the product category.
+     * @param afterId Refers the id of the last product of the previous page, zero for the first page.
+     * @param limit Refers the limit of data to show.
+     * @param consumer Refers the consumer of each {@link Product}.
+     */
+    void streamItemsByCategory(final ProductCategory productCategory, final int afterId, final int limit,
+                               final Consumer<? super Product> consumer);
 }
@@ -1,5 +1,7 @@
 package org.abc.product.service.inventory.impl;
 
+import org.abc.product.CatalogLine;
+import org.abc.product.exceptions.ItemAdditionFailedException;
 import org.abc.product.model.inventory.Inventory;
 import org.abc.product.model.product.Clothes;
 import org.abc.product.model.product.Laptop;
@@ -8,8 +10,15 @@ import org.abc.product.model.product.Product;
 import org.abc.product.service.inventory.InventoryService;
 import org.abc.product.ProductCategory;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * <p>
@@ -62,6 +71,48 @@ public class InventoryServiceImpl implements InventoryService {
         }
     }
 
+    /**
+     * <p>
+     * Reads the given catalog line by line and adds its products to the inventory. Like the database inventory,
+     * products already in the inventory or earlier in the catalog are skipped, and a line which doesn't hold a
+     * valid product fails the whole catalog without adding any of its products.
+     * </p>
+     *
+     * @param productCategory Refers the category of the products in the catalog.
+     * @param reader Refers the reader of the catalog.
+     * @return the number of products added to the inventory.
+     */
+    @Override
+    public int loadItems(final ProductCategory productCategory, final Reader reader) {
+        final BufferedReader bufferedReader = reader instanceof BufferedReader ? (BufferedReader) reader
+                : new BufferedReader(reader);
+        final List<? extends Product> items = getItemsByCategory(productCategory);
+        final List<Product> products = new ArrayList<>();
+
+        try {
+            String line;
+
+            while (Objects.nonNull(line = bufferedReader.readLine())) {
+                final String values = CatalogLine.getValues(line);
+
+                if (Objects.isNull(values)) {
+                    continue;
+                }
+                final Product product = CatalogLine.createProduct(productCategory, values.split(","));
+
+                if (!containsNaturalKey(items, product) && !containsNaturalKey(products, product)) {
+                    products.add(product);
+                }
+            }
+        } catch (final IOException | RuntimeException exception) {
+            throw new ItemAdditionFailedException(String.format("%s catalog can't be loaded - %s", productCategory,
+                    exception.getMessage()));
+        }
+        addItem(products);
+
+        return products.size();
+    }
+
     /**
      * <p>
      * Removes the given item from the inventory.
@@ -79,6 +130,83 @@ public class InventoryServiceImpl implements InventoryService {
         }
     }
 
+    /**
+     * <p>
+     * Updates the price and quantity of the given products in the inventory.
+     * </p>
+     *
+     * @param products Refers the {@link Product} to be updated.
+     */
+    @Override
+    public void updateItems(final List<Product> products) {
+        for (final Product product : products) {
+            for (final Product item : getItemsByCategory(product.getProductCategory())) {
+                if (hasSameNaturalKey(item, product)) {
+                    item.changePrice(product.getPrice());
+                    item.setQuantity(product.getQuantity());
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Removes the given products from the inventory.
+     * </p>
+     *
+     * @param products Refers the {@link Product} to be removed.
+     */
+    @Override
+    public void removeItems(final List<Product> products) {
+        MOBILE_INVENTORY.get().removeIf(item -> containsNaturalKey(products, item));
+        LAPTOP_INVENTORY.get().removeIf(item -> containsNaturalKey(products, item));
+        CLOTHES_INVENTORY.get().removeIf(item -> containsNaturalKey(products, item));
+    }
+
+    /**
+     * <p>
+     * Checks whether any of the given products has the same natural key as the given item.
+     * </p>
+     *
+     * @param products Refers the {@link Product} to be matched.
+     * @param item Refers the {@link Product} in the inventory.
+     * @return true if any of the products has the same natural key, false otherwise.
+     */
+    private boolean containsNaturalKey(final List<? extends Product> products, final Product item) {
+        return products.stream().anyMatch(product -> hasSameNaturalKey(item, product));
+    }
+
+    /**
+     * <p>
+     * Checks whether the given products have the same natural key, the same way the database inventory matches
+     * them. Mobiles and laptops are matched by their category, brand and model, while clothes are matched by their
+     * brand, type, gender and size.
+     * </p>
+     *
+     * @param item Refers the {@link Product} in the inventory.
+     * @param product Refers the {@link Product} to be matched.
+     * @return true if both products have the same natural key, false otherwise.
+     */
+    private boolean hasSameNaturalKey(final Product item, final Product product) {
+        if (item.getProductCategory() != product.getProductCategory()
+                || !Objects.equals(item.getBrandName(), product.getBrandName())) {
+            return false;
+        }
+
+        return switch (item.getProductCategory()) {
+            case MOBILE -> Objects.equals(((Mobile) item).getModel(), ((Mobile) product).getModel());
+            case LAPTOP -> Objects.equals(((Laptop) item).getModel(), ((Laptop) product).getModel());
+            case CLOTHES -> {
+                final Clothes clothes = (Clothes) item;
+                final Clothes otherClothes = (Clothes) product;
+
+                yield Objects.equals(clothes.getClothesType(), otherClothes.getClothesType())
+                        && Objects.equals(clothes.getGender(), otherClothes.getGender())
+                        && Objects.equals(clothes.getSize(), otherClothes.getSize());
+            }
+        };
+    }
+
     /**
      * <p>
      * Gets all the products from the inventory based on the category and returns it.
@@ -94,4 +222,22 @@ public class InventoryServiceImpl implements InventoryService {
             case CLOTHES -> CLOTHES_INVENTORY.get();
         };
     }
+
+    /**
+     * <p>
+     * Gets all the products of the given categories from the inventory and returns them grouped by category.
+     * </p>
+     *
+     * @param productCategories Refers the product categories.
+     * @return the {@link Product} of every given category.
+     */
+    @Override
+    public Map<ProductCategory, List<Product>> getItems(final Set<ProductCategory> productCategories) {
+        final Map<ProductCategory, List<Product>> products = new EnumMap<>(ProductCategory.class);
+
+        productCategories.forEach(productCategory -> products.put(productCategory,
+                List.copyOf(getItemsByCategory(productCategory))));
+
+        return products;
+    }
 }
@@ -1,18 +1,31 @@
 package org.abc.product.service.inventory.impl2;
 
 import org.abc.product.ProductCategory;
+import org.abc.product.cache.CatalogCache;
+import org.abc.product.cache.SharedStream;
+import org.abc.product.cache.SingleFlight;
 import org.abc.product.dao.inventory.impl.InventoryDAOImpl;
 import org.abc.product.dao.inventory.InventoryDAO;
 import org.abc.product.model.product.Product;
+import org.abc.product.pagination.Page;
+import org.abc.product.pagination.PageCursor;
 import org.abc.product.service.inventory.InventoryService;
 import org.abc.product.service.inventory.InventoryServiceREST;
 
+import java.io.Reader;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * <p>
- * Provides the service for the Inventory. Responsible for storing all the products.
+ * Provides the service for the Inventory. Responsible for storing all the products. Reads go through the
+ * {@link CatalogCache}, which is invalidated by every change of the inventory. Identical reads missing the cache at
+ * the same time share a single query through a {@link SingleFlight}. Pages too large to be cached are streamed, and
+ * identical streamed reads at the same time share a single query through a {@link SharedStream}.
  * </p>
  *
  * @author Maharaja S
@@ -22,6 +35,11 @@ public class InventoryServiceImpl implements InventoryServiceREST, InventoryServ
 
     private static InventoryServiceREST inventoryService;
     private static final InventoryDAO INVENTORY_DAO = InventoryDAOImpl.getInstance();
+    private static final CatalogCache CATALOG_CACHE = CatalogCache.getInstance();
+    private static final SingleFlight<CatalogQuery, List<? extends Product>> CATALOG_QUERIES = new SingleFlight<>();
+    private static final SingleFlight<Map<ProductCategory, Long>, Map<ProductCategory, List<Product>>>
+            CATEGORIES_QUERIES = new SingleFlight<>();
+    private static final SharedStream<CatalogQuery, Product> STREAMED_QUERIES = new SharedStream<>();
 
     /**
      * <p>
@@ -51,6 +69,25 @@ public class InventoryServiceImpl implements InventoryServiceREST, InventoryServ
     @Override
     public void addItem(final List<Product> products) {
         INVENTORY_DAO.addItem(products);
+        invalidate(products);
+    }
+
+    /**
+     * <p>
+     * Streams the products of the given catalog into the inventory.
+     * </p>
+     *
+     * @param productCategory Refers the category of the products in the catalog.
+     * @param reader Refers the reader of the catalog.
+     * @return the number of products added to the inventory.
+     */
+    @Override
+    public int loadItems(final ProductCategory productCategory, final Reader reader) {
+        try {
+            return INVENTORY_DAO.loadItems(productCategory, reader);
+        } finally {
+            CATALOG_CACHE.invalidate(productCategory);
+        }
     }
 
     /**
@@ -64,6 +101,33 @@ public class InventoryServiceImpl implements InventoryServiceREST, InventoryServ
     @Override
     public void removeItem(final int productId, final ProductCategory productCategory) {
         INVENTORY_DAO.removeItem(productId);
+        CATALOG_CACHE.invalidate(productCategory);
+    }
+
+    /**
+     * <p>
+     * Updates the price and quantity of the given products in the inventory.
+     * </p>
+     *
+     * @param products Refers the {@link Product} to be updated.
+     */
+    @Override
+    public void updateItems(final List<Product> products) {
+        INVENTORY_DAO.updateItems(products);
+        invalidate(products);
+    }
+
+    /**
+     * <p>
+     * Removes the given products from the inventory.
+     * </p>
+     *
+     * @param products Refers the {@link Product} to be removed.
+     */
+    @Override
+    public void removeItems(final List<Product> products) {
+        INVENTORY_DAO.removeItems(products);
+        invalidate(products);
     }
 
     /**
@@ -76,21 +140,149 @@ public class InventoryServiceImpl implements InventoryServiceREST, InventoryServ
      */
     @Override
     public List<? extends Product> getItemsByCategory(ProductCategory productCategory) {
-        return INVENTORY_DAO.getItemsByCategory(productCategory);
+        return CATALOG_CACHE.get(productCategory, () -> CATALOG_QUERIES.execute(new CatalogQuery(productCategory, 0, 0),
+                () -> INVENTORY_DAO.getItemsByCategory(productCategory)));
     }
 
     /**
      * <p>
-     * Gets all the products from the inventory based on the category and returns it.
+     * Gets all the products of the given categories from the inventory and returns them grouped by category. The
+     * categories missing from the cache are read together in a single query, shared by the identical reads at the
+     * same time.
+     * </p>
+     *
+     * @param productCategories Refers the product categories.
+     * @return the {@link Product} of every given category.
+     */
+    @Override
+    public Map<ProductCategory, List<Product>> getItems(final Set<ProductCategory> productCategories) {
+        return CATALOG_CACHE.getAll(productCategories, missingCategories -> CATEGORIES_QUERIES.execute(
+                getGenerations(missingCategories), () -> INVENTORY_DAO.getItems(missingCategories)));
+    }
+
+    /**
+     * <p>
+     * Gets a page of the products from the inventory based on the category and returns it.
      * </p>
      *
      * @param productCategory Refers the product Category.
-     * @param page Refers the page number.
+     * @param cursor Refers the cursor of the page, null for the first page.
      * @param limit Refers the limit of data to show.
-     * @return all the {@link Product} from the inventory.
+     * @return the {@link Page} of {@link Product} from the inventory.
      */
     @Override
-    public List<? extends Product> getItemsByCategory(final ProductCategory productCategory, final int page, final int limit) {
-        return INVENTORY_DAO.getItemsByCategory(productCategory, page, limit);
+    public Page<Product> getItemsByCategory(final ProductCategory productCategory, final String cursor, final int limit) {
+        final int afterId = PageCursor.decode(cursor);
+        final int pageLimit = PageCursor.toLimit(limit);
+
+        return Page.of(CATALOG_CACHE.get(productCategory, afterId, pageLimit,
+                () -> CATALOG_QUERIES.execute(new CatalogQuery(productCategory, afterId, pageLimit),
+                        () -> INVENTORY_DAO.getItemsByCategory(productCategory, afterId, pageLimit))), pageLimit,
+                Product::getId);
+    }
+
+    /**
+     * <p>
+     * Passes a page of the products from the inventory based on the category to the given consumer one product at
+     * a time. The page is read from the database and bypasses the {@link CatalogCache}, which would have to hold it,
+     * while identical reads at the same time share the rows of a single query.
+     * </p>
+     *
+     * @param productCategory Refers the product Category.
+     * @param afterId Refers the id of the last product of the previous page, zero for the first page.
+     * @param limit Refers the limit of data to show.
+     * @param consumer Refers the consumer of each {@link Product}.
+     */
+    @Override
+    public void streamItemsByCategory(final ProductCategory productCategory, final int afterId, final int limit,
+                                      final Consumer<? super Product> consumer) {
+        final int pageLimit = PageCursor.toLimit(limit);
+
+        STREAMED_QUERIES.stream(new CatalogQuery(productCategory, afterId, pageLimit),
+                rowConsumer -> INVENTORY_DAO.streamItemsByCategory(productCategory, afterId, pageLimit, rowConsumer),
+                consumer);
+    }
+
+    /**
+     * <p>
+     * Gets the number of catalog reads which shared the query of an identical read in flight.
+     * </p>
+     *
+     * @return the coalesced count.
+     */
+    public static long getCoalescedCount() {
+        return CATALOG_QUERIES.getCoalescedCount() + CATEGORIES_QUERIES.getCoalescedCount()
+                + STREAMED_QUERIES.getCoalescedCount();
+    }
+
+    /**
+     * <p>
+     * Gets the generations of the given categories, identifying a read of their products. A read starting after
+     * any of them is invalidated doesn't share a query which started before.
+     * </p>
+     *
+     * @param productCategories Refers the product categories.
+     * @return the generation of every given category.
+     */
+    private static Map<ProductCategory, Long> getGenerations(final Set<ProductCategory> productCategories) {
+        final Map<ProductCategory, Long> generations = new EnumMap<>(ProductCategory.class);
+
+        productCategories.forEach(productCategory -> generations.put(productCategory,
+                CATALOG_CACHE.getGeneration(productCategory)));
+
+        return generations;
+    }
+
+    /**
+     * <p>
+     * Removes the cached products of the categories of the given products.
+     * </p>
+     *
+     * @param products Refers the changed {@link Product}.
+     */
+    private void invalidate(final List<Product> products) {
+        products.stream().map(Product::getProductCategory).distinct().forEach(CATALOG_CACHE::invalidate);
+    }
+
+    /**
+     * <p>
+     * Represents the key of a catalog read. The generation of the category is part of the key, so a read starting
+     * after the category is invalidated doesn't share a query which started before.
+     * </p>
+     */
+    private static class CatalogQuery {
+
+        private final ProductCategory productCategory;
+        private final long generation;
+        private final int afterId;
+        private final int limit;
+
+        /**
+         * <p>
+         * Constructs the CatalogQuery object.
+         * </p>
+         *
+         * @param productCategory Refers the product category.
+         * @param afterId Refers the id of the last product of the previous page, zero for all the products.
+         * @param limit Refers the limit of data to show, zero for all the products.
+         */
+        private CatalogQuery(final ProductCategory productCategory, final int afterId, final int limit) {
+            this.productCategory = productCategory;
+            this.generation = CATALOG_CACHE.getGeneration(productCategory);
+            this.afterId = afterId;
+            this.limit = limit;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(productCategory, generation, afterId, limit);
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            return object instanceof CatalogQuery catalogQuery && productCategory == catalogQuery.productCategory
+                    && generation == catalogQuery.generation && afterId == catalogQuery.afterId
+                    && limit == catalogQuery.limit;
+        }
     }
-}
\ No newline at end of file
+}
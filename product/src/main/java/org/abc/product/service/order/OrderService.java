@@ -1,5 +1,7 @@
 package org.abc.product.service.order;
 
+import org.abc.product.PaymentMode;
+import org.abc.product.model.cart.Cart;
 import org.abc.product.model.order.Order;
 
 import java.util.List;
@@ -24,6 +26,18 @@ public interface OrderService {
     */
    void addOrder(final int userId, final Order order);
 
+   /**
+    * <p>
+    * Places the orders of all the products in the cart of the user and empties the cart.
+    * </p>
+    *
+    * @param userId Refers the id of the user
+    * @param cart Refers the {@link Cart} of the user.
+    * @param address Refers the delivery address of the orders.
+    * @param paymentMode Refers the {@link PaymentMode} of the orders.
+    */
+   void checkout(final int userId, final Cart cart, final String address, final PaymentMode paymentMode);
+
    /**
     * <p>
     * Gets all the orders placed by the user.
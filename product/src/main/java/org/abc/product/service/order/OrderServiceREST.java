@@ -1,8 +1,12 @@
 package org.abc.product.service.order;
 
+import org.abc.product.PaymentMode;
+import org.abc.product.model.cart.Cart;
 import org.abc.product.model.order.Order;
+import org.abc.product.pagination.Page;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * <p>
@@ -26,15 +30,40 @@ public interface OrderServiceREST {
 
     /**
      * <p>
-     * Gets all the orders placed by the user.
+     * Places the orders of all the products in the cart of the user and empties the cart.
      * </p>
      *
      * @param userId Refers the id of the user
-     * @param page Refers the page number.
+     * @param cart Refers the {@link Cart} of the user.
+     * @param address Refers the delivery address of the orders.
+     * @param paymentMode Refers the {@link PaymentMode} of the orders.
+     */
+    void checkout(final int userId, final Cart cart, final String address, final PaymentMode paymentMode);
+
+    /**
+     * <p>
+     * Gets a page of the orders placed by the user.
+     * </p>
+     *
+     * @param userId Refers the id of the user
+     * @param cursor Refers the cursor of the page, null for the first page.
+     * @param limit Refers the limit of data to show.
+     * @return  the {@link Page} of {@link Order} of the user.
+     */
+    Page<Order> getOrders(final int userId, final String cursor, final int limit);
+
+    /**
+     * <p>
+     * Passes a page of the orders placed by the user to the given consumer one order at a time, without holding the
+     * page in memory.
+     * </p>
+     *
+     * @param userId Refers the id of the user
+     * @param afterId Refers the id of the last order of the previous page, zero for the first page.
      * @param limit Refers the limit of data to show.
-     * @return  all the {@link Order} of the user.
+     * @param consumer Refers the consumer of each {@link Order}.
      */
-    List<Order> getOrders(final int userId, final int page, final int limit);
+    void streamOrders(final int userId, final int afterId, final int limit, final Consumer<? super Order> consumer);
 
     /**
      * <p>
@@ -1,9 +1,12 @@
 package org.abc.product.service.order.impl;
 
 import org.abc.product.OrderStatus;
+import org.abc.product.PaymentMode;
+import org.abc.product.model.cart.Cart;
 import org.abc.product.model.order.Order;
+import org.abc.product.model.product.Product;
 import org.abc.product.service.order.OrderService;
-import org.abc.authentication.service.impl2.UserServiceImpl;
+import org.abc.authentication.service.UserServiceLocator;
 
 import java.util.HashMap;
 import java.util.ArrayList;
@@ -55,6 +58,30 @@ public class OrderServiceImpl implements OrderService {
         ORDERS.computeIfAbsent(userId, key -> new ArrayList<>()).add(order);
     }
 
+    /**
+     * <p>
+     * Places the orders of all the products in the cart of the user and empties the cart.
+     * </p>
+     *
+     * @param userId Refers the id of the user
+     * @param cart Refers the {@link Cart} of the user.
+     * @param address Refers the delivery address of the orders.
+     * @param paymentMode Refers the {@link PaymentMode} of the orders.
+     */
+    @Override
+    public void checkout(final int userId, final Cart cart, final String address, final PaymentMode paymentMode) {
+        for (final Product product : cart.getItems()) {
+            final int quantity = cart.getQuantity(product.getId());
+
+            addOrder(userId, new Order.OrderBuilder(userId).setProductId(product.getId())
+                    .setProductName(product.toString()).setQuantity(quantity)
+                    .setTotalAmount(product.getPrice() * quantity)
+                    .setAddress(address).setPaymentModeId(paymentMode.getId())
+                    .setOrderStatusId(OrderStatus.PLACED.getId()).build());
+            cart.removeItem(product);
+        }
+    }
+
     /**
      * <p>
      * Gets all the orders placed by the user.
@@ -90,7 +117,7 @@ public class OrderServiceImpl implements OrderService {
      */
     @Override
     public void addAddress(final int userId, final String address) {
-       UserServiceImpl.getInstance().getUserById(userId).addAddress(address);
+       UserServiceLocator.locate(OrderServiceImpl.class).getUserById(userId).addAddress(address);
     }
 
     /**
@@ -103,6 +130,6 @@ public class OrderServiceImpl implements OrderService {
      */
     @Override
     public List<String> getAllAddresses(final int userId) {
-        return UserServiceImpl.getInstance().getUserById(userId).getAddresses();
+        return UserServiceLocator.locate(OrderServiceImpl.class).getUserById(userId).getAddresses();
     }
 }
@@ -1,13 +1,24 @@
 package org.abc.product.service.order.impl2;
 
+import org.abc.product.OrderStatus;
+import org.abc.product.PaymentMode;
+import org.abc.product.ProductCategory;
+import org.abc.product.cache.CatalogCache;
+import org.abc.product.dao.cart.CartDAO;
+import org.abc.product.dao.cart.impl.WriteBehindCartDAO;
 import org.abc.product.dao.order.impl.OrderDAOImpl;
 import org.abc.product.dao.order.OrderDAO;
+import org.abc.product.model.cart.Cart;
 import org.abc.product.model.order.Order;
+import org.abc.product.model.product.Product;
+import org.abc.product.pagination.Page;
+import org.abc.product.pagination.PageCursor;
 import org.abc.product.service.order.OrderService;
 import org.abc.product.service.order.OrderServiceREST;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * <p>
@@ -21,6 +32,7 @@ public class OrderServiceImpl implements OrderServiceREST, OrderService {
 
     private static OrderServiceREST orderService;
     private static final OrderDAO ORDER_DAO = OrderDAOImpl.getInstance();
+    private static final CartDAO CART_DAO = WriteBehindCartDAO.getInstance();
 
     /**
      * <p>
@@ -50,7 +62,35 @@ public class OrderServiceImpl implements OrderServiceREST, OrderService {
      */
     @Override
     public void addOrder(final int userId, final Order order) {
-        ORDER_DAO.addOrder(userId, order);
+        CatalogCache.getInstance().invalidate(ORDER_DAO.addOrder(userId, order));
+    }
+
+    /**
+     * <p>
+     * Places the orders of all the products in the cart of the user and empties the cart.
+     * </p>
+     *
+     * @param userId Refers the id of the user
+     * @param cart Refers the {@link Cart} of the user.
+     * @param address Refers the delivery address of the orders.
+     * @param paymentMode Refers the {@link PaymentMode} of the orders.
+     */
+    @Override
+    public void checkout(final int userId, final Cart cart, final String address, final PaymentMode paymentMode) {
+        if (cart.isEmpty()) {
+            return;
+        }
+        final List<Order> orders = cart.getItems().stream().map(product -> new Order.OrderBuilder(userId)
+                .setProductId(product.getId()).setProductName(product.toString())
+                .setQuantity(cart.getQuantity(product.getId()))
+                .setTotalAmount(product.getPrice() * cart.getQuantity(product.getId())).setAddress(address).setPaymentModeId(paymentMode.getId())
+                .setOrderStatusId(OrderStatus.PLACED.getId()).build()).toList();
+
+        CART_DAO.flush(userId);
+        ORDER_DAO.checkout(userId, orders);
+        CART_DAO.invalidate(userId);
+        cart.getItems().stream().map(Product::getProductCategory).distinct()
+                .forEach(CatalogCache.getInstance()::invalidate);
     }
 
     /**
@@ -68,17 +108,35 @@ public class OrderServiceImpl implements OrderServiceREST, OrderService {
 
     /**
      * <p>
-     * Gets all the orders placed by the user.
+     * Gets a page of the orders placed by the user.
      * </p>
      *
      * @param userId Refers the id of the user
-     * @param page Refers the page number.
+     * @param cursor Refers the cursor of the page, null for the first page.
      * @param limit Refers the limit of data to show.
-     * @return  all the {@link Order} of the user.
+     * @return  the {@link Page} of {@link Order} of the user.
      */
     @Override
-    public List<Order> getOrders(final int userId, final int page, final int limit) {
-        return ORDER_DAO.getOrders(userId, page, limit);
+    public Page<Order> getOrders(final int userId, final String cursor, final int limit) {
+        final int pageLimit = PageCursor.toLimit(limit);
+
+        return Page.of(ORDER_DAO.getOrders(userId, PageCursor.decode(cursor), pageLimit), pageLimit, Order::getId);
+    }
+
+    /**
+     * <p>
+     * Passes a page of the orders placed by the user to the given consumer one order at a time.
+     * </p>
+     *
+     * @param userId Refers the id of the user
+     * @param afterId Refers the id of the last order of the previous page, zero for the first page.
+     * @param limit Refers the limit of data to show.
+     * @param consumer Refers the consumer of each {@link Order}.
+     */
+    @Override
+    public void streamOrders(final int userId, final int afterId, final int limit,
+                             final Consumer<? super Order> consumer) {
+        ORDER_DAO.streamOrders(userId, afterId, PageCursor.toLimit(limit), consumer);
     }
 
     /**
@@ -90,7 +148,11 @@ public class OrderServiceImpl implements OrderServiceREST, OrderService {
      */
     @Override
     public void cancelOrder(final Order order) {
-        ORDER_DAO.cancelOrder(order);
+        final ProductCategory productCategory = ORDER_DAO.cancelOrder(order);
+
+        if (Objects.nonNull(productCategory)) {
+            CatalogCache.getInstance().invalidate(productCategory);
+        }
     }
 
     /**
@@ -1,7 +1,8 @@
 package org.abc.product.service.wishlist;
 
 import org.abc.product.ProductCategory;
-import org.abc.product.model.wishlist.Wishlist;
+import org.abc.product.model.product.Product;
+import org.abc.product.pagination.Page;
 
 public interface WishlistServiceREST {
 
@@ -29,13 +30,13 @@ public interface WishlistServiceREST {
 
     /**
      * <p>
-     * Gets the wishlist of the current user and returns it.
+     * Gets a page of the wishlist of the current user and returns it.
      * </p>
      *
-     * @param page Refers the page number.
-     * @param limit Refers the limit of data to show.
      * @param userId Refers the id of the user.
-     * @return the {@link Wishlist} of the user.
+     * @param cursor Refers the cursor of the page, null for the first page.
+     * @param limit Refers the limit of data to show.
+     * @return the {@link Page} of {@link Product} in the wishlist of the user.
      */
-    Wishlist getWishlist(final int userId, final int page, final int limit);
+    Page<Product> getWishlist(final int userId, final String cursor, final int limit);
 }
@@ -71,7 +71,7 @@ public class WishlistServiceImpl implements WishlistService {
     public void removeItem(final int productId, final int userId) {
         final Wishlist wishlist = WISHLISTS.get(userId);
 
-        wishlist.getItems().removeIf(product -> productId == product.getId());
+        wishlist.removeItem(productId);
     }
 
     /**
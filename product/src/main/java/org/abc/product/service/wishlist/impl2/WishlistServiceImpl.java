@@ -3,7 +3,10 @@ package org.abc.product.service.wishlist.impl2;
 import org.abc.product.ProductCategory;
 import org.abc.product.dao.wishlist.WishlistDAO;
 import org.abc.product.dao.wishlist.impl.WishlistDAOImpl;
+import org.abc.product.model.product.Product;
 import org.abc.product.model.wishlist.Wishlist;
+import org.abc.product.pagination.Page;
+import org.abc.product.pagination.PageCursor;
 import org.abc.product.service.wishlist.WishlistService;
 import org.abc.product.service.wishlist.WishlistServiceREST;
 
@@ -83,16 +86,19 @@ public class WishlistServiceImpl implements WishlistServiceREST, WishlistService
 
     /**
      * <p>
-     * Gets the wishlist of the current user and returns it.
+     * Gets a page of the wishlist of the current user and returns it.
      * </p>
      *
-     * @param page Refers the page number.
-     * @param limit Refers the limit of data to show.
      * @param userId Refers the id of the user.
-     * @return the {@link Wishlist} of the user.
+     * @param cursor Refers the cursor of the page, null for the first page.
+     * @param limit Refers the limit of data to show.
+     * @return the {@link Page} of {@link Product} in the wishlist of the user.
      */
     @Override
-    public Wishlist getWishlist(final int userId, final int page, final int limit) {
-        return WISHLIST_DAO.getWishlist(userId, page, limit);
+    public Page<Product> getWishlist(final int userId, final String cursor, final int limit) {
+        final int pageLimit = PageCursor.toLimit(limit);
+
+        return Page.of(WISHLIST_DAO.getWishlist(userId, PageCursor.decode(cursor), pageLimit).getItems(), pageLimit,
+                Product::getId);
     }
 }
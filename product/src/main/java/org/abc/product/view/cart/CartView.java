@@ -81,7 +81,7 @@ public class CartView extends View {
     public void viewCart(final User user) {
         final Cart cart = CART_CONTROLLER.getCart(user.getId());
 
-        if (Objects.isNull(cart) || Objects.isNull(cart.getItems())) {
+        if (Objects.isNull(cart) || cart.isEmpty()) {
             LOGGER.info(String.format("User id :%d-Cart is empty", user.getId()));
             HomepageView.getInstance().showHomePage(user);
         } else {
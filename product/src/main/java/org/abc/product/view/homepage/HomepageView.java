@@ -8,7 +8,6 @@ import org.abc.product.controller.inventory.InventoryController;
 import org.abc.authentication.model.User;
 import org.abc.product.view.order.OrderView;
 import org.abc.product.model.product.Product;
-import org.abc.product.InventoryManager;
 import org.abc.validation.Validator;
 import org.abc.pageview.PageViewer;
 import org.abc.product.view.wishlist.WishlistView;
@@ -17,7 +16,9 @@ import org.abc.product.view.cart.CartView;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -62,10 +63,11 @@ public class HomepageView extends View implements PageViewer {
      * @param user Refers the current {@link User}.
      */
     public void showHomePage(final User user) {
-        InventoryManager.getInstance().addAllItems();
-        final List<Product> MOBILES = INVENTORY_CONTROLLER.getItemsByCategory(ProductCategory.MOBILE);
-        final List<Product> LAPTOPS = INVENTORY_CONTROLLER.getItemsByCategory(ProductCategory.LAPTOP);
-        final List<Product> CLOTHES = INVENTORY_CONTROLLER.getItemsByCategory(ProductCategory.CLOTHES);
+        final Map<ProductCategory, List<Product>> ITEMS = INVENTORY_CONTROLLER
+                .getItems(EnumSet.allOf(ProductCategory.class));
+        final List<Product> MOBILES = ITEMS.get(ProductCategory.MOBILE);
+        final List<Product> LAPTOPS = ITEMS.get(ProductCategory.LAPTOP);
+        final List<Product> CLOTHES = ITEMS.get(ProductCategory.CLOTHES);
         LOGGER.info("1.Mobiles\n2.Laptops\n3.Clothes\n4.Cart\n5.Wishlist\n6.My Orders\n7.Profile\n8.Logout");
 
         switch (getChoice()) {
@@ -3,6 +3,7 @@ package org.abc.product.view.order;
 import org.abc.product.OrderStatus;
 import org.abc.product.PaymentMode;
 import org.abc.product.controller.order.OrderController;
+import org.abc.product.exceptions.OutOfStockException;
 import org.abc.product.model.order.Order;
 import org.abc.product.model.product.Product;
 import org.abc.product.view.common_view.View;
@@ -101,10 +102,16 @@ public class OrderView extends View {
         final String address = getAddress(ORDER_CONTROLLER.getAllAddresses(user.getId()), user);
         final PaymentMode paymentMode = getPaymentMode(user);
 
-        ORDER_CONTROLLER.addOrder(user.getId(), new Order.OrderBuilder(user.getId())
-                .setAddress(address).setQuantity(productQuantity).setTotalAmount((float) (productQuantity * product.getPrice()))
-                .setProductName(product.toString()).setOrderStatusId(OrderStatus.PLACED.getId()).setPaymentModeId(paymentMode.getId())
-                .setProductId(product.getId()).build());
+        try {
+            ORDER_CONTROLLER.addOrder(user.getId(), new Order.OrderBuilder(user.getId())
+                    .setAddress(address).setQuantity(productQuantity).setTotalAmount((float) (productQuantity * product.getPrice()))
+                    .setProductName(product.toString()).setOrderStatusId(OrderStatus.PLACED.getId()).setPaymentModeId(paymentMode.getId())
+                    .setProductId(product.getId()).build());
+        } catch (final OutOfStockException exception) {
+            LOGGER.warn(String.format("User Id :%d Product Id :%d - Out of stock", user.getId(), product.getId()));
+
+            return;
+        }
         product.setQuantity(product.getQuantity() - productQuantity);
         LOGGER.info(String.format("User Id :%d Product Id :%d - Order placed successfully", user.getId(), product.getId()));
     }
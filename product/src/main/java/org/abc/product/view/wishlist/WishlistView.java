@@ -79,7 +79,7 @@ public class WishlistView extends View {
     public void viewWishlist(final User user) {
         final Wishlist wishlist = WISHLIST_CONTROLLER.getWishlist(user.getId());
 
-        if (Objects.isNull(wishlist) || Objects.isNull(wishlist.getItems())) {
+        if (Objects.isNull(wishlist) || wishlist.isEmpty()) {
             LOGGER.info(String.format("User Id : %d - Wishlist is empty", user.getId()));
             HOMEPAGE_VIEW.showHomePage(user);
         } else {
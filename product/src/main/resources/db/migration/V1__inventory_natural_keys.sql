@@ -0,0 +1,16 @@
+-- Keys the inventory by its natural keys. Mobiles and laptops are keyed by their category, brand and model, so the
+-- category is kept with every electronics row. Clothes are keyed by their brand, type, gender and size.
+-- The index on brand and model alone is dropped only after the index replacing it is built. Duplicate rows keep
+-- the new index from being built, which fails the whole migration and leaves the old index in place.
+alter table electronics_inventory add column if not exists product_category_id integer;
+
+update electronics_inventory e set product_category_id = p.product_category_id
+from product p where p.id = e.product_id and e.product_category_id is null;
+
+create unique index if not exists electronics_inventory_category_natural_key
+on electronics_inventory (product_category_id, brand, model);
+
+create unique index if not exists clothes_inventory_natural_key
+on clothes_inventory (brand, clothes_type, gender, size);
+
+drop index if exists electronics_inventory_natural_key;
@@ -0,0 +1,2 @@
+-- Keeps the quantity of every product in a cart, which is one for the products added before it was kept.
+alter table cart add column if not exists quantity integer not null default 1;
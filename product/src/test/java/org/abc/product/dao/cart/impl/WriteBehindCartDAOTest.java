@@ -0,0 +1,287 @@
+package org.abc.product.dao.cart.impl;
+
+import org.abc.product.dao.cart.CartDAO;
+import org.abc.product.model.cart.Cart;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * <p>
+ * Checks the WriteBehindCartDAO under concurrent changes and flushes, over an in memory cart table which can be
+ * made to fail and to be slow.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class WriteBehindCartDAOTest {
+
+    private static final int USERS = 4;
+    private static final int PRODUCTS = 8;
+    private Path journalPath;
+    private MemoryCartTable cartTable;
+
+    @Before
+    public void setUp() throws IOException {
+        journalPath = Files.createTempFile("cart-journal", ".log");
+        Files.delete(journalPath);
+        cartTable = new MemoryCartTable();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(journalPath);
+        Files.deleteIfExists(journalPath.resolveSibling(journalPath.getFileName() + ".tmp"));
+    }
+
+    @Test(timeout = 30_000)
+    public void changesAndCompactionsDontDeadlock() throws Exception {
+        final WriteBehindCartDAO cartDAO = newCartDAO(10);
+
+        cartDAO.start();
+        runConcurrently(8, 2_000, (thread, iteration) -> {
+            final int userId = ThreadLocalRandom.current().nextInt(USERS);
+            final int productId = ThreadLocalRandom.current().nextInt(PRODUCTS);
+
+            switch (iteration % 4) {
+                case 0 -> cartDAO.addItem(productId, userId);
+                case 1 -> cartDAO.removeItem(productId, userId);
+                case 2 -> cartDAO.updateQuantity(productId, userId, iteration);
+                default -> cartDAO.flush(userId);
+            }
+        });
+        cartDAO.stop();
+    }
+
+    @Test(timeout = 30_000)
+    public void concurrentFlushesKeepTheLastChange() throws Exception {
+        final WriteBehindCartDAO cartDAO = newCartDAO(10);
+        final Map<Integer, Map<Integer, Integer>> lastChanges = new ConcurrentHashMap<>();
+
+        cartTable.failureRate = 0.3;
+        cartTable.delayMillis = 1;
+        cartDAO.start();
+        runConcurrently(USERS, 500, (thread, iteration) -> {
+            final int productId = ThreadLocalRandom.current().nextInt(PRODUCTS);
+            final Map<Integer, Integer> userChanges = lastChanges.computeIfAbsent(thread, key -> new HashMap<>());
+
+            if (0 == iteration % 3) {
+                cartDAO.removeItem(productId, thread);
+                userChanges.put(productId, CartTable.REMOVED);
+            } else if (cartDAO.addItem(productId, thread)) {
+                userChanges.put(productId, 1);
+            } else if (cartDAO.updateQuantity(productId, thread, iteration)) {
+                userChanges.put(productId, iteration);
+            }
+
+            if (0 == iteration % 7) {
+                cartDAO.flush(thread);
+            }
+        });
+        cartTable.failureRate = 0;
+        cartDAO.stop();
+
+        lastChanges.forEach((userId, userChanges) -> userChanges.forEach((productId, quantity) ->
+                assertEquals(String.format("user %d product %d", userId, productId),
+                        CartTable.REMOVED != quantity ? quantity : null, cartTable.get(userId, productId))));
+    }
+
+    @Test(timeout = 30_000)
+    public void failedWriteKeepsTheChanges() throws Exception {
+        final WriteBehindCartDAO cartDAO = newCartDAO(60_000);
+
+        cartDAO.start();
+        cartTable.failureRate = 1;
+        assertTrue(cartDAO.addItem(1, 1));
+        cartDAO.flush(1);
+        assertEquals(null, cartTable.get(1, 1));
+
+        cartTable.failureRate = 0;
+        cartDAO.flush(1);
+        assertEquals(Integer.valueOf(1), cartTable.get(1, 1));
+        cartDAO.stop();
+    }
+
+    @Test(timeout = 30_000)
+    public void journalRecoversUnwrittenChanges() throws Exception {
+        final WriteBehindCartDAO cartDAO = newCartDAO(60_000);
+
+        cartDAO.start();
+        cartTable.failureRate = 1;
+        assertTrue(cartDAO.addItem(1, 1));
+        assertTrue(cartDAO.updateQuantity(1, 1, 3));
+        assertTrue(cartDAO.addItem(2, 1));
+        cartDAO.removeItem(2, 1);
+        cartDAO.flush(1);
+
+        cartTable.failureRate = 0;
+        final WriteBehindCartDAO recoveredCartDAO = newCartDAO(60_000);
+
+        recoveredCartDAO.start();
+        recoveredCartDAO.stop();
+        assertEquals(Integer.valueOf(3), cartTable.get(1, 1));
+        assertEquals(null, cartTable.get(1, 2));
+    }
+
+    private WriteBehindCartDAO newCartDAO(final long flushMillis) {
+        return new WriteBehindCartDAO(new UnusedCartDAO(), cartTable, journalPath, flushMillis);
+    }
+
+    private static void runConcurrently(final int threads, final int iterations, final Task task)
+            throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final List<Future<Void>> futures = new ArrayList<>();
+
+        try {
+            for (int thread = 0; thread < threads; thread++) {
+                final int threadId = thread;
+
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    startLatch.await();
+
+                    for (int iteration = 1; iteration <= iterations; iteration++) {
+                        task.run(threadId, iteration);
+                    }
+
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+
+            for (final Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * <p>
+     * Represents a change made by one of the concurrent threads.
+     * </p>
+     */
+    private interface Task {
+
+        void run(final int thread, final int iteration);
+    }
+
+    /**
+     * <p>
+     * Represents the cart table in memory. A write fails as a whole like a rolled back transaction.
+     * </p>
+     */
+    private static class MemoryCartTable extends CartTable {
+
+        private final Map<Integer, Map<Integer, Integer>> rows = new HashMap<>();
+        private final AtomicInteger writes = new AtomicInteger();
+        private volatile double failureRate;
+        private volatile long delayMillis;
+
+        @Override
+        synchronized Set<Integer> getProductIds(final int userId) {
+            return new HashSet<>(rows.getOrDefault(userId, Map.of()).keySet());
+        }
+
+        @Override
+        int write(final Map<Integer, Map<Integer, Integer>> changes) throws SQLException {
+            sleep();
+
+            if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+                throw new SQLException("Injected failure");
+            }
+
+            synchronized (this) {
+                changes.forEach((userId, userChanges) -> userChanges.forEach((productId, quantity) -> {
+                    if (CartTable.REMOVED != quantity) {
+                        rows.computeIfAbsent(userId, key -> new HashMap<>()).put(productId, quantity);
+                    } else {
+                        rows.getOrDefault(userId, new HashMap<>()).remove(productId);
+                    }
+                }));
+            }
+
+            return writes.incrementAndGet();
+        }
+
+        synchronized Integer get(final int userId, final int productId) {
+            return rows.getOrDefault(userId, Map.of()).get(productId);
+        }
+
+        private void sleep() {
+            if (0 < delayMillis) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Represents the cart DAO written through before the store is started, which the tests never reach.
+     * </p>
+     */
+    private static class UnusedCartDAO implements CartDAO {
+
+        @Override
+        public Cart getCart(final int userId) {
+            return new Cart();
+        }
+
+        @Override
+        public boolean addItem(final int productId, final int userId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void removeItem(final int productId, final int userId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean updateQuantity(final int productId, final int userId, final int quantity) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Cart getCart(final int userId, final int afterProductId, final int limit) {
+            return new Cart();
+        }
+
+        @Override
+        public void flush(final int userId) {}
+
+        @Override
+        public void invalidate(final int userId) {}
+    }
+}
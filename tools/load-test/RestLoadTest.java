@@ -0,0 +1,196 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Sends GET requests to a REST endpoint with a fixed number of requests in flight for a fixed time, then prints the
+ * throughput, the status codes and the latency percentiles. Runs as a single source file, without a build:
+ * </p>
+ *
+ * <pre>
+ * java tools/load-test/RestLoadTest.java \
+ *     --url 'http://localhost:8181/cxf/inventory/getByCategory?category=MOBILE&amp;limit=200' \
+ *     --concurrency 1000 --duration 30 --warmup 5
+ * </pre>
+ *
+ * <p>
+ * To compare the synchronous and the asynchronous controllers, run it with the same arguments against a build of
+ * each, with a concurrency well above the http thread pool of the container, and compare the successful requests
+ * per second, not only the total. Requests rejected by the limit of the database executor are answered at once
+ * with 503 and show up in the status codes. No runs are recorded yet, so the effect of the asynchronous
+ * controllers on throughput is not measured. A bearer token for the secured endpoints is passed with
+ * {@code --token}.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class RestLoadTest {
+
+    private final URI uri;
+    private final int concurrency;
+    private final Duration duration;
+    private final Duration warmup;
+    private final String token;
+    private final HttpClient httpClient;
+    private final LongAdder errorCount = new LongAdder();
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * <p>
+     * Constructs the RestLoadTest object.
+     * </p>
+     *
+     * @param uri Refers the endpoint to be called.
+     * @param concurrency Refers the number of requests in flight.
+     * @param duration Refers the time for which the results are recorded.
+     * @param warmup Refers the time for which requests are sent before recording.
+     * @param token Refers the bearer token, null for the endpoints which are not secured.
+     */
+    private RestLoadTest(final URI uri, final int concurrency, final Duration duration, final Duration warmup,
+                         final String token) {
+        this.uri = uri;
+        this.concurrency = concurrency;
+        this.duration = duration;
+        this.warmup = warmup;
+        this.token = token;
+        this.httpClient = HttpClient.newBuilder().executor(Executors.newFixedThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors()))).connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    /**
+     * <p>
+     * Runs the load test with the given arguments.
+     * </p>
+     *
+     * @param args Refers the arguments, {@code --url} is required.
+     */
+    public static void main(final String[] args) throws InterruptedException {
+        final Map<String, String> options = new HashMap<>();
+
+        for (int index = 0; index + 1 < args.length; index += 2) {
+            options.put(args[index], args[index + 1]);
+        }
+
+        if (!options.containsKey("--url")) {
+            System.err.println("Usage: java RestLoadTest.java --url <url> [--concurrency 500] [--duration 30]"
+                    + " [--warmup 5] [--token <bearer token>]");
+            System.exit(1);
+        }
+        final RestLoadTest loadTest = new RestLoadTest(URI.create(options.get("--url")),
+                Integer.parseInt(options.getOrDefault("--concurrency", "500")),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("--duration", "30"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("--warmup", "5"))),
+                options.get("--token"));
+
+        loadTest.run(loadTest.warmup, false);
+        loadTest.run(loadTest.duration, true);
+        loadTest.printResults();
+        System.exit(0);
+    }
+
+    /**
+     * <p>
+     * Keeps the given number of requests in flight until the given time has passed.
+     * </p>
+     *
+     * @param time Refers the time to send requests for.
+     * @param isRecorded Refers whether the results are recorded.
+     */
+    private void run(final Duration time, final boolean isRecorded) throws InterruptedException {
+        final Semaphore inFlight = new Semaphore(concurrency);
+        final long endTime = System.nanoTime() + time.toNanos();
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET();
+
+        if (Objects.nonNull(token)) {
+            requestBuilder.header("Authorization", "Bearer " + token);
+        }
+        final HttpRequest request = requestBuilder.build();
+
+        while (System.nanoTime() - endTime < 0) {
+            if (!inFlight.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                continue;
+            }
+            final long startTime = System.nanoTime();
+
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, exception) -> {
+                        inFlight.release();
+
+                        if (!isRecorded) {
+                            return;
+                        }
+
+                        if (Objects.isNull(exception)) {
+                            latencies.add(System.nanoTime() - startTime);
+                            statusCounts.computeIfAbsent(response.statusCode(), status -> new LongAdder())
+                                    .increment();
+                        } else {
+                            errorCount.increment();
+                        }
+                    });
+        }
+        inFlight.acquire(concurrency);
+    }
+
+    /**
+     * <p>
+     * Prints the throughput, the status codes and the latency percentiles of the recorded requests.
+     * </p>
+     */
+    private void printResults() {
+        final List<Long> sortedLatencies;
+
+        synchronized (latencies) {
+            sortedLatencies = new ArrayList<>(latencies);
+        }
+        Collections.sort(sortedLatencies);
+        final long okCount = statusCounts.entrySet().stream().filter(entry -> entry.getKey() / 100 == 2)
+                .mapToLong(entry -> entry.getValue().sum()).sum();
+
+        System.out.println(String.format("%s - %d requests in flight for %d s", uri, concurrency,
+                duration.toSeconds()));
+        System.out.println(String.format("Requests : %d, errors : %d", sortedLatencies.size(), errorCount.sum()));
+        System.out.println(String.format("Throughput : %.1f requests/s, %.1f successful requests/s",
+                (double) sortedLatencies.size() / duration.toSeconds(), (double) okCount / duration.toSeconds()));
+        statusCounts.forEach((status, count) -> System.out.println(String.format("Status %d : %d", status,
+                count.sum())));
+
+        if (!sortedLatencies.isEmpty()) {
+            System.out.println(String.format("Latency ms - p50 : %.1f, p90 : %.1f, p99 : %.1f, max : %.1f",
+                    percentile(sortedLatencies, 50), percentile(sortedLatencies, 90),
+                    percentile(sortedLatencies, 99), sortedLatencies.get(sortedLatencies.size() - 1) / 1e6));
+        }
+    }
+
+    /**
+     * <p>
+     * Gets the given percentile of the sorted latencies.
+     * </p>
+     *
+     * @param sortedLatencies Refers the latencies in nanoseconds, in ascending order.
+     * @param percentile Refers the percentile.
+     * @return the latency in milliseconds.
+     */
+    private static double percentile(final List<Long> sortedLatencies, final int percentile) {
+        final int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.size()) - 1;
+
+        return sortedLatencies.get(Math.max(0, index)) / 1e6;
+    }
+}
@@ -0,0 +1,128 @@
+package org.abc.validation.benchmark;
+
+import org.abc.validation.Validator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Compares the {@link Validator} with the former validation, which compiled the regular expression on every call.
+ * Run with {@code mvn -P benchmark package} and {@code java -jar target/benchmarks.jar -prof gc} to also compare
+ * the allocation per call.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private static final String EMAIL = "^[a-zA-Z0-9]+(?:\\.[a-zA-Z0-9]+)*@[A-Za-z0-9]{2,}([.][a-zA-Z0-9]{2,})+$";
+    private static final String PASSWORD =
+            "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,20}$";
+    private static final String NAME = "^[A-Za-z][A-Za-z\\s]{2,30}$";
+
+    @Param({"true", "false"})
+    private boolean isValidInput;
+    private Validator validator;
+    private String emailId;
+    private String password;
+    private String name;
+    private String mobileNumber;
+    private String number;
+
+    /**
+     * <p>
+     * Prepares the inputs and checks that both validations agree on them.
+     * </p>
+     */
+    @Setup
+    public void setUp() {
+        validator = Validator.getInstance();
+        emailId = isValidInput ? "john.doe@mail.example.com" : "john..doe@mail.example.com";
+        password = isValidInput ? "Secret@123" : "secret1234";
+        name = isValidInput ? "John Doe" : "J0hn Doe";
+        mobileNumber = isValidInput ? "919876543210" : "919876543x10";
+        number = isValidInput ? "12345" : "12045";
+
+        if (legacyEmail() != email() || legacyPassword() != password() || legacyName() != name()
+                || legacyMobileNumber() != mobileNumber() || legacyPositiveNumber() != positiveNumber()) {
+            throw new IllegalStateException("Validations disagree on the benchmark inputs");
+        }
+    }
+
+    @Benchmark
+    public boolean legacyEmail() {
+        return Pattern.matches(EMAIL, emailId);
+    }
+
+    @Benchmark
+    public boolean email() {
+        return validator.isValidEmail(emailId);
+    }
+
+    @Benchmark
+    public boolean legacyPassword() {
+        return Pattern.matches(PASSWORD, password);
+    }
+
+    @Benchmark
+    public boolean password() {
+        return validator.isValidPassword(password);
+    }
+
+    @Benchmark
+    public boolean legacyName() {
+        return Pattern.matches(NAME, name);
+    }
+
+    @Benchmark
+    public boolean name() {
+        return validator.isValidName(name);
+    }
+
+    @Benchmark
+    public boolean legacyMobileNumber() {
+        final String forAmerica = "^1[2-9]\\d{2}[2-9]\\d{2}\\d{4}$";
+        final String forAustralia = "^61(4|04)\\d{8}$";
+        final String forGermany = "^491[5-79]\\d{9}$";
+        final String forChina = "^861[3-9][0-9]{9}$";
+        final String forIndia = "^91[6789]\\d{9}$";
+
+        return Pattern.matches(String.join("|", forAmerica, forAustralia, forGermany, forChina, forIndia),
+                mobileNumber);
+    }
+
+    @Benchmark
+    public boolean mobileNumber() {
+        return validator.isValidMobileNumber(mobileNumber);
+    }
+
+    @Benchmark
+    public boolean legacyPositiveNumber() {
+        return Pattern.matches("^[1-9]+$", number);
+    }
+
+    @Benchmark
+    public boolean positiveNumber() {
+        return validator.isPositiveNumber(number);
+    }
+}
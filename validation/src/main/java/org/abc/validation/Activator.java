@@ -1,7 +1,15 @@
 package org.abc.validation;
 
+import jakarta.validation.ValidatorFactory;
+
+import org.abc.validation.bulk.BulkValidator;
+import org.abc.validation.factory.SharedValidatorFactory;
+
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+
+import java.util.Objects;
 
 /**
  * <p>
@@ -13,23 +21,35 @@ import org.osgi.framework.BundleContext;
  */
 public class Activator implements BundleActivator {
 
+    private ServiceRegistration<ValidatorFactory> validatorFactoryRegistration;
+
     /**
      * <p>
-     * Invoked when the osgi bundle starts.
+     * Invoked when the osgi bundle starts. Publishes the shared validator factory service.
      * </p>
      * @param context Refers the context of the bundle.
      */
     public void start(final BundleContext context) {
         System.out.println("Starting the bundle - Validation");
+        validatorFactoryRegistration = context.registerService(ValidatorFactory.class,
+                SharedValidatorFactory.getInstance().getValidatorFactory(), null);
     }
 
     /**
      * <p>
-     * Invoked when the osgi bundle stops.
+     * Invoked when the osgi bundle stops. Withdraws the shared validator factory service first, so the bundles
+     * tracking it drop its validator, then stops the bulk validation pool and closes the factory.
      * </p>
      * @param context Refers the context of the bundle.
      */
     public void stop(final BundleContext context) {
         System.out.println("Stopping the bundle");
+
+        if (Objects.nonNull(validatorFactoryRegistration)) {
+            validatorFactoryRegistration.unregister();
+            validatorFactoryRegistration = null;
+        }
+        BulkValidator.shutdown();
+        SharedValidatorFactory.close();
     }
-}
\ No newline at end of file
+}
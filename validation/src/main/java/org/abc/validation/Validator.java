@@ -1,6 +1,9 @@
 package org.abc.validation;
 
+import org.abc.validation.mobile.MobileNumberTrie;
+
 import java.util.Objects;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -8,12 +11,25 @@ import java.util.regex.Pattern;
  * Validates the input given by the users
  * </p>
  *
+ * <p>
+ * The patterns are compiled once and matched with a reusable matcher of the calling thread. The simple formats,
+ * digits and email ids, are checked by single pass scanners which don't allocate, and the mobile numbers by
+ * the {@link MobileNumberTrie}.
+ * </p>
+ *
  * @author Maharaja S
  * @version 1.0
  */
 public class Validator {
 
     private static Validator validator;
+    private static final Pattern NAME_PATTERN = Pattern.compile("^[A-Za-z][A-Za-z\\s]{2,30}$");
+    private static final Pattern PASSWORD_PATTERN = Pattern.compile(
+            "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,20}$");
+    private static final ThreadLocal<Matcher> NAME_MATCHER = ThreadLocal.withInitial(() -> NAME_PATTERN.matcher(""));
+    private static final ThreadLocal<Matcher> PASSWORD_MATCHER = ThreadLocal.withInitial(() ->
+            PASSWORD_PATTERN.matcher(""));
+    private static final String[] MOBILE_NUMBER_REGIONS = {"US", "AU", "CN", "DE", "IN"};
 
     /**
      * <p>
@@ -42,7 +58,7 @@ public class Validator {
      * @return true if the entered name is valid or false otherwise.
      */
     public boolean isValidName(final String name) {
-        return Pattern.matches("^[A-Za-z][A-Za-z\\s]{2,30}$", name);
+        return matches(NAME_MATCHER, name);
     }
 
     /**
@@ -54,24 +70,65 @@ public class Validator {
      * @return true if the entered password is valid or false otherwise.
      */
     public boolean isValidPassword(final String password) {
-        return Pattern.matches("^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,20}$", password);
+        return matches(PASSWORD_MATCHER, password);
     }
 
     /**
      * <p>
-     * Validates the email id of the user by the given regular expression pattern.
+     * Validates the email id of the user. The email id has a local part of letters and digits, with single dots
+     * between them, and a domain of at least two labels of two or more letters and digits.
      * </p>
      *
      * @param emailId Refers the email id entered by the user to be validated.
      * @return true if the entered email id is valid or false otherwise.
      */
     public boolean isValidEmail(final String emailId) {
-        return Pattern.matches("^[a-zA-Z0-9]+(?:\\.[a-zA-Z0-9]+)*@[A-Za-z0-9]{2,}([.][a-zA-Z0-9]{2,})+$", emailId);
+        if (Objects.isNull(emailId)) {
+            return false;
+        }
+        final int length = emailId.length();
+        int index = 0;
+        int runLength = 0;
+
+        for (; index < length && emailId.charAt(index) != '@'; index++) {
+            final char character = emailId.charAt(index);
+
+            if (character == '.' && runLength > 0) {
+                runLength = 0;
+            } else if (isLetterOrDigit(character)) {
+                runLength++;
+            } else {
+                return false;
+            }
+        }
+
+        if (index == length || runLength == 0) {
+            return false;
+        }
+        int labelCount = 0;
+
+        runLength = 0;
+
+        for (index++; index < length; index++) {
+            final char character = emailId.charAt(index);
+
+            if (character == '.' && runLength >= 2) {
+                labelCount++;
+                runLength = 0;
+            } else if (isLetterOrDigit(character)) {
+                runLength++;
+            } else {
+                return false;
+            }
+        }
+
+        return labelCount >= 1 && runLength >= 2;
     }
 
     /**
      * <p>
-     * Validates the mobile number by the given regular expression pattern.
+     * Validates the mobile number of the country chosen by the user, 1 for America, 2 for Australia, 3 for China,
+     * 4 for Germany and 5 for India. The number starts with the country code and has no separators.
      * </p>
      *
      * @param mobileNumber Refers the mobile number entered by the user to be validated.
@@ -79,20 +136,33 @@ public class Validator {
      * @return true if the entered mobile number is valid, otherwise false.
      */
     public boolean isValidMobileNumber(final String mobileNumber, final int choice) {
-        final String forAmerica = "^1[2-9]\\d{2}[2-9]\\d{2}\\d{4}$";
-        final String forAustralia = "^61(4|04)\\d{8}$";
-        final String forGermany = "^491[5-79]\\d{9}$";
-        final String forChina = "^861[3-9][0-9]{9}$";
-        final String forIndia = "^91[6789]\\d{9}$";
+        return choice >= 1 && choice <= MOBILE_NUMBER_REGIONS.length && isCountryCodeNumber(mobileNumber)
+                && MobileNumberTrie.getInstance().isValid(mobileNumber, MOBILE_NUMBER_REGIONS[choice - 1]);
+    }
+
+    /**
+     * <p>
+     * Validates the mobile number of any of the supported countries. The number starts with the country code and
+     * has no separators.
+     * </p>
+     *
+     * @param mobileNumber Refers the mobile number to be validated.
+     * @return true if the mobile number is valid, otherwise false.
+     */
+    public boolean isValidMobileNumber(final String mobileNumber) {
+        return isCountryCodeNumber(mobileNumber) && MobileNumberTrie.getInstance().isValid(mobileNumber);
+    }
 
-        return switch (choice) {
-            case 1 -> Pattern.matches(forAmerica, mobileNumber);
-            case 2 -> Pattern.matches(forAustralia, mobileNumber);
-            case 3 -> Pattern.matches(forChina, mobileNumber);
-            case 4 -> Pattern.matches(forGermany, mobileNumber);
-            case 5 -> Pattern.matches(forIndia, mobileNumber);
-            default -> false;
-        };
+    /**
+     * <p>
+     * Normalizes the mobile number to E.164. The number may be written with a leading + and separators.
+     * </p>
+     *
+     * @param mobileNumber Refers the mobile number with the country code.
+     * @return the mobile number in E.164 form, or null if the mobile number is invalid.
+     */
+    public String toE164(final String mobileNumber) {
+        return MobileNumberTrie.getInstance().toE164(mobileNumber);
     }
 
     /**
@@ -140,6 +210,97 @@ public class Validator {
      * @return true if the input grants access to proceed.
      */
     public boolean isPositiveNumber(final String input) {
-        return Pattern.matches("^[1-9]+$", input);
+        if (Objects.isNull(input) || input.isEmpty()) {
+            return false;
+        }
+
+        for (int index = 0; index < input.length(); index++) {
+            if (!isInRange(input.charAt(index), '1', '9')) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Matches the whole input with the reusable matcher of the current thread.
+     * </p>
+     *
+     * @param matcher Refers the matcher of the pattern.
+     * @param input Refers the input to be matched.
+     * @return true if the input matches the pattern.
+     */
+    private static boolean matches(final ThreadLocal<Matcher> matcher, final String input) {
+        if (Objects.isNull(input)) {
+            return false;
+        }
+        final Matcher currentMatcher = matcher.get();
+        final boolean isMatched = currentMatcher.reset(input).matches();
+
+        currentMatcher.reset("");
+
+        return isMatched;
+    }
+
+    /**
+     * <p>
+     * Checks whether the input is made of ASCII digits only.
+     * </p>
+     *
+     * @param input Refers the input to be checked.
+     * @return true if the input is a non empty string of digits.
+     */
+    private static boolean isDigits(final String input) {
+        if (Objects.isNull(input) || input.isEmpty()) {
+            return false;
+        }
+
+        for (int index = 0; index < input.length(); index++) {
+            if (!isInRange(input.charAt(index), '0', '9')) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Checks whether the input is made of digits only and starts with a country code, which never starts with 0.
+     * </p>
+     *
+     * @param input Refers the input to be checked.
+     * @return true if the input is a number of digits starting with a country code.
+     */
+    private static boolean isCountryCodeNumber(final String input) {
+        return isDigits(input) && input.charAt(0) != '0';
+    }
+
+    /**
+     * <p>
+     * Checks whether the character is an ASCII letter or digit.
+     * </p>
+     *
+     * @param character Refers the character to be checked.
+     * @return true if the character is a letter or digit.
+     */
+    private static boolean isLetterOrDigit(final char character) {
+        return isInRange(character, 'a', 'z') || isInRange(character, 'A', 'Z') || isInRange(character, '0', '9');
+    }
+
+    /**
+     * <p>
+     * Checks whether the character is within the given range.
+     * </p>
+     *
+     * @param character Refers the character to be checked.
+     * @param from Refers the first character of the range.
+     * @param to Refers the last character of the range.
+     * @return true if the character is within the range.
+     */
+    private static boolean isInRange(final char character, final char from, final char to) {
+        return character >= from && character <= to;
     }
 }
@@ -0,0 +1,52 @@
+package org.abc.validation.bulk;
+
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * <p>
+ * Represents the result of a bulk validation, with the violations of the invalid items keyed by their index in
+ * the validated list.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class BulkValidationResult {
+
+    private final SortedMap<Integer, Map<String, String>> violations;
+    private final boolean isLimitReached;
+
+    /**
+     * <p>
+     * Constructs the BulkValidationResult object.
+     * </p>
+     *
+     * @param violations Refers the violations by index, each a map of the property path to the message.
+     * @param isLimitReached Refers whether the validation stopped at the error limit.
+     */
+    public BulkValidationResult(final SortedMap<Integer, Map<String, String>> violations,
+                                final boolean isLimitReached) {
+        this.violations = violations;
+        this.isLimitReached = isLimitReached;
+    }
+
+    /**
+     * <p>
+     * Checks whether every item is valid.
+     * </p>
+     *
+     * @return true if no item has violations.
+     */
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    public SortedMap<Integer, Map<String, String>> getViolations() {
+        return violations;
+    }
+
+    public boolean isLimitReached() {
+        return isLimitReached;
+    }
+}
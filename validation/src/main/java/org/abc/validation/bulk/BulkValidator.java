@@ -0,0 +1,196 @@
+package org.abc.validation.bulk;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import org.abc.validation.factory.SharedValidatorFactory;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Validates a list of objects in parallel. The list is split into ranges of indexes which are validated on a
+ * fork join pool, and only the objects having violations get an entry in the result. Once the number of invalid
+ * objects reaches the error limit, the remaining ranges are skipped.
+ * </p>
+ *
+ * <p>
+ * The parallelism of the pool, the size of a range validated by a single task and the default error limit can be
+ * configured with the {@code org.abc.validation.bulk.parallelism}, {@code org.abc.validation.bulk.threshold} and
+ * {@code org.abc.validation.bulk.errorLimit} system properties.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class BulkValidator {
+
+    private static BulkValidator bulkValidator;
+    private static final Logger LOGGER = LogManager.getLogger(BulkValidator.class);
+    private final int threshold = Math.max(1, Integer.getInteger("org.abc.validation.bulk.threshold", 64));
+    private final int errorLimit = Math.max(1, Integer.getInteger("org.abc.validation.bulk.errorLimit", 100));
+    private final Validator validator = SharedValidatorFactory.getInstance().getValidator();
+    private final ForkJoinPool pool;
+
+    /**
+     * <p>
+     * Default constructor of BulkValidator class. Kept private to restrict from creating object outside this class.
+     * </p>
+     */
+    private BulkValidator() {
+        final int parallelism = Math.max(1, Integer.getInteger("org.abc.validation.bulk.parallelism",
+                Runtime.getRuntime().availableProcessors()));
+
+        pool = new ForkJoinPool(parallelism);
+        LOGGER.info(String.format("Bulk validation - parallelism %d, %d objects per task, error limit %d",
+                parallelism, threshold, errorLimit));
+    }
+
+    /**
+     * <p>
+     * Creates a single object of BulkValidator class and returns it.
+     * </p>
+     *
+     * @return the single instance of BulkValidator class.
+     */
+    public static synchronized BulkValidator getInstance() {
+        return Objects.isNull(bulkValidator) ? bulkValidator = new BulkValidator() : bulkValidator;
+    }
+
+    /**
+     * <p>
+     * Validates the given objects with the configured error limit.
+     * </p>
+     *
+     * @param objects Refers the objects to be validated.
+     * @param groupSelector Refers the selector of the validation group of an object.
+     * @return the {@link BulkValidationResult} with the violations keyed by the index of the object.
+     */
+    public <T> BulkValidationResult validate(final List<T> objects, final Function<T, Class<?>> groupSelector) {
+        return validate(objects, groupSelector, errorLimit);
+    }
+
+    /**
+     * <p>
+     * Validates the given objects and stops once the given number of invalid objects is found. Small lists are
+     * validated on the calling thread.
+     * </p>
+     *
+     * @param objects Refers the objects to be validated.
+     * @param groupSelector Refers the selector of the validation group of an object.
+     * @param limit Refers the number of invalid objects after which the validation stops.
+     * @return the {@link BulkValidationResult} with the violations keyed by the index of the object.
+     */
+    public <T> BulkValidationResult validate(final List<T> objects, final Function<T, Class<?>> groupSelector,
+                                             final int limit) {
+        final ConcurrentSkipListMap<Integer, Map<String, String>> violations = new ConcurrentSkipListMap<>();
+        final AtomicInteger errorCount = new AtomicInteger();
+        final int maxErrors = Math.max(1, limit);
+        final ValidationTask<T> task = new ValidationTask<>(objects, groupSelector, 0, objects.size(), violations,
+                errorCount, maxErrors);
+
+        if (objects.size() <= threshold) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+
+        return new BulkValidationResult(violations, errorCount.get() >= maxErrors);
+    }
+
+    /**
+     * <p>
+     * Stops the pool of the shared bulk validator.
+     * </p>
+     */
+    public static synchronized void shutdown() {
+        if (Objects.nonNull(bulkValidator)) {
+            bulkValidator.pool.shutdownNow();
+            bulkValidator = null;
+        }
+    }
+
+    /**
+     * <p>
+     * Validates a range of the objects, splitting it in halves until it is within the threshold.
+     * </p>
+     */
+    private class ValidationTask<T> extends RecursiveAction {
+
+        private final List<T> objects;
+        private final Function<T, Class<?>> groupSelector;
+        private final int from;
+        private final int to;
+        private final Map<Integer, Map<String, String>> violations;
+        private final AtomicInteger errorCount;
+        private final int limit;
+
+        /**
+         * <p>
+         * Constructs the ValidationTask object.
+         * </p>
+         *
+         * @param objects Refers the objects to be validated.
+         * @param groupSelector Refers the selector of the validation group of an object.
+         * @param from Refers the first index of the range, inclusive.
+         * @param to Refers the last index of the range, exclusive.
+         * @param violations Refers the violations found so far by index.
+         * @param errorCount Refers the number of invalid objects found so far.
+         * @param limit Refers the number of invalid objects after which the validation stops.
+         */
+        private ValidationTask(final List<T> objects, final Function<T, Class<?>> groupSelector, final int from,
+                               final int to, final Map<Integer, Map<String, String>> violations,
+                               final AtomicInteger errorCount, final int limit) {
+            this.objects = objects;
+            this.groupSelector = groupSelector;
+            this.from = from;
+            this.to = to;
+            this.violations = violations;
+            this.errorCount = errorCount;
+            this.limit = limit;
+        }
+
+        @Override
+        protected void compute() {
+            if (errorCount.get() >= limit) {
+                return;
+            }
+
+            if (to - from > threshold) {
+                final int middle = (from + to) >>> 1;
+
+                invokeAll(new ValidationTask<>(objects, groupSelector, from, middle, violations, errorCount, limit),
+                        new ValidationTask<>(objects, groupSelector, middle, to, violations, errorCount, limit));
+
+                return;
+            }
+
+            for (int index = from; index < to && errorCount.get() < limit; index++) {
+                final T object = objects.get(index);
+                final Set<ConstraintViolation<T>> objectViolations = validator.validate(object,
+                        groupSelector.apply(object));
+
+                if (!objectViolations.isEmpty()) {
+                    final Map<String, String> messages = new LinkedHashMap<>();
+
+                    objectViolations.forEach(violation -> messages.put(violation.getPropertyPath().toString(),
+                            violation.getMessage()));
+                    violations.put(index, messages);
+                    errorCount.incrementAndGet();
+                }
+            }
+        }
+    }
+}
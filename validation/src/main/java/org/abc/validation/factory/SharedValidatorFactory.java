@@ -0,0 +1,113 @@
+package org.abc.validation.factory;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.groups.Default;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Holds the single Jakarta validator factory shared by every bundle, so the constraint metadata of a type is
+ * scanned once instead of once per controller. The validator is thread safe and can be kept by the callers.
+ * </p>
+ *
+ * <p>
+ * The validation bundle publishes the factory as an osgi service and closes it when it stops. The other bundles
+ * get its validator through the {@link ValidatorLocator}, which drops the validator once the service is withdrawn.
+ * </p>
+ *
+ * <p>
+ * The bundles warm up the validator at start by validating a sample of every constrained type for every group,
+ * so the first request is validated as fast as the following ones.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class SharedValidatorFactory {
+
+    private static SharedValidatorFactory sharedValidatorFactory;
+    private final ValidatorFactory validatorFactory;
+    private final Validator validator;
+
+    /**
+     * <p>
+     * Default constructor of SharedValidatorFactory class. Kept private to restrict from creating object outside
+     * this class.
+     * </p>
+     */
+    private SharedValidatorFactory() {
+        validatorFactory = Validation.byProvider(HibernateValidator.class).configure()
+                .messageInterpolator(new ParameterMessageInterpolator()).buildValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    /**
+     * <p>
+     * Creates a single object of SharedValidatorFactory class and returns it.
+     * </p>
+     *
+     * @return the single instance of SharedValidatorFactory class.
+     */
+    public static synchronized SharedValidatorFactory getInstance() {
+        return Objects.isNull(sharedValidatorFactory) ? sharedValidatorFactory = new SharedValidatorFactory()
+                : sharedValidatorFactory;
+    }
+
+    /**
+     * <p>
+     * Gets the shared validator factory.
+     * </p>
+     *
+     * @return the {@link ValidatorFactory}.
+     */
+    public ValidatorFactory getValidatorFactory() {
+        return validatorFactory;
+    }
+
+    /**
+     * <p>
+     * Gets the shared validator.
+     * </p>
+     *
+     * @return the {@link Validator}.
+     */
+    public Validator getValidator() {
+        return validator;
+    }
+
+    /**
+     * <p>
+     * Builds the constraint metadata of the sample's type and validates the sample for the default group and the
+     * given groups, so the metadata and the validators of its constraints are ready before the first request.
+     * </p>
+     *
+     * @param sample Refers the sample of the constrained type.
+     * @param groups Refers the validation groups used for the type.
+     */
+    public void warmUp(final Object sample, final Class<?>... groups) {
+        validator.getConstraintsForClass(sample.getClass());
+        validator.validate(sample, Default.class);
+
+        for (final Class<?> group : groups) {
+            validator.validate(sample, group);
+        }
+    }
+
+    /**
+     * <p>
+     * Closes the shared validator factory.
+     * </p>
+     */
+    public static synchronized void close() {
+        if (Objects.nonNull(sharedValidatorFactory)) {
+            sharedValidatorFactory.validatorFactory.close();
+            sharedValidatorFactory = null;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.abc.validation.factory;
+
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.ServiceReference;
+
+import org.osgi.util.tracker.ServiceTracker;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Looks up the validator of the {@link ValidatorFactory} published by the validation bundle from the osgi service
+ * registry. The service is tracked through the bundle of the caller, so a factory withdrawn and closed by the
+ * validation bundle is dropped and a republished one is picked up by the next lookup, and it is released with
+ * {@code ungetService} when the bundle of the caller is released. Falls back to the shared validator when the
+ * service registry is not available.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class ValidatorLocator {
+
+    private static final Map<Bundle, ServiceTracker<ValidatorFactory, Validator>> TRACKERS =
+            new ConcurrentHashMap<>();
+
+    /**
+     * <p>
+     * Default constructor of ValidatorLocator class. Kept private to restrict from creating object outside this
+     * class.
+     * </p>
+     */
+    private ValidatorLocator() {}
+
+    /**
+     * <p>
+     * Gets the validator of the validator factory currently published.
+     * </p>
+     *
+     * @param caller Refers the class of the bundle looking up the validator.
+     * @return the {@link Validator}.
+     * @throws ValidationException if the validator factory is not published.
+     */
+    public static Validator locate(final Class<?> caller) {
+        final Bundle bundle = FrameworkUtil.getBundle(caller);
+        final BundleContext context = Objects.nonNull(bundle) ? bundle.getBundleContext() : null;
+
+        if (Objects.isNull(context)) {
+            return SharedValidatorFactory.getInstance().getValidator();
+        }
+        final Validator validator = TRACKERS.computeIfAbsent(bundle, key -> {
+            final ServiceTracker<ValidatorFactory, Validator> tracker = new ServiceTracker<>(context,
+                    ValidatorFactory.class, null) {
+
+                @Override
+                public Validator addingService(final ServiceReference<ValidatorFactory> reference) {
+                    final ValidatorFactory validatorFactory = context.getService(reference);
+
+                    return Objects.nonNull(validatorFactory) ? validatorFactory.getValidator() : null;
+                }
+
+                @Override
+                public void removedService(final ServiceReference<ValidatorFactory> reference,
+                                           final Validator validator) {
+                    context.ungetService(reference);
+                }
+            };
+
+            tracker.open();
+
+            return tracker;
+        }).getService();
+
+        if (Objects.isNull(validator)) {
+            throw new ValidationException("Validator factory is not available");
+        }
+
+        return validator;
+    }
+
+    /**
+     * <p>
+     * Releases the validator factory tracked for the bundle of the given class. Called when that bundle stops.
+     * </p>
+     *
+     * @param caller Refers the class of the bundle which looked up the validator.
+     */
+    public static void release(final Class<?> caller) {
+        final Bundle bundle = FrameworkUtil.getBundle(caller);
+        final ServiceTracker<ValidatorFactory, Validator> tracker = Objects.nonNull(bundle)
+                ? TRACKERS.remove(bundle) : null;
+
+        if (Objects.nonNull(tracker)) {
+            tracker.close();
+        }
+    }
+}
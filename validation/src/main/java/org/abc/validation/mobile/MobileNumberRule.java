@@ -0,0 +1,49 @@
+package org.abc.validation.mobile;
+
+/**
+ * <p>
+ * Represents the mobile number rule of a region, with its country code and the trunk prefix which may be dialled
+ * before the national number.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class MobileNumberRule {
+
+    private final String region;
+    private final String countryCode;
+    private final String trunkPrefix;
+
+    /**
+     * <p>
+     * Constructs the MobileNumberRule object.
+     * </p>
+     *
+     * @param region Refers the region code, such as IN.
+     * @param countryCode Refers the country calling code.
+     * @param trunkPrefix Refers the trunk prefix, empty when the region has none.
+     */
+    public MobileNumberRule(final String region, final String countryCode, final String trunkPrefix) {
+        this.region = region;
+        this.countryCode = countryCode;
+        this.trunkPrefix = trunkPrefix;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    public String getTrunkPrefix() {
+        return trunkPrefix;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(+%s)", region, countryCode);
+    }
+}
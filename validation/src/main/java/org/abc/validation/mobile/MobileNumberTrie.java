@@ -0,0 +1,444 @@
+package org.abc.validation.mobile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * <p>
+ * Validates mobile numbers and normalizes them to E.164 with a prefix trie built from the mobile number rules. A
+ * number is read digit by digit along the trie in a single pass, without backtracking, so the cost depends only
+ * on the length of the number and not on the number of rules.
+ * </p>
+ *
+ * <p>
+ * The rules are read from the {@code mobile-number-rules.properties} resource, or from the file given by the
+ * {@code org.abc.validation.mobileNumberRules} system property, so new regions are added without code changes.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class MobileNumberTrie {
+
+    private static MobileNumberTrie mobileNumberTrie;
+    private static final String RULES_RESOURCE = "/mobile-number-rules.properties";
+    private static final short ANY_DIGIT = 0x3FF;
+    private final Node root;
+
+    /**
+     * <p>
+     * Constructs the MobileNumberTrie object. Kept private to restrict from creating object outside this class.
+     * </p>
+     *
+     * @param root Refers the root of the trie.
+     */
+    private MobileNumberTrie(final Node root) {
+        this.root = root;
+    }
+
+    /**
+     * <p>
+     * Creates a single object of MobileNumberTrie class with the configured rules and returns it.
+     * </p>
+     *
+     * @return the single instance of MobileNumberTrie class.
+     */
+    public static synchronized MobileNumberTrie getInstance() {
+        return Objects.isNull(mobileNumberTrie) ? mobileNumberTrie = of(loadRules()) : mobileNumberTrie;
+    }
+
+    /**
+     * <p>
+     * Builds a trie from the given rules, in the format of the {@code mobile-number-rules.properties} resource.
+     * </p>
+     *
+     * @param rules Refers the rules by region.
+     * @return the {@link MobileNumberTrie}.
+     */
+    public static MobileNumberTrie of(final Properties rules) {
+        final Node root = new Node();
+
+        for (final String region : rules.stringPropertyNames()) {
+            final String[] fields = rules.getProperty(region).strip().split(";");
+
+            if (fields.length < 2 || fields.length > 3 || !isDigits(fields[0].strip())) {
+                throw new IllegalArgumentException(String.format("Invalid mobile number rule for %s", region));
+            }
+            final String countryCode = fields[0].strip();
+            final String trunkPrefix = fields.length == 3 ? fields[2].strip() : "";
+
+            if (!trunkPrefix.isEmpty() && !isDigits(trunkPrefix)) {
+                throw new IllegalArgumentException(String.format("Invalid trunk prefix for %s", region));
+            }
+            final MobileNumberRule rule = new MobileNumberRule(region.strip(), countryCode, trunkPrefix);
+
+            for (final String format : fields[1].split("\\|")) {
+                final List<Short> masks = toMasks(countryCode);
+
+                masks.addAll(toMasks(format.strip()));
+                insert(root, masks, 0, new Terminal(rule, false));
+
+                if (!trunkPrefix.isEmpty()) {
+                    masks.addAll(countryCode.length(), toMasks(trunkPrefix));
+                    insert(root, masks, 0, new Terminal(rule, true));
+                }
+            }
+        }
+
+        return new MobileNumberTrie(root);
+    }
+
+    /**
+     * <p>
+     * Finds the rule matching the given mobile number. The number may start with + or 00 and contain spaces,
+     * hyphens, dots and parentheses after its first digit.
+     * </p>
+     *
+     * @param mobileNumber Refers the mobile number with the country code.
+     * @return the matching {@link MobileNumberRule}, or null if the number is invalid.
+     */
+    public MobileNumberRule match(final String mobileNumber) {
+        final Terminal terminal = find(mobileNumber);
+
+        return Objects.isNull(terminal) ? null : terminal.rule;
+    }
+
+    /**
+     * <p>
+     * Checks whether the given mobile number is valid in any region.
+     * </p>
+     *
+     * @param mobileNumber Refers the mobile number with the country code.
+     * @return true if the mobile number is valid.
+     */
+    public boolean isValid(final String mobileNumber) {
+        return Objects.nonNull(find(mobileNumber));
+    }
+
+    /**
+     * <p>
+     * Checks whether the given mobile number is valid in the given region.
+     * </p>
+     *
+     * @param mobileNumber Refers the mobile number with the country code.
+     * @param region Refers the region code, such as IN.
+     * @return true if the mobile number is valid in the region.
+     */
+    public boolean isValid(final String mobileNumber, final String region) {
+        final Terminal terminal = find(mobileNumber);
+
+        return Objects.nonNull(terminal) && terminal.rule.getRegion().equals(region);
+    }
+
+    /**
+     * <p>
+     * Normalizes the given mobile number to E.164, dropping the separators and the trunk prefix.
+     * </p>
+     *
+     * @param mobileNumber Refers the mobile number with the country code.
+     * @return the number in E.164 form, such as +919876543210, or null if the number is invalid.
+     */
+    public String toE164(final String mobileNumber) {
+        final Terminal terminal = find(mobileNumber);
+
+        if (Objects.isNull(terminal)) {
+            return null;
+        }
+        final int dropStart = terminal.rule.getCountryCode().length();
+        final int dropEnd = terminal.hasTrunkPrefix ? dropStart + terminal.rule.getTrunkPrefix().length() : dropStart;
+        final StringBuilder e164 = new StringBuilder(16).append('+');
+        int digitCount = 0;
+
+        for (int index = skipInternationalPrefix(mobileNumber); index < mobileNumber.length(); index++) {
+            final char character = mobileNumber.charAt(index);
+
+            if (character >= '0' && character <= '9') {
+                if (digitCount < dropStart || digitCount >= dropEnd) {
+                    e164.append(character);
+                }
+                digitCount++;
+            }
+        }
+
+        return e164.toString();
+    }
+
+    /**
+     * <p>
+     * Walks the trie along the digits of the given mobile number.
+     * </p>
+     *
+     * @param mobileNumber Refers the mobile number with the country code.
+     * @return the {@link Terminal} reached at the end of the number, or null if the number is invalid.
+     */
+    private Terminal find(final String mobileNumber) {
+        if (Objects.isNull(mobileNumber)) {
+            return null;
+        }
+        Node node = root;
+
+        for (int index = skipInternationalPrefix(mobileNumber); index < mobileNumber.length(); index++) {
+            final char character = mobileNumber.charAt(index);
+
+            if (character >= '0' && character <= '9') {
+                node = node.children[character - '0'];
+
+                if (Objects.isNull(node)) {
+                    return null;
+                }
+            } else if (!isSeparator(character) || node == root) {
+                return null;
+            }
+        }
+
+        return node.terminal;
+    }
+
+    /**
+     * <p>
+     * Gets the index of the first digit after the + or 00 international prefix.
+     * </p>
+     *
+     * @param mobileNumber Refers the mobile number.
+     * @return the index after the international prefix, zero if there is none.
+     */
+    private static int skipInternationalPrefix(final String mobileNumber) {
+        if (mobileNumber.startsWith("+")) {
+            return 1;
+        }
+
+        return mobileNumber.startsWith("00") ? 2 : 0;
+    }
+
+    /**
+     * <p>
+     * Checks whether the character may separate the groups of digits of a mobile number.
+     * </p>
+     *
+     * @param character Refers the character to be checked.
+     * @return true if the character is a separator.
+     */
+    private static boolean isSeparator(final char character) {
+        return character == ' ' || character == '-' || character == '.' || character == '(' || character == ')';
+    }
+
+    /**
+     * <p>
+     * Inserts the digit masks of a number format into the trie. The digits sharing a mask share the rest of the
+     * path, and a node already reached by other digits is copied before it is extended, so the trie stays
+     * deterministic without expanding every digit into its own subtree.
+     * </p>
+     *
+     * @param node Refers the node to insert from, not shared with any other path.
+     * @param masks Refers the allowed digits of every position as a bit mask.
+     * @param position Refers the position of the mask to insert.
+     * @param terminal Refers the terminal of the format.
+     */
+    private static void insert(final Node node, final List<Short> masks, final int position,
+                               final Terminal terminal) {
+        if (position == masks.size()) {
+            if (Objects.nonNull(node.terminal) && node.terminal.rule != terminal.rule) {
+                throw new IllegalArgumentException(String.format("Mobile number rules %s and %s overlap",
+                        node.terminal.rule, terminal.rule));
+            }
+            node.terminal = Objects.isNull(node.terminal) ? terminal : node.terminal;
+
+            return;
+        }
+        final short mask = masks.get(position);
+        final Map<Node, Node> copies = new IdentityHashMap<>();
+        final Set<Node> nextNodes = new LinkedHashSet<>();
+        Node createdNode = null;
+
+        for (int digit = 0; digit < 10; digit++) {
+            if ((mask & (1 << digit)) == 0) {
+                continue;
+            }
+            final Node child = node.children[digit];
+
+            if (Objects.isNull(child)) {
+                createdNode = Objects.isNull(createdNode) ? new Node() : createdNode;
+                node.children[digit] = createdNode;
+            } else {
+                node.children[digit] = copies.computeIfAbsent(child, Node::copy);
+            }
+            nextNodes.add(node.children[digit]);
+        }
+
+        for (final Node nextNode : nextNodes) {
+            insert(nextNode, masks, position + 1, terminal);
+        }
+    }
+
+    /**
+     * <p>
+     * Converts a number format into the bit masks of the allowed digits of every position.
+     * </p>
+     *
+     * @param format Refers the format, with a digit, X, N or a [..] set for every position.
+     * @return the list of masks.
+     */
+    private static List<Short> toMasks(final String format) {
+        final List<Short> masks = new ArrayList<>();
+
+        for (int index = 0; index < format.length(); index++) {
+            final char character = format.charAt(index);
+
+            if (character >= '0' && character <= '9') {
+                masks.add((short) (1 << (character - '0')));
+            } else if (character == 'X') {
+                masks.add(ANY_DIGIT);
+            } else if (character == 'N') {
+                masks.add((short) (ANY_DIGIT & ~0b11));
+            } else if (character == '[') {
+                final int end = format.indexOf(']', index);
+
+                if (end < 0) {
+                    throw new IllegalArgumentException(String.format("Unclosed digit set in %s", format));
+                }
+                masks.add(toSetMask(format.substring(index + 1, end), format));
+                index = end;
+            } else {
+                throw new IllegalArgumentException(String.format("Invalid symbol %s in %s", character, format));
+            }
+        }
+
+        if (masks.isEmpty()) {
+            throw new IllegalArgumentException("Empty mobile number format");
+        }
+
+        return masks;
+    }
+
+    /**
+     * <p>
+     * Converts a digit set, such as 5-79, into a bit mask.
+     * </p>
+     *
+     * @param set Refers the content of the set.
+     * @param format Refers the format holding the set.
+     * @return the mask of the digits in the set.
+     */
+    private static short toSetMask(final String set, final String format) {
+        short mask = 0;
+
+        for (int index = 0; index < set.length(); index++) {
+            final char from = set.charAt(index);
+            final boolean isRange = index + 2 < set.length() && set.charAt(index + 1) == '-';
+            final char to = isRange ? set.charAt(index + 2) : from;
+
+            if (from < '0' || to > '9' || from > to) {
+                throw new IllegalArgumentException(String.format("Invalid digit set [%s] in %s", set, format));
+            }
+
+            for (char digit = from; digit <= to; digit++) {
+                mask |= (short) (1 << (digit - '0'));
+            }
+            index += isRange ? 2 : 0;
+        }
+
+        if (mask == 0) {
+            throw new IllegalArgumentException(String.format("Empty digit set in %s", format));
+        }
+
+        return mask;
+    }
+
+    /**
+     * <p>
+     * Checks whether the input is made of digits only.
+     * </p>
+     *
+     * @param input Refers the input to be checked.
+     * @return true if the input is a non empty string of digits.
+     */
+    private static boolean isDigits(final String input) {
+        return !input.isEmpty() && input.chars().allMatch(character -> character >= '0' && character <= '9');
+    }
+
+    /**
+     * <p>
+     * Reads the mobile number rules from the configured file or the bundled resource.
+     * </p>
+     *
+     * @return the rules by region.
+     */
+    private static Properties loadRules() {
+        final String rulesFile = System.getProperty("org.abc.validation.mobileNumberRules");
+        final Properties rules = new Properties();
+
+        try (InputStream inputStream = Objects.nonNull(rulesFile) ? Files.newInputStream(Path.of(rulesFile))
+                : MobileNumberTrie.class.getResourceAsStream(RULES_RESOURCE)) {
+            if (Objects.isNull(inputStream)) {
+                throw new IllegalStateException(String.format("%s not found", RULES_RESOURCE));
+            }
+            rules.load(inputStream);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Mobile number rules can't be read", exception);
+        }
+
+        return rules;
+    }
+
+    /**
+     * <p>
+     * Represents a node of the trie with a child for every digit.
+     * </p>
+     */
+    private static class Node {
+
+        private Node[] children = new Node[10];
+        private Terminal terminal;
+
+        /**
+         * <p>
+         * Copies the node, sharing its children.
+         * </p>
+         *
+         * @return the copy.
+         */
+        private Node copy() {
+            final Node node = new Node();
+
+            node.children = children.clone();
+            node.terminal = terminal;
+
+            return node;
+        }
+    }
+
+    /**
+     * <p>
+     * Represents the end of a valid number with its rule and whether the number was dialled with the trunk prefix.
+     * </p>
+     */
+    private static class Terminal {
+
+        private final MobileNumberRule rule;
+        private final boolean hasTrunkPrefix;
+
+        /**
+         * <p>
+         * Constructs the Terminal object.
+         * </p>
+         *
+         * @param rule Refers the rule of the number.
+         * @param hasTrunkPrefix Refers whether the number includes the trunk prefix.
+         */
+        private Terminal(final MobileNumberRule rule, final boolean hasTrunkPrefix) {
+            this.rule = rule;
+            this.hasTrunkPrefix = hasTrunkPrefix;
+        }
+    }
+}
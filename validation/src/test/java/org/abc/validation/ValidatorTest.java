@@ -0,0 +1,114 @@
+package org.abc.validation;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * <p>
+ * Checks the scanners of the Validator against the regular expressions they replaced, over the edge cases of the
+ * formats and over random inputs made of the characters the formats care about.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class ValidatorTest {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(
+            "^[a-zA-Z0-9]+(?:\\.[a-zA-Z0-9]+)*@[A-Za-z0-9]{2,}([.][a-zA-Z0-9]{2,})+$");
+    private static final Pattern POSITIVE_NUMBER_PATTERN = Pattern.compile("^[1-9]+$");
+    private static final String EMAIL_ALPHABET = "aZ09.@-_ +\u00e9";
+    private static final String NUMBER_ALPHABET = "0159a-+ .\u0663";
+    private static final int RANDOM_INPUTS = 200_000;
+    private final Validator validator = Validator.getInstance();
+
+    @Test
+    public void emailIdMatchesFormerPatternOnEdgeCases() {
+        final List<String> emailIds = List.of("", "@", "a@b", "a@bc", "a@bc.d", "a@bc.de", "a.b@cd.ef",
+                "a..b@cd.ef", ".a@cd.ef", "a.@cd.ef", "a@.cd.ef", "a@cd..ef", "a@cd.ef.", "a@cd.ef.gh",
+                "a@c.de", "a@cd.e.fg", "a@@cd.ef", "a@cd@ef.gh", "A1.b2@C3.D4", "a_b@cd.ef", "a-b@cd.ef",
+                "a b@cd.ef", "ab@cd.ef ", "\u00e9@cd.ef", "a@cd\u00e9.ef", "user@mail",
+                "user.name@mail.example.com");
+
+        for (final String emailId : emailIds) {
+            assertEquals(emailId, EMAIL_PATTERN.matcher(emailId).matches(), validator.isValidEmail(emailId));
+        }
+    }
+
+    @Test
+    public void emailIdMatchesFormerPatternOnRandomInputs() {
+        final Random random = new Random(17);
+        int validCount = 0;
+
+        for (int count = 0; count < RANDOM_INPUTS; count++) {
+            final String emailId = randomInput(random, EMAIL_ALPHABET, 12);
+            final boolean isValid = EMAIL_PATTERN.matcher(emailId).matches();
+
+            assertEquals(emailId, isValid, validator.isValidEmail(emailId));
+            validCount += isValid ? 1 : 0;
+        }
+        assertTrue(validCount > 0);
+    }
+
+    @Test
+    public void positiveNumberMatchesFormerPatternOnEdgeCases() {
+        final List<String> inputs = List.of("", "0", "1", "9", "10", "01", "123456789", "1 2", " 1", "1 ", "-1",
+                "+1", "1.5", "1a", "\u0663", "99999999999999999999");
+
+        for (final String input : inputs) {
+            assertEquals(input, POSITIVE_NUMBER_PATTERN.matcher(input).matches(), validator.isPositiveNumber(input));
+        }
+    }
+
+    @Test
+    public void positiveNumberMatchesFormerPatternOnRandomInputs() {
+        final Random random = new Random(17);
+        int validCount = 0;
+
+        for (int count = 0; count < RANDOM_INPUTS; count++) {
+            final String input = randomInput(random, NUMBER_ALPHABET, 6);
+            final boolean isValid = POSITIVE_NUMBER_PATTERN.matcher(input).matches();
+
+            assertEquals(input, isValid, validator.isPositiveNumber(input));
+            validCount += isValid ? 1 : 0;
+        }
+        assertTrue(validCount > 0);
+    }
+
+    @Test
+    public void nullIsNotValid() {
+        assertFalse(validator.isValidEmail(null));
+        assertFalse(validator.isPositiveNumber(null));
+    }
+
+    /**
+     * <p>
+     * Builds a random input of the characters of the given alphabet, weighted towards the first characters so
+     * valid inputs come up often enough to be compared too.
+     * </p>
+     *
+     * @param random Refers the source of randomness.
+     * @param alphabet Refers the characters of the input.
+     * @param maxLength Refers the maximum length of the input.
+     * @return the random input.
+     */
+    private static String randomInput(final Random random, final String alphabet, final int maxLength) {
+        final int length = random.nextInt(maxLength + 1);
+        final StringBuilder input = new StringBuilder(length);
+
+        for (int index = 0; index < length; index++) {
+            final int weightedIndex = Math.min(random.nextInt(alphabet.length()), random.nextInt(alphabet.length()));
+
+            input.append(alphabet.charAt(weightedIndex));
+        }
+
+        return input.toString();
+    }
+}
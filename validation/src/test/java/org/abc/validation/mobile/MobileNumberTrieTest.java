@@ -0,0 +1,123 @@
+package org.abc.validation.mobile;
+
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * <p>
+ * Checks the MobileNumberTrie built from the bundled rules against the regular expressions it replaced, the
+ * copying of shared nodes when a rule extends them, the E.164 form of numbers dialled with a trunk prefix and the
+ * rejection of overlapping rules.
+ * </p>
+ *
+ * @author Maharaja S
+ * @version 1.0
+ */
+public class MobileNumberTrieTest {
+
+    private static final Map<String, Pattern> FORMER_PATTERNS = Map.of(
+            "US", Pattern.compile("^1[2-9]\\d{2}[2-9]\\d{2}\\d{4}$"),
+            "AU", Pattern.compile("^61(4|04)\\d{8}$"),
+            "CN", Pattern.compile("^861[3-9][0-9]{9}$"),
+            "DE", Pattern.compile("^491[5-79]\\d{9}$"),
+            "IN", Pattern.compile("^91[6789]\\d{9}$"));
+    private static final String[] PREFIXES = {"1", "61", "614", "6104", "86", "861", "49", "491", "91", "9", ""};
+    private static final int RANDOM_INPUTS = 200_000;
+    private final MobileNumberTrie mobileNumberTrie = MobileNumberTrie.getInstance();
+
+    @Test
+    public void bundledRulesMatchFormerPatterns() {
+        final Random random = new Random(18);
+        int validCount = 0;
+
+        for (int count = 0; count < RANDOM_INPUTS; count++) {
+            final StringBuilder mobileNumber = new StringBuilder(PREFIXES[random.nextInt(PREFIXES.length)]);
+            final int length = 8 + random.nextInt(5);
+
+            for (int index = 0; index < length; index++) {
+                mobileNumber.append((char) ('0' + random.nextInt(10)));
+            }
+            boolean isValid = false;
+
+            for (final Map.Entry<String, Pattern> formerPattern : FORMER_PATTERNS.entrySet()) {
+                final boolean isValidInRegion = formerPattern.getValue().matcher(mobileNumber).matches();
+
+                assertEquals(mobileNumber + " in " + formerPattern.getKey(), isValidInRegion,
+                        mobileNumberTrie.isValid(mobileNumber.toString(), formerPattern.getKey()));
+                isValid |= isValidInRegion;
+            }
+            assertEquals(mobileNumber.toString(), isValid, mobileNumberTrie.isValid(mobileNumber.toString()));
+            validCount += isValid ? 1 : 0;
+        }
+        assertTrue(validCount > 0);
+    }
+
+    @Test
+    public void sharedNodesAreCopiedBeforeTheyAreExtended() {
+        final MobileNumberTrie trie = MobileNumberTrie.of(rules("AA", "7;[1-5]2", "BB", "7;34"));
+
+        assertTrue(trie.isValid("712", "AA"));
+        assertTrue(trie.isValid("732", "AA"));
+        assertTrue(trie.isValid("752", "AA"));
+        assertTrue(trie.isValid("734", "BB"));
+        assertFalse(trie.isValid("714"));
+        assertFalse(trie.isValid("754"));
+        assertFalse(trie.isValid("762"));
+    }
+
+    @Test
+    public void trunkPrefixIsDroppedFromE164() {
+        assertEquals("+61412345678", mobileNumberTrie.toE164("61412345678"));
+        assertEquals("+61412345678", mobileNumberTrie.toE164("610412345678"));
+        assertEquals("+61412345678", mobileNumberTrie.toE164("+61 0412 345 678"));
+        assertEquals("+61412345678", mobileNumberTrie.toE164("0061-412-345-678"));
+        assertEquals("+919876543210", mobileNumberTrie.toE164("+91 98765 43210"));
+        assertEquals("+12025550123", mobileNumberTrie.toE164("+1 (202) 555-0123"));
+        assertEquals("AU", mobileNumberTrie.match("+61 0412 345 678").getRegion());
+        assertNull(mobileNumberTrie.toE164("6100412345678"));
+        assertNull(mobileNumberTrie.toE164(" 61412345678"));
+        assertNull(mobileNumberTrie.toE164("+91 58765 43210"));
+        assertNull(mobileNumberTrie.toE164(null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void overlappingRulesAreRejected() {
+        MobileNumberTrie.of(rules("AA", "1;2X", "BB", "1;[1-3]5"));
+    }
+
+    @Test
+    public void formatsOfTheSameRuleMayOverlap() {
+        final MobileNumberTrie trie = MobileNumberTrie.of(rules("AA", "1;2X|[1-3]5"));
+
+        assertTrue(trie.isValid("125", "AA"));
+        assertTrue(trie.isValid("129", "AA"));
+        assertTrue(trie.isValid("135", "AA"));
+    }
+
+    /**
+     * <p>
+     * Builds the rules from the given region and rule pairs.
+     * </p>
+     *
+     * @param regionsAndRules Refers the regions, each followed by its rule.
+     * @return the rules by region.
+     */
+    private static Properties rules(final String... regionsAndRules) {
+        final Properties rules = new Properties();
+
+        for (int index = 0; index < regionsAndRules.length; index += 2) {
+            rules.setProperty(regionsAndRules[index], regionsAndRules[index + 1]);
+        }
+
+        return rules;
+    }
+}